@@ -0,0 +1,322 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.result.Result;
+
+/**
+ * Calculation results stored in a compact, column-friendly form.
+ * <p>
+ * This is an alternative to {@link Results} for very large grids.
+ * Successful {@code Double} and {@code CurrencyAmount} values are held in a primitive array,
+ * with the currency held as an index into a small currency table.
+ * Failures are interned, such that identical failures across many cells share one instance.
+ * All other results are held as is.
+ * <p>
+ * The {@link #get(int, int)} methods provide the same view as {@code Results},
+ * creating the {@link Result} for primitive cells on demand.
+ * Use {@link #getDouble(int, int)} to read primitive cells without allocation.
+ * <p>
+ * Instances are created using {@link CompactResultsBuilder} or {@link #of(Results)}.
+ */
+public final class CompactResults {
+
+  /** Kind of cell that has not been set. */
+  static final byte UNSET = 0;
+  /** Kind of cell holding a {@code Double}. */
+  static final byte DOUBLE = 1;
+  /** Kind of cell holding a {@code CurrencyAmount}. */
+  static final byte CURRENCY_AMOUNT = 2;
+  /** Kind of cell holding a failure. */
+  static final byte FAILURE = 3;
+  /** Kind of cell holding any other result. */
+  static final byte OBJECT = 4;
+
+  /**
+   * The column headers.
+   */
+  private final ImmutableList<ColumnHeader> columns;
+  /**
+   * The number of rows.
+   */
+  private final int rowCount;
+  /**
+   * The kind of each cell.
+   */
+  private final byte[] kinds;
+  /**
+   * The primitive value of each cell, zero for non-primitive cells.
+   */
+  private final double[] values;
+  /**
+   * The reference of each cell, an index into the currency, failure or object table.
+   */
+  private final int[] refs;
+  /**
+   * The currency table.
+   */
+  private final ImmutableList<Currency> currencies;
+  /**
+   * The interned failures.
+   */
+  private final ImmutableList<Result<?>> failures;
+  /**
+   * The other results.
+   */
+  private final List<Result<?>> objects;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance by compacting a set of results.
+   *
+   * @param results  the results to compact
+   * @return the compact results
+   */
+  public static CompactResults of(Results results) {
+    CompactResultsBuilder builder = builder(results.getColumns(), results.getRowCount());
+    for (int row = 0; row < results.getRowCount(); row++) {
+      for (int column = 0; column < results.getColumnCount(); column++) {
+        builder.set(row, column, results.get(row, column));
+      }
+    }
+    return builder.build();
+  }
+
+  /**
+   * Creates a builder for a grid of the specified size.
+   *
+   * @param columns  the column headers
+   * @param rowCount  the number of rows
+   * @return the builder
+   */
+  public static CompactResultsBuilder builder(List<ColumnHeader> columns, int rowCount) {
+    return new CompactResultsBuilder(columns, rowCount);
+  }
+
+  // creates an instance, called by the builder
+  CompactResults(
+      ImmutableList<ColumnHeader> columns,
+      int rowCount,
+      byte[] kinds,
+      double[] values,
+      int[] refs,
+      ImmutableList<Currency> currencies,
+      ImmutableList<Result<?>> failures,
+      List<Result<?>> objects) {
+
+    this.columns = columns;
+    this.rowCount = rowCount;
+    this.kinds = kinds;
+    this.values = values;
+    this.refs = refs;
+    this.currencies = currencies;
+    this.failures = failures;
+    this.objects = objects;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the column headers.
+   *
+   * @return the column headers
+   */
+  public ImmutableList<ColumnHeader> getColumns() {
+    return columns;
+  }
+
+  /**
+   * Gets the number of rows in the results.
+   *
+   * @return the number of rows
+   */
+  public int getRowCount() {
+    return rowCount;
+  }
+
+  /**
+   * Gets the number of columns in the results.
+   *
+   * @return the number of columns
+   */
+  public int getColumnCount() {
+    return columns.size();
+  }
+
+  /**
+   * Gets the number of distinct failures held in the side table.
+   *
+   * @return the number of distinct failures
+   */
+  public int getDistinctFailureCount() {
+    return failures.size();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns the result for a target and column index.
+   * <p>
+   * This provides the same view as {@link Results#get(int, int)}.
+   *
+   * @param rowIndex  the index of the row containing the results for a target
+   * @param columnIndex  the index of the column
+   * @return the result for the specified row and column
+   * @throws IllegalArgumentException if the row or column index is invalid
+   */
+  public Result<?> get(int rowIndex, int columnIndex) {
+    int index = index(rowIndex, columnIndex);
+    switch (kinds[index]) {
+      case DOUBLE:
+        return Result.success(values[index]);
+      case CURRENCY_AMOUNT:
+        return Result.success(CurrencyAmount.of(currencies.get(refs[index]), values[index]));
+      case FAILURE:
+        return failures.get(refs[index]);
+      default:
+        return objects.get(refs[index]);
+    }
+  }
+
+  /**
+   * Returns the result for a target and column index, casting the result to a known type.
+   *
+   * @param <T>  the result type
+   * @param rowIndex  the index of the row containing the results for a target
+   * @param columnIndex  the index of the column
+   * @param type  the result type
+   * @return the result for the specified row and column, cast to the specified type
+   * @throws IllegalArgumentException if the row or column index is invalid
+   * @throws ClassCastException if the result is not of the specified type
+   */
+  public <T> Result<T> get(int rowIndex, int columnIndex, Class<T> type) {
+    return Results.cast(get(rowIndex, columnIndex), type);
+  }
+
+  /**
+   * Returns the result for a target and column name.
+   *
+   * @param rowIndex  the index of the row containing the results for a target
+   * @param columnName  the name of the column
+   * @return the result for the specified row and column
+   * @throws IllegalArgumentException if the row index or column name is invalid
+   */
+  public Result<?> get(int rowIndex, ColumnName columnName) {
+    return get(rowIndex, columnIndexByName(columnName));
+  }
+
+  /**
+   * Checks if the cell holds a primitive value, which is a successful {@code Double} or {@code CurrencyAmount}.
+   *
+   * @param rowIndex  the index of the row containing the results for a target
+   * @param columnIndex  the index of the column
+   * @return true if the cell holds a primitive value
+   * @throws IllegalArgumentException if the row or column index is invalid
+   */
+  public boolean isPrimitive(int rowIndex, int columnIndex) {
+    byte kind = kinds[index(rowIndex, columnIndex)];
+    return kind == DOUBLE || kind == CURRENCY_AMOUNT;
+  }
+
+  /**
+   * Gets the primitive value of the cell without allocation.
+   * <p>
+   * For a {@code CurrencyAmount} this is the amount.
+   *
+   * @param rowIndex  the index of the row containing the results for a target
+   * @param columnIndex  the index of the column
+   * @return the primitive value
+   * @throws IllegalArgumentException if the row or column index is invalid
+   * @throws IllegalStateException if the cell does not hold a primitive value
+   */
+  public double getDouble(int rowIndex, int columnIndex) {
+    if (!isPrimitive(rowIndex, columnIndex)) {
+      throw new IllegalStateException(Messages.format(
+          "Cell ({}, {}) does not hold a primitive value", rowIndex, columnIndex));
+    }
+    return values[index(rowIndex, columnIndex)];
+  }
+
+  /**
+   * Gets the column index by name.
+   *
+   * @param columnName  the column name
+   * @return the column index
+   * @throws IllegalArgumentException if the column name is invalid
+   */
+  public int columnIndexByName(ColumnName columnName) {
+    for (int i = 0; i < columns.size(); i++) {
+      if (columns.get(i).getName().equals(columnName)) {
+        return i;
+      }
+    }
+    throw new IllegalArgumentException(Messages.format("Column name not found: {}", columnName));
+  }
+
+  /**
+   * Returns a stream of results for a single column by column index.
+   *
+   * @param columnIndex  the index of the column
+   * @return a stream of results for the column
+   * @throws IllegalArgumentException if the column index is invalid
+   */
+  public Stream<Result<?>> columnResults(int columnIndex) {
+    ArgChecker.inRange(columnIndex, 0, getColumnCount(), "columnIndex");
+    return IntStream.range(0, rowCount).mapToObj(row -> get(row, columnIndex));
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Converts this instance to a standard set of results.
+   * <p>
+   * This expands every cell to a {@link Result}.
+   *
+   * @return the results
+   */
+  public Results toResults() {
+    List<Result<?>> cells = new ArrayList<>(kinds.length);
+    for (int row = 0; row < rowCount; row++) {
+      for (int column = 0; column < columns.size(); column++) {
+        cells.add(get(row, column));
+      }
+    }
+    return Results.of(columns, cells);
+  }
+
+  //-------------------------------------------------------------------------
+  // validates the indices and returns the cell index
+  private int index(int rowIndex, int columnIndex) {
+    if (rowIndex < 0 || rowIndex >= rowCount) {
+      throw new IllegalArgumentException(Messages.format(
+          "Row index must be greater than or equal to zero and less than the row count ({}), but it was {}",
+          rowCount,
+          rowIndex));
+    }
+    if (columnIndex < 0 || columnIndex >= columns.size()) {
+      throw new IllegalArgumentException(Messages.format(
+          "Column index must be greater than or equal to zero and less than the column count ({}), but it was {}",
+          columns.size(),
+          columnIndex));
+    }
+    return rowIndex * columns.size() + columnIndex;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return Messages.format(
+        "CompactResults[rows={}, columns={}, distinctFailures={}]", rowCount, columns.size(), failures.size());
+  }
+
+}
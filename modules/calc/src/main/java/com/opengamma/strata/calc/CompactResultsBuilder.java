@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.result.Failure;
+import com.opengamma.strata.collect.result.Result;
+
+/**
+ * A mutable builder for instances of {@link CompactResults}.
+ * <p>
+ * Cells may be set in any order, but every cell must be set before {@link #build()} is called.
+ * This class is not thread-safe.
+ */
+public final class CompactResultsBuilder {
+
+  /**
+   * The column headers.
+   */
+  private final ImmutableList<ColumnHeader> columns;
+  /**
+   * The number of rows.
+   */
+  private final int rowCount;
+  /**
+   * The kind of each cell.
+   */
+  private final byte[] kinds;
+  /**
+   * The primitive value of each cell.
+   */
+  private final double[] values;
+  /**
+   * The reference of each cell.
+   */
+  private final int[] refs;
+  /**
+   * The currency table, with lookup.
+   */
+  private final List<Currency> currencies = new ArrayList<>();
+  private final Map<Currency, Integer> currencyLookup = new HashMap<>();
+  /**
+   * The interned failures, with lookup.
+   */
+  private final List<Result<?>> failures = new ArrayList<>();
+  private final Map<Failure, Integer> failureLookup = new HashMap<>();
+  /**
+   * The other results.
+   */
+  private final List<Result<?>> objects = new ArrayList<>();
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates an instance.
+   *
+   * @param columns  the column headers
+   * @param rowCount  the number of rows
+   */
+  CompactResultsBuilder(List<ColumnHeader> columns, int rowCount) {
+    ArgChecker.notNull(columns, "columns");
+    ArgChecker.notNegative(rowCount, "rowCount");
+    this.columns = ImmutableList.copyOf(columns);
+    this.rowCount = rowCount;
+    int size = Math.multiplyExact(rowCount, columns.size());
+    this.kinds = new byte[size];
+    this.values = new double[size];
+    this.refs = new int[size];
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Sets the result of a cell.
+   * <p>
+   * Successful {@code Double} and {@code CurrencyAmount} values are stored as primitives.
+   * Failures equal to a failure already in the builder share the existing instance.
+   *
+   * @param rowIndex  the row index
+   * @param columnIndex  the column index
+   * @param result  the result
+   * @return this builder
+   */
+  public CompactResultsBuilder set(int rowIndex, int columnIndex, Result<?> result) {
+    ArgChecker.inRange(rowIndex, 0, rowCount, "rowIndex");
+    ArgChecker.inRange(columnIndex, 0, columns.size(), "columnIndex");
+    ArgChecker.notNull(result, "result");
+    int index = rowIndex * columns.size() + columnIndex;
+    if (result.isFailure()) {
+      kinds[index] = CompactResults.FAILURE;
+      refs[index] = failureLookup.computeIfAbsent(result.getFailure(), failure -> {
+        failures.add(result);
+        return failures.size() - 1;
+      });
+      return this;
+    }
+    Object value = result.getValue();
+    if (value instanceof Double) {
+      kinds[index] = CompactResults.DOUBLE;
+      values[index] = (Double) value;
+    } else if (value instanceof CurrencyAmount) {
+      CurrencyAmount amount = (CurrencyAmount) value;
+      kinds[index] = CompactResults.CURRENCY_AMOUNT;
+      values[index] = amount.getAmount();
+      refs[index] = currencyLookup.computeIfAbsent(amount.getCurrency(), ccy -> {
+        currencies.add(ccy);
+        return currencies.size() - 1;
+      });
+    } else {
+      kinds[index] = CompactResults.OBJECT;
+      refs[index] = objects.size();
+      objects.add(result);
+    }
+    return this;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Builds the compact results.
+   *
+   * @return the compact results
+   * @throws IllegalStateException if any cell has not been set
+   */
+  public CompactResults build() {
+    for (int i = 0; i < kinds.length; i++) {
+      if (kinds[i] == CompactResults.UNSET) {
+        throw new IllegalStateException(Messages.format(
+            "Result not set for row {} and column {}", i / columns.size(), i % columns.size()));
+      }
+    }
+    return new CompactResults(
+        columns,
+        rowCount,
+        kinds.clone(),
+        values.clone(),
+        refs.clone(),
+        ImmutableList.copyOf(currencies),
+        ImmutableList.copyOf(failures),
+        new ArrayList<>(objects));
+  }
+
+}
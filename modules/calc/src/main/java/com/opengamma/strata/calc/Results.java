@@ -380,7 +380,7 @@ public final class Results implements ImmutableBean {
 
   //-------------------------------------------------------------------------
   @SuppressWarnings("unchecked")
-  private static <T> Result<T> cast(Result<?> result, Class<T> type) {
+  static <T> Result<T> cast(Result<?> result, Class<T> type) {
     // cannot use result.map() as we want the exception to be thrown
     if (result.isFailure() || type.isInstance(result.getValue())) {
       return (Result<T>) result;
@@ -12,10 +12,13 @@ import java.util.Set;
 import com.opengamma.strata.basics.CalculationTarget;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.currency.FxConvertible;
 import com.opengamma.strata.calc.CalculationRunner;
 import com.opengamma.strata.calc.Measure;
 import com.opengamma.strata.calc.ReportingCurrency;
+import com.opengamma.strata.collect.MapStream;
 import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.scenario.ScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioFxConvertible;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
@@ -37,6 +40,8 @@ import com.opengamma.strata.data.scenario.ScenarioMarketData;
  *  - the market data requirements for performing the calculation
  * <li>{@link #calculate(CalculationTarget, Set, CalculationParameters, ScenarioMarketData, ReferenceData)}
  *  - perform the calculation
+ * <li>{@link #calculateSingle(CalculationTarget, Set, CalculationParameters, MarketData, ReferenceData)}
+ *  - perform the calculation for a single scenario, optional
  * </ul>
  * <p>
  * If any of the calculated values contain any currency amounts and implement {@link ScenarioFxConvertible}
@@ -145,4 +150,37 @@ public interface CalculationFunction<T extends CalculationTarget> {
       ScenarioMarketData marketData,
       ReferenceData refData);
 
+  /**
+   * Calculates values of multiple measures for the target using a single set of market data.
+   * <p>
+   * This is invoked when the calculation is not performed for scenarios.
+   * The result of this method should be the plain value, such as a {@code CurrencyAmount},
+   * rather than a {@link ScenarioArray} of size one.
+   * <p>
+   * The default implementation invokes
+   * {@link #calculate(CalculationTarget, Set, CalculationParameters, ScenarioMarketData, ReferenceData)}
+   * with one scenario and unwraps any {@code ScenarioArray} of size one.
+   * Functions may override this to avoid creating and unwrapping the scenario arrays.
+   * If any currency amounts are returned they should implement {@link FxConvertible}
+   * to allow conversion into the reporting currency.
+   *
+   * @param target  the target of the calculation
+   * @param measures  the set of measures to calculate
+   * @param parameters  the parameters that affect how the calculation is performed
+   * @param marketData  the single scenario market data to be used in the calculation
+   * @param refData  the reference data to be used in the calculation
+   * @return the read-only map of calculated values, keyed by their measure
+   */
+  public default Map<Measure, Result<?>> calculateSingle(
+      T target,
+      Set<Measure> measures,
+      CalculationParameters parameters,
+      MarketData marketData,
+      ReferenceData refData) {
+
+    Map<Measure, Result<?>> results =
+        calculate(target, measures, parameters, ScenarioMarketData.of(1, marketData), refData);
+    return MapStream.of(results).mapValues(FunctionUtils::unwrapSingleScenario).toMap();
+  }
+
 }
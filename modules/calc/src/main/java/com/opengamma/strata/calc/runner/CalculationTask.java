@@ -15,6 +15,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 
 import org.joda.beans.ImmutableBean;
 import org.joda.beans.JodaBeanUtils;
@@ -33,16 +34,20 @@ import com.opengamma.strata.basics.ReferenceDataNotFoundException;
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.CurrencyPair;
 import com.opengamma.strata.basics.currency.FxRate;
+import com.opengamma.strata.basics.currency.FxRateProvider;
 import com.opengamma.strata.calc.Measure;
 import com.opengamma.strata.calc.marketdata.MarketDataRequirements;
 import com.opengamma.strata.calc.marketdata.MarketDataRequirementsBuilder;
 import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.data.FxRateId;
+import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.data.MarketDataFxRateProvider;
 import com.opengamma.strata.data.MarketDataId;
 import com.opengamma.strata.data.MarketDataNotFoundException;
 import com.opengamma.strata.data.ObservableId;
 import com.opengamma.strata.data.ObservableSource;
+import com.opengamma.strata.data.scenario.ScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioFxRateProvider;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 
@@ -199,19 +204,60 @@ public final class CalculationTask implements ImmutableBean {
    * <p>
    * This invokes the function with the correct set of market data.
    *
-   * @param marketData  the market data used in the calculation
+   * @param baseMarketData  the market data used in the calculation
    * @param refData  the reference data
    * @return results of the calculation, one for every scenario in the market data
    */
+  public CalculationResults execute(ScenarioMarketData baseMarketData, ReferenceData refData) {
+    return execute(baseMarketData, refData, new ScenarioFxRateProviders(baseMarketData));
+  }
+
+  // executes the task, using FX rate providers that may be shared with other tasks using the same market data
   @SuppressWarnings("unchecked")
-  public CalculationResults execute(ScenarioMarketData marketData, ReferenceData refData) {
+  CalculationResults execute(
+      ScenarioMarketData baseMarketData,
+      ReferenceData refData,
+      ScenarioFxRateProviders fxProviders) {
+
+    // with multiple scenarios, each identifier is resolved once and shared by all scenarios
+    ScenarioMarketData marketData =
+        baseMarketData.getScenarioCount() > 1 ? baseMarketData.cached() : baseMarketData;
+
     // calculate the results
     Map<Measure, Result<?>> results = calculate(marketData, refData);
 
     // get a suitable FX provider
-    ScenarioFxRateProvider fxProvider = parameters.findParameter(FxRateLookup.class)
-        .map(lookup -> LookupScenarioFxRateProvider.of(marketData, lookup))
-        .orElse(ScenarioFxRateProvider.of(marketData));
+    ScenarioFxRateProvider fxProvider = fxProviders.provider(parameters);
+
+    // convert the results, using a normal loop for better stack traces
+    ImmutableList.Builder<CalculationResult> resultBuilder = ImmutableList.builder();
+    for (CalculationTaskCell cell : cells) {
+      resultBuilder.add(cell.createResult(this, target, results, fxProvider, refData));
+    }
+
+    // return the result
+    return CalculationResults.of(target, resultBuilder.build());
+  }
+
+  /**
+   * Executes the task, performing calculations for the target using a single set of market data.
+   * <p>
+   * This invokes the single scenario method on the function, thus the results contain
+   * plain values rather than instances of {@link ScenarioArray}.
+   *
+   * @param marketData  the market data used in the calculation
+   * @param refData  the reference data
+   * @return results of the calculation
+   */
+  public CalculationResults execute(MarketData marketData, ReferenceData refData) {
+    // calculate the results
+    Map<Measure, Result<?>> results = calculate(
+        measures -> function.calculateSingle(target, measures, parameters, marketData, refData));
+
+    // get a suitable FX provider
+    FxRateProvider fxProvider = parameters.findParameter(FxRateLookup.class)
+        .map(lookup -> lookup.fxRateProvider(marketData))
+        .orElse(MarketDataFxRateProvider.of(marketData));
 
     // convert the results, using a normal loop for better stack traces
     ImmutableList.Builder<CalculationResult> resultBuilder = ImmutableList.builder();
@@ -225,13 +271,18 @@ public final class CalculationTask implements ImmutableBean {
 
   // calculates the result
   private Map<Measure, Result<?>> calculate(ScenarioMarketData marketData, ReferenceData refData) {
+    return calculate(measures -> function.calculate(target, measures, parameters, marketData, refData));
+  }
+
+  // calculates the result, handling missing measures and failures
+  private Map<Measure, Result<?>> calculate(Function<Set<Measure>, Map<Measure, Result<?>>> calculator) {
     try {
       Set<Measure> requestedMeasures = getMeasures();
       Set<Measure> supportedMeasures = function.supportedMeasures();
       Set<Measure> measures = Sets.intersection(requestedMeasures, supportedMeasures);
       Map<Measure, Result<?>> map = ImmutableMap.of();
       if (!measures.isEmpty()) {
-        map = function.calculate(target, measures, parameters, marketData, refData);
+        map = calculator.apply(measures);
       }
       // check if result does not contain all requested measures
       if (!map.keySet().containsAll(requestedMeasures)) {
@@ -19,6 +19,8 @@ import org.joda.beans.impl.light.LightMetaBean;
 import com.opengamma.strata.basics.CalculationTarget;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.currency.FxConvertible;
+import com.opengamma.strata.basics.currency.FxRateProvider;
 import com.opengamma.strata.calc.Measure;
 import com.opengamma.strata.calc.ReportingCurrency;
 import com.opengamma.strata.collect.ArgChecker;
@@ -130,6 +132,70 @@ public final class CalculationTaskCell implements ImmutableBean {
     return CalculationResult.of(rowIndex, columnIndex, result);
   }
 
+  /**
+   * Creates the result from the map of measures calculated using a single set of market data.
+   * <p>
+   * This extracts the calculated measure and performs currency conversion if necessary.
+   * Values implementing {@link FxConvertible} are converted using the FX rate provider.
+   * 
+   * @param task  the calculation task
+   * @param target  the target of the calculation
+   * @param results  the map of result by measure
+   * @param fxProvider  the FX rate provider
+   * @param refData  the reference data
+   * @return the calculation result
+   */
+  CalculationResult createResult(
+      CalculationTask task,
+      CalculationTarget target,
+      Map<Measure, Result<?>> results,
+      FxRateProvider fxProvider,
+      ReferenceData refData) {
+
+    // caller expects that this method does not throw an exception
+    Result<?> calculated = results.get(measure);
+    if (calculated == null) {
+      calculated = Result.failure(
+          FailureReason.CALCULATION_FAILED,
+          "Measure '{}' was not calculated by the function for target type '{}'",
+          measure, target.getClass().getName());
+    }
+    Result<?> result = convertCurrencyIfNecessary(task, calculated, fxProvider, refData);
+    return CalculationResult.of(rowIndex, columnIndex, result);
+  }
+
+  // converts the single scenario value, if appropriate
+  private Result<?> convertCurrencyIfNecessary(
+      CalculationTask task,
+      Result<?> result,
+      FxRateProvider fxProvider,
+      ReferenceData refData) {
+
+    // the result is only converted if it is a success and both the measure and value are convertible
+    if (measure.isCurrencyConvertible() && !reportingCurrency.isNone() && result.isSuccess()) {
+      Object value = result.getValue();
+      if (value instanceof FxConvertible) {
+        Currency resolvedReportingCurrency = reportingCurrency(task, refData);
+        try {
+          return Result.success(((FxConvertible<?>) value).convertedTo(resolvedReportingCurrency, fxProvider));
+        } catch (RuntimeException ex) {
+          return Result.failure(
+              FailureReason.CURRENCY_CONVERSION,
+              ex,
+              "Failed to convert value '{}' to currency '{}'",
+              value,
+              resolvedReportingCurrency);
+        }
+      }
+      if (value instanceof ScenarioFxConvertible) {
+        // function returned a scenario value, such as an aggregated value, that must be converted as such
+        ScenarioFxRateProvider scenarioFxProvider = new SingleScenarioFxRateProvider(fxProvider);
+        return convertCurrency(task, (ScenarioFxConvertible<?>) value, scenarioFxProvider, refData);
+      }
+    }
+    return result;
+  }
+
   // converts the value, if appropriate
   private Result<?> convertCurrencyIfNecessary(
       CalculationTask task,
@@ -169,6 +235,30 @@ public final class CalculationTaskCell implements ImmutableBean {
     }
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Adapts an FX rate provider to a scenario FX rate provider with one scenario.
+   */
+  private static final class SingleScenarioFxRateProvider implements ScenarioFxRateProvider {
+
+    private final FxRateProvider fxProvider;
+
+    private SingleScenarioFxRateProvider(FxRateProvider fxProvider) {
+      this.fxProvider = fxProvider;
+    }
+
+    @Override
+    public int getScenarioCount() {
+      return 1;
+    }
+
+    @Override
+    public FxRateProvider fxRateProvider(int scenarioIndex) {
+      ArgChecker.inRange(scenarioIndex, 0, 1, "scenarioIndex");
+      return fxProvider;
+    }
+  }
+
   //-------------------------------------------------------------------------
   @Override
   public String toString() {
@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.util.List;
+
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.calc.CompactResults;
+import com.opengamma.strata.calc.CompactResultsBuilder;
+
+/**
+ * Calculation listener that receives the results of individual calculations and builds {@link CompactResults}.
+ * <p>
+ * Each result is stored in compact form as it arrives, thus the full grid of
+ * {@link com.opengamma.strata.collect.result.Result} instances is never held in memory.
+ */
+public final class CompactResultsListener extends AggregatingCalculationListener<CompactResults> {
+
+  /** The builder that is populated with the results as they arrive. */
+  private CompactResultsBuilder builder;
+
+  /**
+   * Creates a new instance.
+   */
+  public CompactResultsListener() {
+  }
+
+  @Override
+  public void calculationsStarted(List<CalculationTarget> targets, List<Column> columns) {
+    builder = CompactResults.builder(columns.stream().map(Column::toHeader).collect(toImmutableList()), targets.size());
+  }
+
+  @Override
+  public void resultReceived(CalculationTarget target, CalculationResult result) {
+    builder.set(result.getRowIndex(), result.getColumnIndex(), result.getResult());
+  }
+
+  @Override
+  protected CompactResults createAggregateResult() {
+    return builder.build();
+  }
+
+}
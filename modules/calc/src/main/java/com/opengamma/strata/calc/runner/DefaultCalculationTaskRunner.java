@@ -13,6 +13,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import com.opengamma.strata.basics.CalculationTarget;
@@ -100,11 +101,13 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
       ReferenceData refData) {
 
     // perform the calculations
-    ScenarioMarketData md = ScenarioMarketData.of(1, marketData);
-    Results results = calculateMultiScenario(tasks, md, refData);
+    ResultsListener listener = new ResultsListener();
+    runTasks(tasks, task -> task.execute(marketData, refData), listener);
+    Results results = listener.result();
 
     // unwrap the results
     // since there is only one scenario it is not desirable to return scenario result containers
+    // the functions normally unwrap their results, but a function may still return a scenario array
     List<Result<?>> mappedResults = results.getCells().stream()
         .map(r -> unwrapScenarioResult(r))
         .collect(toImmutableList());
@@ -115,10 +118,10 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
   /**
    * Unwraps the result from an instance of {@link ScenarioArray} containing a single result.
    * <p>
-   * When the user executes a single scenario the functions are invoked with a set of scenario market data
-   * of size 1. This means the functions are simpler and always deal with scenarios. But if the user has
-   * asked for a single set of results they don't want to see a collection of size 1 so the scenario results
-   * need to be unwrapped.
+   * When the user executes a single scenario the tasks are executed against the single set of market data,
+   * with the functions normally returning plain values. But a function may still return a scenario array
+   * of size 1, and if the user has asked for a single set of results they don't want to see a collection
+   * of size 1 so the scenario results need to be unwrapped.
    * <p>
    * If {@code result} is a failure or doesn't contain a {@code ScenarioArray} it is returned.
    * <p>
@@ -149,9 +152,9 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
       CalculationListener listener) {
 
     // the listener is decorated to unwrap ScenarioArrays containing a single result
-    ScenarioMarketData md = ScenarioMarketData.of(1, marketData);
+    // the tasks are executed against the single set of market data, avoiding scenario containers of size one
     UnwrappingListener unwrappingListener = new UnwrappingListener(listener);
-    calculateMultiScenarioAsync(tasks, md, refData, unwrappingListener);
+    runTasks(tasks, task -> task.execute(marketData, refData), unwrappingListener);
   }
 
   //-------------------------------------------------------------------------
@@ -173,6 +176,17 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
       ReferenceData refData,
       CalculationListener listener) {
 
+    // the FX rates used to convert the results are obtained once per run
+    ScenarioFxRateProviders fxProviders = new ScenarioFxRateProviders(marketData);
+    runTasks(tasks, task -> task.execute(marketData, refData, fxProviders), listener);
+  }
+
+  // runs each task using the executor, passing the results to the listener
+  private void runTasks(
+      CalculationTasks tasks,
+      Function<CalculationTask, CalculationResults> execution,
+      CalculationListener listener) {
+
     List<CalculationTask> taskList = tasks.getTasks();
     // the listener is invoked via this wrapper
     // the wrapper ensures thread-safety for the listener
@@ -181,19 +195,18 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
         new ListenerWrapper(listener, taskList.size(), tasks.getTargets(), tasks.getColumns());
 
     // run each task using the executor
-    taskList.forEach(task -> runTask(task, marketData, refData, consumer));
+    taskList.forEach(task -> runTask(task, execution, consumer));
   }
 
   // submits a task to the executor to be run
   private void runTask(
       CalculationTask task,
-      ScenarioMarketData marketData,
-      ReferenceData refData,
+      Function<CalculationTask, CalculationResults> execution,
       Consumer<CalculationResults> consumer) {
 
     // the task is executed, with the result passed to the consumer
     // the consumer wraps the listener to ensure thread-safety
-    Supplier<CalculationResults> taskExecutor = () -> task.execute(marketData, refData);
+    Supplier<CalculationResults> taskExecutor = () -> execution.apply(task);
     CompletableFuture.supplyAsync(taskExecutor, executor).thenAccept(consumer);
   }
 
@@ -228,8 +241,11 @@ final class DefaultCalculationTaskRunner implements CalculationTaskRunner {
     public void resultReceived(CalculationTarget target, CalculationResult calculationResult) {
       Result<?> result = calculationResult.getResult();
       Result<?> unwrappedResult = unwrapScenarioResult(result);
-      CalculationResult unwrappedCalculationResult = calculationResult.withResult(unwrappedResult);
-      delegate.resultReceived(target, unwrappedCalculationResult);
+      if (unwrappedResult == result) {
+        delegate.resultReceived(target, calculationResult);
+      } else {
+        delegate.resultReceived(target, calculationResult.withResult(unwrappedResult));
+      }
     }
 
     @Override
@@ -132,4 +132,22 @@ public final class FunctionUtils {
     mutableMeasureMap.put(newKey, result);
   }
 
+  /**
+   * Unwraps a result containing a {@link ScenarioArray} of size one.
+   * <p>
+   * This is used when a multi-scenario calculation has been performed for a single scenario.
+   * If the result is a failure, does not contain a {@code ScenarioArray}, or contains
+   * a {@code ScenarioArray} of any other size, it is returned unchanged.
+   *
+   * @param result  the result to unwrap
+   * @return the unwrapped result
+   */
+  public static Result<?> unwrapSingleScenario(Result<?> result) {
+    if (result.isFailure() || !(result.getValue() instanceof ScenarioArray)) {
+      return result;
+    }
+    ScenarioArray<?> scenarioArray = (ScenarioArray<?>) result.getValue();
+    return scenarioArray.getScenarioCount() == 1 ? Result.success(scenarioArray.get(0)) : result;
+  }
+
 }
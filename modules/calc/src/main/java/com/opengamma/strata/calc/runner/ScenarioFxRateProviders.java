@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.data.scenario.ScenarioFxRateProvider;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+
+/**
+ * The scenario FX rate providers used to convert results in a single calculation run.
+ * <p>
+ * One cached provider is created for each distinct {@link FxRateLookup}, and shared by all
+ * the tasks in the run, thus the rates for each currency pair are obtained once per run
+ * rather than once per task.
+ */
+final class ScenarioFxRateProviders {
+
+  /**
+   * The market data for the run.
+   */
+  private final ScenarioMarketData marketData;
+  /**
+   * The cached providers, keyed by the FX rate lookup, empty for the default provider.
+   */
+  private final ConcurrentHashMap<Optional<FxRateLookup>, ScenarioFxRateProvider> providers =
+      new ConcurrentHashMap<>();
+
+  // creates an instance
+  ScenarioFxRateProviders(ScenarioMarketData marketData) {
+    this.marketData = ArgChecker.notNull(marketData, "marketData");
+  }
+
+  //-------------------------------------------------------------------------
+  // gets the provider for the parameters of a task
+  ScenarioFxRateProvider provider(CalculationParameters parameters) {
+    return providers.computeIfAbsent(parameters.findParameter(FxRateLookup.class), this::createProvider);
+  }
+
+  // creates the cached provider for a lookup
+  private ScenarioFxRateProvider createProvider(Optional<FxRateLookup> lookup) {
+    ScenarioFxRateProvider provider = lookup
+        .map(lk -> LookupScenarioFxRateProvider.of(marketData, lk))
+        .orElse(ScenarioFxRateProvider.of(marketData));
+    return provider.cached();
+  }
+
+}
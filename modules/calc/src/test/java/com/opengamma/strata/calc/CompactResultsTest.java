@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
+
+/**
+ * Test {@link CompactResults}.
+ */
+public class CompactResultsTest {
+
+  private static final ColumnName NAME_A = ColumnName.of("A");
+  private static final ColumnName NAME_B = ColumnName.of("B");
+  private static final ColumnHeader HEADER1 = ColumnHeader.of(NAME_A, TestingMeasures.PRESENT_VALUE);
+  private static final ColumnHeader HEADER2 = ColumnHeader.of(NAME_B, TestingMeasures.PRESENT_VALUE);
+  private static final CurrencyAmount GBP_1 = CurrencyAmount.of(Currency.GBP, 1d);
+  private static final CurrencyAmount USD_2 = CurrencyAmount.of(Currency.USD, 2d);
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_of() {
+    Results results = Results.of(
+        ImmutableList.of(HEADER1, HEADER2),
+        ImmutableList.of(
+            Result.success(GBP_1), Result.success(1.5d),
+            Result.success(USD_2), Result.success("text"),
+            Result.failure(FailureReason.MISSING_DATA, "Missing"), Result.failure(FailureReason.MISSING_DATA, "Missing")));
+    CompactResults test = CompactResults.of(results);
+    assertThat(test.getColumns()).containsExactly(HEADER1, HEADER2);
+    assertThat(test.getRowCount()).isEqualTo(3);
+    assertThat(test.getColumnCount()).isEqualTo(2);
+    assertThat(test.get(0, 0)).isEqualTo(Result.success(GBP_1));
+    assertThat(test.get(0, 0, CurrencyAmount.class).getValue()).isEqualTo(GBP_1);
+    assertThat(test.get(0, 1).getValue()).isEqualTo(1.5d);
+    assertThat(test.get(1, 0).getValue()).isEqualTo(USD_2);
+    assertThat(test.get(1, NAME_B).getValue()).isEqualTo("text");
+    assertThat(test.get(2, 0).isFailure()).isTrue();
+    assertThat(test.get(2, 0)).isSameAs(test.get(2, 1));
+    assertThat(test.getDistinctFailureCount()).isEqualTo(1);
+    assertThat(test.isPrimitive(0, 0)).isTrue();
+    assertThat(test.isPrimitive(1, 1)).isFalse();
+    assertThat(test.getDouble(1, 0)).isEqualTo(2d);
+    assertThat(test.columnResults(1).collect(toImmutableList()))
+        .containsExactly(test.get(0, 1), test.get(1, 1), test.get(2, 1));
+    assertThat(test.toResults()).isEqualTo(results);
+    assertThat(test.toString()).contains("rows=3");
+  }
+
+  @Test
+  public void test_invalid() {
+    CompactResults test = CompactResults.builder(ImmutableList.of(HEADER1), 1).set(0, 0, Result.success("A")).build();
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> test.get(1, 0))
+        .withMessageStartingWith("Row index must be greater than or");
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> test.get(0, 1))
+        .withMessageStartingWith("Column index must be greater than or");
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> test.get(0, NAME_B))
+        .withMessageStartingWith("Column name not found");
+    assertThatExceptionOfType(ClassCastException.class)
+        .isThrownBy(() -> test.get(0, 0, Double.class));
+    assertThatIllegalStateException()
+        .isThrownBy(() -> test.getDouble(0, 0));
+  }
+
+  @Test
+  public void test_builder_unset() {
+    CompactResultsBuilder builder = CompactResults.builder(ImmutableList.of(HEADER1, HEADER2), 1);
+    builder.set(0, 0, Result.success(1d));
+    assertThatIllegalStateException()
+        .isThrownBy(builder::build)
+        .withMessage("Result not set for row 0 and column 1");
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> builder.set(1, 0, Result.success(1d)));
+  }
+
+}
@@ -6,23 +6,42 @@
 package com.opengamma.strata.calc.marketdata;
 
 import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
 import static com.opengamma.strata.collect.TestHelper.coverImmutableBean;
 import static com.opengamma.strata.collect.TestHelper.date;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 import java.time.LocalDate;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.FxRate;
+import com.opengamma.strata.calc.Measure;
+import com.opengamma.strata.calc.ReportingCurrency;
+import com.opengamma.strata.calc.TestingMeasures;
+import com.opengamma.strata.calc.runner.CalculationFunction;
+import com.opengamma.strata.calc.runner.CalculationParameters;
+import com.opengamma.strata.calc.runner.CalculationTask;
+import com.opengamma.strata.calc.runner.CalculationTaskCell;
+import com.opengamma.strata.calc.runner.FunctionRequirements;
 import com.opengamma.strata.collect.result.FailureException;
 import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.data.FxRateId;
+import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.MarketDataNotFoundException;
 import com.opengamma.strata.data.scenario.MarketDataBox;
+import com.opengamma.strata.data.scenario.ScenarioArray;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
 
 /**
  * Test {@link BuiltScenarioMarketData}.
@@ -31,6 +50,7 @@ public class BuiltScenarioMarketDataTest {
 
   private static final LocalDate VAL_DATE = date(2011, 3, 8);
   private static final TestObservableId ID = TestObservableId.of("1");
+  private static final TestObservableId ID2 = TestObservableId.of("2");
 
   //-------------------------------------------------------------------------
   @Test
@@ -70,10 +90,99 @@ public class BuiltScenarioMarketDataTest {
     assertThatExceptionOfType(MarketDataNotFoundException.class).isThrownBy(() -> test.getValue(ID));
   }
 
+  @Test
+  public void test_cached_multiScenario_withKnownFailure() {
+    String failureMessage = "Something went wrong";
+    BuiltScenarioMarketData base = BuiltScenarioMarketData.builder(MarketDataBox.ofScenarioValues(VAL_DATE, VAL_DATE))
+        .addBox(ID2, MarketDataBox.ofScenarioValues(1d, 2d))
+        .addResult(ID, Result.failure(FailureReason.ERROR, failureMessage))
+        .build();
+    ScenarioMarketData test = base.cached();
+
+    assertThat(test.getScenarioCount()).isEqualTo(2);
+    assertThat(test.getValue(FxRateId.of(GBP, GBP))).isEqualTo(MarketDataBox.ofSingleValue(FxRate.of(GBP, GBP, 1)));
+    assertThat(test.containsValue(FxRateId.of(GBP, GBP))).isFalse();
+    assertThatExceptionOfType(FailureException.class)
+        .isThrownBy(() -> test.getValue(ID))
+        .withMessage(failureMessage);
+    for (int i = 0; i < 2; i++) {
+      MarketData scenario = test.scenario(i);
+      assertThat(scenario.getValue(FxRateId.of(GBP, GBP))).isEqualTo(FxRate.of(GBP, GBP, 1));
+      assertThatExceptionOfType(FailureException.class)
+          .isThrownBy(() -> scenario.getValue(ID))
+          .withMessage(failureMessage);
+    }
+  }
+
+  @Test
+  public void test_calculationTask_multiScenario_withKnownFailure() {
+    String failureMessage = "Something went wrong";
+    BuiltScenarioMarketData marketData =
+        BuiltScenarioMarketData.builder(MarketDataBox.ofScenarioValues(VAL_DATE, VAL_DATE))
+            .addBox(ID2, MarketDataBox.ofScenarioValues(1d, 2d))
+            .addResult(ID, Result.failure(FailureReason.ERROR, failureMessage))
+            .build();
+    CalculationTaskCell cell = CalculationTaskCell.of(0, 0, TestingMeasures.PRESENT_VALUE, ReportingCurrency.NATURAL);
+    CalculationTask task = CalculationTask.of(new TestTarget(), new MarketDataFunction(), cell);
+
+    Result<?> result = task.execute(marketData, ReferenceData.empty()).getCells().get(0).getResult();
+    assertThat(result.isFailure()).isTrue();
+    assertThat(result.getFailure().getMessage()).contains(failureMessage);
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void coverage() {
     coverImmutableBean(BuiltScenarioMarketData.empty());
   }
 
+  //-------------------------------------------------------------------------
+  private static final class TestTarget implements CalculationTarget {
+  }
+
+  /**
+   * Function that queries the identity FX rate and then the identifier in each scenario.
+   */
+  private static final class MarketDataFunction implements CalculationFunction<TestTarget> {
+
+    @Override
+    public Class<TestTarget> targetType() {
+      return TestTarget.class;
+    }
+
+    @Override
+    public Set<Measure> supportedMeasures() {
+      return ImmutableSet.of(TestingMeasures.PRESENT_VALUE);
+    }
+
+    @Override
+    public Currency naturalCurrency(TestTarget target, ReferenceData refData) {
+      return GBP;
+    }
+
+    @Override
+    public FunctionRequirements requirements(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ReferenceData refData) {
+
+      return FunctionRequirements.builder().valueRequirements(ID).build();
+    }
+
+    @Override
+    public Map<Measure, Result<?>> calculate(
+        TestTarget target,
+        Set<Measure> measures,
+        CalculationParameters parameters,
+        ScenarioMarketData marketData,
+        ReferenceData refData) {
+
+      ScenarioArray<Double> array = ScenarioArray.of(marketData.scenarios()
+          .map(md -> md.getValue(FxRateId.of(GBP, GBP)).fxRate(GBP, GBP) + md.getValue(ID))
+          .collect(toImmutableList()));
+      return ImmutableMap.of(TestingMeasures.PRESENT_VALUE, Result.success(array));
+    }
+  }
+
 }
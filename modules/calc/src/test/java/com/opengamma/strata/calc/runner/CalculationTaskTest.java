@@ -43,6 +43,8 @@ import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.data.FxRateId;
+import com.opengamma.strata.data.ImmutableMarketData;
+import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.MarketDataId;
 import com.opengamma.strata.data.MarketDataNotFoundException;
 import com.opengamma.strata.data.ObservableId;
@@ -263,6 +265,71 @@ public class CalculationTaskTest {
     assertThat(result).hasValue(ScenarioArray.of("foo"));
   }
 
+  /**
+   * Tests that executing a function with a single set of market data returns the unwrapped value.
+   */
+  @Test
+  public void execute_single() {
+    SupplierFunction<String> fn = SupplierFunction.of(() -> "foo");
+    CalculationTaskCell cell = CalculationTaskCell.of(0, 0, TestingMeasures.PRESENT_VALUE, REPORTING_CURRENCY_USD);
+    CalculationTask task = CalculationTask.of(TARGET, fn, cell);
+    MarketData marketData = MarketData.empty(date(2011, 3, 8));
+
+    CalculationResults calculationResults = task.execute(marketData, REF_DATA);
+    Result<?> result = calculationResults.getCells().get(0).getResult();
+    assertThat(result).hasValue("foo");
+  }
+
+  /**
+   * Tests that a single value is converted to the reporting currency using a single set of market data.
+   */
+  @Test
+  public void execute_single_convertResultCurrency() {
+    SupplierFunction<CurrencyAmount> fn = SupplierFunction.of(() -> CurrencyAmount.of(GBP, 2d));
+    CalculationTaskCell cell = CalculationTaskCell.of(0, 0, TestingMeasures.PRESENT_VALUE, REPORTING_CURRENCY_USD);
+    CalculationTask task = CalculationTask.of(TARGET, fn, cell);
+    MarketData marketData = ImmutableMarketData.builder(date(2011, 3, 8))
+        .addValue(FxRateId.of(GBP, USD), FxRate.of(GBP, USD, 1.61))
+        .build();
+
+    CalculationResults calculationResults = task.execute(marketData, REF_DATA);
+    Result<?> result = calculationResults.getCells().get(0).getResult();
+    assertThat(result).hasValue(CurrencyAmount.of(USD, 2d * 1.61));
+  }
+
+  /**
+   * Tests that a scenario value with more than one scenario cannot be converted using a single set of market data.
+   */
+  @Test
+  public void execute_single_convertScenarioResultCurrency() {
+    CurrencyScenarioArray list = CurrencyScenarioArray.of(GBP, DoubleArray.of(1, 2));
+    ConvertibleFunction fn = ConvertibleFunction.of(() -> list, GBP);
+    CalculationTaskCell cell = CalculationTaskCell.of(0, 0, TestingMeasures.PRESENT_VALUE, REPORTING_CURRENCY_USD);
+    CalculationTask task = CalculationTask.of(TARGET, fn, cell);
+    MarketData marketData = ImmutableMarketData.builder(date(2011, 3, 8))
+        .addValue(FxRateId.of(GBP, USD), FxRate.of(GBP, USD, 1.61))
+        .build();
+
+    CalculationResults calculationResults = task.execute(marketData, REF_DATA);
+    Result<?> result = calculationResults.getCells().get(0).getResult();
+    assertThat(result).isFailure(FailureReason.CURRENCY_CONVERSION);
+  }
+
+  /**
+   * Tests that a failed currency conversion is returned as a failure using a single set of market data.
+   */
+  @Test
+  public void execute_single_convertResultCurrencyFailure() {
+    SupplierFunction<CurrencyAmount> fn = SupplierFunction.of(() -> CurrencyAmount.of(GBP, 2d));
+    CalculationTaskCell cell = CalculationTaskCell.of(0, 0, TestingMeasures.PRESENT_VALUE, REPORTING_CURRENCY_USD);
+    CalculationTask task = CalculationTask.of(TARGET, fn, cell);
+    MarketData marketData = MarketData.empty(date(2011, 3, 8));
+
+    CalculationResults calculationResults = task.execute(marketData, REF_DATA);
+    Result<?> result = calculationResults.getCells().get(0).getResult();
+    assertThat(result).isFailure(FailureReason.CURRENCY_CONVERSION);
+  }
+
   /**
    * Test executing a bad function that fails to return expected measure.
    */
@@ -33,6 +33,7 @@ import com.opengamma.strata.basics.CalculationTarget;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.calc.CompactResults;
 import com.opengamma.strata.calc.Measure;
 import com.opengamma.strata.calc.Results;
 import com.opengamma.strata.calc.TestingMeasures;
@@ -87,6 +88,12 @@ public class DefaultCalculationTaskRunnerTest {
     Result<?> result3 = results3.get(0, 0);
     // Check the result contains the string directly, not the result wrapping the string
     assertThat(result3).hasValue("foo");
+
+    CompactResultsListener compactListener = new CompactResultsListener();
+    test.calculateAsync(tasks, marketData, REF_DATA, compactListener);
+    CompactResults results4 = compactListener.result();
+    assertThat(results4.get(0, 0)).hasValue("foo");
+    assertThat(results4.toResults()).isEqualTo(results3);
   }
 
   /**
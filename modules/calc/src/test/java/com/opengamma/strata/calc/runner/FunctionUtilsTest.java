@@ -15,6 +15,8 @@ import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
 import com.opengamma.strata.data.scenario.ScenarioArray;
 
@@ -62,4 +64,16 @@ public class FunctionUtilsTest {
     MultiCurrencyScenarioArray array = amounts.stream().collect(FunctionUtils.toMultiCurrencyValuesArray());
     assertThat(array).isEqualTo(expected);
   }
+  @Test
+  public void unwrapSingleScenario() {
+    Result<?> single = Result.success(ScenarioArray.of("a"));
+    Result<?> multiple = Result.success(ScenarioArray.of("a", "b"));
+    Result<?> plain = Result.success("a");
+    Result<?> failure = Result.failure(FailureReason.ERROR, "Error");
+    assertThat(FunctionUtils.unwrapSingleScenario(single)).isEqualTo(Result.success("a"));
+    assertThat(FunctionUtils.unwrapSingleScenario(multiple)).isSameAs(multiple);
+    assertThat(FunctionUtils.unwrapSingleScenario(plain)).isSameAs(plain);
+    assertThat(FunctionUtils.unwrapSingleScenario(failure)).isSameAs(failure);
+  }
+
 }
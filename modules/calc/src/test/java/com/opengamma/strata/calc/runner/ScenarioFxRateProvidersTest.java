@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.calc.runner;
+
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.basics.currency.FxRate;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.data.FxRateId;
+import com.opengamma.strata.data.ObservableSource;
+import com.opengamma.strata.data.scenario.ImmutableScenarioMarketData;
+import com.opengamma.strata.data.scenario.MarketDataBox;
+import com.opengamma.strata.data.scenario.ScenarioFxRateProvider;
+import com.opengamma.strata.data.scenario.ScenarioMarketData;
+
+/**
+ * Test {@link ScenarioFxRateProviders}.
+ */
+public class ScenarioFxRateProvidersTest {
+
+  private static final ObservableSource OBS_SOURCE = ObservableSource.of("Vendor");
+  private static final ScenarioMarketData MARKET_DATA = ImmutableScenarioMarketData.builder(date(2016, 6, 30))
+      .addBox(
+          FxRateId.of(GBP, USD),
+          MarketDataBox.ofScenarioValues(FxRate.of(GBP, USD, 1.4d), FxRate.of(GBP, USD, 1.5d)))
+      .addBox(FxRateId.of(GBP, USD, OBS_SOURCE), MarketDataBox.ofSingleValue(FxRate.of(GBP, USD, 1.6d)))
+      .build();
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_default() {
+    ScenarioFxRateProviders test = new ScenarioFxRateProviders(MARKET_DATA);
+    ScenarioFxRateProvider provider = test.provider(CalculationParameters.empty());
+    assertThat(test.provider(CalculationParameters.empty())).isSameAs(provider);
+    DoubleArray rates = provider.fxRates(GBP, USD);
+    assertThat(rates).isEqualTo(DoubleArray.of(1.4d, 1.5d));
+    assertThat(provider.fxRates(GBP, USD)).isSameAs(rates);
+  }
+
+  @Test
+  public void test_lookup() {
+    ScenarioFxRateProviders test = new ScenarioFxRateProviders(MARKET_DATA);
+    CalculationParameters parameters = CalculationParameters.of(FxRateLookup.ofRates(OBS_SOURCE));
+    ScenarioFxRateProvider provider = test.provider(parameters);
+    assertThat(test.provider(CalculationParameters.of(FxRateLookup.ofRates(OBS_SOURCE)))).isSameAs(provider);
+    assertThat(test.provider(CalculationParameters.empty())).isNotSameAs(provider);
+    DoubleArray rates = provider.fxRates(GBP, USD);
+    assertThat(rates).isEqualTo(DoubleArray.of(1.6d, 1.6d));
+    assertThat(provider.fxRates(GBP, USD)).isSameAs(rates);
+  }
+
+}
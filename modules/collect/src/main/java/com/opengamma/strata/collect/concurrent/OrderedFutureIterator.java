@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.collect.concurrent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * Iterator that applies a function to each input using an executor, returning the results in input order.
+ * <p>
+ * Inputs are read from the underlying iterator on the thread that calls {@link #hasNext()} and {@link #next()}.
+ * Each input is submitted to the executor, with up to {@code maxPending} inputs being processed ahead of
+ * the caller. The results are returned in the order of the inputs, waiting for each in turn.
+ * <p>
+ * If the function throws a runtime exception, it is rethrown unwrapped by {@link #next()}.
+ * Closing the iterator cancels any pending tasks that have not yet started.
+ * The function must be thread-safe, but the underlying iterator does not need to be.
+ *
+ * @param <T>  the type of the inputs
+ * @param <R>  the type of the results
+ */
+public final class OrderedFutureIterator<T, R> implements Iterator<R>, AutoCloseable {
+
+  /**
+   * The inputs.
+   */
+  private final Iterator<? extends T> inputs;
+  /**
+   * The function to apply to each input.
+   */
+  private final Function<? super T, ? extends R> function;
+  /**
+   * The executor used to apply the function.
+   */
+  private final Executor executor;
+  /**
+   * The maximum number of inputs to process ahead of the caller.
+   */
+  private final int maxPending;
+  /**
+   * The results being computed, in input order.
+   */
+  private final Deque<CompletableFuture<R>> pending = new ArrayDeque<>();
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance that applies the function to each input using the executor.
+   *
+   * @param <T>  the type of the inputs
+   * @param <R>  the type of the results
+   * @param inputs  the inputs
+   * @param function  the thread-safe function to apply to each input
+   * @param executor  the executor used to apply the function
+   * @param maxPending  the maximum number of inputs to process ahead of the caller
+   * @return the iterator of results
+   */
+  public static <T, R> OrderedFutureIterator<T, R> of(
+      Iterator<? extends T> inputs,
+      Function<? super T, ? extends R> function,
+      Executor executor,
+      int maxPending) {
+
+    return new OrderedFutureIterator<>(inputs, function, executor, maxPending);
+  }
+
+  /**
+   * Applies the function to each input using the executor, returning the results in input order.
+   * <p>
+   * All the inputs are submitted to the executor before waiting for the results.
+   * If the function throws a runtime exception, it is rethrown unwrapped.
+   *
+   * @param <T>  the type of the inputs
+   * @param <R>  the type of the results
+   * @param inputs  the inputs
+   * @param function  the thread-safe function to apply to each input
+   * @param executor  the executor used to apply the function
+   * @return the results, in input order
+   */
+  public static <T, R> List<R> map(
+      List<? extends T> inputs,
+      Function<? super T, ? extends R> function,
+      Executor executor) {
+
+    ArgChecker.notNull(inputs, "inputs");
+    List<R> results = new ArrayList<>(inputs.size());
+    int maxPending = Math.max(inputs.size(), 1);
+    try (OrderedFutureIterator<T, R> iterator = of(inputs.iterator(), function, executor, maxPending)) {
+      iterator.forEachRemaining(results::add);
+    }
+    return results;
+  }
+
+  // restricted constructor
+  private OrderedFutureIterator(
+      Iterator<? extends T> inputs,
+      Function<? super T, ? extends R> function,
+      Executor executor,
+      int maxPending) {
+
+    this.inputs = ArgChecker.notNull(inputs, "inputs");
+    this.function = ArgChecker.notNull(function, "function");
+    this.executor = ArgChecker.notNull(executor, "executor");
+    this.maxPending = ArgChecker.notNegativeOrZero(maxPending, "maxPending");
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public boolean hasNext() {
+    fill();
+    return !pending.isEmpty();
+  }
+
+  @Override
+  public R next() {
+    fill();
+    CompletableFuture<R> future = pending.poll();
+    if (future == null) {
+      throw new NoSuchElementException("No more results available");
+    }
+    try {
+      return future.join();
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) ex.getCause();
+      }
+      throw ex;
+    }
+  }
+
+  /**
+   * Closes the iterator, cancelling any pending tasks that have not yet started.
+   * <p>
+   * The underlying iterator is not closed.
+   */
+  @Override
+  public void close() {
+    pending.forEach(future -> future.cancel(false));
+    pending.clear();
+  }
+
+  //-------------------------------------------------------------------------
+  // reads and submits inputs until the maximum number are pending or the inputs are exhausted
+  private void fill() {
+    while (pending.size() < maxPending && inputs.hasNext()) {
+      T input = inputs.next();
+      pending.add(CompletableFuture.supplyAsync(() -> function.apply(input), executor));
+    }
+  }
+
+}
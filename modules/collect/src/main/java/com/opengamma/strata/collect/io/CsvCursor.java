@@ -0,0 +1,762 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.collect.io;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.OptionalInt;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.CharSource;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Unchecked;
+
+/**
+ * A low allocation cursor over the rows of a CSV file.
+ * <p>
+ * This class processes the CSV file row-by-row, in the same way as {@link CsvIterator}.
+ * The difference is that the fields of the current row are not copied into strings.
+ * Instead, the characters are read into a buffer that is reused for each row,
+ * and the fields are made available as {@link CharSequence} views over the buffer.
+ * Numeric fields can be parsed directly from the buffer using {@link #fieldDouble(int)} and {@link #fieldLong(int)}.
+ * <p>
+ * Headers should be resolved to column indices once using {@link #columnIndex(String)},
+ * with the index used to access the field of each row.
+ * <pre>
+ *  try (CsvCursor csv = CsvCursor.of(source, true)) {
+ *    int idColumn = csv.columnIndex("ID");
+ *    int valueColumn = csv.columnIndex("Value");
+ *    while (csv.next()) {
+ *      String id = csv.fieldString(idColumn);
+ *      double value = csv.fieldDouble(valueColumn);
+ *      // process the row
+ *    }
+ *  }
+ * </pre>
+ * <p>
+ * The views returned by {@link #field(int)} are only valid until the next call to {@link #next()}.
+ * Use {@link #fieldString(int)} or {@link #row()} to obtain values that can be retained.
+ * <p>
+ * The CSV format is as described in {@link CsvFile}.
+ * Lines that contain a double quote are parsed using the standard parser, thus quoted fields are
+ * supported, but are slower than unquoted fields.
+ * <p>
+ * This class must be used in a try-with-resources block to ensure that the underlying CSV file is closed.
+ * This class is not thread-safe.
+ */
+public final class CsvCursor implements AutoCloseable {
+
+  /**
+   * The initial size of the buffer.
+   */
+  private static final int INITIAL_BUFFER_SIZE = 65536;
+  /**
+   * The maximum number of significant digits that can be parsed exactly as a long.
+   */
+  private static final int MAX_EXACT_DIGITS = 15;
+  /**
+   * The powers of ten that are exactly representable as a double.
+   */
+  private static final double[] POWERS_OF_TEN = {
+      1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+      1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+  /**
+   * The reader.
+   */
+  private final Reader reader;
+  /**
+   * The separator.
+   */
+  private final char separator;
+  /**
+   * The header row, ordered as the headers appear in the file.
+   */
+  private ImmutableList<String> headers = ImmutableList.of();
+  /**
+   * The header map, transformed for case-insensitive searching.
+   */
+  private ImmutableMap<String, Integer> searchHeaders = ImmutableMap.of();
+  /**
+   * The character buffer.
+   */
+  private char[] buf = new char[INITIAL_BUFFER_SIZE];
+  /**
+   * The position of the first unread character in the buffer.
+   */
+  private int bufPos;
+  /**
+   * The position after the last valid character in the buffer.
+   */
+  private int bufEnd;
+  /**
+   * Whether the end of the reader has been reached.
+   */
+  private boolean eof;
+  /**
+   * Whether the last line ended with a carriage return, thus a following line feed must be skipped.
+   */
+  private boolean skipLf;
+  /**
+   * The start of the current line in the buffer.
+   */
+  private int lineStart;
+  /**
+   * The end of the current line in the buffer.
+   */
+  private int lineEnd;
+  /**
+   * The current line number in the source file.
+   */
+  private int lineNumber;
+  /**
+   * The number of fields in the current row, including empty fields for missing trailing columns.
+   */
+  private int fieldCount;
+  /**
+   * The number of fields actually present in the current row.
+   */
+  private int rowFieldCount;
+  /**
+   * The start of each field in the buffer.
+   */
+  private int[] fieldStarts = new int[16];
+  /**
+   * The end of each field in the buffer.
+   */
+  private int[] fieldEnds = new int[16];
+  /**
+   * The fields of the current row, only used when the row contains quotes.
+   */
+  private ImmutableList<String> quotedFields;
+  /**
+   * The reusable field views.
+   */
+  private FieldView[] views = new FieldView[0];
+
+  //------------------------------------------------------------------------
+  /**
+   * Parses the specified source as a CSV file, using a comma as the separator.
+   *
+   * @param source  the source to read as CSV
+   * @param headerRow  whether the source has a header row, an empty source must still contain the header
+   * @return the CSV cursor
+   * @throws UncheckedIOException if an IO exception occurs
+   * @throws IllegalArgumentException if the file cannot be parsed
+   */
+  public static CsvCursor of(CharSource source, boolean headerRow) {
+    return of(source, headerRow, ',');
+  }
+
+  /**
+   * Parses the specified source as a CSV file where the separator is specified and might not be a comma.
+   * <p>
+   * This overload allows the separator to be controlled.
+   * For example, a tab-separated file is very similar to a CSV file, the only difference is the separator.
+   *
+   * @param source  the source to read as CSV
+   * @param headerRow  whether the source has a header row, an empty source must still contain the header
+   * @param separator  the separator used to separate each field, typically a comma, but a tab is sometimes used
+   * @return the CSV cursor
+   * @throws UncheckedIOException if an IO exception occurs
+   * @throws IllegalArgumentException if the file cannot be parsed
+   */
+  public static CsvCursor of(CharSource source, boolean headerRow, char separator) {
+    ArgChecker.notNull(source, "source");
+    @SuppressWarnings("resource")
+    Reader reader = Unchecked.wrap(() -> source.openStream());
+    return create(reader, headerRow, separator);
+  }
+
+  /**
+   * Parses the specified reader as a CSV file, using a comma as the separator.
+   * <p>
+   * The caller is responsible for closing the reader, such as by calling {@link #close()}.
+   * The reader does not need to be buffered.
+   *
+   * @param reader  the file reader
+   * @param headerRow  whether the source has a header row, an empty source must still contain the header
+   * @return the CSV cursor
+   * @throws UncheckedIOException if an IO exception occurs
+   * @throws IllegalArgumentException if the file cannot be parsed
+   */
+  public static CsvCursor of(Reader reader, boolean headerRow) {
+    return of(reader, headerRow, ',');
+  }
+
+  /**
+   * Parses the specified reader as a CSV file where the separator is specified and might not be a comma.
+   * <p>
+   * The caller is responsible for closing the reader, such as by calling {@link #close()}.
+   * The reader does not need to be buffered.
+   *
+   * @param reader  the file reader
+   * @param headerRow  whether the source has a header row, an empty source must still contain the header
+   * @param separator  the separator used to separate each field, typically a comma, but a tab is sometimes used
+   * @return the CSV cursor
+   * @throws UncheckedIOException if an IO exception occurs
+   * @throws IllegalArgumentException if the file cannot be parsed
+   */
+  public static CsvCursor of(Reader reader, boolean headerRow, char separator) {
+    ArgChecker.notNull(reader, "reader");
+    return create(reader, headerRow, separator);
+  }
+
+  // create the cursor, reading the header row
+  private static CsvCursor create(Reader reader, boolean headerRow, char separator) {
+    CsvCursor cursor = new CsvCursor(reader, separator);
+    if (headerRow) {
+      try {
+        if (!cursor.next()) {
+          throw new IllegalArgumentException("Could not read header row from empty CSV file");
+        }
+        cursor.headers = cursor.fields();
+        cursor.searchHeaders = CsvFile.buildSearchHeaders(cursor.headers);
+        cursor.fieldCount = 0;
+        cursor.quotedFields = null;
+
+      } catch (RuntimeException ex) {
+        try {
+          reader.close();
+        } catch (IOException ex2) {
+          ex.addSuppressed(ex2);
+        }
+        throw ex;
+      }
+    }
+    return cursor;
+  }
+
+  // restricted constructor
+  private CsvCursor(Reader reader, char separator) {
+    this.reader = reader;
+    this.separator = separator;
+  }
+
+  //------------------------------------------------------------------------
+  /**
+   * Gets the header row.
+   * <p>
+   * If there is no header row, an empty list is returned.
+   *
+   * @return the header row
+   */
+  public ImmutableList<String> headers() {
+    return headers;
+  }
+
+  /**
+   * Checks if the header is present in the file.
+   * <p>
+   * Matching is case insensitive.
+   *
+   * @param header  the column header to match
+   * @return true if the header is present
+   */
+  public boolean containsHeader(String header) {
+    return searchHeaders.containsKey(header.toLowerCase(Locale.ENGLISH));
+  }
+
+  /**
+   * Gets the index of the column with the specified header.
+   * <p>
+   * This returns the index of the first column where the header matches the specified header.
+   * Matching is case insensitive.
+   *
+   * @param header  the column header
+   * @return the column index
+   * @throws IllegalArgumentException if the header is not found
+   */
+  public int columnIndex(String header) {
+    Integer index = searchHeaders.get(header.toLowerCase(Locale.ENGLISH));
+    if (index == null) {
+      throw new IllegalArgumentException("Header not found: '" + header + "'");
+    }
+    return index;
+  }
+
+  /**
+   * Finds the index of the column with the specified header.
+   * <p>
+   * This returns the index of the first column where the header matches the specified header.
+   * Matching is case insensitive.
+   *
+   * @param header  the column header
+   * @return the column index, empty if not found
+   */
+  public OptionalInt findColumnIndex(String header) {
+    Integer index = searchHeaders.get(header.toLowerCase(Locale.ENGLISH));
+    return index != null ? OptionalInt.of(index) : OptionalInt.empty();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Moves the cursor to the next row in the CSV file.
+   * <p>
+   * Blank lines and comment lines are skipped.
+   * Calling this method invalidates any views previously returned by {@link #field(int)}.
+   *
+   * @return true if the cursor has moved to the next row, false if the end of the file has been reached
+   * @throws UncheckedIOException if an IO exception occurs
+   */
+  public boolean next() {
+    fieldCount = 0;
+    rowFieldCount = 0;
+    quotedFields = null;
+    while (readLine()) {
+      lineNumber++;
+      if (parseLine()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Gets the line number of the current row in the source file.
+   *
+   * @return the line number, starting from 1
+   */
+  public int lineNumber() {
+    return lineNumber;
+  }
+
+  /**
+   * Gets the number of fields in the current row.
+   * <p>
+   * This will never be less than the number of headers, as per {@link CsvRow#fieldCount()}.
+   * Missing trailing fields are treated as empty.
+   * This will be zero if there is no current row.
+   *
+   * @return the number of fields
+   */
+  public int fieldCount() {
+    return fieldCount;
+  }
+
+  /**
+   * Gets a view of a single field of the current row by index.
+   * <p>
+   * The view is only valid until the next call to {@link #next()}.
+   * The same view instance is returned for each row, thus it must not be stored.
+   *
+   * @param index  the field index
+   * @return the field value, trimmed unless surrounded by quotes
+   * @throws IndexOutOfBoundsException if the field index is invalid
+   */
+  public CharSequence field(int index) {
+    checkIndex(index);
+    if (index >= views.length) {
+      int oldSize = views.length;
+      views = Arrays.copyOf(views, Math.max(fieldCount, index + 1));
+      for (int i = oldSize; i < views.length; i++) {
+        views[i] = new FieldView(i);
+      }
+    }
+    return views[index];
+  }
+
+  /**
+   * Gets a single field of the current row by index as a string.
+   *
+   * @param index  the field index
+   * @return the field value, trimmed unless surrounded by quotes
+   * @throws IndexOutOfBoundsException if the field index is invalid
+   */
+  public String fieldString(int index) {
+    checkIndex(index);
+    if (quotedFields != null) {
+      return quotedField(index);
+    }
+    return new String(buf, fieldStarts[index], fieldEnds[index] - fieldStarts[index]);
+  }
+
+  /**
+   * Checks if a single field of the current row is empty.
+   *
+   * @param index  the field index
+   * @return true if the field is empty
+   * @throws IndexOutOfBoundsException if the field index is invalid
+   */
+  public boolean isFieldEmpty(int index) {
+    checkIndex(index);
+    if (quotedFields != null) {
+      return quotedField(index).isEmpty();
+    }
+    return fieldStarts[index] == fieldEnds[index];
+  }
+
+  /**
+   * Parses a single field of the current row by index as a {@code double}.
+   * <p>
+   * Simple decimal values are parsed directly from the buffer.
+   * The result is identical to {@link Double#parseDouble(String)}.
+   *
+   * @param index  the field index
+   * @return the parsed value
+   * @throws IndexOutOfBoundsException if the field index is invalid
+   * @throws NumberFormatException if the field cannot be parsed
+   */
+  public double fieldDouble(int index) {
+    checkIndex(index);
+    if (quotedFields == null) {
+      double parsed = parseDouble(buf, fieldStarts[index], fieldEnds[index]);
+      if (!Double.isNaN(parsed)) {
+        return parsed;
+      }
+    }
+    return Double.parseDouble(fieldString(index));
+  }
+
+  /**
+   * Parses a single field of the current row by index as a {@code long}.
+   * <p>
+   * The result is identical to {@link Long#parseLong(String)}.
+   *
+   * @param index  the field index
+   * @return the parsed value
+   * @throws IndexOutOfBoundsException if the field index is invalid
+   * @throws NumberFormatException if the field cannot be parsed
+   */
+  public long fieldLong(int index) {
+    checkIndex(index);
+    if (quotedFields == null) {
+      int start = fieldStarts[index];
+      int end = fieldEnds[index];
+      boolean negative = start < end && buf[start] == '-';
+      int pos = negative || (start < end && buf[start] == '+') ? start + 1 : start;
+      // up to 18 digits cannot overflow
+      if (pos < end && end - pos <= 18) {
+        long value = 0;
+        while (pos < end && buf[pos] >= '0' && buf[pos] <= '9') {
+          value = value * 10 + (buf[pos++] - '0');
+        }
+        if (pos == end) {
+          return negative ? -value : value;
+        }
+      }
+    }
+    return Long.parseLong(fieldString(index));
+  }
+
+  /**
+   * Gets the current row as a {@code CsvRow}.
+   * <p>
+   * This copies the fields of the current row, thus the row remains valid after {@link #next()} is called.
+   * This allows the cursor to be used with code written to process {@code CsvRow}.
+   *
+   * @return the current row
+   * @throws IllegalStateException if there is no current row
+   */
+  public CsvRow row() {
+    if (fieldCount == 0) {
+      throw new IllegalStateException("CsvCursor is not positioned on a row");
+    }
+    return new CsvRow(headers, searchHeaders, lineNumber, fields());
+  }
+
+  /**
+   * Closes the underlying reader.
+   *
+   * @throws UncheckedIOException if an IO exception occurs
+   */
+  @Override
+  public void close() {
+    Unchecked.wrap(() -> reader.close());
+  }
+
+  //-------------------------------------------------------------------------
+  // the header map, transformed for case-insensitive searching
+  ImmutableMap<String, Integer> searchHeaders() {
+    return searchHeaders;
+  }
+
+  // the fields of the current row as strings
+  ImmutableList<String> fields() {
+    if (quotedFields != null) {
+      return quotedFields;
+    }
+    String[] fields = new String[rowFieldCount];
+    for (int i = 0; i < rowFieldCount; i++) {
+      fields[i] = fieldString(i);
+    }
+    return ImmutableList.copyOf(fields);
+  }
+
+  // gets a field of a quoted row, where missing trailing fields are empty
+  private String quotedField(int index) {
+    return index < quotedFields.size() ? quotedFields.get(index) : "";
+  }
+
+  // checks the index is valid
+  private void checkIndex(int index) {
+    if (index < 0 || index >= fieldCount) {
+      throw new IndexOutOfBoundsException("Invalid field index " + index + ", row has " + fieldCount + " fields");
+    }
+  }
+
+  // reads the next line into the buffer, setting lineStart and lineEnd
+  // lines are terminated by CR, LF or CRLF, as per BufferedReader.readLine()
+  private boolean readLine() {
+    if (skipLf) {
+      if (bufPos == bufEnd) {
+        compactAndFill(bufPos);
+      }
+      if (bufPos < bufEnd && buf[bufPos] == '\n') {
+        bufPos++;
+      }
+      skipLf = false;
+    }
+    int start = bufPos;
+    int pos = start;
+    while (true) {
+      while (pos < bufEnd) {
+        char ch = buf[pos];
+        if (ch == '\n' || ch == '\r') {
+          lineStart = start;
+          lineEnd = pos;
+          bufPos = pos + 1;
+          skipLf = ch == '\r';
+          return true;
+        }
+        pos++;
+      }
+      if (eof) {
+        lineStart = start;
+        lineEnd = pos;
+        bufPos = pos;
+        return pos > start;
+      }
+      int shift = compactAndFill(start);
+      start -= shift;
+      pos -= shift;
+    }
+  }
+
+  // moves the unread part of the buffer to the start, growing if necessary, then reads more characters
+  // returns the distance the data was moved
+  private int compactAndFill(int start) {
+    int shift = start;
+    if (shift > 0) {
+      System.arraycopy(buf, start, buf, 0, bufEnd - start);
+      bufEnd -= start;
+      bufPos -= start;
+    } else if (bufEnd == buf.length) {
+      buf = Arrays.copyOf(buf, buf.length * 2);
+    }
+    try {
+      int read = reader.read(buf, bufEnd, buf.length - bufEnd);
+      if (read < 0) {
+        eof = true;
+      } else {
+        bufEnd += read;
+      }
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+    return shift;
+  }
+
+  // parses the current line, returning true if it contains content
+  private boolean parseLine() {
+    if (lineEnd == lineStart) {
+      return false;
+    }
+    char first = buf[lineStart];
+    if (first == '#' || (first == ';' && separator != ';')) {
+      return false;
+    }
+    boolean content = false;
+    int fieldStart = lineStart;
+    for (int pos = lineStart; pos <= lineEnd; pos++) {
+      if (pos == lineEnd || buf[pos] == separator) {
+        int start = fieldStart;
+        int end = pos;
+        while (start < end && buf[start] <= ' ') {
+          start++;
+        }
+        while (end > start && buf[end - 1] <= ' ') {
+          end--;
+        }
+        addField(start, end);
+        content |= end > start;
+        fieldStart = pos + 1;
+      } else if (buf[pos] == '"') {
+        // quoted lines are rare, use the standard parser
+        return parseQuotedLine();
+      }
+    }
+    if (!content) {
+      fieldCount = 0;
+      return false;
+    }
+    rowFieldCount = fieldCount;
+    while (fieldCount < headers.size()) {
+      addField(lineEnd, lineEnd);
+    }
+    return true;
+  }
+
+  // parses the current line using the standard parser
+  private boolean parseQuotedLine() {
+    ImmutableList<String> fields = CsvFile.parseLine(new String(buf, lineStart, lineEnd - lineStart), separator);
+    if (fields.isEmpty()) {
+      fieldCount = 0;
+      return false;
+    }
+    quotedFields = fields;
+    rowFieldCount = fields.size();
+    fieldCount = Math.max(rowFieldCount, headers.size());
+    return true;
+  }
+
+  // adds a field to the current row
+  private void addField(int start, int end) {
+    if (fieldCount == fieldStarts.length) {
+      fieldStarts = Arrays.copyOf(fieldStarts, fieldCount * 2);
+      fieldEnds = Arrays.copyOf(fieldEnds, fieldCount * 2);
+    }
+    fieldStarts[fieldCount] = start;
+    fieldEnds[fieldCount] = end;
+    fieldCount++;
+  }
+
+  // parses simple decimal numbers, returning NaN if the standard parser must be used
+  // numbers with up to 15 significant digits and a small exponent are exact
+  // as both the mantissa and the power of ten are exactly representable as a double
+  static double parseDouble(char[] chars, int start, int end) {
+    int pos = start;
+    boolean negative = false;
+    if (pos < end && (chars[pos] == '-' || chars[pos] == '+')) {
+      negative = chars[pos] == '-';
+      pos++;
+    }
+    long mantissa = 0;
+    int digits = 0;
+    int significantDigits = 0;
+    int scale = 0;
+    boolean point = false;
+    for (; pos < end; pos++) {
+      char ch = chars[pos];
+      if (ch >= '0' && ch <= '9') {
+        digits++;
+        if (mantissa != 0 || ch != '0') {
+          significantDigits++;
+          if (significantDigits > MAX_EXACT_DIGITS) {
+            return Double.NaN;
+          }
+          mantissa = mantissa * 10 + (ch - '0');
+        }
+        if (point) {
+          scale--;
+        }
+      } else if (ch == '.' && !point) {
+        point = true;
+      } else {
+        break;
+      }
+    }
+    if (digits == 0) {
+      return Double.NaN;
+    }
+    if (pos < end && (chars[pos] == 'e' || chars[pos] == 'E')) {
+      pos++;
+      boolean negativeExponent = false;
+      if (pos < end && (chars[pos] == '-' || chars[pos] == '+')) {
+        negativeExponent = chars[pos] == '-';
+        pos++;
+      }
+      int exponent = 0;
+      int exponentDigits = 0;
+      for (; pos < end && chars[pos] >= '0' && chars[pos] <= '9'; pos++) {
+        exponentDigits++;
+        if (exponentDigits > 3) {
+          return Double.NaN;
+        }
+        exponent = exponent * 10 + (chars[pos] - '0');
+      }
+      if (exponentDigits == 0) {
+        return Double.NaN;
+      }
+      scale += negativeExponent ? -exponent : exponent;
+    }
+    if (pos != end) {
+      return Double.NaN;
+    }
+    if (mantissa == 0) {
+      return negative ? -0d : 0d;
+    }
+    double value;
+    if (scale >= 0 && scale < POWERS_OF_TEN.length) {
+      value = mantissa * POWERS_OF_TEN[scale];
+    } else if (scale < 0 && -scale < POWERS_OF_TEN.length) {
+      value = mantissa / POWERS_OF_TEN[-scale];
+    } else {
+      return Double.NaN;
+    }
+    return negative ? -value : value;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns a string describing the CSV cursor.
+   *
+   * @return the descriptive string
+   */
+  @Override
+  public String toString() {
+    return "CsvCursor" + headers.toString();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * A view of a single field of the current row.
+   */
+  private final class FieldView implements CharSequence {
+
+    private final int index;
+
+    private FieldView(int index) {
+      this.index = index;
+    }
+
+    @Override
+    public int length() {
+      checkIndex(index);
+      if (quotedFields != null) {
+        return quotedField(index).length();
+      }
+      return fieldEnds[index] - fieldStarts[index];
+    }
+
+    @Override
+    public char charAt(int charIndex) {
+      checkIndex(index);
+      if (quotedFields != null) {
+        return quotedField(index).charAt(charIndex);
+      }
+      if (charIndex < 0 || charIndex >= fieldEnds[index] - fieldStarts[index]) {
+        throw new IndexOutOfBoundsException("Invalid character index " + charIndex);
+      }
+      return buf[fieldStarts[index] + charIndex];
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+      return toString().subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+      return fieldString(index);
+    }
+  }
+
+}
@@ -8,6 +8,7 @@ package com.opengamma.strata.collect.io;
 import static com.opengamma.strata.collect.Guavate.toImmutableList;
 
 import java.io.BufferedReader;
+import java.io.FilterReader;
 import java.io.IOException;
 import java.io.Reader;
 import java.io.UncheckedIOException;
@@ -22,9 +23,7 @@ import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.io.CharSource;
-import com.google.common.io.CharStreams;
 import com.opengamma.strata.collect.ArgChecker;
-import com.opengamma.strata.collect.Unchecked;
 
 /**
  * A CSV file.
@@ -101,8 +100,9 @@ public final class CsvFile {
    */
   public static CsvFile of(CharSource source, boolean headerRow, char separator) {
     ArgChecker.notNull(source, "source");
-    List<String> lines = Unchecked.wrap(() -> source.readLines());
-    return create(lines, headerRow, separator);
+    try (CsvCursor cursor = CsvCursor.of(source, headerRow, separator)) {
+      return parseAll(cursor);
+    }
   }
 
   /**
@@ -150,23 +150,11 @@ public final class CsvFile {
    */
   public static CsvFile of(Reader reader, boolean headerRow, char separator) {
     ArgChecker.notNull(reader, "source");
-    List<String> lines = Unchecked.wrap(() -> CharStreams.readLines(reader));
-    return create(lines, headerRow, separator);
-  }
-
-  // creates the file
-  private static CsvFile create(List<String> lines, boolean headerRow, char separator) {
-    if (headerRow) {
-      for (int i = 0; i < lines.size(); i++) {
-        ImmutableList<String> headers = parseLine(lines.get(i), separator);
-        if (!headers.isEmpty()) {
-          ImmutableMap<String, Integer> searchHeaders = buildSearchHeaders(headers);
-          return parseAll(lines, i + 1, separator, headers, searchHeaders);
-        }
-      }
-      throw new IllegalArgumentException("Could not read header row from empty CSV file");
-    }
-    return parseAll(lines, 0, separator, ImmutableList.of(), ImmutableMap.of());
+    // the reader is not closed, even if the header row cannot be read
+    // the cursor closes its reader on failure, thus it is given a view that ignores close
+    @SuppressWarnings("resource")
+    CsvCursor cursor = CsvCursor.of(new UnclosedReader(reader), headerRow, separator);
+    return parseAll(cursor);
   }
 
   //-------------------------------------------------------------------------
@@ -312,21 +300,12 @@ public final class CsvFile {
 
   //------------------------------------------------------------------------
   // parses the CSV file format
-  private static CsvFile parseAll(
-      List<String> lines,
-      int lineIndex,
-      char separator,
-      ImmutableList<String> headers,
-      ImmutableMap<String, Integer> searchHeaders) {
-
+  private static CsvFile parseAll(CsvCursor cursor) {
     ImmutableList.Builder<CsvRow> rows = ImmutableList.builder();
-    for (int i = lineIndex; i < lines.size(); i++) {
-      ImmutableList<String> fields = parseLine(lines.get(i), separator);
-      if (!fields.isEmpty()) {
-        rows.add(new CsvRow(headers, searchHeaders, i + 1, fields));
-      }
+    while (cursor.next()) {
+      rows.add(cursor.row());
     }
-    return new CsvFile(headers, searchHeaders, rows.build());
+    return new CsvFile(cursor.headers(), cursor.searchHeaders(), rows.build());
   }
 
   // parse a single line
@@ -564,4 +543,16 @@ public final class CsvFile {
     return "CsvFile" + headers.toString();
   }
 
+  //-------------------------------------------------------------------------
+  // a view of a reader owned by the caller, which is not closed
+  private static final class UnclosedReader extends FilterReader {
+    private UnclosedReader(Reader reader) {
+      super(reader);
+    }
+
+    @Override
+    public void close() {
+    }
+  }
+
 }
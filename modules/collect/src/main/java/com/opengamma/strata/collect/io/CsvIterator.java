@@ -5,8 +5,6 @@
  */
 package com.opengamma.strata.collect.io;
 
-import java.io.BufferedReader;
-import java.io.IOException;
 import java.io.Reader;
 import java.io.UncheckedIOException;
 import java.util.ArrayList;
@@ -26,7 +24,6 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.PeekingIterator;
 import com.google.common.io.CharSource;
 import com.opengamma.strata.collect.ArgChecker;
-import com.opengamma.strata.collect.Unchecked;
 
 /**
  * Iterator over the rows of a CSV file.
@@ -62,13 +59,9 @@ import com.opengamma.strata.collect.Unchecked;
 public final class CsvIterator implements AutoCloseable, PeekingIterator<CsvRow> {
 
   /**
-   * The buffered reader.
+   * The cursor used to parse the file.
    */
-  private final BufferedReader reader;
-  /**
-   * The separator
-   */
-  private final char separator;
+  private final CsvCursor cursor;
   /**
    * The header row, ordered as the headers appear in the file.
    */
@@ -81,10 +74,6 @@ public final class CsvIterator implements AutoCloseable, PeekingIterator<CsvRow>
    * The next row.
    */
   private CsvRow nextRow;
-  /**
-   * The current line number in the source file.
-   */
-  private int currentLineNumber;
 
   //------------------------------------------------------------------------
   /**
@@ -115,9 +104,7 @@ public final class CsvIterator implements AutoCloseable, PeekingIterator<CsvRow>
    */
   public static CsvIterator of(CharSource source, boolean headerRow, char separator) {
     ArgChecker.notNull(source, "source");
-    @SuppressWarnings("resource")
-    BufferedReader reader = Unchecked.wrap(() -> source.openBufferedStream());
-    return create(reader, headerRow, separator);
+    return new CsvIterator(CsvCursor.of(source, headerRow, separator));
   }
 
   /**
@@ -152,67 +139,19 @@ public final class CsvIterator implements AutoCloseable, PeekingIterator<CsvRow>
    */
   public static CsvIterator of(Reader reader, boolean headerRow, char separator) {
     ArgChecker.notNull(reader, "reader");
-    @SuppressWarnings("resource")
-    BufferedReader breader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
-    return create(breader, headerRow, separator);
-  }
-
-  // create the iterator
-  private static CsvIterator create(BufferedReader breader, boolean headerRow, char separator) {
-    try {
-      if (!headerRow) {
-        return new CsvIterator(breader, separator, ImmutableList.of(), ImmutableMap.of(), 0);
-      }
-      String line = breader.readLine();
-      int lineNumber = 1;
-      while (line != null) {
-        ImmutableList<String> headers = CsvFile.parseLine(line, separator);
-        if (!headers.isEmpty()) {
-          return new CsvIterator(breader, separator, headers, CsvFile.buildSearchHeaders(headers), lineNumber);
-        }
-        line = breader.readLine();
-        lineNumber++;
-      }
-      throw new IllegalArgumentException("Could not read header row from empty CSV file");
-
-    } catch (RuntimeException ex) {
-      try {
-        breader.close();
-      } catch (IOException ex2) {
-        ex.addSuppressed(ex2);
-      }
-      throw ex;
-
-    } catch (IOException ex) {
-      try {
-        breader.close();
-      } catch (IOException ex2) {
-        ex.addSuppressed(ex2);
-      }
-      throw new UncheckedIOException(ex);
-    }
+    return new CsvIterator(CsvCursor.of(reader, headerRow, separator));
   }
 
   //------------------------------------------------------------------------
   /**
    * Restricted constructor.
    * 
-   * @param reader  the buffered reader
-   * @param headers  the header row
-   * @param searchHeaders  the search headers
+   * @param cursor  the cursor, positioned after the header row
    */
-  private CsvIterator(
-      BufferedReader reader,
-      char separator,
-      ImmutableList<String> headers,
-      ImmutableMap<String, Integer> searchHeaders,
-      int currentLineNumber) {
-
-    this.reader = reader;
-    this.separator = separator;
-    this.headers = headers;
-    this.searchHeaders = searchHeaders;
-    this.currentLineNumber = currentLineNumber;
+  private CsvIterator(CsvCursor cursor) {
+    this.cursor = cursor;
+    this.headers = cursor.headers();
+    this.searchHeaders = cursor.searchHeaders();
   }
 
   //------------------------------------------------------------------------
@@ -313,16 +252,10 @@ public final class CsvIterator implements AutoCloseable, PeekingIterator<CsvRow>
   public boolean hasNext() {
     if (nextRow != null) {
       return true;
+    } else if (cursor.next()) {
+      nextRow = cursor.row();
+      return true;
     } else {
-      String line = null;
-      while ((line = Unchecked.wrap(() -> reader.readLine())) != null) {
-        currentLineNumber++;
-        ImmutableList<String> fields = CsvFile.parseLine(line, separator);
-        if (!fields.isEmpty()) {
-          nextRow = new CsvRow(headers, searchHeaders, currentLineNumber, fields);
-          return true;
-        }
-      }
       return false;
     }
   }
@@ -433,7 +366,7 @@ public final class CsvIterator implements AutoCloseable, PeekingIterator<CsvRow>
    */
   @Override
   public void close() {
-    Unchecked.wrap(() -> reader.close());
+    cursor.close();
   }
 
   //-------------------------------------------------------------------------
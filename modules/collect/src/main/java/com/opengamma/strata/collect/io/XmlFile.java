@@ -5,11 +5,22 @@
  */
 package com.opengamma.strata.collect.io;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
 import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamConstants;
@@ -147,6 +158,52 @@ public final class XmlFile {
     });
   }
 
+  /**
+   * Parses the specified source as an XML file, streaming the elements that match the filter.
+   * <p>
+   * This parses the specified byte source expecting an XML file format.
+   * Rather than building the whole tree in memory, the file is read incrementally.
+   * The filter function takes the path of the element, which is the list of element names from the root
+   * element to the element being checked inclusive. The list is only valid during the call to the filter.
+   * When the filter matches, the element and all its children are parsed and returned as the root of an
+   * {@code XmlFile}, otherwise the element is skipped and its children are checked against the filter.
+   * As such, a matched element is never returned as part of another matched element.
+   * Elements are returned in the order they occur in the file.
+   * <p>
+   * This supports capturing attribute references, such as an id/href pair.
+   * The references of each returned file only include those found within the matched element.
+   * <p>
+   * The stream must be closed to close the underlying file, such as by using try-with-resources.
+   * 
+   * @param source  the XML source data
+   * @param refAttrName  the attribute name that should be parsed as a reference
+   * @param filterFn  the filter function taking the path of element names
+   * @return the stream of matched elements, each as a file
+   * @throws UncheckedIOException if an IO exception occurs
+   * @throws IllegalArgumentException if the file cannot be parsed
+   */
+  public static Stream<XmlFile> streamElements(ByteSource source, String refAttrName, Predicate<List<String>> filterFn) {
+    ArgChecker.notNull(source, "source");
+    ArgChecker.notNull(refAttrName, "refAttrName");
+    ArgChecker.notNull(filterFn, "filterFn");
+    InputStream in = Unchecked.wrap(() -> source.openBufferedStream());
+    XMLStreamReader xmlReader;
+    try {
+      xmlReader = XML_FACTORY.createXMLStreamReader(in);
+    } catch (XMLStreamException ex) {
+      try {
+        in.close();
+      } catch (IOException ex2) {
+        ex.addSuppressed(ex2);
+      }
+      throw new IllegalArgumentException(ex);
+    }
+    MatchingElementIterator iterator = new MatchingElementIterator(in, xmlReader, refAttrName, filterFn);
+    Spliterator<XmlFile> spliterator =
+        Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL);
+    return StreamSupport.stream(spliterator, false).onClose(iterator::close);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Parses the tree from the StAX stream reader, capturing references.
@@ -260,6 +317,86 @@ public final class XmlFile {
     return attrs;
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Iterator over the elements matching a filter, used to stream a large file.
+   */
+  private static final class MatchingElementIterator implements Iterator<XmlFile> {
+
+    private final InputStream in;
+    private final XMLStreamReader reader;
+    private final String refAttr;
+    private final Predicate<List<String>> filterFn;
+    private final List<String> path = new ArrayList<>();
+    private final List<String> pathView = Collections.unmodifiableList(path);
+    private XmlFile next;
+
+    private MatchingElementIterator(
+        InputStream in,
+        XMLStreamReader reader,
+        String refAttr,
+        Predicate<List<String>> filterFn) {
+
+      this.in = in;
+      this.reader = reader;
+      this.refAttr = refAttr;
+      this.filterFn = filterFn;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (next == null) {
+        next = advance();
+      }
+      return next != null;
+    }
+
+    @Override
+    public XmlFile next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException("No more elements available");
+      }
+      XmlFile result = next;
+      next = null;
+      return result;
+    }
+
+    // reads until the next matching element has been parsed, returning null at the end of the file
+    private XmlFile advance() {
+      try {
+        while (reader.hasNext()) {
+          int event = reader.next();
+          if (event == XMLStreamConstants.START_ELEMENT) {
+            path.add(reader.getLocalName());
+            if (filterFn.test(pathView)) {
+              path.remove(path.size() - 1);
+              HashMap<String, XmlElement> refs = new HashMap<>();
+              XmlElement element = parse(reader, refAttr, refs);
+              return new XmlFile(element, refs);
+            }
+          } else if (event == XMLStreamConstants.END_ELEMENT) {
+            path.remove(path.size() - 1);
+          }
+        }
+        return null;
+
+      } catch (XMLStreamException ex) {
+        throw new IllegalArgumentException(ex);
+      }
+    }
+
+    // closes the reader and the underlying stream
+    private void close() {
+      try {
+        reader.close();
+      } catch (XMLStreamException ex) {
+        throw new IllegalArgumentException(ex);
+      } finally {
+        Unchecked.wrap(() -> in.close());
+      }
+    }
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Restricted constructor.
@@ -238,6 +238,30 @@ final class DenseLocalDateDoubleTimeSeries
     return new DenseLocalDateDoubleTimeSeries(startDate, points, dateCalculation, true, size);
   }
 
+  /**
+   * Package protected factory method intended to be called
+   * by the {@link LocalDateDoubleTimeSeriesBuilder}. As such
+   * all the information passed is assumed to be consistent.
+   *
+   * @param dates  the dates, in ascending order
+   * @param values  the values, matching the dates
+   * @param dateCalculation  the date calculation method to be used
+   * @return a new time-series
+   */
+  static LocalDateDoubleTimeSeries ofSorted(
+      LocalDate[] dates,
+      double[] values,
+      DenseTimeSeriesCalculation dateCalculation) {
+
+    LocalDate startDate = dates[0];
+    double[] points = new double[dateCalculation.calculatePosition(startDate, dates[dates.length - 1]) + 1];
+    Arrays.fill(points, Double.NaN);
+    for (int i = 0; i < dates.length; i++) {
+      points[dateCalculation.calculatePosition(startDate, dates[i])] = values[i];
+    }
+    return new DenseLocalDateDoubleTimeSeries(startDate, points, dateCalculation, true, dates.length + 1);
+  }
+
   // Private constructor, the trusted flag indicates whether the
   // points array should be cloned. If trusted, it will not be cloned.
   // size is the size of the time series + 1 if known, 0 if unknown
@@ -64,6 +64,22 @@ public interface LocalDateDoubleTimeSeries {
     return builder().put(date, value).build();
   }
 
+  /**
+   * Obtains a time-series from matching arrays of dates and values.
+   * <p>
+   * The dates must be in ascending order with no duplicates.
+   * This avoids the sorting performed by the builder, choosing the same internal representation.
+   * The arrays are copied.
+   *
+   * @param dates  the dates, in ascending order
+   * @param values  the values, matching the dates
+   * @return the time-series
+   * @throws IllegalArgumentException if the dates are not in ascending order, or a value is NaN
+   */
+  public static LocalDateDoubleTimeSeries ofSorted(LocalDate[] dates, double[] values) {
+    return LocalDateDoubleTimeSeriesBuilder.buildSorted(dates, values);
+  }
+
   /**
    * Creates an empty builder, used to create time-series.
    * <p>
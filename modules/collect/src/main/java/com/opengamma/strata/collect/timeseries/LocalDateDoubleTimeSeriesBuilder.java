@@ -289,6 +289,40 @@ public final class LocalDateDoubleTimeSeriesBuilder {
         createSparseSeries();
   }
 
+  /**
+   * Builds a time-series from arrays that are already sorted.
+   * <p>
+   * Use {@link LocalDateDoubleTimeSeries#ofSorted(LocalDate[], double[])}.
+   *
+   * @param dates  the dates, in ascending order
+   * @param values  the values, matching the dates
+   * @return the time-series
+   */
+  static LocalDateDoubleTimeSeries buildSorted(LocalDate[] dates, double[] values) {
+    ArgChecker.noNulls(dates, "dates");
+    ArgChecker.notNull(values, "values");
+    ArgChecker.isTrue(dates.length == values.length,
+        "Arrays are of different sizes - dates: {}, values: {}", dates.length, values.length);
+    if (dates.length == 0) {
+      return LocalDateDoubleTimeSeries.empty();
+    }
+    boolean containsWeekends = false;
+    for (int i = 0; i < dates.length; i++) {
+      ArgChecker.isFalse(Double.isNaN(values[i]), "NaN is not allowed as a value");
+      if (i > 0) {
+        ArgChecker.isTrue(dates[i].isAfter(dates[i - 1]),
+            "Dates must be in ascending order but: {} is not after: {}", dates[i], dates[i - 1]);
+      }
+      containsWeekends |= dates[i].get(ChronoField.DAY_OF_WEEK) > 5;
+    }
+    DenseLocalDateDoubleTimeSeries.DenseTimeSeriesCalculation calculation =
+        containsWeekends ? INCLUDE_WEEKENDS : SKIP_WEEKENDS;
+    double rangeSize = calculation.calculatePosition(dates[0], dates[dates.length - 1]) + 1;
+    return dates.length / rangeSize > DENSITY_THRESHOLD ?
+        DenseLocalDateDoubleTimeSeries.ofSorted(dates, values, calculation) :
+        SparseLocalDateDoubleTimeSeries.ofSorted(dates, values);
+  }
+
   private LocalDateDoubleTimeSeries createDenseSeries() {
     return DenseLocalDateDoubleTimeSeries.of(
         entries.firstKey(),
@@ -92,6 +92,20 @@ final class SparseLocalDateDoubleTimeSeries
     return createUnsafe(datesArray, valuesArray);
   }
 
+  /**
+   * Obtains a time-series from matching arrays of dates and values that have already been validated.
+   * <p>
+   * The two arrays must be the same size and must be sorted from earliest to latest.
+   * The arrays are copied.
+   *
+   * @param dates  the date array
+   * @param values  the value array
+   * @return the time-series
+   */
+  static SparseLocalDateDoubleTimeSeries ofSorted(LocalDate[] dates, double[] values) {
+    return createUnsafe(dates.clone(), values.clone());
+  }
+
   // creates time-series by directly assigning the input arrays
   // must only be called when safe to do so
   private static SparseLocalDateDoubleTimeSeries createUnsafe(LocalDate[] dates, double[] values) {
@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.collect.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Test {@link OrderedFutureIterator}.
+ */
+public class OrderedFutureIteratorTest {
+
+  private static final List<Integer> INPUTS = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_of_executor() {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try (OrderedFutureIterator<Integer, String> test =
+        OrderedFutureIterator.of(INPUTS.iterator(), i -> "N" + i, executor, 8)) {
+      List<String> results = new ArrayList<>();
+      test.forEachRemaining(results::add);
+      assertThat(results).isEqualTo(INPUTS.stream().map(i -> "N" + i).collect(Collectors.toList()));
+      assertThat(test.hasNext()).isFalse();
+      assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(test::next);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void test_of_maxPending() {
+    AtomicInteger read = new AtomicInteger();
+    List<Runnable> tasks = new ArrayList<>();
+    OrderedFutureIterator<Integer, Integer> test = OrderedFutureIterator.of(
+        INPUTS.stream().peek(i -> read.incrementAndGet()).iterator(), i -> i * 2, tasks::add, 3);
+    assertThat(test.hasNext()).isTrue();
+    assertThat(read.get()).isEqualTo(3);
+    assertThat(tasks).hasSize(3);
+    tasks.forEach(Runnable::run);
+    assertThat(test.next()).isEqualTo(0);
+    assertThat(read.get()).isEqualTo(3);
+    assertThat(test.hasNext()).isTrue();
+    assertThat(read.get()).isEqualTo(4);
+    assertThat(tasks).hasSize(4);
+  }
+
+  @Test
+  public void test_close() {
+    List<Runnable> tasks = new ArrayList<>();
+    AtomicInteger applied = new AtomicInteger();
+    OrderedFutureIterator<Integer, Integer> test =
+        OrderedFutureIterator.of(INPUTS.iterator(), i -> applied.incrementAndGet(), tasks::add, 3);
+    assertThat(test.hasNext()).isTrue();
+    test.close();
+    tasks.forEach(Runnable::run);
+    assertThat(applied.get()).isEqualTo(0);
+  }
+
+  @Test
+  public void test_of_exception() {
+    OrderedFutureIterator<Integer, Integer> test = OrderedFutureIterator.of(
+        INPUTS.iterator(),
+        i -> {
+          if (i == 2) {
+            throw new IllegalStateException("Bad");
+          }
+          return i;
+        },
+        Runnable::run,
+        5);
+    assertThat(test.next()).isEqualTo(0);
+    assertThat(test.next()).isEqualTo(1);
+    assertThatIllegalStateException().isThrownBy(test::next).withMessage("Bad");
+    assertThat(test.next()).isEqualTo(3);
+  }
+
+  @Test
+  public void test_of_invalid() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> OrderedFutureIterator.of(INPUTS.iterator(), i -> i, Runnable::run, 0));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_map() {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      assertThat(OrderedFutureIterator.map(INPUTS, i -> i * 2, executor))
+          .isEqualTo(INPUTS.stream().map(i -> i * 2).collect(Collectors.toList()));
+      assertThat(OrderedFutureIterator.map(ImmutableList.<Integer>of(), i -> i * 2, executor)).isEmpty();
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void test_map_exception() {
+    assertThatIllegalStateException()
+        .isThrownBy(() -> OrderedFutureIterator.map(INPUTS, i -> {
+          throw new IllegalStateException("Bad");
+        }, Runnable::run))
+        .withMessage("Bad");
+  }
+
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.collect.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.io.File;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.OptionalInt;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.base.Strings;
+import com.google.common.io.CharSource;
+import com.google.common.io.Files;
+
+/**
+ * Test {@link CsvCursor}.
+ */
+public class CsvCursorTest {
+
+  private static final String CSV1 = "" +
+      "h1,h2\n" +
+      " r11 , r12\n" +
+      "#r21,r22\n" +
+      ";r21,r22\n" +
+      "\n" +
+      ",\n" +
+      "r31,\n";
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_of_ioException() {
+    assertThatExceptionOfType(UncheckedIOException.class).isThrownBy(
+        () -> CsvCursor.of(Files.asCharSource(new File("src/test/resources"), StandardCharsets.UTF_8), false));
+  }
+
+  @Test
+  public void test_of_empty_header() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> CsvCursor.of(CharSource.wrap(""), true))
+        .withMessage("Could not read header row from empty CSV file");
+  }
+
+  @Test
+  public void test_of_empty_no_header() {
+    try (CsvCursor csv = CsvCursor.of(CharSource.wrap(""), false)) {
+      assertThat(csv.headers()).isEmpty();
+      assertThat(csv.next()).isFalse();
+      assertThat(csv.fieldCount()).isEqualTo(0);
+      assertThatIllegalStateException().isThrownBy(() -> csv.row());
+    }
+  }
+
+  @Test
+  public void test_headers() {
+    try (CsvCursor csv = CsvCursor.of(CharSource.wrap(CSV1), true)) {
+      assertThat(csv.headers()).containsExactly("h1", "h2");
+      assertThat(csv.containsHeader("H2")).isTrue();
+      assertThat(csv.containsHeader("h3")).isFalse();
+      assertThat(csv.columnIndex("H2")).isEqualTo(1);
+      assertThat(csv.findColumnIndex("h1")).isEqualTo(OptionalInt.of(0));
+      assertThat(csv.findColumnIndex("h3")).isEqualTo(OptionalInt.empty());
+      assertThatIllegalArgumentException()
+          .isThrownBy(() -> csv.columnIndex("h3"))
+          .withMessage("Header not found: 'h3'");
+      assertThat(csv.toString()).isEqualTo("CsvCursor[h1, h2]");
+    }
+  }
+
+  @Test
+  public void test_next() {
+    try (CsvCursor csv = CsvCursor.of(CharSource.wrap(CSV1), true)) {
+      assertThat(csv.next()).isTrue();
+      assertThat(csv.lineNumber()).isEqualTo(2);
+      assertThat(csv.fieldCount()).isEqualTo(2);
+      assertThat(csv.field(0).toString()).isEqualTo("r11");
+      assertThat(csv.field(1).length()).isEqualTo(3);
+      assertThat(csv.field(1).charAt(2)).isEqualTo('2');
+      assertThat(csv.field(1).subSequence(1, 3)).isEqualTo("12");
+      assertThat(csv.fieldString(1)).isEqualTo("r12");
+      assertThat(csv.isFieldEmpty(0)).isFalse();
+      assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> csv.field(2));
+      assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> csv.field(1).charAt(3));
+
+      assertThat(csv.next()).isTrue();
+      assertThat(csv.lineNumber()).isEqualTo(7);
+      assertThat(csv.fieldCount()).isEqualTo(2);
+      assertThat(csv.fieldString(0)).isEqualTo("r31");
+      assertThat(csv.isFieldEmpty(1)).isTrue();
+      assertThat(csv.next()).isFalse();
+    }
+  }
+
+  @Test
+  public void test_next_lineEndings() {
+    try (CsvCursor csv = CsvCursor.of(CharSource.wrap("a,b\r\nc,d\re,f\n\r\ng,h\r"), false)) {
+      assertThat(csv.next()).isTrue();
+      assertThat(csv.fieldString(1)).isEqualTo("b");
+      assertThat(csv.next()).isTrue();
+      assertThat(csv.fieldString(0)).isEqualTo("c");
+      assertThat(csv.lineNumber()).isEqualTo(2);
+      assertThat(csv.next()).isTrue();
+      assertThat(csv.fieldString(0)).isEqualTo("e");
+      assertThat(csv.next()).isTrue();
+      assertThat(csv.fieldString(0)).isEqualTo("g");
+      assertThat(csv.lineNumber()).isEqualTo(5);
+      assertThat(csv.next()).isFalse();
+    }
+  }
+
+  @Test
+  public void test_next_quoted() {
+    try (CsvCursor csv = CsvCursor.of(new StringReader("a,\"b,c\", \"d\"\"e\" \n1,2,3\n"), false)) {
+      assertThat(csv.next()).isTrue();
+      assertThat(csv.fieldCount()).isEqualTo(3);
+      assertThat(csv.field(1).toString()).isEqualTo("b,c");
+      assertThat(csv.field(1).length()).isEqualTo(3);
+      assertThat(csv.field(1).charAt(1)).isEqualTo(',');
+      assertThat(csv.fieldString(2)).isEqualTo("d\"e");
+      assertThat(csv.isFieldEmpty(0)).isFalse();
+      assertThat(csv.next()).isTrue();
+      assertThat(csv.fieldString(1)).isEqualTo("2");
+      assertThat(csv.fieldDouble(2)).isEqualTo(3d);
+    }
+  }
+
+  @Test
+  public void test_next_separator() {
+    try (CsvCursor csv = CsvCursor.of(CharSource.wrap("h1;h2\n;a;b\nc;d"), true, ';')) {
+      assertThat(csv.next()).isTrue();
+      assertThat(csv.fieldCount()).isEqualTo(3);
+      assertThat(csv.fieldString(2)).isEqualTo("b");
+      assertThat(csv.next()).isTrue();
+      assertThat(csv.fieldString(1)).isEqualTo("d");
+    }
+  }
+
+  @Test
+  public void test_next_shortRow() {
+    try (CsvCursor csv = CsvCursor.of(CharSource.wrap("h1,h2,h3\na\n\"b\"\n"), true)) {
+      assertThat(csv.next()).isTrue();
+      assertThat(csv.fieldCount()).isEqualTo(3);
+      assertThat(csv.fieldString(2)).isEmpty();
+      assertThat(csv.isFieldEmpty(1)).isTrue();
+      assertThat(csv.field(1).length()).isEqualTo(0);
+      assertThat(csv.row().fields()).containsExactly("a");
+      assertThat(csv.next()).isTrue();
+      assertThat(csv.fieldCount()).isEqualTo(3);
+      assertThat(csv.fieldString(0)).isEqualTo("b");
+      assertThat(csv.fieldString(2)).isEmpty();
+      assertThat(csv.field(2).length()).isEqualTo(0);
+    }
+  }
+
+  @Test
+  public void test_row() {
+    try (CsvCursor csv = CsvCursor.of(CharSource.wrap(CSV1), true)) {
+      csv.next();
+      CsvRow row = csv.row();
+      csv.next();
+      assertThat(row.lineNumber()).isEqualTo(2);
+      assertThat(row.getValue("h1")).isEqualTo("r11");
+      assertThat(row.getValue("h2")).isEqualTo("r12");
+      assertThat(csv.row().getField("h1")).isEqualTo("r31");
+    }
+  }
+
+  @Test
+  public void test_largeFile() {
+    StringBuilder buf = new StringBuilder("id,value\n");
+    for (int i = 0; i < 20_000; i++) {
+      buf.append(i).append(',').append(i * 0.25d).append('\n');
+    }
+    String longField = Strings.repeat("x", 200_000);
+    buf.append("long,").append(longField).append('\n');
+    try (CsvCursor csv = CsvCursor.of(CharSource.wrap(buf), true)) {
+      for (int i = 0; i < 20_000; i++) {
+        assertThat(csv.next()).isTrue();
+        assertThat(csv.fieldLong(0)).isEqualTo(i);
+        assertThat(csv.fieldDouble(1)).isEqualTo(i * 0.25d);
+      }
+      assertThat(csv.next()).isTrue();
+      assertThat(csv.fieldString(1)).isEqualTo(longField);
+      assertThat(csv.next()).isFalse();
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_fieldDouble() {
+    String[] values = {
+        "0", "-0", "+1", "1.", ".5", "0.1", "-12.345", "1e10", "1.5E-7", "123456789012345", "0.000000000000000000001",
+        "1234567890123456789", "1e400", "1e-400", "4.9e-324", "-Infinity", "1.0d", "0x1p3"};
+    for (String value : values) {
+      try (CsvCursor csv = CsvCursor.of(CharSource.wrap(value), false)) {
+        csv.next();
+        assertThat(csv.fieldDouble(0)).as(value).isEqualTo(Double.parseDouble(value));
+      }
+    }
+    try (CsvCursor csv = CsvCursor.of(CharSource.wrap("NaN"), false)) {
+      csv.next();
+      assertThat(csv.fieldDouble(0)).isNaN();
+    }
+  }
+
+  @Test
+  public void test_fieldDouble_random() {
+    Random random = new Random(1);
+    StringBuilder buf = new StringBuilder();
+    String[] expected = new String[10_000];
+    for (int i = 0; i < expected.length; i++) {
+      double value = (random.nextDouble() - 0.5d) * Math.pow(10, random.nextInt(20) - 10);
+      expected[i] = i % 2 == 0 ? Double.toString(value) : String.format(Locale.ENGLISH, "%.6f", value);
+      buf.append(expected[i]).append('\n');
+    }
+    try (CsvCursor csv = CsvCursor.of(CharSource.wrap(buf), false)) {
+      for (String value : expected) {
+        csv.next();
+        assertThat(csv.fieldDouble(0)).as(value).isEqualTo(Double.parseDouble(value));
+      }
+    }
+  }
+
+  @Test
+  public void test_fieldDouble_invalid() {
+    try (CsvCursor csv = CsvCursor.of(CharSource.wrap("a,1.2.3,1e,-,1_0,"), false)) {
+      csv.next();
+      for (int i = 0; i < csv.fieldCount(); i++) {
+        int index = i;
+        assertThatExceptionOfType(NumberFormatException.class).isThrownBy(() -> csv.fieldDouble(index));
+      }
+    }
+  }
+
+  @Test
+  public void test_fieldLong() {
+    try (CsvCursor csv = CsvCursor.of(CharSource.wrap("0,-12,+34,9223372036854775807,-9223372036854775808,1.5,"), false)) {
+      csv.next();
+      assertThat(csv.fieldLong(0)).isEqualTo(0);
+      assertThat(csv.fieldLong(1)).isEqualTo(-12);
+      assertThat(csv.fieldLong(2)).isEqualTo(34);
+      assertThat(csv.fieldLong(3)).isEqualTo(Long.MAX_VALUE);
+      assertThat(csv.fieldLong(4)).isEqualTo(Long.MIN_VALUE);
+      assertThatExceptionOfType(NumberFormatException.class).isThrownBy(() -> csv.fieldLong(5));
+      assertThatExceptionOfType(NumberFormatException.class).isThrownBy(() -> csv.fieldLong(6));
+    }
+  }
+
+}
@@ -10,6 +10,7 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.StringReader;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
@@ -504,6 +505,13 @@ public class CsvFileTest {
     assertThat(csvFile.rowCount()).isEqualTo(0);
   }
 
+  @Test
+  public void test_of_empty_with_header_reader_notClosed() throws IOException {
+    StringReader reader = new StringReader("");
+    assertThatIllegalArgumentException().isThrownBy(() -> CsvFile.of(reader, true, ','));
+    assertThat(reader.ready()).isTrue();
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_with_headers() {
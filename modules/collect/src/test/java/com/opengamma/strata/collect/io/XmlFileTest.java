@@ -5,6 +5,7 @@
  */
 package com.opengamma.strata.collect.io;
 
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
@@ -12,8 +13,10 @@ import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException
 import java.io.File;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 
@@ -207,6 +210,76 @@ public class XmlFileTest {
         .isThrownBy(() -> XmlFile.parseElements(source, name -> Integer.MAX_VALUE));
   }
 
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_streamElements() {
+    ByteSource source = ByteSource.wrap(SAMPLE.getBytes(StandardCharsets.UTF_8));
+    try (Stream<XmlFile> stream = XmlFile.streamElements(source, "key", path -> path.size() == 3)) {
+      List<XmlFile> matched = stream.collect(toImmutableList());
+      assertThat(matched).hasSize(4);
+      assertThat(matched.get(0).getRoot()).isEqualTo(LEAF1);
+      assertThat(matched.get(2).getRoot()).isEqualTo(LEAF2B);
+      assertThat(matched.get(3).getRoot()).isEqualTo(OBJ);
+      assertThat(matched.get(3).getReferences()).isEmpty();
+    }
+  }
+
+  @Test
+  public void test_streamElements_path() {
+    ByteSource source = ByteSource.wrap(SAMPLE.getBytes(StandardCharsets.UTF_8));
+    List<List<String>> paths = new ArrayList<>();
+    try (Stream<XmlFile> stream = XmlFile.streamElements(source, "", path -> {
+      paths.add(ImmutableList.copyOf(path));
+      return false;
+    })) {
+      assertThat(stream.count()).isEqualTo(0);
+    }
+    assertThat(paths).containsExactly(
+        ImmutableList.of("base"),
+        ImmutableList.of("base", "test"),
+        ImmutableList.of("base", "test", "leaf1"),
+        ImmutableList.of("base", "test", "leaf2"),
+        ImmutableList.of("base", "test", "leaf2"),
+        ImmutableList.of("base", "test", "obj"),
+        ImmutableList.of("base", "test", "obj", "leaf3"));
+  }
+
+  @Test
+  public void test_streamElements_parsedReferences() {
+    ByteSource source = ByteSource.wrap(SAMPLE.getBytes(StandardCharsets.UTF_8));
+    try (Stream<XmlFile> stream = XmlFile.streamElements(source, "key", path -> path.get(path.size() - 1).equals("test"))) {
+      List<XmlFile> matched = stream.collect(toImmutableList());
+      assertThat(matched).hasSize(1);
+      XmlElement expected = XmlElement.ofChildren("test", ATTR_MAP, CHILD_LIST_MULTI);
+      assertThat(matched.get(0).getRoot()).isEqualTo(expected);
+      assertThat(matched.get(0).getReferences()).isEqualTo(ImmutableMap.of("value", expected));
+    }
+  }
+
+  @Test
+  public void test_streamElements_nested() {
+    ByteSource source = ByteSource.wrap(SAMPLE.getBytes(StandardCharsets.UTF_8));
+    try (Stream<XmlFile> stream = XmlFile.streamElements(source, "", path -> path.get(path.size() - 1).startsWith("obj") ||
+        path.get(path.size() - 1).startsWith("leaf"))) {
+      assertThat(stream.map(XmlFile::getRoot)).containsExactly(LEAF1, LEAF2A, LEAF2B, OBJ);
+    }
+  }
+
+  @Test
+  public void test_streamElements_mismatchedTags() {
+    ByteSource source = ByteSource.wrap(SAMPLE_MISMATCHED_TAGS.getBytes(StandardCharsets.UTF_8));
+    try (Stream<XmlFile> stream = XmlFile.streamElements(source, "", path -> path.get(path.size() - 1).equals("test"))) {
+      assertThatIllegalArgumentException().isThrownBy(() -> stream.count());
+    }
+  }
+
+  @Test
+  public void test_streamElements_ioException() {
+    ByteSource source = Files.asByteSource(new File("/oh-dear-no-such-file"));
+    assertThatExceptionOfType(UncheckedIOException.class)
+        .isThrownBy(() -> XmlFile.streamElements(source, "", path -> true));
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void test_equalsHashCodeToString() {
@@ -217,6 +217,43 @@ public class LocalDateDoubleTimeSeriesBuilderTest {
     assertThat(series5.getClass()).isEqualTo(DenseLocalDateDoubleTimeSeries.class);
   }
 
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_ofSorted() {
+    LocalDate[] dates = {date(2015, 1, 5), date(2015, 1, 6), date(2015, 1, 7), date(2015, 1, 9)};
+    double[] values = {1d, 2d, 3d, 4d};
+    LocalDateDoubleTimeSeries dense = LocalDateDoubleTimeSeries.ofSorted(dates, values);
+    LocalDateDoubleTimeSeries expected = LocalDateDoubleTimeSeries.builder().putAll(Arrays.asList(dates), values).build();
+    assertThat(dense).isEqualTo(expected);
+    assertThat(dense.getClass()).isEqualTo(DenseLocalDateDoubleTimeSeries.class);
+    assertThat(dense.size()).isEqualTo(4);
+
+    LocalDate[] sparseDates = {date(2015, 1, 5), date(2015, 3, 10), date(2015, 6, 1)};
+    double[] sparseValues = {1d, 2d, 3d};
+    LocalDateDoubleTimeSeries sparse = LocalDateDoubleTimeSeries.ofSorted(sparseDates, sparseValues);
+    sparseValues[0] = 10d;
+    assertThat(sparse.getClass()).isEqualTo(SparseLocalDateDoubleTimeSeries.class);
+    assertThat(sparse.getEarliestValue()).isEqualTo(1d);
+    assertThat(sparse.getLatestDate()).isEqualTo(date(2015, 6, 1));
+
+    assertThat(LocalDateDoubleTimeSeries.ofSorted(new LocalDate[0], new double[0]))
+        .isEqualTo(LocalDateDoubleTimeSeries.empty());
+  }
+
+  @Test
+  public void test_ofSorted_invalid() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> LocalDateDoubleTimeSeries.ofSorted(new LocalDate[] {date(2015, 1, 5)}, new double[0]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> LocalDateDoubleTimeSeries.ofSorted(
+            new LocalDate[] {date(2015, 1, 6), date(2015, 1, 5)}, new double[] {1d, 2d}));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> LocalDateDoubleTimeSeries.ofSorted(
+            new LocalDate[] {date(2015, 1, 5), date(2015, 1, 5)}, new double[] {1d, 2d}));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> LocalDateDoubleTimeSeries.ofSorted(new LocalDate[] {date(2015, 1, 5)}, new double[] {Double.NaN}));
+  }
+
   //-------------------------------------------------------------------------
   private static LocalDate date(int year, int month, int day) {
     return LocalDate.of(year, month, day);
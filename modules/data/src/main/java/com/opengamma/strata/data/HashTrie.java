@@ -0,0 +1,384 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * A persistent hash array mapped trie.
+ * <p>
+ * This is an immutable map in which {@link #put(Object, Object)} and {@link #remove(Object)}
+ * return a new instance, sharing all unchanged nodes with the original.
+ * Each update therefore copies only the path from the root to the affected entry,
+ * which is at most seven small arrays irrespective of the size of the map.
+ * <p>
+ * Keys must be immutable, as their hash codes are recomputed when nodes are split.
+ * Null keys and values are not permitted.
+ *
+ * @param <K>  the type of the key
+ * @param <V>  the type of the value
+ */
+final class HashTrie<K, V> {
+
+  /**
+   * Number of hash bits consumed at each level.
+   */
+  private static final int BITS = 5;
+  /**
+   * Mask selecting the hash bits of a single level.
+   */
+  private static final int MASK = (1 << BITS) - 1;
+  /**
+   * The empty trie.
+   */
+  private static final HashTrie<?, ?> EMPTY = new HashTrie<>(BitmapNode.EMPTY, 0);
+
+  /**
+   * The root node.
+   */
+  private final Node root;
+  /**
+   * The number of entries.
+   */
+  private final int size;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains the empty trie.
+   *
+   * @param <K>  the type of the key
+   * @param <V>  the type of the value
+   * @return the empty trie
+   */
+  @SuppressWarnings("unchecked")
+  static <K, V> HashTrie<K, V> empty() {
+    return (HashTrie<K, V>) EMPTY;
+  }
+
+  // restricted constructor
+  private HashTrie(Node root, int size) {
+    this.root = root;
+    this.size = size;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of entries.
+   *
+   * @return the size
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * Checks if the trie contains the key.
+   *
+   * @param key  the key to find
+   * @return true if the key is present
+   */
+  boolean containsKey(Object key) {
+    return get(key) != null;
+  }
+
+  /**
+   * Gets the value for the key.
+   *
+   * @param key  the key to find
+   * @return the value, null if not found
+   */
+  @SuppressWarnings("unchecked")
+  V get(Object key) {
+    return (V) root.find(0, key.hashCode(), key);
+  }
+
+  /**
+   * Returns a trie with the key mapped to the value.
+   * <p>
+   * If the key is already mapped to the same value instance, this trie is returned.
+   *
+   * @param key  the key
+   * @param value  the value
+   * @return the updated trie
+   */
+  HashTrie<K, V> put(K key, V value) {
+    int[] added = new int[1];
+    Node newRoot = root.put(0, key.hashCode(), key, value, added);
+    return newRoot == root ? this : new HashTrie<>(newRoot, size + added[0]);
+  }
+
+  /**
+   * Returns a trie without the key.
+   * <p>
+   * If the key is not present, this trie is returned.
+   *
+   * @param key  the key
+   * @return the updated trie
+   */
+  HashTrie<K, V> remove(Object key) {
+    Node newRoot = root.remove(0, key.hashCode(), key);
+    if (newRoot == root) {
+      return this;
+    }
+    return newRoot == null ? empty() : new HashTrie<>(newRoot, size - 1);
+  }
+
+  /**
+   * Invokes the action for each entry, in no particular order.
+   *
+   * @param action  the action to invoke
+   */
+  @SuppressWarnings("unchecked")
+  void forEach(BiConsumer<? super K, ? super V> action) {
+    root.forEach((BiConsumer<Object, Object>) action);
+  }
+
+  /**
+   * Returns the keys as a list, in the same order as {@link #forEach(BiConsumer)}.
+   *
+   * @return the keys
+   */
+  List<K> keys() {
+    List<K> keys = new ArrayList<>(size);
+    forEach((k, v) -> keys.add(k));
+    return keys;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder(size * 16).append('{');
+    forEach((k, v) -> buf.append(buf.length() > 1 ? ", " : "").append(k).append('=').append(v));
+    return buf.append('}').toString();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * A node in the trie.
+   */
+  private abstract static class Node {
+
+    // finds the value, null if not found
+    abstract Object find(int shift, int hash, Object key);
+
+    // adds or replaces, setting added[0] to 1 if the size increased
+    abstract Node put(int shift, int hash, Object key, Object value, int[] added);
+
+    // removes, returning this if not found and null if the node becomes empty
+    abstract Node remove(int shift, int hash, Object key);
+
+    // iterates over the entries
+    abstract void forEach(BiConsumer<Object, Object> action);
+
+    // creates a node holding two entries with different keys
+    static Node create(int shift, Object key1, Object value1, int hash2, Object key2, Object value2) {
+      int hash1 = key1.hashCode();
+      if (hash1 == hash2) {
+        return new CollisionNode(hash1, new Object[] {key1, value1, key2, value2});
+      }
+      int[] added = new int[1];
+      return BitmapNode.EMPTY
+          .put(shift, hash1, key1, value1, added)
+          .put(shift, hash2, key2, value2, added);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * A node indexed by a 32-bit bitmap.
+   * <p>
+   * The array holds two slots for each bit set in the bitmap.
+   * The first slot is the key, or null if the second slot is a child node.
+   */
+  private static final class BitmapNode extends Node {
+
+    private static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+    private final int bitmap;
+    private final Object[] array;
+
+    private BitmapNode(int bitmap, Object[] array) {
+      this.bitmap = bitmap;
+      this.array = array;
+    }
+
+    private int index(int bit) {
+      return Integer.bitCount(bitmap & (bit - 1)) << 1;
+    }
+
+    @Override
+    Object find(int shift, int hash, Object key) {
+      int bit = 1 << ((hash >>> shift) & MASK);
+      if ((bitmap & bit) == 0) {
+        return null;
+      }
+      int idx = index(bit);
+      Object storedKey = array[idx];
+      if (storedKey == null) {
+        return ((Node) array[idx + 1]).find(shift + BITS, hash, key);
+      }
+      return key.equals(storedKey) ? array[idx + 1] : null;
+    }
+
+    @Override
+    Node put(int shift, int hash, Object key, Object value, int[] added) {
+      int bit = 1 << ((hash >>> shift) & MASK);
+      int idx = index(bit);
+      if ((bitmap & bit) == 0) {
+        Object[] newArray = new Object[array.length + 2];
+        System.arraycopy(array, 0, newArray, 0, idx);
+        newArray[idx] = key;
+        newArray[idx + 1] = value;
+        System.arraycopy(array, idx, newArray, idx + 2, array.length - idx);
+        added[0] = 1;
+        return new BitmapNode(bitmap | bit, newArray);
+      }
+      Object storedKey = array[idx];
+      Object storedValue = array[idx + 1];
+      if (storedKey == null) {
+        Node child = (Node) storedValue;
+        Node newChild = child.put(shift + BITS, hash, key, value, added);
+        return newChild == child ? this : withSlots(idx, null, newChild);
+      }
+      if (key.equals(storedKey)) {
+        return storedValue == value ? this : withSlots(idx, storedKey, value);
+      }
+      added[0] = 1;
+      return withSlots(idx, null, create(shift + BITS, storedKey, storedValue, hash, key, value));
+    }
+
+    @Override
+    Node remove(int shift, int hash, Object key) {
+      int bit = 1 << ((hash >>> shift) & MASK);
+      if ((bitmap & bit) == 0) {
+        return this;
+      }
+      int idx = index(bit);
+      Object storedKey = array[idx];
+      if (storedKey == null) {
+        Node child = (Node) array[idx + 1];
+        Node newChild = child.remove(shift + BITS, hash, key);
+        if (newChild == child) {
+          return this;
+        }
+        return newChild != null ? withSlots(idx, null, newChild) : without(bit, idx);
+      }
+      return key.equals(storedKey) ? without(bit, idx) : this;
+    }
+
+    @Override
+    void forEach(BiConsumer<Object, Object> action) {
+      for (int i = 0; i < array.length; i += 2) {
+        if (array[i] == null) {
+          ((Node) array[i + 1]).forEach(action);
+        } else {
+          action.accept(array[i], array[i + 1]);
+        }
+      }
+    }
+
+    private BitmapNode withSlots(int idx, Object key, Object value) {
+      Object[] newArray = array.clone();
+      newArray[idx] = key;
+      newArray[idx + 1] = value;
+      return new BitmapNode(bitmap, newArray);
+    }
+
+    private BitmapNode without(int bit, int idx) {
+      if (bitmap == bit) {
+        return null;
+      }
+      Object[] newArray = new Object[array.length - 2];
+      System.arraycopy(array, 0, newArray, 0, idx);
+      System.arraycopy(array, idx + 2, newArray, idx, newArray.length - idx);
+      return new BitmapNode(bitmap ^ bit, newArray);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * A node holding keys that have identical hash codes.
+   */
+  private static final class CollisionNode extends Node {
+
+    private final int hash;
+    private final Object[] array;
+
+    private CollisionNode(int hash, Object[] array) {
+      this.hash = hash;
+      this.array = array;
+    }
+
+    private int index(Object key) {
+      for (int i = 0; i < array.length; i += 2) {
+        if (key.equals(array[i])) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    @Override
+    Object find(int shift, int hash, Object key) {
+      if (hash != this.hash) {
+        return null;
+      }
+      int idx = index(key);
+      return idx < 0 ? null : array[idx + 1];
+    }
+
+    @Override
+    Node put(int shift, int hash, Object key, Object value, int[] added) {
+      if (hash != this.hash) {
+        int bit = 1 << ((this.hash >>> shift) & MASK);
+        return new BitmapNode(bit, new Object[] {null, this}).put(shift, hash, key, value, added);
+      }
+      int idx = index(key);
+      if (idx >= 0) {
+        if (array[idx + 1] == value) {
+          return this;
+        }
+        Object[] newArray = array.clone();
+        newArray[idx + 1] = value;
+        return new CollisionNode(hash, newArray);
+      }
+      Object[] newArray = new Object[array.length + 2];
+      System.arraycopy(array, 0, newArray, 0, array.length);
+      newArray[array.length] = key;
+      newArray[array.length + 1] = value;
+      added[0] = 1;
+      return new CollisionNode(hash, newArray);
+    }
+
+    @Override
+    Node remove(int shift, int hash, Object key) {
+      if (hash != this.hash) {
+        return this;
+      }
+      int idx = index(key);
+      if (idx < 0) {
+        return this;
+      }
+      if (array.length == 2) {
+        return null;
+      }
+      Object[] newArray = new Object[array.length - 2];
+      System.arraycopy(array, 0, newArray, 0, idx);
+      System.arraycopy(array, idx + 2, newArray, idx, newArray.length - idx);
+      return new CollisionNode(hash, newArray);
+    }
+
+    @Override
+    void forEach(BiConsumer<Object, Object> action) {
+      for (int i = 0; i < array.length; i += 2) {
+        action.accept(array[i], array[i + 1]);
+      }
+    }
+  }
+
+}
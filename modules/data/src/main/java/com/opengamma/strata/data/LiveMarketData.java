@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.data;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+
+/**
+ * A thread-safe, mutable container of live market data.
+ * <p>
+ * This class holds the current {@link VersionedMarketData} snapshot.
+ * Readers call {@link #snapshot()} to obtain a consistent point-in-time view of the data
+ * that is unaffected by subsequent updates. No locks are taken by readers or writers.
+ * <p>
+ * Writers publish changes using the update methods. Each update derives a new snapshot
+ * from the current one using copy-on-write with structural sharing, and publishes it atomically.
+ * Concurrent writers are resolved by retrying, thus update functions must be free of side effects.
+ * <p>
+ * A typical use is a pricing server where quote and curve updates arrive on one set of threads
+ * while calculations run against a snapshot on another.
+ */
+public final class LiveMarketData {
+
+  /**
+   * The current snapshot.
+   */
+  private final AtomicReference<VersionedMarketData> current;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an empty instance.
+   *
+   * @param valuationDate  the valuation date associated with the market data
+   * @return the live market data
+   */
+  public static LiveMarketData empty(LocalDate valuationDate) {
+    return new LiveMarketData(VersionedMarketData.empty(valuationDate));
+  }
+
+  /**
+   * Obtains an instance initialized with a copy of the specified market data.
+   *
+   * @param marketData  the initial market data
+   * @return the live market data
+   */
+  public static LiveMarketData of(MarketData marketData) {
+    return new LiveMarketData(VersionedMarketData.of(marketData));
+  }
+
+  // restricted constructor
+  private LiveMarketData(VersionedMarketData initial) {
+    this.current = new AtomicReference<>(initial);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the current snapshot of the market data.
+   * <p>
+   * The snapshot is immutable and will not observe later updates.
+   *
+   * @return the current snapshot
+   */
+  public VersionedMarketData snapshot() {
+    return current.get();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Publishes a value, adding or replacing any existing value for the identifier.
+   *
+   * @param <T>  the type of the market data value
+   * @param id  the identifier
+   * @param value  the value
+   * @return the snapshot that was published
+   * @throws ClassCastException if the value does not match the type of the identifier
+   */
+  public <T> VersionedMarketData update(MarketDataId<T> id, T value) {
+    ArgChecker.notNull(id, "id");
+    ImmutableMarketData.checkType(id, value);
+    return update(snapshot -> snapshot.withValue(id, value));
+  }
+
+  /**
+   * Publishes a set of values as a single atomic change.
+   *
+   * @param values  the values to add or replace
+   * @return the snapshot that was published
+   * @throws ClassCastException if a value does not match the type of the identifier
+   */
+  public VersionedMarketData updateAll(Map<? extends MarketDataId<?>, ?> values) {
+    ArgChecker.notNull(values, "values");
+    values.forEach(ImmutableMarketData::checkType);
+    return update(snapshot -> snapshot.withValues(values));
+  }
+
+  /**
+   * Publishes a time-series, replacing any existing time-series for the identifier.
+   *
+   * @param id  the identifier
+   * @param timeSeries  the time-series
+   * @return the snapshot that was published
+   */
+  public VersionedMarketData updateTimeSeries(ObservableId id, LocalDateDoubleTimeSeries timeSeries) {
+    ArgChecker.notNull(id, "id");
+    ArgChecker.notNull(timeSeries, "timeSeries");
+    return update(snapshot -> snapshot.withTimeSeries(id, timeSeries));
+  }
+
+  /**
+   * Removes the value for the identifier.
+   *
+   * @param id  the identifier
+   * @return the snapshot that was published
+   */
+  public VersionedMarketData remove(MarketDataId<?> id) {
+    ArgChecker.notNull(id, "id");
+    return update(snapshot -> snapshot.withoutValue(id));
+  }
+
+  /**
+   * Publishes the result of applying the function to the current snapshot.
+   * <p>
+   * This allows several changes to be published atomically.
+   * The function may be invoked more than once if other writers publish concurrently,
+   * thus it must be free of side effects.
+   *
+   * @param updateFn  the function deriving the new snapshot from the current snapshot
+   * @return the snapshot that was published
+   */
+  public VersionedMarketData update(UnaryOperator<VersionedMarketData> updateFn) {
+    ArgChecker.notNull(updateFn, "updateFn");
+    return current.updateAndGet(updateFn);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    VersionedMarketData snapshot = snapshot();
+    return "LiveMarketData{valuationDate=" + snapshot.getValuationDate() + ", version=" + snapshot.getVersion() + "}";
+  }
+
+}
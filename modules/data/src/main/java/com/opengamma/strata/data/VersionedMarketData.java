@@ -0,0 +1,269 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.data;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.google.common.collect.ImmutableSet;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+
+/**
+ * An immutable, versioned, point-in-time snapshot of market data.
+ * <p>
+ * This implementation of {@link MarketData} stores the values in a persistent hash trie.
+ * Deriving a new snapshot with a changed value, such as by {@link #withValue(MarketDataId, Object)},
+ * copies only a handful of small arrays, sharing the remainder of the data with this snapshot.
+ * This makes it suitable for frequently changing data, such as live quotes.
+ * <p>
+ * Each derived snapshot has a version one greater than the snapshot it was derived from.
+ * Snapshots are normally obtained from {@link LiveMarketData}.
+ */
+public final class VersionedMarketData implements MarketData {
+
+  /**
+   * The valuation date associated with the market data.
+   */
+  private final LocalDate valuationDate;
+  /**
+   * The version of the snapshot.
+   */
+  private final long version;
+  /**
+   * The market data values.
+   */
+  private final HashTrie<MarketDataId<?>, Object> values;
+  /**
+   * The time-series.
+   */
+  private final HashTrie<ObservableId, LocalDateDoubleTimeSeries> timeSeries;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an empty instance at version zero.
+   *
+   * @param valuationDate  the valuation date associated with the market data
+   * @return the empty snapshot
+   */
+  public static VersionedMarketData empty(LocalDate valuationDate) {
+    ArgChecker.notNull(valuationDate, "valuationDate");
+    return new VersionedMarketData(valuationDate, 0, HashTrie.empty(), HashTrie.empty());
+  }
+
+  /**
+   * Obtains an instance at version zero, copying the values and time-series of the specified market data.
+   *
+   * @param marketData  the market data to copy
+   * @return the snapshot
+   */
+  public static VersionedMarketData of(MarketData marketData) {
+    ArgChecker.notNull(marketData, "marketData");
+    if (marketData instanceof VersionedMarketData) {
+      return (VersionedMarketData) marketData;
+    }
+    HashTrie<MarketDataId<?>, Object> values = HashTrie.empty();
+    for (MarketDataId<?> id : marketData.getIds()) {
+      values = values.put(id, marketData.getValue(id));
+    }
+    HashTrie<ObservableId, LocalDateDoubleTimeSeries> timeSeries = HashTrie.empty();
+    for (ObservableId id : marketData.getTimeSeriesIds()) {
+      timeSeries = timeSeries.put(id, marketData.getTimeSeries(id));
+    }
+    return new VersionedMarketData(marketData.getValuationDate(), 0, values, timeSeries);
+  }
+
+  // restricted constructor
+  private VersionedMarketData(
+      LocalDate valuationDate,
+      long version,
+      HashTrie<MarketDataId<?>, Object> values,
+      HashTrie<ObservableId, LocalDateDoubleTimeSeries> timeSeries) {
+
+    this.valuationDate = valuationDate;
+    this.version = version;
+    this.values = values;
+    this.timeSeries = timeSeries;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public LocalDate getValuationDate() {
+    return valuationDate;
+  }
+
+  /**
+   * Gets the version of this snapshot.
+   * <p>
+   * The version is incremented each time a snapshot is derived with different content.
+   *
+   * @return the version
+   */
+  public long getVersion() {
+    return version;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public boolean containsValue(MarketDataId<?> id) {
+    return values.containsKey(id);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T getValue(MarketDataId<T> id) {
+    // no type check against id.getMarketDataType() as checked on update
+    T value = (T) values.get(id);
+    if (value == null) {
+      throw new MarketDataNotFoundException(Messages.format(
+          "Market data not found for identifier '{}' of type '{}'", id, id.getClass().getSimpleName()));
+    }
+    return value;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> Optional<T> findValue(MarketDataId<T> id) {
+    return Optional.ofNullable((T) values.get(id));
+  }
+
+  @Override
+  public Set<MarketDataId<?>> getIds() {
+    return ImmutableSet.copyOf(values.keys());
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> Set<MarketDataId<T>> findIds(MarketDataName<T> name) {
+    ImmutableSet.Builder<MarketDataId<T>> builder = ImmutableSet.builder();
+    values.forEach((id, value) -> {
+      if (id instanceof NamedMarketDataId && ((NamedMarketDataId<?>) id).getMarketDataName().equals(name)) {
+        builder.add((MarketDataId<T>) id);
+      }
+    });
+    return builder.build();
+  }
+
+  @Override
+  public Set<ObservableId> getTimeSeriesIds() {
+    return ImmutableSet.copyOf(timeSeries.keys());
+  }
+
+  @Override
+  public LocalDateDoubleTimeSeries getTimeSeries(ObservableId id) {
+    LocalDateDoubleTimeSeries found = timeSeries.get(id);
+    return found == null ? LocalDateDoubleTimeSeries.empty() : found;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns a snapshot with the specified value.
+   * <p>
+   * Only the path to the changed entry is copied, the remaining data is shared.
+   *
+   * @param <T>  the type of the market data value
+   * @param id  the identifier
+   * @param value  the value to associate with the identifier
+   * @return the derived snapshot
+   * @throws ClassCastException if the value does not match the type of the identifier
+   */
+  @Override
+  public <T> VersionedMarketData withValue(MarketDataId<T> id, T value) {
+    ImmutableMarketData.checkType(id, value);
+    return withValues(values.put(id, value), timeSeries);
+  }
+
+  /**
+   * Returns a snapshot with the specified values.
+   * <p>
+   * The values are added or replaced as a single change, resulting in a single version increment.
+   *
+   * @param values  the values to add or replace
+   * @return the derived snapshot
+   * @throws ClassCastException if a value does not match the type of the identifier
+   */
+  public VersionedMarketData withValues(Map<? extends MarketDataId<?>, ?> values) {
+    HashTrie<MarketDataId<?>, Object> updated = this.values;
+    for (Map.Entry<? extends MarketDataId<?>, ?> entry : values.entrySet()) {
+      ImmutableMarketData.checkType(entry.getKey(), entry.getValue());
+      updated = updated.put(entry.getKey(), entry.getValue());
+    }
+    return withValues(updated, timeSeries);
+  }
+
+  /**
+   * Returns a snapshot without the value for the specified identifier.
+   *
+   * @param id  the identifier to remove
+   * @return the derived snapshot
+   */
+  public VersionedMarketData withoutValue(MarketDataId<?> id) {
+    return withValues(values.remove(id), timeSeries);
+  }
+
+  /**
+   * Returns a snapshot with the specified time-series.
+   *
+   * @param id  the identifier
+   * @param series  the time-series
+   * @return the derived snapshot
+   */
+  public VersionedMarketData withTimeSeries(ObservableId id, LocalDateDoubleTimeSeries series) {
+    ArgChecker.notNull(series, "series");
+    return withValues(values, timeSeries.put(id, series));
+  }
+
+  /**
+   * Returns a snapshot with the specified valuation date.
+   *
+   * @param valuationDate  the valuation date
+   * @return the derived snapshot
+   */
+  public VersionedMarketData withValuationDate(LocalDate valuationDate) {
+    ArgChecker.notNull(valuationDate, "valuationDate");
+    if (valuationDate.equals(this.valuationDate)) {
+      return this;
+    }
+    return new VersionedMarketData(valuationDate, version + 1, values, timeSeries);
+  }
+
+  // creates the next version, unless nothing changed
+  private VersionedMarketData withValues(
+      HashTrie<MarketDataId<?>, Object> values,
+      HashTrie<ObservableId, LocalDateDoubleTimeSeries> timeSeries) {
+
+    if (values == this.values && timeSeries == this.timeSeries) {
+      return this;
+    }
+    return new VersionedMarketData(valuationDate, version + 1, values, timeSeries);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Converts this snapshot to an instance of {@link ImmutableMarketData}.
+   * <p>
+   * This copies the data, and is intended for serialization and interoperability.
+   *
+   * @return the immutable market data
+   */
+  public ImmutableMarketData toImmutableMarketData() {
+    ImmutableMarketDataBuilder builder = ImmutableMarketData.builder(valuationDate);
+    values.forEach(builder::addValueUnsafe);
+    timeSeries.forEach(builder::addTimeSeries);
+    return builder.build();
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "VersionedMarketData{valuationDate=" + valuationDate + ", version=" + version +
+        ", values=" + values + ", timeSeries=" + timeSeries + "}";
+  }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.data.scenario;
+
+import java.io.Serializable;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.currency.CurrencyPair;
+import com.opengamma.strata.basics.currency.FxRateProvider;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+
+/**
+ * A provider of scenario FX rates that caches the rates obtained from an underlying provider.
+ * <p>
+ * The rates for all scenarios are obtained from the underlying provider at most once for each currency pair.
+ * Instances are intended to be shared by all the calculations that convert values using the same
+ * market data, such as for the duration of a single calculation run.
+ */
+final class CachedScenarioFxRateProvider
+    implements ScenarioFxRateProvider, Serializable {
+
+  /** Serialization version. */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * The underlying provider.
+   */
+  private final ScenarioFxRateProvider underlying;
+  /**
+   * The cache of rates for all scenarios, keyed by currency pair.
+   */
+  private final transient ConcurrentHashMap<CurrencyPair, DoubleArray> ratesCache = new ConcurrentHashMap<>();
+
+  // obtains an instance, avoiding caching twice
+  static CachedScenarioFxRateProvider of(ScenarioFxRateProvider underlying) {
+    ArgChecker.notNull(underlying, "underlying");
+    return underlying instanceof CachedScenarioFxRateProvider ?
+        (CachedScenarioFxRateProvider) underlying :
+        new CachedScenarioFxRateProvider(underlying);
+  }
+
+  // restricted constructor
+  private CachedScenarioFxRateProvider(ScenarioFxRateProvider underlying) {
+    this.underlying = underlying;
+  }
+
+  // ensure standard constructor is invoked
+  private Object readResolve() {
+    return new CachedScenarioFxRateProvider(underlying);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public int getScenarioCount() {
+    return underlying.getScenarioCount();
+  }
+
+  @Override
+  public double fxRate(Currency baseCurrency, Currency counterCurrency, int scenarioIndex) {
+    return underlying.fxRate(baseCurrency, counterCurrency, scenarioIndex);
+  }
+
+  @Override
+  public DoubleArray fxRates(Currency baseCurrency, Currency counterCurrency) {
+    if (baseCurrency.equals(counterCurrency)) {
+      return DoubleArray.filled(getScenarioCount(), 1d);
+    }
+    return ratesCache.computeIfAbsent(
+        CurrencyPair.of(baseCurrency, counterCurrency),
+        pair -> underlying.fxRates(baseCurrency, counterCurrency));
+  }
+
+  @Override
+  public FxRateProvider fxRateProvider(int scenarioIndex) {
+    return underlying.fxRateProvider(scenarioIndex);
+  }
+
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.data.scenario;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.data.MarketDataId;
+import com.opengamma.strata.data.MarketDataName;
+import com.opengamma.strata.data.ObservableId;
+
+/**
+ * Scenario market data that caches lookups made against an underlying set of data.
+ * <p>
+ * Each identifier is resolved against the underlying data at most once, with the resulting
+ * box shared by all scenarios. The single scenario views returned by {@link #scenario(int)}
+ * are created lazily and then reused, thus callers querying several identifiers in each
+ * scenario only pay for one lookup per identifier rather than one per identifier per scenario.
+ * <p>
+ * This is most effective when the underlying data is a chain of derived instances,
+ * such as those created by {@link #withValue(MarketDataId, MarketDataBox)} or
+ * {@link #combinedWith(ScenarioMarketData)}, where each lookup walks the chain.
+ * <p>
+ * Instances are intended to be short-lived, such as for the duration of a single calculation task.
+ */
+final class CachedScenarioMarketData implements ScenarioMarketData {
+
+  /**
+   * The underlying market data.
+   */
+  private final ScenarioMarketData underlying;
+  /**
+   * The resolved boxes, keyed by identifier.
+   */
+  private final ConcurrentHashMap<MarketDataId<?>, Optional<MarketDataBox<?>>> boxes = new ConcurrentHashMap<>();
+  /**
+   * The values obtained from the underlying data, keyed by identifier.
+   * These are held separately from the boxes as the underlying data may return a value that it does not contain.
+   */
+  private final ConcurrentHashMap<MarketDataId<?>, MarketDataBox<?>> values = new ConcurrentHashMap<>();
+  /**
+   * The resolved scenario values, keyed by identifier.
+   */
+  private final ConcurrentHashMap<ScenarioMarketDataId<?, ?>, ScenarioArray<?>> scenarioValues =
+      new ConcurrentHashMap<>();
+  /**
+   * The single scenario views, created on demand.
+   */
+  private final AtomicReferenceArray<MarketData> views;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance, resolving the specified identifiers immediately.
+   * <p>
+   * Identifiers that are not specified are resolved when first requested.
+   * If the underlying data is already cached, the identifiers are resolved into it
+   * and it is returned.
+   *
+   * @param underlying  the underlying market data
+   * @param ids  the identifiers to resolve, for all scenarios, in one batch
+   * @return the cached market data
+   */
+  static CachedScenarioMarketData of(ScenarioMarketData underlying, Collection<? extends MarketDataId<?>> ids) {
+    ArgChecker.notNull(underlying, "underlying");
+    ArgChecker.notNull(ids, "ids");
+    CachedScenarioMarketData cached = underlying instanceof CachedScenarioMarketData ?
+        (CachedScenarioMarketData) underlying :
+        new CachedScenarioMarketData(underlying);
+    for (MarketDataId<?> id : ids) {
+      cached.findValue(id);
+    }
+    return cached;
+  }
+
+  // restricted constructor
+  private CachedScenarioMarketData(ScenarioMarketData underlying) {
+    this.underlying = underlying;
+    this.views = new AtomicReferenceArray<>(underlying.getScenarioCount());
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the underlying market data.
+   *
+   * @return the underlying market data
+   */
+  ScenarioMarketData getUnderlying() {
+    return underlying;
+  }
+
+  @Override
+  public MarketDataBox<LocalDate> getValuationDate() {
+    return underlying.getValuationDate();
+  }
+
+  @Override
+  public int getScenarioCount() {
+    return views.length();
+  }
+
+  @Override
+  public Stream<MarketData> scenarios() {
+    return IntStream.range(0, getScenarioCount()).mapToObj(this::scenario);
+  }
+
+  @Override
+  public MarketData scenario(int scenarioIndex) {
+    MarketData current = views.get(scenarioIndex);
+    if (current != null) {
+      return current;
+    }
+    return views.updateAndGet(
+        scenarioIndex,
+        v -> v != null ? v : SingleScenarioMarketData.of(this, scenarioIndex));
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public boolean containsValue(MarketDataId<?> id) {
+    return findValue(id).isPresent();
+  }
+
+  @Override
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public <T> Optional<MarketDataBox<T>> findValue(MarketDataId<T> id) {
+    Optional<MarketDataBox<?>> found = boxes.get(id);
+    if (found == null) {
+      // resolved outside the map lock, a concurrent duplicate lookup is harmless
+      Optional<MarketDataBox<?>> resolved = (Optional) underlying.findValue(id);
+      found = boxes.putIfAbsent(id, resolved);
+      if (found == null) {
+        found = resolved;
+      }
+    }
+    return (Optional) found;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> MarketDataBox<T> getValue(MarketDataId<T> id) {
+    Optional<MarketDataBox<?>> box = boxes.get(id);
+    if (box != null && box.isPresent()) {
+      return (MarketDataBox<T>) box.get();
+    }
+    MarketDataBox<?> found = values.get(id);
+    if (found == null) {
+      // the underlying data handles missing values, which are not cached as an exception is thrown
+      MarketDataBox<T> resolved = underlying.getValue(id);
+      found = values.putIfAbsent(id, resolved);
+      if (found == null) {
+        return resolved;
+      }
+    }
+    return (MarketDataBox<T>) found;
+  }
+
+  @Override
+  public Set<MarketDataId<?>> getIds() {
+    return underlying.getIds();
+  }
+
+  @Override
+  public <T> Set<MarketDataId<T>> findIds(MarketDataName<T> name) {
+    return underlying.findIds(name);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T, U extends ScenarioArray<T>> U getScenarioValue(ScenarioMarketDataId<T, U> id) {
+    ScenarioArray<?> found = scenarioValues.get(id);
+    if (found == null) {
+      U resolved = underlying.getScenarioValue(id);
+      found = scenarioValues.putIfAbsent(id, resolved);
+      if (found == null) {
+        return resolved;
+      }
+    }
+    return (U) found;
+  }
+
+  @Override
+  public Set<ObservableId> getTimeSeriesIds() {
+    return underlying.getTimeSeriesIds();
+  }
+
+  @Override
+  public LocalDateDoubleTimeSeries getTimeSeries(ObservableId id) {
+    return underlying.getTimeSeries(id);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "CachedScenarioMarketData{underlying=" + underlying + "}";
+  }
+
+}
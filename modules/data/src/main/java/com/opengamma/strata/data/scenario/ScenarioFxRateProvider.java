@@ -7,6 +7,7 @@ package com.opengamma.strata.data.scenario;
 
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.FxRateProvider;
+import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.data.ObservableSource;
 
 /**
@@ -86,6 +87,28 @@ public interface ScenarioFxRateProvider {
     return fxRateProvider(scenarioIndex).fxRate(baseCurrency, counterCurrency);
   }
 
+  /**
+   * Gets the FX rates for the specified currency pair, one for each scenario.
+   * <p>
+   * The rates returned are the rates from the base currency to the counter currency
+   * as defined by this formula: {@code (1 * baseCurrency = fxRate * counterCurrency)}.
+   * This will return an array of 1 if the two input currencies are the same.
+   * <p>
+   * This is intended for converting values for all scenarios in one operation.
+   * Use {@link #cached()} to avoid obtaining the rates again each time they are requested.
+   *
+   * @param baseCurrency  the base currency, to convert from
+   * @param counterCurrency  the counter currency, to convert to
+   * @return the FX rates for the currency pair, one for each scenario
+   * @throws RuntimeException if no FX rate could be found
+   */
+  public default DoubleArray fxRates(Currency baseCurrency, Currency counterCurrency) {
+    if (baseCurrency.equals(counterCurrency)) {
+      return DoubleArray.filled(getScenarioCount(), 1d);
+    }
+    return DoubleArray.of(getScenarioCount(), i -> fxRate(baseCurrency, counterCurrency, i));
+  }
+
   /**
    * Gets the FX rate provider for the specified scenario index.
    * 
@@ -95,4 +118,20 @@ public interface ScenarioFxRateProvider {
    */
   public abstract FxRateProvider fxRateProvider(int scenarioIndex);
 
+  //-------------------------------------------------------------------------
+  /**
+   * Returns a cached view of this provider.
+   * <p>
+   * The result obtains the rates for all scenarios from this provider at most once for each currency pair,
+   * returning the same array from {@link #fxRates(Currency, Currency)} each time it is requested.
+   * <p>
+   * This is intended to be shared by all the calculations that convert values using the same market data,
+   * such as the tasks of a single calculation run.
+   *
+   * @return the cached provider
+   */
+  public default ScenarioFxRateProvider cached() {
+    return CachedScenarioFxRateProvider.of(this);
+  }
+
 }
@@ -12,6 +12,7 @@ import java.util.Set;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import com.google.common.collect.ImmutableSet;
 import com.opengamma.strata.basics.ReferenceData;
 import com.opengamma.strata.collect.Messages;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
@@ -154,6 +155,35 @@ public interface ScenarioMarketData {
     return SingleScenarioMarketData.of(this, scenarioIndex);
   }
 
+  /**
+   * Returns a cached view of this market data.
+   * <p>
+   * The result resolves each identifier against this market data at most once, sharing the
+   * resulting box across all scenarios. The single scenario views returned by {@link #scenario(int)}
+   * and {@link #scenarios()} are created lazily and reused.
+   * <p>
+   * This is intended for callers that query several identifiers in each of many scenarios.
+   * The result should be short-lived, such as for the duration of a single calculation.
+   *
+   * @return the cached market data
+   */
+  public default ScenarioMarketData cached() {
+    return CachedScenarioMarketData.of(this, ImmutableSet.of());
+  }
+
+  /**
+   * Returns a cached view of this market data, resolving the specified identifiers for all scenarios.
+   * <p>
+   * This is equivalent to {@link #cached()}, but the specified identifiers are resolved immediately
+   * in one batch. Missing identifiers are permitted and are reported when queried.
+   *
+   * @param ids  the identifiers to resolve
+   * @return the cached market data
+   */
+  public default ScenarioMarketData cached(Set<? extends MarketDataId<?>> ids) {
+    return CachedScenarioMarketData.of(this, ids);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Checks if this market data contains a value for the specified identifier.
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test {@link HashTrie}.
+ */
+public class HashTrieTest {
+
+  @Test
+  public void test_empty() {
+    HashTrie<String, String> test = HashTrie.empty();
+    assertThat(test.size()).isEqualTo(0);
+    assertThat(test.get("A")).isNull();
+    assertThat(test.remove("A")).isSameAs(test);
+    assertThat(test.keys()).isEmpty();
+    assertThat(test.toString()).isEqualTo("{}");
+  }
+
+  @Test
+  public void test_put_get_remove() {
+    HashTrie<String, String> base = HashTrie.<String, String>empty().put("A", "1").put("B", "2");
+    HashTrie<String, String> test = base.put("A", "3");
+    assertThat(base.get("A")).isEqualTo("1");
+    assertThat(test.get("A")).isEqualTo("3");
+    assertThat(test.get("B")).isEqualTo("2");
+    assertThat(test.size()).isEqualTo(2);
+    assertThat(test.put("A", "3")).isSameAs(test);
+    HashTrie<String, String> removed = test.remove("A");
+    assertThat(removed.size()).isEqualTo(1);
+    assertThat(removed.containsKey("A")).isFalse();
+    assertThat(test.containsKey("A")).isTrue();
+    assertThat(removed.remove("B").size()).isEqualTo(0);
+  }
+
+  @Test
+  public void test_collisions() {
+    // "Aa" and "BB" have the same hash code
+    HashTrie<String, String> test = HashTrie.<String, String>empty().put("Aa", "1").put("BB", "2").put("C", "3");
+    assertThat(test.size()).isEqualTo(3);
+    assertThat(test.get("Aa")).isEqualTo("1");
+    assertThat(test.get("BB")).isEqualTo("2");
+    assertThat(test.get("C")).isEqualTo("3");
+    assertThat(test.put("BB", "4").get("BB")).isEqualTo("4");
+    HashTrie<String, String> removed = test.remove("Aa");
+    assertThat(removed.size()).isEqualTo(2);
+    assertThat(removed.get("Aa")).isNull();
+    assertThat(removed.get("BB")).isEqualTo("2");
+    assertThat(removed.remove("BB").remove("C").size()).isEqualTo(0);
+  }
+
+  @Test
+  public void test_matchesHashMap() {
+    Random random = new Random(1);
+    Map<Integer, Integer> expected = new HashMap<>();
+    HashTrie<Integer, Integer> test = HashTrie.empty();
+    for (int i = 0; i < 20_000; i++) {
+      // multiply to spread keys across all hash bits
+      Integer key = random.nextInt(5_000) * 0x9E3779B9;
+      if (random.nextInt(3) == 0) {
+        expected.remove(key);
+        test = test.remove(key);
+      } else {
+        expected.put(key, i);
+        test = test.put(key, i);
+      }
+    }
+    assertThat(test.size()).isEqualTo(expected.size());
+    Map<Integer, Integer> actual = new HashMap<>();
+    test.forEach(actual::put);
+    assertThat(actual).isEqualTo(expected);
+    for (Integer key : expected.keySet()) {
+      assertThat(test.get(key)).isEqualTo(expected.get(key));
+    }
+  }
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.data;
+
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+
+/**
+ * Test {@link LiveMarketData} and {@link VersionedMarketData}.
+ */
+public class LiveMarketDataTest {
+
+  private static final LocalDate VAL_DATE = date(2015, 6, 30);
+  private static final TestingNamedId ID1 = new TestingNamedId("1");
+  private static final TestingNamedId ID2 = new TestingNamedId("2");
+  private static final TestingNamedId ID3 = new TestingNamedId("3");
+  private static final TestingObservableId ID4 = new TestingObservableId("4");
+  private static final LocalDateDoubleTimeSeries TIME_SERIES = LocalDateDoubleTimeSeries.builder()
+      .put(date(2011, 3, 8), 1.1)
+      .put(date(2011, 3, 10), 1.2)
+      .build();
+  private static final ImmutableMarketData BASE_DATA = ImmutableMarketData.builder(VAL_DATE)
+      .addValue(ID1, "1")
+      .addValue(ID2, "2")
+      .addTimeSeries(ID4, TIME_SERIES)
+      .build();
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_of() {
+    LiveMarketData test = LiveMarketData.of(BASE_DATA);
+    VersionedMarketData snapshot = test.snapshot();
+    assertThat(snapshot.getVersion()).isEqualTo(0);
+    assertThat(snapshot.getValuationDate()).isEqualTo(VAL_DATE);
+    assertThat(snapshot.getIds()).containsExactlyInAnyOrder(ID1, ID2);
+    assertThat(snapshot.containsValue(ID1)).isTrue();
+    assertThat(snapshot.containsValue(ID3)).isFalse();
+    assertThat(snapshot.getValue(ID1)).isEqualTo("1");
+    assertThat(snapshot.findValue(ID2)).isEqualTo(Optional.of("2"));
+    assertThat(snapshot.findValue(ID3)).isEqualTo(Optional.empty());
+    assertThatExceptionOfType(MarketDataNotFoundException.class).isThrownBy(() -> snapshot.getValue(ID3));
+    assertThat(snapshot.findIds(ID1.getMarketDataName())).isEqualTo(ImmutableSet.of(ID1));
+    assertThat(snapshot.getTimeSeriesIds()).containsExactly(ID4);
+    assertThat(snapshot.getTimeSeries(ID4)).isEqualTo(TIME_SERIES);
+    assertThat(snapshot.getTimeSeries(new TestingObservableId("5"))).isEqualTo(LocalDateDoubleTimeSeries.empty());
+    assertThat(snapshot.toImmutableMarketData()).isEqualTo(BASE_DATA);
+    assertThat(test.toString()).contains("version=0");
+  }
+
+  @Test
+  public void test_empty() {
+    LiveMarketData test = LiveMarketData.empty(VAL_DATE);
+    assertThat(test.snapshot().getIds()).isEmpty();
+    assertThat(test.snapshot().getTimeSeriesIds()).isEmpty();
+  }
+
+  @Test
+  public void test_update_snapshotIsolation() {
+    LiveMarketData test = LiveMarketData.of(BASE_DATA);
+    VersionedMarketData before = test.snapshot();
+    VersionedMarketData after = test.update(ID1, "A");
+    assertThat(test.snapshot()).isSameAs(after);
+    assertThat(after.getVersion()).isEqualTo(1);
+    assertThat(after.getValue(ID1)).isEqualTo("A");
+    assertThat(before.getValue(ID1)).isEqualTo("1");
+
+    VersionedMarketData updated = test.updateAll(ImmutableMap.of(ID2, "B", ID3, "C"));
+    assertThat(updated.getVersion()).isEqualTo(2);
+    assertThat(updated.getIds()).containsExactlyInAnyOrder(ID1, ID2, ID3);
+    assertThat(after.containsValue(ID3)).isFalse();
+
+    VersionedMarketData removed = test.remove(ID3);
+    assertThat(removed.getVersion()).isEqualTo(3);
+    assertThat(removed.containsValue(ID3)).isFalse();
+    assertThat(test.remove(ID3)).isSameAs(removed);
+
+    LocalDateDoubleTimeSeries series = LocalDateDoubleTimeSeries.of(date(2011, 3, 9), 2d);
+    assertThat(test.updateTimeSeries(ID4, series).getTimeSeries(ID4)).isEqualTo(series);
+    assertThat(before.getTimeSeries(ID4)).isEqualTo(TIME_SERIES);
+
+    VersionedMarketData redated = test.update(snapshot -> snapshot.withValuationDate(date(2015, 7, 1)));
+    assertThat(redated.getValuationDate()).isEqualTo(date(2015, 7, 1));
+    assertThat(redated.withValuationDate(date(2015, 7, 1))).isSameAs(redated);
+  }
+
+  @Test
+  public void test_update_badType() {
+    LiveMarketData test = LiveMarketData.of(BASE_DATA);
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    MarketDataId<Object> rawId = (MarketDataId) ID1;
+    assertThatExceptionOfType(ClassCastException.class).isThrownBy(() -> test.update(rawId, 1d));
+    assertThat(test.snapshot().getVersion()).isEqualTo(0);
+  }
+
+  @Test
+  public void test_concurrentWriters() throws Exception {
+    LiveMarketData test = LiveMarketData.empty(VAL_DATE);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    for (int i = 0; i < 1000; i++) {
+      TestingNamedId id = new TestingNamedId(Integer.toString(i));
+      String value = Integer.toString(i);
+      executor.execute(() -> test.update(id, value));
+    }
+    executor.shutdown();
+    assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(test.snapshot().getIds()).hasSize(1000);
+    assertThat(test.snapshot().getVersion()).isEqualTo(1000);
+  }
+
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.data.scenario;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.MarketData;
+import com.opengamma.strata.data.MarketDataId;
+import com.opengamma.strata.data.MarketDataName;
+import com.opengamma.strata.data.MarketDataNotFoundException;
+import com.opengamma.strata.data.ObservableId;
+
+/**
+ * Test {@link CachedScenarioMarketData}.
+ */
+public class CachedScenarioMarketDataTest {
+
+  private static final LocalDate VAL_DATE = date(2015, 6, 30);
+  private static final TestObservableId ID1 = TestObservableId.of("1");
+  private static final TestObservableId ID2 = TestObservableId.of("2");
+  private static final TestObservableId ID3 = TestObservableId.of("3");
+  private static final MarketDataBox<Double> BOX1 = MarketDataBox.ofScenarioValues(1d, 2d, 3d);
+  private static final MarketDataBox<Double> BOX2 = MarketDataBox.ofSingleValue(4d);
+  private static final LocalDateDoubleTimeSeries TIME_SERIES = LocalDateDoubleTimeSeries.of(date(2011, 3, 8), 1.1);
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_cached() {
+    CountingMarketData base = new CountingMarketData();
+    ScenarioMarketData test = base.cached();
+    assertThat(test.getScenarioCount()).isEqualTo(3);
+    assertThat(test.getValuationDate()).isEqualTo(MarketDataBox.ofSingleValue(VAL_DATE));
+    assertThat(test.getIds()).containsExactlyInAnyOrder(ID1, ID2);
+    assertThat(test.getTimeSeriesIds()).containsExactly(ID1);
+    assertThat(test.getTimeSeries(ID1)).isEqualTo(TIME_SERIES);
+
+    List<MarketData> scenarios = test.scenarios().collect(toImmutableList());
+    for (int i = 0; i < 3; i++) {
+      MarketData scenario = scenarios.get(i);
+      assertThat(scenario).isSameAs(test.scenario(i));
+      assertThat(scenario.getValuationDate()).isEqualTo(VAL_DATE);
+      assertThat(scenario.getValue(ID1)).isEqualTo(i + 1d);
+      assertThat(scenario.getValue(ID2)).isEqualTo(4d);
+      assertThat(scenario.findValue(ID3)).isEmpty();
+      assertThat(scenario.containsValue(ID3)).isFalse();
+    }
+    // each identifier resolved once for all scenarios
+    assertThat(base.lookups.get()).isEqualTo(3);
+    // a missing value is obtained from the underlying data, allowing it to report the failure
+    assertThatExceptionOfType(MarketDataNotFoundException.class).isThrownBy(() -> test.getValue(ID3));
+    assertThat(base.lookups.get()).isEqualTo(4);
+    assertThat(test.cached()).isSameAs(test);
+  }
+
+  @Test
+  public void test_cached_batch() {
+    CountingMarketData base = new CountingMarketData();
+    ScenarioMarketData test = base.cached(ImmutableSet.of(ID1, ID2, ID3));
+    assertThat(base.lookups.get()).isEqualTo(3);
+    test.scenarios().forEach(md -> md.getValue(ID1));
+    assertThat(test.containsValue(ID2)).isTrue();
+    assertThat(base.lookups.get()).isEqualTo(3);
+  }
+
+  @Test
+  public void test_getScenarioValue() {
+    CountingMarketData base = new CountingMarketData();
+    ScenarioMarketData test = base.cached();
+    TestScenarioArrayId arrayId = new TestScenarioArrayId(ID2);
+    DoubleScenarioArray first = test.getScenarioValue(arrayId);
+    assertThat(first).isEqualTo(DoubleScenarioArray.of(DoubleArray.of(4d, 4d, 4d)));
+    assertThat(test.getScenarioValue(arrayId)).isSameAs(first);
+  }
+
+  //-------------------------------------------------------------------------
+  private static final class CountingMarketData implements ScenarioMarketData {
+
+    private final ScenarioMarketData underlying = ImmutableScenarioMarketData.of(
+        3, VAL_DATE, ImmutableMap.of(ID1, BOX1, ID2, BOX2), ImmutableMap.of(ID1, TIME_SERIES));
+    private final AtomicInteger lookups = new AtomicInteger();
+
+    @Override
+    public MarketDataBox<LocalDate> getValuationDate() {
+      return underlying.getValuationDate();
+    }
+
+    @Override
+    public int getScenarioCount() {
+      return underlying.getScenarioCount();
+    }
+
+    @Override
+    public <T> Optional<MarketDataBox<T>> findValue(MarketDataId<T> id) {
+      lookups.incrementAndGet();
+      return underlying.findValue(id);
+    }
+
+    @Override
+    public Set<MarketDataId<?>> getIds() {
+      return underlying.getIds();
+    }
+
+    @Override
+    public <T> Set<MarketDataId<T>> findIds(MarketDataName<T> name) {
+      return underlying.findIds(name);
+    }
+
+    @Override
+    public Set<ObservableId> getTimeSeriesIds() {
+      return underlying.getTimeSeriesIds();
+    }
+
+    @Override
+    public LocalDateDoubleTimeSeries getTimeSeries(ObservableId id) {
+      return underlying.getTimeSeries(id);
+    }
+  }
+
+  private static final class TestScenarioArrayId implements ScenarioMarketDataId<Double, DoubleScenarioArray> {
+
+    private final MarketDataId<Double> id;
+
+    private TestScenarioArrayId(MarketDataId<Double> id) {
+      this.id = id;
+    }
+
+    @Override
+    public MarketDataId<Double> getMarketDataId() {
+      return id;
+    }
+
+    @Override
+    public Class<DoubleScenarioArray> getScenarioMarketDataType() {
+      return DoubleScenarioArray.class;
+    }
+
+    @Override
+    public DoubleScenarioArray createScenarioValue(MarketDataBox<Double> marketDataBox, int scenarioCount) {
+      return DoubleScenarioArray.of(scenarioCount, i -> marketDataBox.getValue(i));
+    }
+  }
+
+}
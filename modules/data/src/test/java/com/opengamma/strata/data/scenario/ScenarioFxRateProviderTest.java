@@ -6,6 +6,7 @@
 package com.opengamma.strata.data.scenario;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
 
 import java.time.LocalDate;
 
@@ -16,6 +17,7 @@ import org.junit.jupiter.api.TestInstance.Lifecycle;
 
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.FxRate;
+import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.data.FxRateId;
 import com.opengamma.strata.data.ObservableSource;
 
@@ -48,6 +50,41 @@ public class ScenarioFxRateProviderTest {
     assertThat(fxRateProvider.fxRate(Currency.GBP, Currency.USD, 0)).isEqualTo(1.4d);
   }
 
+  @Test
+  public void fxRates() {
+    assertThat(fxRateProvider.fxRates(Currency.GBP, Currency.GBP)).isEqualTo(DoubleArray.of(1d));
+    DoubleArray rates = fxRateProvider.fxRates(Currency.GBP, Currency.USD);
+    assertThat(rates).isEqualTo(DoubleArray.of(1.4d));
+    assertThat(fxRateProvider.fxRates(Currency.USD, Currency.GBP).get(0)).isCloseTo(1 / 1.4d, offset(1e-15));
+  }
+
+  @Test
+  public void cached() {
+    ScenarioFxRateProvider test = fxRateProvider.cached();
+    assertThat(test.cached()).isSameAs(test);
+    assertThat(test.getScenarioCount()).isEqualTo(1);
+    assertThat(test.fxRate(Currency.GBP, Currency.USD, 0)).isEqualTo(1.4d);
+    assertThat(test.fxRateProvider(0).fxRate(Currency.GBP, Currency.USD)).isEqualTo(1.4d);
+    assertThat(test.fxRates(Currency.GBP, Currency.GBP)).isEqualTo(DoubleArray.of(1d));
+    DoubleArray rates = test.fxRates(Currency.GBP, Currency.USD);
+    assertThat(rates).isEqualTo(DoubleArray.of(1.4d));
+    assertThat(test.fxRates(Currency.GBP, Currency.USD)).isSameAs(rates);
+  }
+
+  @Test
+  public void fxRates_scenarios() {
+    ScenarioMarketData marketData = ImmutableScenarioMarketData.builder(LocalDate.of(2011, 3, 8))
+        .addBox(
+            FxRateId.of(Currency.GBP, Currency.USD),
+            MarketDataBox.ofScenarioValues(
+                FxRate.of(Currency.GBP, Currency.USD, 1.4d),
+                FxRate.of(Currency.GBP, Currency.USD, 1.5d)))
+        .build();
+    ScenarioFxRateProvider test = ScenarioFxRateProvider.of(marketData);
+    assertThat(test.fxRates(Currency.GBP, Currency.USD)).isEqualTo(DoubleArray.of(1.4d, 1.5d));
+    assertThat(test.fxRates(Currency.USD, Currency.USD)).isEqualTo(DoubleArray.of(1d, 1d));
+  }
+
   @Test
   public void specifySource() {
     ObservableSource testSource = ObservableSource.of("test");
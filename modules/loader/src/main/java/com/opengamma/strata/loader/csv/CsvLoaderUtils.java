@@ -6,15 +6,22 @@
 package com.opengamma.strata.loader.csv;
 
 import static com.opengamma.strata.collect.Guavate.toImmutableMap;
+import static java.util.stream.Collectors.toList;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.io.CharSource;
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.currency.CurrencyAmount;
 import com.opengamma.strata.basics.date.AdjustableDate;
@@ -26,7 +33,11 @@ import com.opengamma.strata.basics.date.HolidayCalendarId;
 import com.opengamma.strata.basics.date.HolidayCalendarIds;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.concurrent.OrderedFutureIterator;
+import com.opengamma.strata.collect.io.BeanByteSource;
 import com.opengamma.strata.collect.io.CsvRow;
+import com.opengamma.strata.collect.io.ResourceLocator;
+import com.opengamma.strata.collect.io.ZipUtils;
 import com.opengamma.strata.collect.tuple.DoublesPair;
 import com.opengamma.strata.collect.tuple.Pair;
 import com.opengamma.strata.loader.LoaderUtils;
@@ -426,4 +437,30 @@ public final class CsvLoaderUtils {
     return str.endsWith(".0") ? str.substring(0, str.length() - 2) : str;
   }
 
+  //-------------------------------------------------------------------------
+  // converts resources to character sources, unpacking ZIP, GZ and BASE64 files in memory without using the disk
+  // every entry of a packed file is used, whatever its suffix, other resources are used as is
+  static List<CharSource> toCharSources(Collection<ResourceLocator> resources) {
+    List<CharSource> charSources = new ArrayList<>();
+    for (ResourceLocator resource : resources) {
+      BeanByteSource byteSource = resource.getByteSource();
+      String fileName = byteSource.getFileName().orElse("").toLowerCase(Locale.ENGLISH);
+      if (fileName.endsWith(".zip") || fileName.endsWith(".gz") || fileName.endsWith(".base64")) {
+        ZipUtils.unpackInMemory(byteSource, (name, bytes) -> charSources.add(bytes.asCharSourceUtf8UsingBom()));
+      } else {
+        charSources.add(resource.getCharSource());
+      }
+    }
+    return charSources;
+  }
+
+  // applies the function to each input in parallel, returning the results in the order of the inputs
+  // a runtime exception thrown by the function is rethrown unwrapped
+  static <T, R> List<R> parallelMap(List<T> inputs, Function<? super T, ? extends R> fn) {
+    if (inputs.size() <= 1) {
+      return inputs.stream().map(fn).collect(toList());
+    }
+    return OrderedFutureIterator.map(inputs, fn, ForkJoinPool.commonPool());
+  }
+
 }
@@ -5,27 +5,22 @@
  */
 package com.opengamma.strata.loader.csv;
 
-import static java.util.stream.Collectors.toList;
-
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.io.CharSource;
 import com.opengamma.strata.basics.index.Index;
 import com.opengamma.strata.basics.index.PriceIndex;
-import com.opengamma.strata.collect.MapStream;
 import com.opengamma.strata.collect.Messages;
-import com.opengamma.strata.collect.io.CsvFile;
-import com.opengamma.strata.collect.io.CsvRow;
+import com.opengamma.strata.collect.io.CsvCursor;
 import com.opengamma.strata.collect.io.ResourceLocator;
 import com.opengamma.strata.collect.io.UnicodeBom;
 import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
-import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeriesBuilder;
 import com.opengamma.strata.data.ObservableId;
 import com.opengamma.strata.loader.LoaderUtils;
 import com.opengamma.strata.market.observable.IndexQuoteId;
@@ -53,6 +48,10 @@ import com.opengamma.strata.market.observable.IndexQuoteId;
  * </pre>
  * Note that Microsoft Excel prefers the CSV file to have no space after the comma.
  * <p>
+ * A resource with a suffix of '.zip', '.gz' or '.base64' is unpacked in memory, and each of its
+ * entries is treated as a separate resource. The resources are parsed in parallel.
+ * A file with a header row but no data rows is valid, even if it lacks some of the headers.
+ * <p>
  * CSV files sometimes contain a Unicode Byte Order Mark.
  * Callers are responsible for handling this, such as by using {@link UnicodeBom}.
  */
@@ -87,7 +86,7 @@ public final class FixingSeriesCsvLoader {
    * @throws IllegalArgumentException if the files contain a duplicate entry
    */
   public static ImmutableMap<ObservableId, LocalDateDoubleTimeSeries> load(Collection<ResourceLocator> resources) {
-    Collection<CharSource> charSources = resources.stream().map(r -> r.getCharSource()).collect(toList());
+    Collection<CharSource> charSources = CsvLoaderUtils.toCharSources(resources);
     return parse(charSources);
   }
 
@@ -95,6 +94,7 @@ public final class FixingSeriesCsvLoader {
   /**
    * Parses one or more CSV format fixing series files.
    * <p>
+   * The fixings of each file are stored in primitive columns, with each series built once.
    * If the files contain a duplicate entry an exception will be thrown.
    * 
    * @param charSources  the fixing series CSV character sources
@@ -103,27 +103,38 @@ public final class FixingSeriesCsvLoader {
    */
   public static ImmutableMap<ObservableId, LocalDateDoubleTimeSeries> parse(Collection<CharSource> charSources) {
     // builder ensures keys can only be seen once
+    List<ImmutableMap<ObservableId, LocalDateDoubleTimeSeries>> parsed =
+        CsvLoaderUtils.parallelMap(ImmutableList.copyOf(charSources), FixingSeriesCsvLoader::parseSingle);
     ImmutableMap.Builder<ObservableId, LocalDateDoubleTimeSeries> builder = ImmutableMap.builder();
-    for (CharSource charSource : charSources) {
-      builder.putAll(parseSingle(charSource));
-    }
+    parsed.forEach(builder::putAll);
     return builder.build();
   }
 
   //-------------------------------------------------------------------------
   // loads a single fixing series CSV file
   private static ImmutableMap<ObservableId, LocalDateDoubleTimeSeries> parseSingle(CharSource resource) {
-    Map<ObservableId, LocalDateDoubleTimeSeriesBuilder> builders = new HashMap<>();
-    try {
-      CsvFile csv = CsvFile.of(resource, true);
-      for (CsvRow row : csv.rows()) {
-        String referenceStr = row.getField(REFERENCE_FIELD);
-        String dateStr = row.getField(DATE_FIELD);
-        String valueStr = row.getField(VALUE_FIELD);
+    TimeSeriesColumns<ObservableId> columns = new TimeSeriesColumns<>();
+    try (CsvCursor csv = CsvCursor.of(resource, true)) {
+      // the headers are only required if there is a data row
+      if (!csv.next()) {
+        return ImmutableMap.of();
+      }
+      int referenceColumn = csv.columnIndex(REFERENCE_FIELD);
+      int dateColumn = csv.columnIndex(DATE_FIELD);
+      int valueColumn = csv.columnIndex(VALUE_FIELD);
+      // files are typically ordered by index, so avoid looking up the same index repeatedly
+      String lastReferenceStr = null;
+      Index index = null;
+      do {
+        CharSequence referenceField = csv.field(referenceColumn);
+        if (lastReferenceStr == null || !lastReferenceStr.contentEquals(referenceField)) {
+          lastReferenceStr = referenceField.toString();
+          index = LoaderUtils.findIndex(lastReferenceStr);
+        }
+        String dateStr = csv.fieldString(dateColumn);
 
-        Index index = LoaderUtils.findIndex(referenceStr);
         ObservableId id = IndexQuoteId.of(index);
-        double value = Double.parseDouble(valueStr);
+        double value = csv.fieldDouble(valueColumn);
         LocalDate date;
         if (index instanceof PriceIndex) {
           try {
@@ -140,14 +151,14 @@ public final class FixingSeriesCsvLoader {
           date = LoaderUtils.parseDate(dateStr);
         }
 
-        LocalDateDoubleTimeSeriesBuilder builder = builders.computeIfAbsent(id, k -> LocalDateDoubleTimeSeries.builder());
-        builder.put(date, value);
-      }
+        columns.add(id, date, value);
+      } while (csv.next());
     } catch (RuntimeException ex) {
       throw new IllegalArgumentException(
           Messages.format("Error processing resource as CSV file: {}", resource), ex);
     }
-    return MapStream.of(builders).mapValues(builder -> builder.build()).toMap();
+    // a later entry for the same date replaces an earlier one
+    return columns.toTimeSeries(true);
   }
 
   //-------------------------------------------------------------------------
@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.loader.csv;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.concurrent.OrderedFutureIterator;
+import com.opengamma.strata.collect.io.CsvIterator;
+import com.opengamma.strata.collect.io.CsvRow;
+import com.opengamma.strata.collect.result.FailureItem;
+import com.opengamma.strata.collect.result.ValueWithFailures;
+
+/**
+ * Iterator that parses batches of CSV rows in parallel.
+ * <p>
+ * Rows are read from the underlying {@link CsvIterator} in groups, as defined by the group reader.
+ * A batch of groups is then parsed using the executor while further batches are read.
+ * Batches are returned in the order they were read, thus the order of the file is retained.
+ * <p>
+ * Reading the CSV file occurs on the thread that calls {@link #hasNext()} and {@link #next()}.
+ * The failures of each batch are passed to the failure consumer on the same thread,
+ * just before the batch is returned, thus the consumer does not need to be thread-safe.
+ * The batch parser must be thread-safe.
+ *
+ * @param <T>  the type of the parsed objects
+ */
+final class ParallelCsvBatchIterator<T> implements Iterator<List<T>>, AutoCloseable {
+
+  /**
+   * The CSV file.
+   */
+  private final CsvIterator csv;
+  /**
+   * The function that reads the next group of rows.
+   */
+  private final Function<CsvIterator, List<CsvRow>> groupReader;
+  /**
+   * The number of row groups in each batch.
+   */
+  private final int batchSize;
+  /**
+   * The consumer of failures.
+   */
+  private final Consumer<FailureItem> failureConsumer;
+  /**
+   * The batches being parsed, in file order.
+   */
+  private final OrderedFutureIterator<List<List<CsvRow>>, ValueWithFailures<List<T>>> parsed;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates a stream of batches parsed in parallel.
+   * <p>
+   * The stream must be closed to close the underlying CSV file.
+   *
+   * @param <T>  the type of the parsed objects
+   * @param csv  the CSV file
+   * @param groupReader  the function that reads the next group of rows
+   * @param batchSize  the number of row groups in each batch
+   * @param batchParser  the thread-safe function that parses a batch of row groups
+   * @param failureConsumer  the consumer of failures
+   * @param executor  the executor used to parse batches
+   * @param maxPendingBatches  the maximum number of batches to parse ahead of the caller
+   * @return the stream of parsed batches
+   */
+  static <T> Stream<List<T>> stream(
+      CsvIterator csv,
+      Function<CsvIterator, List<CsvRow>> groupReader,
+      int batchSize,
+      Function<List<List<CsvRow>>, ValueWithFailures<List<T>>> batchParser,
+      Consumer<FailureItem> failureConsumer,
+      Executor executor,
+      int maxPendingBatches) {
+
+    ParallelCsvBatchIterator<T> iterator = new ParallelCsvBatchIterator<>(
+        csv, groupReader, batchSize, batchParser, failureConsumer, executor, maxPendingBatches);
+    Spliterator<List<T>> spliterator =
+        Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL);
+    return StreamSupport.stream(spliterator, false).onClose(iterator::close);
+  }
+
+  // creates an instance
+  private ParallelCsvBatchIterator(
+      CsvIterator csv,
+      Function<CsvIterator, List<CsvRow>> groupReader,
+      int batchSize,
+      Function<List<List<CsvRow>>, ValueWithFailures<List<T>>> batchParser,
+      Consumer<FailureItem> failureConsumer,
+      Executor executor,
+      int maxPendingBatches) {
+
+    this.csv = ArgChecker.notNull(csv, "csv");
+    this.groupReader = ArgChecker.notNull(groupReader, "groupReader");
+    this.batchSize = ArgChecker.notNegativeOrZero(batchSize, "batchSize");
+    this.failureConsumer = ArgChecker.notNull(failureConsumer, "failureConsumer");
+    this.parsed = OrderedFutureIterator.of(new BatchReader(), batchParser, executor, maxPendingBatches);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public boolean hasNext() {
+    return parsed.hasNext();
+  }
+
+  @Override
+  public List<T> next() {
+    ValueWithFailures<List<T>> batch = parsed.next();
+    batch.getFailures().forEach(failureConsumer);
+    return batch.getValue();
+  }
+
+  @Override
+  public void close() {
+    parsed.close();
+    csv.close();
+  }
+
+  //-------------------------------------------------------------------------
+  // reads the next batch of row groups from the file, on the thread consuming the parsed batches
+  private final class BatchReader implements Iterator<List<List<CsvRow>>> {
+
+    @Override
+    public boolean hasNext() {
+      return csv.hasNext();
+    }
+
+    @Override
+    public List<List<CsvRow>> next() {
+      if (!csv.hasNext()) {
+        throw new NoSuchElementException("No more rows available");
+      }
+      List<List<CsvRow>> batch = new ArrayList<>(batchSize);
+      while (batch.size() < batchSize && csv.hasNext()) {
+        batch.add(groupReader.apply(csv));
+      }
+      return batch;
+    }
+  }
+
+}
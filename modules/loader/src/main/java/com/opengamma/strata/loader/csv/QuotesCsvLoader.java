@@ -5,26 +5,25 @@
  */
 package com.opengamma.strata.loader.csv;
 
-import static java.util.stream.Collectors.toList;
-
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.function.Predicate;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.ImmutableMap.Builder;
 import com.google.common.io.CharSource;
 import com.opengamma.strata.basics.StandardId;
 import com.opengamma.strata.collect.Messages;
-import com.opengamma.strata.collect.io.CsvFile;
-import com.opengamma.strata.collect.io.CsvRow;
+import com.opengamma.strata.collect.io.CsvCursor;
 import com.opengamma.strata.collect.io.ResourceLocator;
 import com.opengamma.strata.collect.io.UnicodeBom;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
 import com.opengamma.strata.data.FieldName;
 import com.opengamma.strata.loader.LoaderUtils;
 import com.opengamma.strata.market.observable.QuoteId;
@@ -55,6 +54,11 @@ import com.opengamma.strata.market.observable.QuoteId;
  * </pre>
  * Note that Microsoft Excel prefers the CSV file to have no space after the comma.
  * <p>
+ * When loading from resources, files with a suffix of '.zip', '.gz' or '.base64' are unpacked in memory,
+ * with each entry loaded as a separate file.
+ * The files are parsed in parallel, so quotes for many dates are best split across several files.
+ * A file with a header row but no data rows is valid, even if it lacks some of the headers.
+ * <p>
  * CSV files sometimes contain a Unicode Byte Order Mark.
  * Callers are responsible for handling this, such as by using {@link UnicodeBom}.
  */
@@ -97,7 +101,7 @@ public final class QuotesCsvLoader {
    * @throws IllegalArgumentException if the files contain a duplicate entry
    */
   public static ImmutableMap<QuoteId, Double> load(LocalDate marketDataDate, Collection<ResourceLocator> resources) {
-    Collection<CharSource> charSources = resources.stream().map(r -> r.getCharSource()).collect(toList());
+    Collection<CharSource> charSources = CsvLoaderUtils.toCharSources(resources);
     return parse(d -> marketDataDate.equals(d), charSources).getOrDefault(marketDataDate, ImmutableMap.of());
   }
 
@@ -137,7 +141,7 @@ public final class QuotesCsvLoader {
       Set<LocalDate> marketDataDates,
       Collection<ResourceLocator> resources) {
 
-    Collection<CharSource> charSources = resources.stream().map(r -> r.getCharSource()).collect(toList());
+    Collection<CharSource> charSources = CsvLoaderUtils.toCharSources(resources);
     return parse(d -> marketDataDates.contains(d), charSources);
   }
 
@@ -171,10 +175,45 @@ public final class QuotesCsvLoader {
   public static ImmutableMap<LocalDate, ImmutableMap<QuoteId, Double>> loadAllDates(
       Collection<ResourceLocator> resources) {
 
-    Collection<CharSource> charSources = resources.stream().map(r -> r.getCharSource()).collect(toList());
+    Collection<CharSource> charSources = CsvLoaderUtils.toCharSources(resources);
     return parse(d -> true, charSources);
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Loads one or more CSV format quote files as time-series.
+   * <p>
+   * All dates that are found will be returned, with one time-series for each quote.
+   * This is more efficient than {@link #loadAllDates(Collection)} when loading many dates,
+   * such as for a backtest, as the time-series are built directly from primitive columns.
+   * <p>
+   * If the files contain a duplicate entry an exception will be thrown.
+   * 
+   * @param resources  the CSV resources
+   * @return the loaded quotes, mapped by {@linkplain QuoteId quote ID}
+   * @throws IllegalArgumentException if the files contain a duplicate entry
+   */
+  public static ImmutableMap<QuoteId, LocalDateDoubleTimeSeries> loadTimeSeries(ResourceLocator... resources) {
+    return loadTimeSeries(Arrays.asList(resources));
+  }
+
+  /**
+   * Loads one or more CSV format quote files as time-series.
+   * <p>
+   * All dates that are found will be returned, with one time-series for each quote.
+   * This is more efficient than {@link #loadAllDates(Collection)} when loading many dates,
+   * such as for a backtest, as the time-series are built directly from primitive columns.
+   * <p>
+   * If the files contain a duplicate entry an exception will be thrown.
+   * 
+   * @param resources  the CSV resources
+   * @return the loaded quotes, mapped by {@linkplain QuoteId quote ID}
+   * @throws IllegalArgumentException if the files contain a duplicate entry
+   */
+  public static ImmutableMap<QuoteId, LocalDateDoubleTimeSeries> loadTimeSeries(Collection<ResourceLocator> resources) {
+    return parseTimeSeries(d -> true, CsvLoaderUtils.toCharSources(resources));
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Parses one or more CSV format quote files.
@@ -193,49 +232,109 @@ public final class QuotesCsvLoader {
       Predicate<LocalDate> datePredicate,
       Collection<CharSource> charSources) {
 
+    List<Map<LocalDate, ImmutableMap.Builder<QuoteId, Double>>> parsed =
+        CsvLoaderUtils.parallelMap(ImmutableList.copyOf(charSources), charSource -> {
+          Map<LocalDate, ImmutableMap.Builder<QuoteId, Double>> mutableMap = new HashMap<>();
+          parseSingle(
+              datePredicate,
+              charSource,
+              (date, id, value) -> mutableMap.computeIfAbsent(date, k -> ImmutableMap.builder()).put(id, value));
+          return mutableMap;
+        });
     // builder ensures keys can only be seen once
-    Map<LocalDate, ImmutableMap.Builder<QuoteId, Double>> mutableMap = new HashMap<>();
-    for (CharSource charSource : charSources) {
-      parseSingle(datePredicate, charSource, mutableMap);
+    Map<LocalDate, ImmutableMap.Builder<QuoteId, Double>> merged = new HashMap<>();
+    for (Map<LocalDate, ImmutableMap.Builder<QuoteId, Double>> fileMap : parsed) {
+      for (Entry<LocalDate, ImmutableMap.Builder<QuoteId, Double>> entry : fileMap.entrySet()) {
+        ImmutableMap.Builder<QuoteId, Double> existing = merged.putIfAbsent(entry.getKey(), entry.getValue());
+        if (existing != null) {
+          existing.putAll(entry.getValue().build());
+        }
+      }
     }
     ImmutableMap.Builder<LocalDate, ImmutableMap<QuoteId, Double>> builder = ImmutableMap.builder();
-    for (Entry<LocalDate, Builder<QuoteId, Double>> entry : mutableMap.entrySet()) {
+    for (Entry<LocalDate, ImmutableMap.Builder<QuoteId, Double>> entry : merged.entrySet()) {
       builder.put(entry.getKey(), entry.getValue().build());
     }
     return builder.build();
   }
 
+  /**
+   * Parses one or more CSV format quote files as time-series.
+   * <p>
+   * A predicate is specified that is used to filter the dates that are returned.
+   * This could match a single date, a set of dates or all dates.
+   * <p>
+   * The quotes of each file are stored in primitive columns, with the time-series built from the merged
+   * columns, thus there are no intermediate maps.
+   * If the files contain a duplicate entry an exception will be thrown.
+   * 
+   * @param datePredicate  the predicate used to select the dates
+   * @param charSources  the CSV character sources
+   * @return the loaded quotes, mapped by {@linkplain QuoteId quote ID}
+   * @throws IllegalArgumentException if the files contain a duplicate entry
+   */
+  public static ImmutableMap<QuoteId, LocalDateDoubleTimeSeries> parseTimeSeries(
+      Predicate<LocalDate> datePredicate,
+      Collection<CharSource> charSources) {
+
+    List<TimeSeriesColumns<QuoteId>> parsed =
+        CsvLoaderUtils.parallelMap(ImmutableList.copyOf(charSources), charSource -> {
+          TimeSeriesColumns<QuoteId> columns = new TimeSeriesColumns<>();
+          parseSingle(datePredicate, charSource, (date, id, value) -> columns.add(id, date, value));
+          return columns;
+        });
+    TimeSeriesColumns<QuoteId> merged = new TimeSeriesColumns<>();
+    parsed.forEach(merged::addAll);
+    return merged.toTimeSeries(false);
+  }
+
   // loads a single CSV file, filtering by date
   private static void parseSingle(
       Predicate<LocalDate> datePredicate,
       CharSource resource,
-      Map<LocalDate, ImmutableMap.Builder<QuoteId, Double>> mutableMap) {
+      QuoteConsumer consumer) {
 
-    try {
-      CsvFile csv = CsvFile.of(resource, true);
-      for (CsvRow row : csv.rows()) {
-        String dateText = row.getField(DATE_FIELD);
-        LocalDate date = LoaderUtils.parseDate(dateText);
+    try (CsvCursor csv = CsvCursor.of(resource, true)) {
+      // the headers are only required if there is a data row
+      if (!csv.next()) {
+        return;
+      }
+      int dateColumn = csv.columnIndex(DATE_FIELD);
+      int symbologyColumn = csv.columnIndex(SYMBOLOGY_FIELD);
+      int tickerColumn = csv.columnIndex(TICKER_FIELD);
+      int fieldNameColumn = csv.columnIndex(FIELD_NAME_FIELD);
+      int valueColumn = csv.columnIndex(VALUE_FIELD);
+      // files are typically ordered by date, so avoid parsing the same date repeatedly
+      String lastDateText = null;
+      LocalDate date = null;
+      do {
+        CharSequence dateField = csv.field(dateColumn);
+        if (lastDateText == null || !lastDateText.contentEquals(dateField)) {
+          lastDateText = dateField.toString();
+          date = LoaderUtils.parseDate(lastDateText);
+        }
         if (datePredicate.test(date)) {
-          String symbologyStr = row.getField(SYMBOLOGY_FIELD);
-          String tickerStr = row.getField(TICKER_FIELD);
-          String fieldNameStr = row.getField(FIELD_NAME_FIELD);
-          String valueStr = row.getField(VALUE_FIELD);
+          String symbologyStr = csv.fieldString(symbologyColumn);
+          String tickerStr = csv.fieldString(tickerColumn);
+          String fieldNameStr = csv.fieldString(fieldNameColumn);
 
-          double value = Double.valueOf(valueStr);
+          double value = csv.fieldDouble(valueColumn);
           StandardId id = StandardId.of(symbologyStr, tickerStr);
           FieldName fieldName = fieldNameStr.isEmpty() ? FieldName.MARKET_VALUE : FieldName.of(fieldNameStr);
-
-          ImmutableMap.Builder<QuoteId, Double> builderForDate = mutableMap.computeIfAbsent(date, k -> ImmutableMap.builder());
-          builderForDate.put(QuoteId.of(id, fieldName), value);
+          consumer.accept(date, QuoteId.of(id, fieldName), value);
         }
-      }
+      } while (csv.next());
     } catch (RuntimeException ex) {
       throw new IllegalArgumentException(
           Messages.format("Error processing resource as CSV file: {}", resource), ex);
     }
   }
 
+  // receives each quote that is parsed
+  private interface QuoteConsumer {
+    public abstract void accept(LocalDate date, QuoteId id, double value);
+  }
+
   //-------------------------------------------------------------------------
   /**
    * Restricted constructor.
@@ -11,6 +11,7 @@ import static java.util.stream.Collectors.toList;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
@@ -31,6 +32,7 @@ import com.opengamma.strata.basics.index.FloatingRateName;
 import com.opengamma.strata.basics.index.IborIndex;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.io.CsvCursor;
 import com.opengamma.strata.collect.io.CsvIterator;
 import com.opengamma.strata.collect.io.CsvRow;
 import com.opengamma.strata.collect.io.ResourceLocator;
@@ -336,15 +338,24 @@ public final class SensitivityCsvLoader {
       ListMultimap<String, CurveSensitivities> parsed,
       List<FailureItem> failures) {
 
-    try (CsvIterator csv = CsvIterator.of(charSource, true)) {
+    // the standard format is streamed using a cursor, as it typically has many rows
+    try (CsvCursor csv = CsvCursor.of(charSource, true)) {
       if (!csv.containsHeader(TENOR_HEADER) && !csv.containsHeader(DATE_HEADER)) {
         failures.add(FailureItem.of(
             FailureReason.PARSING, "CSV file could not be parsed as sensitivities, invalid format"));
+        return;
       } else if (csv.containsHeader(REFERENCE_HEADER) &&
           csv.containsHeader(TYPE_HEADER) &&
           csv.containsHeader(VALUE_HEADER)) {
         parseStandardFormat(csv, parsed, failures);
-      } else if (csv.containsHeader(REFERENCE_HEADER)) {
+        return;
+      }
+    } catch (RuntimeException ex) {
+      failures.add(FailureItem.of(FailureReason.PARSING, ex, "CSV file could not be parsed: {}", ex.getMessage()));
+      return;
+    }
+    try (CsvIterator csv = CsvIterator.of(charSource, true)) {
+      if (csv.containsHeader(REFERENCE_HEADER)) {
         parseListFormat(csv, parsed, failures);
       } else {
         parseGridFormat(csv, parsed, failures);
@@ -357,38 +368,52 @@ public final class SensitivityCsvLoader {
   //-------------------------------------------------------------------------
   // parses the file in standard format
   private void parseStandardFormat(
-      CsvIterator csv,
+      CsvCursor csv,
       ListMultimap<String, CurveSensitivities> parsed,
       List<FailureItem> failures) {
 
-    // loop around all rows, peeking to match batches with the same identifier
-    // no exception catch at this level to avoid infinite loops
-    while (csv.hasNext()) {
-      CsvRow peekedRow = csv.peek();
-      PortfolioItemInfo info = parseInfo(peekedRow);
-      String id = info.getId().map(StandardId::toString).orElse("");
-
-      // process in batches, where the ID is the same
-      CurveSensitivitiesBuilder builder = CurveSensitivities.builder(info);
-      List<CsvRow> batchRows = csv.nextBatch(r -> matchId(r, id));
-      for (CsvRow batchRow : batchRows) {
-        try {
-          CurveName reference = CurveName.of(batchRow.getValue(REFERENCE_HEADER));
-          CurveName resolvedCurveName = resolver.checkCurveName(reference);
-          CurveSensitivitiesType type = CurveSensitivitiesType.of(batchRow.getValue(TYPE_HEADER));
-          ParameterMetadata metadata = parseMetadata(batchRow, false);
-          Currency currency = parseCurrency(batchRow, reference);
-          String valueStr = batchRow.getField(VALUE_HEADER);
-          if (!valueStr.isEmpty()) {
-            double value = LoaderUtils.parseDouble(valueStr);
-            builder.add(type, resolvedCurveName, currency, metadata, value);
-          }
-
-        } catch (IllegalArgumentException ex) {
-          failures.add(FailureItem.of(
-              PARSING, "CSV file could not be parsed at line {}: {}", batchRow.lineNumber(), ex.getMessage()));
+    int referenceColumn = csv.columnIndex(REFERENCE_HEADER);
+    int typeColumn = csv.columnIndex(TYPE_HEADER);
+    int valueColumn = csv.columnIndex(VALUE_HEADER);
+    int tenorColumn = csv.findColumnIndex(TENOR_HEADER).orElse(-1);
+    int dateColumn = csv.findColumnIndex(DATE_HEADER).orElse(-1);
+    int currencyColumn = csv.findColumnIndex(CURRENCY_HEADER).orElse(-1);
+    int idSchemeColumn = csv.findColumnIndex(ID_SCHEME_HEADER).orElse(-1);
+    int idColumn = csv.findColumnIndex(ID_HEADER).orElse(-1);
+    ParseCache cache = new ParseCache();
+
+    // loop around all rows, processing in batches where the ID is the same
+    CurveSensitivitiesBuilder builder = null;
+    String batchId = null;
+    while (csv.next()) {
+      String rowId = idColumn < 0 ? "" : rowId(csv, idSchemeColumn, idColumn);
+      if (builder == null || !rowId.equals(batchId)) {
+        addSensitivities(builder, parsed);
+        builder = CurveSensitivities.builder(parseInfo(csv.row()));
+        batchId = rowId;
+      }
+      try {
+        String referenceStr = requiredField(csv, referenceColumn, REFERENCE_HEADER);
+        CurveName resolvedCurveName = cache.curveName(referenceStr);
+        CurveSensitivitiesType type = cache.type(requiredField(csv, typeColumn, TYPE_HEADER));
+        ParameterMetadata metadata = cache.metadata(optionalField(csv, tenorColumn), optionalField(csv, dateColumn), false);
+        Currency currency = cache.currency(optionalField(csv, currencyColumn), referenceStr);
+        if (!csv.isFieldEmpty(valueColumn)) {
+          double value = parseValue(csv, valueColumn);
+          builder.add(type, resolvedCurveName, currency, metadata, value);
         }
+
+      } catch (IllegalArgumentException ex) {
+        failures.add(FailureItem.of(
+            PARSING, "CSV file could not be parsed at line {}: {}", csv.lineNumber(), ex.getMessage()));
       }
+    }
+    addSensitivities(builder, parsed);
+  }
+
+  // adds the sensitivities if not empty
+  private static void addSensitivities(CurveSensitivitiesBuilder builder, ListMultimap<String, CurveSensitivities> parsed) {
+    if (builder != null) {
       CurveSensitivities sens = builder.build();
       if (!sens.getTypedSensitivities().isEmpty()) {
         parsed.put(sens.getId().map(Object::toString).orElse(""), sens);
@@ -396,6 +421,47 @@ public final class SensitivityCsvLoader {
     }
   }
 
+  // gets the identifier of the current row, as per matchId()
+  private static String rowId(CsvCursor csv, int idSchemeColumn, int idColumn) {
+    if (csv.isFieldEmpty(idColumn)) {
+      return "";
+    }
+    String scheme = idSchemeColumn < 0 || csv.isFieldEmpty(idSchemeColumn) ?
+        DEFAULT_SCHEME :
+        csv.fieldString(idSchemeColumn);
+    return StandardId.of(scheme, csv.fieldString(idColumn)).toString();
+  }
+
+  // gets a field that must not be empty, as per CsvRow.getValue()
+  private static String requiredField(CsvCursor csv, int column, String header) {
+    if (csv.isFieldEmpty(column)) {
+      throw new IllegalArgumentException("No value was found for field: '" + header + "'");
+    }
+    return csv.fieldString(column);
+  }
+
+  // gets a field that may be missing or empty, returning the empty string if so
+  private static String optionalField(CsvCursor csv, int column) {
+    return column < 0 ? "" : csv.fieldString(column);
+  }
+
+  // parses a value, as per LoaderUtils.parseDouble()
+  // the cursor parses plain decimals without creating a string, other text is parsed as a BigDecimal
+  private static double parseValue(CsvCursor csv, int column) {
+    CharSequence field = csv.field(column);
+    for (int i = 0; i < field.length(); i++) {
+      char ch = field.charAt(i);
+      if ((ch < '0' || ch > '9') && ch != '.' && ch != '-' && ch != '+' && ch != 'e' && ch != 'E') {
+        return LoaderUtils.parseDouble(field.toString());
+      }
+    }
+    try {
+      return csv.fieldDouble(column);
+    } catch (NumberFormatException ex) {
+      return LoaderUtils.parseDouble(field.toString());
+    }
+  }
+
   //-------------------------------------------------------------------------
   // parses the file in list format
   private void parseListFormat(
@@ -414,6 +480,7 @@ public final class SensitivityCsvLoader {
 
     // loop around all rows, peeking to match batches with the same identifier
     // no exception catch at this level to avoid infinite loops
+    ParseCache cache = new ParseCache();
     while (csv.hasNext()) {
       CsvRow peekedRow = csv.peek();
       PortfolioItemInfo info = parseInfo(peekedRow);
@@ -424,13 +491,13 @@ public final class SensitivityCsvLoader {
       List<CsvRow> batchRows = csv.nextBatch(r -> matchId(r, id));
       for (CsvRow batchRow : batchRows) {
         try {
-          ParameterMetadata metadata = parseMetadata(batchRow, true);
-          CurveName reference = CurveName.of(batchRow.getValue(REFERENCE_HEADER));
-          CurveName resolvedCurveName = resolver.checkCurveName(reference);
+          ParameterMetadata metadata = parseMetadata(batchRow, cache);
+          String referenceStr = batchRow.getValue(REFERENCE_HEADER);
+          CurveName resolvedCurveName = cache.curveName(referenceStr);
           for (Entry<String, CurveSensitivitiesType> entry : types.entrySet()) {
             CurveSensitivitiesType type = entry.getValue();
             String valueStr = batchRow.getField(entry.getKey());
-            Currency currency = parseCurrency(batchRow, reference);
+            Currency currency = cache.currency(batchRow.findValue(CURRENCY_HEADER).orElse(""), referenceStr);
             if (!valueStr.isEmpty()) {
               double value = LoaderUtils.parseDouble(valueStr);
               builder.add(type, resolvedCurveName, currency, metadata, value);
@@ -467,6 +534,7 @@ public final class SensitivityCsvLoader {
 
     // loop around all rows, peeking to match batches with the same identifier
     // no exception catch at this level to avoid infinite loops
+    ParseCache cache = new ParseCache();
     while (csv.hasNext()) {
       CsvRow peekedRow = csv.peek();
       PortfolioItemInfo info = parseInfo(peekedRow);
@@ -477,15 +545,15 @@ public final class SensitivityCsvLoader {
       List<CsvRow> batchRows = csv.nextBatch(r -> matchId(r, id));
       for (CsvRow batchRow : batchRows) {
         try {
-          ParameterMetadata metadata = parseMetadata(batchRow, true);
+          ParameterMetadata metadata = parseMetadata(batchRow, cache);
           CurveSensitivitiesType type = batchRow.findValue(TYPE_HEADER)
-              .map(str -> CurveSensitivitiesType.of(str))
+              .map(cache::type)
               .orElse(CurveSensitivitiesType.ZERO_RATE_DELTA);
           for (Entry<String, CurveName> entry : references.entrySet()) {
-            CurveName reference = entry.getValue();
-            CurveName resolvedCurveName = resolver.checkCurveName(reference);
+            String referenceStr = entry.getValue().getName();
+            CurveName resolvedCurveName = cache.curveName(referenceStr);
             String valueStr = batchRow.getField(entry.getKey());
-            Currency currency = parseCurrency(batchRow, reference);
+            Currency currency = cache.currency(batchRow.findValue(CURRENCY_HEADER).orElse(""), referenceStr);
             if (!valueStr.isEmpty()) {
               double value = LoaderUtils.parseDouble(valueStr);
               builder.add(type, resolvedCurveName, currency, metadata, value);
@@ -505,25 +573,22 @@ public final class SensitivityCsvLoader {
   }
 
   //-------------------------------------------------------------------------
-  // parses the currency as a column or from the reference
-  private static Currency parseCurrency(CsvRow row, CurveName reference) {
-    Optional<String> currencyStr = row.findValue(CURRENCY_HEADER);
-    if (currencyStr.isPresent()) {
-      return LoaderUtils.parseCurrency(currencyStr.get());
-    }
-    String referenceStr = reference.getName().toUpperCase(Locale.ENGLISH);
+  // parses the currency from the reference
+  private static Currency parseCurrency(String referenceStr) {
+    String upperReferenceStr = referenceStr.toUpperCase(Locale.ENGLISH);
     try {
-      Optional<IborIndex> ibor = IborIndex.extendedEnum().find(referenceStr);
+      Optional<IborIndex> ibor = IborIndex.extendedEnum().find(upperReferenceStr);
       if (ibor.isPresent()) {
         return ibor.get().getCurrency();
       } else {
-        Optional<FloatingRateName> frName = FloatingRateName.extendedEnum().find(referenceStr);
+        Optional<FloatingRateName> frName = FloatingRateName.extendedEnum().find(upperReferenceStr);
         if (frName.isPresent()) {
           return frName.get().getCurrency();
-        } else if (referenceStr.length() == 3) {
-          return Currency.of(referenceStr);
-        } else if (referenceStr.length() > 3 && referenceStr.charAt(3) == '-' || referenceStr.charAt(3) == '_') {
-          return LoaderUtils.parseCurrency(referenceStr.substring(0, 3));
+        } else if (upperReferenceStr.length() == 3) {
+          return Currency.of(upperReferenceStr);
+        } else if (upperReferenceStr.length() > 3 && upperReferenceStr.charAt(3) == '-' ||
+            upperReferenceStr.charAt(3) == '_') {
+          return LoaderUtils.parseCurrency(upperReferenceStr.substring(0, 3));
         } else {
           // drop out to exception
         }
@@ -534,24 +599,28 @@ public final class SensitivityCsvLoader {
     throw new IllegalArgumentException("Unable to parse currency from reference, consider adding a 'Currency' column");
   }
 
-  // parses the currency as a column or from the reference
-  private ParameterMetadata parseMetadata(CsvRow row, boolean lenientDateParsing) {
+  // parses the metadata from the row, using lenient date parsing
+  private static ParameterMetadata parseMetadata(CsvRow row, ParseCache cache) {
+    return cache.metadata(row.findValue(TENOR_HEADER).orElse(""), row.findValue(DATE_HEADER).orElse(""), true);
+  }
+
+  // parses the metadata from the tenor and date, which are empty if not present
+  private ParameterMetadata parseMetadata(String tenorStr, String dateStr, boolean lenientDateParsing) {
     // parse the tenor and date fields
-    Optional<Tenor> tenorOpt = row.findValue(TENOR_HEADER).flatMap(LoaderUtils::tryParseTenor);
-    Optional<LocalDate> dateOpt = row.findValue(DATE_HEADER).map(LoaderUtils::parseDate);
-    Optional<String> tenorStrOpt = row.findValue(TENOR_HEADER);
-    if (tenorStrOpt.isPresent() && !tenorOpt.isPresent()) {
+    Optional<Tenor> tenorOpt = tenorStr.isEmpty() ? Optional.empty() : LoaderUtils.tryParseTenor(tenorStr);
+    Optional<LocalDate> dateOpt = dateStr.isEmpty() ? Optional.empty() : Optional.of(LoaderUtils.parseDate(dateStr));
+    if (!tenorStr.isEmpty() && !tenorOpt.isPresent()) {
       if (lenientDateParsing && !dateOpt.isPresent() && !resolver.isTenorRequired()) {
         try {
-          dateOpt = tenorStrOpt.map(LoaderUtils::parseDate);
+          dateOpt = Optional.of(LoaderUtils.parseDate(tenorStr));
         } catch (RuntimeException ex2) {
           // hide this exception, as this is a historic format
           throw new IllegalArgumentException(Messages.format(
-              "Invalid tenor '{}', must be expressed as nD, nW, nM or nY", tenorStrOpt.get()));
+              "Invalid tenor '{}', must be expressed as nD, nW, nM or nY", tenorStr));
         }
       } else {
         throw new IllegalArgumentException(Messages.format(
-            "Invalid tenor '{}', must be expressed as nD, nW, nM or nY", tenorStrOpt.get()));
+            "Invalid tenor '{}', must be expressed as nD, nW, nM or nY", tenorStr));
       }
     }
     // build correct metadata based on the parsed fields
@@ -591,4 +660,41 @@ public final class SensitivityCsvLoader {
     return id.equals(rowId);
   }
 
+  //-------------------------------------------------------------------------
+  // caches the parsed form of values that are repeated on many rows of a single file
+  // files typically have a small number of distinct references, types, tenors and dates
+  // failures are not cached, thus each failing row is reported
+  private final class ParseCache {
+    private final Map<String, CurveName> curveNames = new HashMap<>();
+    private final Map<String, CurveSensitivitiesType> types = new HashMap<>();
+    private final Map<String, Currency> currencies = new HashMap<>();
+    private final Map<String, Currency> impliedCurrencies = new HashMap<>();
+    private final Map<String, ParameterMetadata> metadata = new HashMap<>();
+
+    // gets the resolved curve name for the reference
+    private CurveName curveName(String referenceStr) {
+      return curveNames.computeIfAbsent(referenceStr, str -> resolver.checkCurveName(CurveName.of(str)));
+    }
+
+    // gets the sensitivity type
+    private CurveSensitivitiesType type(String typeStr) {
+      return types.computeIfAbsent(typeStr, CurveSensitivitiesType::of);
+    }
+
+    // gets the currency from the currency column, or from the reference if the column is empty
+    private Currency currency(String currencyStr, String referenceStr) {
+      if (currencyStr.isEmpty()) {
+        return impliedCurrencies.computeIfAbsent(referenceStr, SensitivityCsvLoader::parseCurrency);
+      }
+      return currencies.computeIfAbsent(currencyStr, LoaderUtils::parseCurrency);
+    }
+
+    // gets the metadata from the tenor and date, which are empty if not present
+    private ParameterMetadata metadata(String tenorStr, String dateStr, boolean lenientDateParsing) {
+      return metadata.computeIfAbsent(
+          tenorStr + '|' + dateStr,
+          key -> parseMetadata(tenorStr, dateStr, lenientDateParsing));
+    }
+  }
+
 }
@@ -5,21 +5,30 @@
  */
 package com.opengamma.strata.loader.csv;
 
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.io.Closeable;
+import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
 
+import com.google.common.collect.ImmutableList;
 import com.opengamma.strata.basics.date.Tenor;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.MapStream;
 import com.opengamma.strata.collect.io.CsvOutput;
 import com.opengamma.strata.collect.tuple.Pair;
-import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.param.DatedParameterMetadata;
 import com.opengamma.strata.market.param.ParameterMetadata;
 import com.opengamma.strata.market.param.TenoredParameterMetadata;
 import com.opengamma.strata.market.sensitivity.CurveSensitivities;
-import com.opengamma.strata.market.sensitivity.CurveSensitivitiesType;
 
 /**
  * Writes sensitivities to a CSV file.
@@ -30,6 +39,15 @@ import com.opengamma.strata.market.sensitivity.CurveSensitivitiesType;
  */
 public final class SensitivityCsvWriter {
 
+  /**
+   * The line separator.
+   */
+  private static final String NEW_LINE = "\n";
+  /**
+   * The size at which the buffer of formatted rows is flushed to the output.
+   */
+  private static final int FLUSH_SIZE = 64 * 1024;
+
   /**
    * The supplier, providing additional information.
    */
@@ -73,7 +91,59 @@ public final class SensitivityCsvWriter {
    * @throws UncheckedIOException if an IO error occurs
    */
   public void write(CurveSensitivities curveSens, Appendable output) {
-    CsvOutput csv = CsvOutput.standard(output, "\n");
+    ArgChecker.notNull(output, "output");
+    Layout layout = layout(curveSens);
+    layout.writeRows(0, layout.rowCount, output);
+  }
+
+  /**
+   * Write sensitivities in the standard sensitivities format, split into chunks that are written in parallel.
+   * <p>
+   * This is intended for writing a large number of sensitivities to a set of files, such as for
+   * exchanging data with a downstream risk aggregation system.
+   * Each chunk contains the header row and at most {@code maxRowsPerChunk} rows.
+   * The rows are in the same order as {@link #write(CurveSensitivities, Appendable)},
+   * thus concatenating the chunks without their header rows produces the same rows.
+   * At least one chunk is always written.
+   * <p>
+   * The output function is invoked with the zero-based chunk index, once for each chunk.
+   * It is invoked in parallel, thus must be thread-safe.
+   * If the returned appendable is also {@link Closeable}, it is closed once the chunk has been written.
+   *
+   * @param curveSens  the curve sensitivities to write
+   * @param maxRowsPerChunk  the maximum number of rows in each chunk, excluding the header row
+   * @param outputFn  the function that provides the appendable for each chunk
+   * @return the number of chunks written
+   * @throws IllegalArgumentException if the metadata does not contain tenors
+   * @throws UncheckedIOException if an IO error occurs
+   */
+  public int writeChunked(
+      CurveSensitivities curveSens,
+      int maxRowsPerChunk,
+      IntFunction<? extends Appendable> outputFn) {
+
+    ArgChecker.notNegativeOrZero(maxRowsPerChunk, "maxRowsPerChunk");
+    ArgChecker.notNull(outputFn, "outputFn");
+    Layout layout = layout(curveSens);
+    int chunkCount = Math.max((int) ((layout.rowCount + maxRowsPerChunk - 1L) / maxRowsPerChunk), 1);
+    IntStream.range(0, chunkCount).parallel().forEach(chunk -> {
+      Appendable output = outputFn.apply(chunk);
+      int startRow = chunk * maxRowsPerChunk;
+      layout.writeRows(startRow, Math.min(startRow + maxRowsPerChunk, layout.rowCount), output);
+      if (output instanceof Closeable) {
+        try {
+          ((Closeable) output).close();
+        } catch (IOException ex) {
+          throw new UncheckedIOException(ex);
+        }
+      }
+    });
+    return chunkCount;
+  }
+
+  //-------------------------------------------------------------------------
+  // validates the sensitivities and determines the layout of the output
+  private Layout layout(CurveSensitivities curveSens) {
     List<String> additionalHeaders = supplier.headers(curveSens);
 
     // check for dates
@@ -89,49 +159,151 @@ public final class SensitivityCsvWriter {
         .anyMatch(pmd -> pmd instanceof DatedParameterMetadata);
 
     // headers
-    csv.writeCell(SensitivityCsvLoader.REFERENCE_HEADER);
-    csv.writeCell(SensitivityCsvLoader.TYPE_HEADER);
-    csv.writeCell(SensitivityCsvLoader.TENOR_HEADER);
+    List<String> headers = new ArrayList<>();
+    headers.add(SensitivityCsvLoader.REFERENCE_HEADER);
+    headers.add(SensitivityCsvLoader.TYPE_HEADER);
+    headers.add(SensitivityCsvLoader.TENOR_HEADER);
     if (containsDates) {
-      csv.writeCell(SensitivityCsvLoader.DATE_HEADER);
+      headers.add(SensitivityCsvLoader.DATE_HEADER);
     }
-    csv.writeCell(SensitivityCsvLoader.CURRENCY_HEADER);
-    csv.writeCell(SensitivityCsvLoader.VALUE_HEADER);
-    csv.writeLine(additionalHeaders);
+    headers.add(SensitivityCsvLoader.CURRENCY_HEADER);
+    headers.add(SensitivityCsvLoader.VALUE_HEADER);
+    headers.addAll(additionalHeaders);
 
     // content, grouped by reference, then type
-    MapStream.of(curveSens.getTypedSensitivities())
+    // the text of each cell other than the value is determined once, as it is repeated on many rows
+    Map<ParameterMetadata, String> metadataCells = new HashMap<>();
+    List<Block> blocks = MapStream.of(curveSens.getTypedSensitivities())
         .flatMapValues(sens -> sens.getSensitivities().stream())
         .mapKeys((type, sens) -> Pair.of(sens.getMarketDataName().getName(), type))
         .sortedKeys()
-        .forEach((pair, paramSens) -> write(
-            pair.getFirst(), pair.getSecond(), curveSens, paramSens, additionalHeaders, containsDates, csv));
+        .map((pair, paramSens) -> new Block(
+            cells(ImmutableList.of(pair.getFirst(), pair.getSecond().getName())) + ',',
+            paramSens.getParameterMetadata().stream()
+                .map(pmd -> metadataCells.computeIfAbsent(pmd, k -> metadataCell(k, containsDates)))
+                .toArray(String[]::new),
+            ',' + cells(ImmutableList.of(paramSens.getCurrency().getCode())) + ',',
+            paramSens.getSensitivity().toArrayUnsafe(),
+            additionalCells(supplier.values(additionalHeaders, curveSens, paramSens))))
+        .collect(toImmutableList());
+    return new Layout(cells(headers) + NEW_LINE, blocks);
   }
 
-  // writes the rows for a single CurrencyParameterSensitivity
-  private void write(
-      String reference,
-      CurveSensitivitiesType type,
-      CurveSensitivities curveSens,
-      CurrencyParameterSensitivity paramSens,
-      List<String> additionalHeaders,
-      boolean containsDates,
-      CsvOutput csv) {
-
-    List<String> additionalCells = supplier.values(additionalHeaders, curveSens, paramSens);
-    for (int i = 0; i < paramSens.getParameterCount(); i++) {
-      ParameterMetadata pmd = paramSens.getParameterMetadata(i);
-      Tenor tenor = ((TenoredParameterMetadata) pmd).getTenor();
-      double value = paramSens.getSensitivity().get(i);
-      csv.writeCell(reference);
-      csv.writeCell(type.getName());
-      csv.writeCell(tenor.toString());
-      if (containsDates) {
-        csv.writeCell(pmd instanceof DatedParameterMetadata ? ((DatedParameterMetadata) pmd).getDate().toString() : "");
+  // the tenor and date cells for the metadata
+  private static String metadataCell(ParameterMetadata pmd, boolean containsDates) {
+    Tenor tenor = ((TenoredParameterMetadata) pmd).getTenor();
+    if (containsDates) {
+      String date = pmd instanceof DatedParameterMetadata ? ((DatedParameterMetadata) pmd).getDate().toString() : "";
+      return cells(ImmutableList.of(tenor.toString(), date));
+    }
+    return cells(ImmutableList.of(tenor.toString()));
+  }
+
+  // the additional cells, including the leading separator and the new line
+  private static String additionalCells(List<String> additionalCells) {
+    return additionalCells.isEmpty() ? NEW_LINE : ',' + cells(additionalCells) + NEW_LINE;
+  }
+
+  // formats cells as CSV, quoting where necessary
+  private static String cells(List<String> cells) {
+    StringBuilder buf = new StringBuilder();
+    CsvOutput.standard(buf, NEW_LINE).writeLine(cells);
+    return buf.substring(0, buf.length() - NEW_LINE.length());
+  }
+
+  // formats the value as a plain decimal
+  // Double.toString() is the same as BigDecimal.toPlainString() unless it uses an exponent, or the value is zero
+  private static void appendValue(double value, StringBuilder buf) {
+    if (value != 0 && Double.isFinite(value)) {
+      String str = Double.toString(value);
+      if (str.indexOf('E') < 0) {
+        buf.append(str);
+        return;
       }
-      csv.writeCell(paramSens.getCurrency().getCode());
-      csv.writeCell(BigDecimal.valueOf(value).toPlainString());
-      csv.writeLine(additionalCells);
+    }
+    buf.append(BigDecimal.valueOf(value).toPlainString());
+  }
+
+  //-------------------------------------------------------------------------
+  // the rows to be written, with the text of the repeated cells
+  private static final class Layout {
+    private final String headerLine;
+    private final List<Block> blocks;
+    private final int[] blockStartRows;
+    private final int rowCount;
+
+    private Layout(String headerLine, List<Block> blocks) {
+      this.headerLine = headerLine;
+      this.blocks = blocks;
+      this.blockStartRows = new int[blocks.size()];
+      int rows = 0;
+      for (int i = 0; i < blocks.size(); i++) {
+        blockStartRows[i] = rows;
+        rows = Math.addExact(rows, blocks.get(i).values.length);
+      }
+      this.rowCount = rows;
+    }
+
+    // writes the header row and the rows from start inclusive to end exclusive
+    // rows are formatted into a buffer which is flushed to the output periodically
+    private void writeRows(int startRow, int endRow, Appendable output) {
+      StringBuilder buf = new StringBuilder(FLUSH_SIZE + 1024);
+      buf.append(headerLine);
+      try {
+        int blockIndex = findBlock(startRow);
+        int row = startRow;
+        while (row < endRow) {
+          Block block = blocks.get(blockIndex);
+          int blockStartRow = blockStartRows[blockIndex];
+          int blockEnd = Math.min(block.values.length, endRow - blockStartRow);
+          for (int i = row - blockStartRow; i < blockEnd; i++) {
+            buf.append(block.prefix)
+                .append(block.metadataCells[i])
+                .append(block.currencyCell);
+            appendValue(block.values[i], buf);
+            buf.append(block.suffix);
+            if (buf.length() > FLUSH_SIZE) {
+              output.append(buf);
+              buf.setLength(0);
+            }
+          }
+          row = blockStartRow + blockEnd;
+          blockIndex++;
+        }
+        output.append(buf);
+      } catch (IOException ex) {
+        throw new UncheckedIOException(ex);
+      }
+    }
+
+    // finds the block containing the row
+    private int findBlock(int row) {
+      int index = Arrays.binarySearch(blockStartRows, row);
+      if (index >= 0) {
+        // skip empty blocks, which share a start row with the following block
+        while (index + 1 < blockStartRows.length && blockStartRows[index + 1] == row) {
+          index++;
+        }
+        return index;
+      }
+      return -index - 2;
+    }
+  }
+
+  // the rows for a single CurrencyParameterSensitivity
+  private static final class Block {
+    private final String prefix;
+    private final String[] metadataCells;
+    private final String currencyCell;
+    private final double[] values;
+    private final String suffix;
+
+    private Block(String prefix, String[] metadataCells, String currencyCell, double[] values, String suffix) {
+      this.prefix = prefix;
+      this.metadataCells = metadataCells;
+      this.currencyCell = currencyCell;
+      this.values = values;
+      this.suffix = suffix;
     }
   }
 
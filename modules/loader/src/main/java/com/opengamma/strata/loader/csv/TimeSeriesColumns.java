@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.loader.csv;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import com.google.common.collect.ImmutableMap;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+
+/**
+ * Mutable columns of dates and values, keyed by identifier, used to build time-series.
+ * <p>
+ * Each identifier has a column of epoch days and a column of values, held as primitive arrays.
+ * Points may be added in any order, and columns from different files may be appended.
+ * The time-series are built by sorting each column once, which avoids the boxing and
+ * intermediate copies of merging maps.
+ * <p>
+ * This class is mutable and not thread-safe.
+ *
+ * @param <K>  the type of the identifier
+ */
+final class TimeSeriesColumns<K> {
+
+  /**
+   * The initial capacity of each column.
+   */
+  private static final int INITIAL_CAPACITY = 16;
+
+  /**
+   * The columns, keyed by identifier.
+   */
+  private final Map<K, Column> columns = new LinkedHashMap<>();
+
+  //-------------------------------------------------------------------------
+  // adds a point
+  void add(K key, LocalDate date, double value) {
+    columns.computeIfAbsent(key, k -> new Column(INITIAL_CAPACITY)).add(date.toEpochDay(), value);
+  }
+
+  // appends the points of another instance to this one, which must not be used afterwards
+  void addAll(TimeSeriesColumns<K> other) {
+    for (Entry<K, Column> entry : other.columns.entrySet()) {
+      Column existing = columns.get(entry.getKey());
+      if (existing == null) {
+        columns.put(entry.getKey(), entry.getValue());
+      } else {
+        existing.addAll(entry.getValue());
+      }
+    }
+  }
+
+  // builds the time-series
+  // if duplicates are allowed, the last point added for a date wins, otherwise an exception is thrown
+  ImmutableMap<K, LocalDateDoubleTimeSeries> toTimeSeries(boolean allowDuplicates) {
+    ImmutableMap.Builder<K, LocalDateDoubleTimeSeries> builder = ImmutableMap.builder();
+    for (Entry<K, Column> entry : columns.entrySet()) {
+      builder.put(entry.getKey(), entry.getValue().toTimeSeries(entry.getKey(), allowDuplicates));
+    }
+    return builder.build();
+  }
+
+  //-------------------------------------------------------------------------
+  // a single column of dates and values
+  private static final class Column {
+    private long[] epochDays;
+    private double[] values;
+    private int size;
+
+    private Column(int capacity) {
+      this.epochDays = new long[capacity];
+      this.values = new double[capacity];
+    }
+
+    // adds a point
+    private void add(long epochDay, double value) {
+      if (size == epochDays.length) {
+        grow(size + 1);
+      }
+      epochDays[size] = epochDay;
+      values[size] = value;
+      size++;
+    }
+
+    // adds all points from another column
+    private void addAll(Column other) {
+      if (size + other.size > epochDays.length) {
+        grow(size + other.size);
+      }
+      System.arraycopy(other.epochDays, 0, epochDays, size, other.size);
+      System.arraycopy(other.values, 0, values, size, other.size);
+      size += other.size;
+    }
+
+    // grows the arrays
+    private void grow(int required) {
+      int capacity = Math.max(epochDays.length * 2, required);
+      epochDays = Arrays.copyOf(epochDays, capacity);
+      values = Arrays.copyOf(values, capacity);
+    }
+
+    // builds the time-series, sorting only if necessary
+    private LocalDateDoubleTimeSeries toTimeSeries(Object key, boolean allowDuplicates) {
+      boolean sorted = true;
+      for (int i = 1; i < size && sorted; i++) {
+        sorted = epochDays[i] > epochDays[i - 1];
+      }
+      if (sorted) {
+        LocalDate[] dates = new LocalDate[size];
+        for (int i = 0; i < size; i++) {
+          dates[i] = LocalDate.ofEpochDay(epochDays[i]);
+        }
+        return LocalDateDoubleTimeSeries.ofSorted(dates, Arrays.copyOf(values, size));
+      }
+      // sort by date, then by insertion order, by packing both into a single long
+      // epoch days always fit in 32 bits, and the insertion order is non-negative
+      long[] order = new long[size];
+      for (int i = 0; i < size; i++) {
+        order[i] = (epochDays[i] << 32) | i;
+      }
+      Arrays.sort(order);
+      LocalDate[] dates = new LocalDate[size];
+      double[] sortedValues = new double[size];
+      int count = 0;
+      long lastEpochDay = 0;
+      for (int i = 0; i < size; i++) {
+        int index = (int) order[i];
+        long epochDay = epochDays[index];
+        if (count > 0 && epochDay == lastEpochDay) {
+          if (!allowDuplicates) {
+            throw new IllegalArgumentException(Messages.format(
+                "Duplicate entry for '{}' on date {}", key, dates[count - 1]));
+          }
+          sortedValues[count - 1] = values[index];
+        } else {
+          dates[count] = LocalDate.ofEpochDay(epochDay);
+          sortedValues[count] = values[index];
+          lastEpochDay = epochDay;
+          count++;
+        }
+      }
+      return LocalDateDoubleTimeSeries.ofSorted(Arrays.copyOf(dates, count), Arrays.copyOf(sortedValues, count));
+    }
+  }
+
+}
@@ -15,6 +15,9 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.io.CharSource;
@@ -203,6 +206,8 @@ import com.opengamma.strata.product.swaption.SwaptionTrade;
  */
 public final class TradeCsvLoader {
 
+  // default number of trades in each batch when streaming
+  private static final int DEFAULT_BATCH_SIZE = 1000;
   // default schemes
   private static final String DEFAULT_TRADE_SCHEME = "OG-Trade";
   private static final String DEFAULT_CPTY_SCHEME = "OG-Counterparty";
@@ -432,6 +437,100 @@ public final class TradeCsvLoader {
     }
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Parses a CSV format trade file as a stream with a quiet type filter.
+   * <p>
+   * This is intended for large files where the complete list of trades should not be held in memory.
+   * The file is read incrementally, with batches of rows parsed in parallel.
+   * The trades are returned in the order of the file.
+   * <p>
+   * A type is specified to filter the trades.
+   * Trades that do not match the type are silently dropped.
+   * Failures are passed to the failure consumer as the stream is consumed, in the order of the file.
+   * <p>
+   * The stream must be closed to release the underlying file, typically using try-with-resources.
+   * Parsing occurs on the common fork-join pool, thus the resolver must be thread-safe.
+   * <p>
+   * CSV files sometimes contain a Unicode Byte Order Mark.
+   * Callers are responsible for handling this, such as by using {@link UnicodeBom}.
+   * 
+   * @param <T>  the trade type
+   * @param charSource  the CSV character source
+   * @param tradeType  the trade type to return
+   * @param failureConsumer  the consumer of failures
+   * @return the stream of trades, which must be closed
+   */
+  public <T extends Trade> Stream<T> parseStream(
+      CharSource charSource,
+      Class<T> tradeType,
+      Consumer<FailureItem> failureConsumer) {
+
+    return parseBatches(charSource, tradeType, DEFAULT_BATCH_SIZE, failureConsumer)
+        .flatMap(List::stream);
+  }
+
+  /**
+   * Parses a CSV format trade file as a stream of batches with a quiet type filter.
+   * <p>
+   * This is intended for large files where the complete list of trades should not be held in memory.
+   * The file is read incrementally, with batches of rows parsed in parallel.
+   * Each batch contains the trades parsed from the specified number of trades in the file.
+   * The batches are returned in the order of the file.
+   * <p>
+   * A type is specified to filter the trades.
+   * Trades that do not match the type are silently dropped.
+   * Failures are passed to the failure consumer as the stream is consumed, in the order of the file.
+   * <p>
+   * The stream must be closed to release the underlying file, typically using try-with-resources.
+   * Parsing occurs on the common fork-join pool, thus the resolver must be thread-safe.
+   * <p>
+   * CSV files sometimes contain a Unicode Byte Order Mark.
+   * Callers are responsible for handling this, such as by using {@link UnicodeBom}.
+   * 
+   * @param <T>  the trade type
+   * @param charSource  the CSV character source
+   * @param tradeType  the trade type to return
+   * @param batchSize  the maximum number of trades in the file to parse in each batch
+   * @param failureConsumer  the consumer of failures
+   * @return the stream of trade batches, which must be closed
+   */
+  public <T extends Trade> Stream<List<T>> parseBatches(
+      CharSource charSource,
+      Class<T> tradeType,
+      int batchSize,
+      Consumer<FailureItem> failureConsumer) {
+
+    ArgChecker.notNull(charSource, "charSource");
+    ArgChecker.notNull(tradeType, "tradeType");
+    ArgChecker.notNegativeOrZero(batchSize, "batchSize");
+    ArgChecker.notNull(failureConsumer, "failureConsumer");
+    CsvIterator csv;
+    try {
+      csv = CsvIterator.of(charSource, true);
+    } catch (RuntimeException ex) {
+      failureConsumer.accept(FailureItem.of(
+          FailureReason.PARSING, ex, "CSV file could not be parsed: {exceptionMessage}: {}", ex.getMessage(), charSource));
+      return Stream.empty();
+    }
+    if (!csv.headers().contains(TYPE_FIELD)) {
+      csv.close();
+      failureConsumer.accept(FailureItem.of(
+          FailureReason.PARSING, "CSV file does not contain '{header}' header: {}", TYPE_FIELD, charSource));
+      return Stream.empty();
+    }
+    int maxPendingBatches = Math.max(2, ForkJoinPool.getCommonPoolParallelism() * 2);
+    return ParallelCsvBatchIterator.stream(
+        csv,
+        TradeCsvLoader::nextRowGroup,
+        batchSize,
+        rowGroups -> parseRowGroups(rowGroups, tradeType),
+        failureConsumer,
+        ForkJoinPool.commonPool(),
+        maxPendingBatches);
+  }
+
+  //-------------------------------------------------------------------------
   // loads a single CSV file, filtering by trade type
   private <T extends Trade> ValueWithFailures<List<T>> parseFile(CharSource charSource, Class<T> tradeType) {
     try (CsvIterator csv = CsvIterator.of(charSource, true)) {
@@ -454,128 +553,202 @@ public final class TradeCsvLoader {
   private <T extends Trade> ValueWithFailures<List<T>> parseFile(CsvIterator csv, Class<T> tradeType) {
     List<T> trades = new ArrayList<>();
     List<FailureItem> failures = new ArrayList<>();
-    for (CsvRow row : csv.asIterable()) {
-      try {
-        String typeRaw = row.getField(TYPE_FIELD);
-        TradeInfo info = parseTradeInfo(row);
-        String typeUpper = typeRaw.toUpperCase(Locale.ENGLISH);
-        // allow type matching to be overridden
-        Optional<Trade> overrideOpt = resolver.overrideParseTrade(typeUpper, row, info);
-        if (overrideOpt.isPresent()) {
-          if (tradeType.isInstance(overrideOpt.get())) {
-            trades.add(tradeType.cast(overrideOpt.get()));
+    while (csv.hasNext()) {
+      parseRowGroup(nextRowGroup(csv), tradeType, trades, failures);
+    }
+    return ValueWithFailures.of(trades, failures);
+  }
+
+  // loads a batch of row groups, called in parallel when streaming
+  private <T extends Trade> ValueWithFailures<List<T>> parseRowGroups(List<List<CsvRow>> rowGroups, Class<T> tradeType) {
+    List<T> trades = new ArrayList<>(rowGroups.size());
+    List<FailureItem> failures = new ArrayList<>();
+    for (List<CsvRow> rowGroup : rowGroups) {
+      parseRowGroup(rowGroup, tradeType, trades, failures);
+    }
+    return ValueWithFailures.of(trades, failures);
+  }
+
+  // reads the next group of rows, which is a trade row followed by any 'Variable' rows
+  private static List<CsvRow> nextRowGroup(CsvIterator csv) {
+    CsvRow first = csv.next();
+    if (!csv.hasNext() || !isVariableRow(csv.peek())) {
+      return ImmutableList.of(first);
+    }
+    List<CsvRow> rowGroup = new ArrayList<>();
+    rowGroup.add(first);
+    while (csv.hasNext() && isVariableRow(csv.peek())) {
+      rowGroup.add(csv.next());
+    }
+    return rowGroup;
+  }
+
+  // checks if the row is a 'Variable' row
+  private static boolean isVariableRow(CsvRow row) {
+    return row.findValue(TYPE_FIELD).map(type -> type.toUpperCase(Locale.ENGLISH).equals("VARIABLE")).orElse(false);
+  }
+
+  // loads a single trade from a group of rows
+  // 'Variable' rows following the trade row are only valid for 'Swap' and 'Swaption' trades
+  private <T extends Trade> void parseRowGroup(
+      List<CsvRow> rowGroup,
+      Class<T> tradeType,
+      List<T> trades,
+      List<FailureItem> failures) {
+
+    CsvRow row = rowGroup.get(0);
+    List<CsvRow> variableRows = rowGroup.subList(1, rowGroup.size());
+    boolean variableRowsUsed = false;
+    try {
+      variableRowsUsed = parseTrade(row, variableRows, tradeType, trades, failures);
+    } catch (RuntimeException ex) {
+      failures.add(tradeFailure(row, ex));
+    }
+    if (!variableRowsUsed) {
+      for (CsvRow variableRow : variableRows) {
+        failures.add(variableRowFailure(variableRow));
+      }
+    }
+  }
+
+  // creates the failure for a trade that could not be parsed
+  private static FailureItem tradeFailure(CsvRow row, RuntimeException ex) {
+    return FailureItem.of(
+        FailureReason.PARSING,
+        ex,
+        "CSV file trade could not be parsed at line {lineNumber}: {exceptionMessage}",
+        row.lineNumber(),
+        ex.getMessage());
+  }
+
+  // creates the failure for a 'Variable' row that is not part of a trade
+  private static FailureItem variableRowFailure(CsvRow row) {
+    return FailureItem.of(
+        FailureReason.PARSING,
+        "CSV file contained a 'Variable' type at line {lineNumber} that was not preceeded by a 'Swap' or 'Swaption'",
+        row.lineNumber());
+  }
+
+  // loads a single trade, returning true if the variable rows were used
+  private <T extends Trade> boolean parseTrade(
+      CsvRow row,
+      List<CsvRow> variableRows,
+      Class<T> tradeType,
+      List<T> trades,
+      List<FailureItem> failures) {
+
+    String typeRaw = row.getField(TYPE_FIELD);
+    TradeInfo info = parseTradeInfo(row);
+    String typeUpper = typeRaw.toUpperCase(Locale.ENGLISH);
+    // allow type matching to be overridden
+    Optional<Trade> overrideOpt = resolver.overrideParseTrade(typeUpper, row, info);
+    if (overrideOpt.isPresent()) {
+      if (tradeType.isInstance(overrideOpt.get())) {
+        trades.add(tradeType.cast(overrideOpt.get()));
+      }
+      return false;
+    }
+    // standard type matching
+    switch (typeUpper) {
+      case "FRA":
+        if (tradeType == FraTrade.class || tradeType == Trade.class) {
+          trades.add(tradeType.cast(resolver.parseFraTrade(row, info)));
+        }
+        break;
+      case "SECURITY":
+        if (tradeType == SecurityTrade.class || tradeType == GenericSecurityTrade.class ||
+            tradeType == ResolvableSecurityTrade.class || tradeType == Trade.class) {
+          SecurityQuantityTrade parsed = resolver.parseSecurityTrade(row, info);
+          if (tradeType.isInstance(parsed)) {
+            trades.add(tradeType.cast(parsed));
           }
-          continue;
         }
-        // standard type matching
-        switch (typeUpper) {
-          case "FRA":
-            if (tradeType == FraTrade.class || tradeType == Trade.class) {
-              trades.add(tradeType.cast(resolver.parseFraTrade(row, info)));
-            }
-            break;
-          case "SECURITY":
-            if (tradeType == SecurityTrade.class || tradeType == GenericSecurityTrade.class ||
-                tradeType == ResolvableSecurityTrade.class || tradeType == Trade.class) {
-              SecurityQuantityTrade parsed = resolver.parseSecurityTrade(row, info);
-              if (tradeType.isInstance(parsed)) {
-                trades.add(tradeType.cast(parsed));
-              }
-            }
-            break;
-          case "SWAP":
-            if (tradeType == SwapTrade.class || tradeType == Trade.class) {
-              List<CsvRow> variableRows = new ArrayList<>();
-              while (csv.hasNext() && csv.peek().getField(TYPE_FIELD).toUpperCase(Locale.ENGLISH).equals("VARIABLE")) {
-                variableRows.add(csv.next());
-              }
-              trades.add(tradeType.cast(resolver.parseSwapTrade(row, variableRows, info)));
-            }
-            break;
-          case "SWAPTION":
-            if (tradeType == SwaptionTrade.class || tradeType == Trade.class) {
-              List<CsvRow> variableRows = new ArrayList<>();
-              while (csv.hasNext() && csv.peek().getField(TYPE_FIELD).toUpperCase(Locale.ENGLISH).equals("VARIABLE")) {
-                variableRows.add(csv.next());
-              }
-              trades.add(tradeType.cast(resolver.parseSwaptionTrade(row, variableRows, info)));
-            }
-            break;
-          case "BULLET":
-          case "BULLETPAYMENT":
-          case "BULLET PAYMENT":
-            if (tradeType == BulletPaymentTrade.class || tradeType == Trade.class) {
-              trades.add(tradeType.cast(resolver.parseBulletPaymentTrade(row, info)));
-            }
-            break;
-          case "TERMDEPOSIT":
-          case "TERM DEPOSIT":
-            if (tradeType == TermDepositTrade.class || tradeType == Trade.class) {
-              trades.add(tradeType.cast(resolver.parseTermDepositTrade(row, info)));
-            }
-            break;
-          case "VARIABLE":
-            failures.add(FailureItem.of(
-                FailureReason.PARSING,
-                "CSV file contained a 'Variable' type at line {lineNumber} that was not preceeded by a 'Swap' or 'Swaption'",
-                row.lineNumber()));
-            break;
-          case "FX":
-          case "FXSINGLE":
-          case "FX SINGLE":
-            if (tradeType == FxSingleTrade.class || tradeType == FxTrade.class || tradeType == Trade.class) {
-              trades.add(tradeType.cast(resolver.parseFxSingleTrade(row, info)));
-            }
-            break;
-          case "FXSWAP":
-          case "FX SWAP":
-            if (tradeType == FxSwapTrade.class || tradeType == FxTrade.class || tradeType == Trade.class) {
-              trades.add(tradeType.cast(resolver.parseFxSwapTrade(row, info)));
-            }
-            break;
-          case "FXVANILLAOPTION":
-          case "FX VANILLA OPTION":
-            if (tradeType == FxVanillaOptionTrade.class || tradeType == FxTrade.class || tradeType == Trade.class) {
-              trades.add(tradeType.cast(resolver.parseFxVanillaOptionTrade(row, info)));
-            }
-            break;
-          case "CDS":
-            if (tradeType == CdsTrade.class || tradeType == Trade.class) {
-              trades.add(tradeType.cast(resolver.parseCdsTrade(row, info)));
-            }
-            break;
-          case "CDSINDEX":
-          case "CDS INDEX":
-            if (tradeType == CdsIndexTrade.class || tradeType == Trade.class) {
-              trades.add(tradeType.cast(resolver.parseCdsIndexTrade(row, info)));
-            }
-            break;
-          default:
-            // type is not a standard one
-            Optional<Trade> parsedOpt = resolver.parseOtherTrade(typeUpper, row, info);
-            if (parsedOpt.isPresent()) {
-              if (tradeType.isInstance(parsedOpt.get())) {
-                trades.add(tradeType.cast(parsedOpt.get()));
-              }
-            } else {
-              failures.add(FailureItem.of(
-                  FailureReason.PARSING,
-                  "CSV file trade type '{tradeType}' is not known at line {lineNumber}",
-                  typeRaw,
-                  row.lineNumber()));
-            }
-            break;
+        break;
+      case "SWAP":
+        if (tradeType == SwapTrade.class || tradeType == Trade.class) {
+          // the variable rows belong to this trade, even if parsing fails
+          try {
+            trades.add(tradeType.cast(resolver.parseSwapTrade(row, variableRows, info)));
+          } catch (RuntimeException ex) {
+            failures.add(tradeFailure(row, ex));
+          }
+          return true;
         }
-      } catch (RuntimeException ex) {
-        failures.add(FailureItem.of(
-            FailureReason.PARSING,
-            ex,
-            "CSV file trade could not be parsed at line {lineNumber}: {exceptionMessage}",
-            row.lineNumber(),
-            ex.getMessage()));
-      }
+        break;
+      case "SWAPTION":
+        if (tradeType == SwaptionTrade.class || tradeType == Trade.class) {
+          // the variable rows belong to this trade, even if parsing fails
+          try {
+            trades.add(tradeType.cast(resolver.parseSwaptionTrade(row, variableRows, info)));
+          } catch (RuntimeException ex) {
+            failures.add(tradeFailure(row, ex));
+          }
+          return true;
+        }
+        break;
+      case "BULLET":
+      case "BULLETPAYMENT":
+      case "BULLET PAYMENT":
+        if (tradeType == BulletPaymentTrade.class || tradeType == Trade.class) {
+          trades.add(tradeType.cast(resolver.parseBulletPaymentTrade(row, info)));
+        }
+        break;
+      case "TERMDEPOSIT":
+      case "TERM DEPOSIT":
+        if (tradeType == TermDepositTrade.class || tradeType == Trade.class) {
+          trades.add(tradeType.cast(resolver.parseTermDepositTrade(row, info)));
+        }
+        break;
+      case "VARIABLE":
+        failures.add(variableRowFailure(row));
+        break;
+      case "FX":
+      case "FXSINGLE":
+      case "FX SINGLE":
+        if (tradeType == FxSingleTrade.class || tradeType == FxTrade.class || tradeType == Trade.class) {
+          trades.add(tradeType.cast(resolver.parseFxSingleTrade(row, info)));
+        }
+        break;
+      case "FXSWAP":
+      case "FX SWAP":
+        if (tradeType == FxSwapTrade.class || tradeType == FxTrade.class || tradeType == Trade.class) {
+          trades.add(tradeType.cast(resolver.parseFxSwapTrade(row, info)));
+        }
+        break;
+      case "FXVANILLAOPTION":
+      case "FX VANILLA OPTION":
+        if (tradeType == FxVanillaOptionTrade.class || tradeType == FxTrade.class || tradeType == Trade.class) {
+          trades.add(tradeType.cast(resolver.parseFxVanillaOptionTrade(row, info)));
+        }
+        break;
+      case "CDS":
+        if (tradeType == CdsTrade.class || tradeType == Trade.class) {
+          trades.add(tradeType.cast(resolver.parseCdsTrade(row, info)));
+        }
+        break;
+      case "CDSINDEX":
+      case "CDS INDEX":
+        if (tradeType == CdsIndexTrade.class || tradeType == Trade.class) {
+          trades.add(tradeType.cast(resolver.parseCdsIndexTrade(row, info)));
+        }
+        break;
+      default:
+        // type is not a standard one
+        Optional<Trade> parsedOpt = resolver.parseOtherTrade(typeUpper, row, info);
+        if (parsedOpt.isPresent()) {
+          if (tradeType.isInstance(parsedOpt.get())) {
+            trades.add(tradeType.cast(parsedOpt.get()));
+          }
+        } else {
+          failures.add(FailureItem.of(
+              FailureReason.PARSING,
+              "CSV file trade type '{tradeType}' is not known at line {lineNumber}",
+              typeRaw,
+              row.lineNumber()));
+        }
+        break;
     }
-    return ValueWithFailures.of(trades, failures);
+    return false;
   }
 
   // parse the trade info
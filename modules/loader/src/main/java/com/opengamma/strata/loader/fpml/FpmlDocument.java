@@ -13,6 +13,8 @@ import java.time.Period;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -252,6 +254,37 @@ public final class FpmlDocument {
     this.strictValidation = strictValidation;
   }
 
+  // creates an instance for a different root, reusing the parsed parties
+  private FpmlDocument(FpmlDocument base, XmlElement fpmlRootEl, Map<String, XmlElement> references) {
+    this.fpmlRoot = fpmlRootEl;
+    this.references = ImmutableMap.copyOf(references);
+    this.parties = base.parties;
+    this.ourPartyHrefIds = base.ourPartyHrefIds;
+    this.tradeInfoParser = base.tradeInfoParser;
+    this.refData = base.refData;
+    this.strictValidation = base.strictValidation;
+  }
+
+  /**
+   * Returns a document for a single trade, reusing the parties of this document.
+   * <p>
+   * This is used when streaming, where each trade is parsed separately from the parties.
+   * The FpML root of the result contains the parties of this document and the trade.
+   * The references of the result are those of this document combined with those of the trade.
+   *
+   * @param tradeEl  the trade element
+   * @param tradeReferences  the map of id/href to referenced element within the trade
+   * @return the document for the trade
+   */
+  FpmlDocument withTrade(XmlElement tradeEl, Map<String, XmlElement> tradeReferences) {
+    List<XmlElement> children = new ArrayList<>(fpmlRoot.getChildren("party"));
+    children.add(tradeEl);
+    XmlElement tradeRoot = XmlElement.ofChildren(fpmlRoot.getName(), fpmlRoot.getAttributes(), children);
+    Map<String, XmlElement> combined = new HashMap<>(references);
+    combined.putAll(tradeReferences);
+    return new FpmlDocument(this, tradeRoot, combined);
+  }
+
   // parse all the root-level party elements
   private static ImmutableListMultimap<String, String> parseParties(XmlElement root) {
     ListMultimap<String, String> parties = ArrayListMultimap.create();
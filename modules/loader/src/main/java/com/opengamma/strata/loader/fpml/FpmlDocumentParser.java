@@ -5,23 +5,35 @@
  */
 package com.opengamma.strata.loader.fpml;
 
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
 import static com.opengamma.strata.collect.Guavate.toImmutableSet;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.io.ByteSource;
 import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.concurrent.OrderedFutureIterator;
 import com.opengamma.strata.collect.io.XmlElement;
 import com.opengamma.strata.collect.io.XmlFile;
 import com.opengamma.strata.collect.named.ExtendedEnum;
+import com.opengamma.strata.collect.tuple.Pair;
 import com.opengamma.strata.product.Trade;
 
 /**
@@ -36,12 +48,23 @@ import com.opengamma.strata.product.Trade;
 public final class FpmlDocumentParser {
   // Notes: Streaming trades directly from the file is difficult due to the
   // need to parse the party element at the root, which is after the trades
+  // As such, streaming reads the file twice, once for the parties and once for the trades
 
   /**
    * The lookup of trade parsers.
    */
   static final ExtendedEnum<FpmlParserPlugin> ENUM_LOOKUP = ExtendedEnum.of(FpmlParserPlugin.class);
 
+  /**
+   * The maximum depth of a party element below the document root when streaming, allowing for two levels of wrapper.
+   */
+  private static final int MAX_PARTY_DEPTH = 3;
+  /**
+   * The maximum depth of a trade element below the document root when streaming, allowing for two levels of wrapper
+   * and two levels of clearing elements.
+   */
+  private static final int MAX_TRADE_DEPTH = 5;
+
   /**
    * The selector used to find "our" party within the set of parties in the FpML document.
    */
@@ -300,6 +323,131 @@ public final class FpmlDocumentParser {
     return parseTrades(root, xmlFile.getReferences());
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Parses FpML from the specified source, streaming the trades.
+   * <p>
+   * This parses the specified byte source which must be an XML document.
+   * Unlike {@link #parseTrades(ByteSource)}, the whole document is not held in memory.
+   * Instead, the source is read twice, firstly to find the parties, then to parse each trade in turn.
+   * Each {@code <trade>} element is read, passed to the matching {@link FpmlParserPlugin} and then discarded.
+   * <p>
+   * Sometimes, the FpML document is embedded in a non-FpML wrapper.
+   * As with {@link #parseTrades(ByteSource)}, the parties and trades may be found up to two levels
+   * below the root, with the trades optionally nested within clearing elements.
+   * Since the tree is not available, the FpML root is identified by the names of the elements leading to it.
+   * <p>
+   * References are resolved against the parties and the elements within the same trade.
+   * A reference from one trade to an element in another trade is not supported.
+   * <p>
+   * The stream must be closed to close the underlying source, such as by using try-with-resources.
+   * 
+   * @param source  the source of the FpML XML document
+   * @return the stream of parsed trades
+   * @throws RuntimeException if a parse error occurred
+   */
+  public Stream<Trade> streamTrades(ByteSource source) {
+    return streamTrades(source, Runnable::run, 1);
+  }
+
+  /**
+   * Parses FpML from the specified source, streaming the trades and parsing them in parallel.
+   * <p>
+   * This behaves as per {@link #streamTrades(ByteSource)}, except that the trade parsers are invoked
+   * using the specified executor. The file is read on the thread consuming the stream, with up to
+   * {@code maxPendingTrades} trades being parsed ahead of the consumer.
+   * The trades are returned in the order they occur in the file.
+   * <p>
+   * The trade info parser, trade parsers and party selector must be thread-safe.
+   * 
+   * @param source  the source of the FpML XML document
+   * @param executor  the executor used to parse the trades
+   * @param maxPendingTrades  the maximum number of trades to parse ahead of the consumer
+   * @return the stream of parsed trades
+   * @throws RuntimeException if a parse error occurred
+   */
+  public Stream<Trade> streamTrades(ByteSource source, Executor executor, int maxPendingTrades) {
+    ArgChecker.notNull(source, "source");
+    ArgChecker.notNull(executor, "executor");
+    ArgChecker.notNegativeOrZero(maxPendingTrades, "maxPendingTrades");
+    Pair<FpmlDocument, List<String>> root = parseStreamingRoot(source);
+    FpmlDocument partyDocument = root.getFirst();
+    List<String> tradeParentPath = root.getSecond();
+    Stream<XmlFile> tradeFiles = XmlFile.streamElements(source, FpmlDocument.ID, path ->
+        path.size() == tradeParentPath.size() + 1 &&
+        path.get(path.size() - 1).equals("trade") &&
+        path.subList(0, path.size() - 1).equals(tradeParentPath));
+    OrderedFutureIterator<XmlFile, Trade> iterator = OrderedFutureIterator.of(
+        tradeFiles.iterator(),
+        file -> parseTrade(partyDocument.withTrade(file.getRoot(), file.getReferences()), file.getRoot()),
+        executor,
+        maxPendingTrades);
+    Spliterator<Trade> spliterator =
+        Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL);
+    return StreamSupport.stream(spliterator, false)
+        .onClose(iterator::close)
+        .onClose(tradeFiles::close);
+  }
+
+  // reads the parties, which are typically after the trades, and finds the path of the element containing the trades
+  // the FpML root is found as per findFpmlRoot(), except that elements are matched by the path of element names
+  private Pair<FpmlDocument, List<String>> parseStreamingRoot(ByteSource source) {
+    List<List<String>> partyParentPaths = new ArrayList<>();
+    Set<List<String>> tradeParentPaths = new LinkedHashSet<>();
+    List<XmlFile> partyFiles;
+    try (Stream<XmlFile> stream = XmlFile.streamElements(source, FpmlDocument.ID, path -> {
+      List<String> parentPath = path.subList(0, path.size() - 1);
+      String name = path.get(path.size() - 1);
+      if (name.equals("trade") && path.size() <= MAX_TRADE_DEPTH + 1) {
+        tradeParentPaths.add(ImmutableList.copyOf(parentPath));
+      } else if (name.equals("party") && path.size() <= MAX_PARTY_DEPTH + 1) {
+        partyParentPaths.add(ImmutableList.copyOf(parentPath));
+        return true;
+      }
+      return false;
+    })) {
+      partyFiles = stream.collect(toImmutableList());
+    }
+    // prefer the shallowest element with both parties and trades
+    Set<List<String>> rootPaths = new LinkedHashSet<>(partyParentPaths);
+    for (int rootSize = 1; rootSize <= MAX_PARTY_DEPTH; rootSize++) {
+      for (List<String> rootPath : rootPaths) {
+        if (rootPath.size() == rootSize) {
+          Optional<List<String>> tradeParentPath = findTradeParentPath(rootPath, tradeParentPaths);
+          if (tradeParentPath.isPresent()) {
+            List<XmlElement> partyEls = new ArrayList<>();
+            Map<String, XmlElement> references = new HashMap<>();
+            for (int i = 0; i < partyFiles.size(); i++) {
+              if (partyParentPaths.get(i).equals(rootPath)) {
+                partyEls.add(partyFiles.get(i).getRoot());
+                references.putAll(partyFiles.get(i).getReferences());
+              }
+            }
+            XmlElement partyRoot = XmlElement.ofChildren(rootPath.get(rootSize - 1), partyEls);
+            FpmlDocument document =
+                new FpmlDocument(partyRoot, references, ourPartySelector, tradeInfoParser, refData, strictValidation);
+            return Pair.of(document, tradeParentPath.get());
+          }
+        }
+      }
+    }
+    throw new FpmlParseException("Unable to find FpML root element");
+  }
+
+  // finds the element containing the trades, which is the root or a child or grandchild of the root, as per getFpmlRoot()
+  private static Optional<List<String>> findTradeParentPath(List<String> rootPath, Set<List<String>> tradeParentPaths) {
+    for (int extraSize = 0; extraSize <= 2; extraSize++) {
+      for (List<String> tradeParentPath : tradeParentPaths) {
+        if (tradeParentPath.size() == rootPath.size() + extraSize &&
+            tradeParentPath.subList(0, rootPath.size()).equals(rootPath)) {
+          return Optional.of(tradeParentPath);
+        }
+      }
+    }
+    return Optional.empty();
+  }
+
+  //-------------------------------------------------------------------------
   // intelligently finds the FpML root element
   private static XmlElement findFpmlRoot(XmlElement root) {
     XmlElement fpmlRoot = getFpmlRoot(root);
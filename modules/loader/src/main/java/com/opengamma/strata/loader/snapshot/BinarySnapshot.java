@@ -0,0 +1,330 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.loader.snapshot;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+import static com.opengamma.strata.loader.snapshot.BinarySnapshotWriter.CURVE_BEAN;
+import static com.opengamma.strata.loader.snapshot.BinarySnapshotWriter.CURVE_INTERPOLATED_NODAL;
+import static com.opengamma.strata.loader.snapshot.BinarySnapshotWriter.MAGIC;
+import static com.opengamma.strata.loader.snapshot.BinarySnapshotWriter.VALUE_BEAN;
+import static com.opengamma.strata.loader.snapshot.BinarySnapshotWriter.VALUE_DOUBLE;
+import static com.opengamma.strata.loader.snapshot.BinarySnapshotWriter.VERSION;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.io.ByteSource;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.index.Index;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.ImmutableMarketData;
+import com.opengamma.strata.data.ImmutableMarketDataBuilder;
+import com.opengamma.strata.data.MarketDataId;
+import com.opengamma.strata.data.ObservableId;
+import com.opengamma.strata.market.curve.Curve;
+import com.opengamma.strata.market.curve.CurveGroupName;
+import com.opengamma.strata.market.curve.CurveMetadata;
+import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
+import com.opengamma.strata.market.curve.RatesCurveGroup;
+import com.opengamma.strata.market.curve.interpolator.CurveExtrapolator;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolator;
+import com.opengamma.strata.product.Trade;
+
+/**
+ * A binary snapshot of trades and market data.
+ * <p>
+ * This reads snapshots written by {@link BinarySnapshotWriter}.
+ * Only the header and table of contents are read when the snapshot is opened.
+ * Each section is read from the underlying source when it is requested, thus
+ * an application only pays for the sections it uses.
+ * <p>
+ * This class is immutable and thread-safe provided the underlying source is.
+ */
+public final class BinarySnapshot {
+
+  /**
+   * The size of the header, containing the magic number, version and length of the table of contents.
+   */
+  private static final int HEADER_SIZE = 12;
+
+  /**
+   * The underlying source.
+   */
+  private final ByteSource source;
+  /**
+   * The sections, keyed by name.
+   */
+  private final ImmutableMap<String, Section> sections;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Opens a snapshot from the specified source.
+   * <p>
+   * This reads the header and table of contents, but not the content of the sections.
+   *
+   * @param source  the source of the snapshot
+   * @return the snapshot
+   * @throws IllegalArgumentException if the source is not a valid snapshot
+   * @throws UncheckedIOException if an IO error occurs
+   */
+  public static BinarySnapshot of(ByteSource source) {
+    ArgChecker.notNull(source, "source");
+    byte[] headerBytes = read(source, 0, HEADER_SIZE);
+    if (headerBytes.length < HEADER_SIZE) {
+      throw new IllegalArgumentException("Invalid snapshot, header is incomplete");
+    }
+    ByteBuffer header = ByteBuffer.wrap(headerBytes);
+    if (header.getInt() != MAGIC) {
+      throw new IllegalArgumentException("Invalid snapshot, header does not start with the expected bytes");
+    }
+    int version = header.getInt();
+    if (version != VERSION) {
+      throw new IllegalArgumentException(Messages.format("Unsupported snapshot format version: {}", version));
+    }
+    int tocLength = header.getInt();
+    byte[] tocBytes = read(source, HEADER_SIZE, tocLength);
+    ImmutableMap<String, Section> sections = decode(tocBytes, in -> {
+      int count = in.readVarInt();
+      ImmutableMap.Builder<String, Section> builder = ImmutableMap.builder();
+      for (int i = 0; i < count; i++) {
+        String name = in.readString();
+        SnapshotSectionType type = SnapshotSectionType.ofCode(in.readByte());
+        long offset = HEADER_SIZE + tocLength + in.readVarLong();
+        int length = in.readVarInt();
+        builder.put(name, new Section(type, offset, length));
+      }
+      return builder.build();
+    });
+    return new BinarySnapshot(source, sections);
+  }
+
+  // restricted constructor
+  private BinarySnapshot(ByteSource source, ImmutableMap<String, Section> sections) {
+    this.source = source;
+    this.sections = sections;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the names of the sections in the snapshot, in the order they were written.
+   *
+   * @return the section names
+   */
+  public ImmutableSet<String> getSectionNames() {
+    return sections.keySet();
+  }
+
+  /**
+   * Checks if the snapshot contains a section with the specified name.
+   *
+   * @param name  the section name
+   * @return true if the section exists
+   */
+  public boolean containsSection(String name) {
+    return sections.containsKey(name);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Reads a section containing a list of trades.
+   * <p>
+   * The trades are decoded in parallel.
+   *
+   * @param name  the section name
+   * @return the trades
+   * @throws IllegalArgumentException if the section does not exist, has the wrong type or is invalid
+   * @throws UncheckedIOException if an IO error occurs
+   */
+  public ImmutableList<Trade> readTrades(String name) {
+    List<byte[]> encoded = readSection(name, SnapshotSectionType.TRADES, in -> {
+      int count = in.readVarInt();
+      List<byte[]> list = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+        list.add(in.readBytes());
+      }
+      return list;
+    });
+    return encoded.parallelStream()
+        .map(bytes -> SnapshotInput.decodeBean(bytes, Trade.class))
+        .collect(toImmutableList());
+  }
+
+  /**
+   * Reads a section containing market data.
+   *
+   * @param name  the section name
+   * @return the market data
+   * @throws IllegalArgumentException if the section does not exist, has the wrong type or is invalid
+   * @throws UncheckedIOException if an IO error occurs
+   */
+  public ImmutableMarketData readMarketData(String name) {
+    return readSection(name, SnapshotSectionType.MARKET_DATA, in -> {
+      LocalDate valuationDate = in.readDate();
+      int count = in.readVarInt();
+      Map<MarketDataId<?>, Object> values = new LinkedHashMap<>();
+      for (int i = 0; i < count; i++) {
+        MarketDataId<?> id = in.readId();
+        int tag = in.readByte();
+        switch (tag) {
+          case VALUE_DOUBLE:
+            values.put(id, in.readDouble());
+            break;
+          case VALUE_BEAN:
+            values.put(id, in.readBean(Object.class));
+            break;
+          default:
+            throw new IllegalArgumentException(Messages.format("Invalid snapshot, unknown value type: {}", tag));
+        }
+      }
+      ImmutableMarketDataBuilder builder = ImmutableMarketData.builder(valuationDate)
+          .addValueMap(values);
+      readTimeSeries(in).forEach(builder::addTimeSeries);
+      return builder.build();
+    });
+  }
+
+  /**
+   * Reads a section containing a curve group.
+   *
+   * @param name  the section name
+   * @return the curve group
+   * @throws IllegalArgumentException if the section does not exist, has the wrong type or is invalid
+   * @throws UncheckedIOException if an IO error occurs
+   */
+  public RatesCurveGroup readCurveGroup(String name) {
+    return readSection(name, SnapshotSectionType.CURVE_GROUP, in -> {
+      CurveGroupName groupName = CurveGroupName.of(in.readString());
+      int discountCount = in.readVarInt();
+      Map<Currency, Curve> discountCurves = new LinkedHashMap<>();
+      for (int i = 0; i < discountCount; i++) {
+        discountCurves.put(Currency.of(in.readString()), readCurve(in));
+      }
+      int forwardCount = in.readVarInt();
+      Map<Index, Curve> forwardCurves = new LinkedHashMap<>();
+      for (int i = 0; i < forwardCount; i++) {
+        forwardCurves.put(Index.of(in.readString()), readCurve(in));
+      }
+      return RatesCurveGroup.of(groupName, discountCurves, forwardCurves);
+    });
+  }
+
+  /**
+   * Reads a section containing a map of time-series.
+   *
+   * @param name  the section name
+   * @return the time-series, keyed by identifier
+   * @throws IllegalArgumentException if the section does not exist, has the wrong type or is invalid
+   * @throws UncheckedIOException if an IO error occurs
+   */
+  public ImmutableMap<ObservableId, LocalDateDoubleTimeSeries> readTimeSeries(String name) {
+    return readSection(name, SnapshotSectionType.TIME_SERIES, BinarySnapshot::readTimeSeries);
+  }
+
+  //-------------------------------------------------------------------------
+  // reads and decodes a section, checking the type
+  private <T> T readSection(String name, SnapshotSectionType type, Function<SnapshotInput, T> decoder) {
+    ArgChecker.notNull(name, "name");
+    Section section = sections.get(name);
+    if (section == null) {
+      throw new IllegalArgumentException(Messages.format("Snapshot section not found: '{}'", name));
+    }
+    if (section.type != type) {
+      throw new IllegalArgumentException(Messages.format(
+          "Snapshot section '{}' has type {}, but {} was requested", name, section.type, type));
+    }
+    byte[] bytes = read(source, section.offset, section.length);
+    if (bytes.length != section.length) {
+      throw new IllegalArgumentException(Messages.format("Invalid snapshot, section '{}' is incomplete", name));
+    }
+    return decode(bytes, decoder);
+  }
+
+  // reads a map of time-series
+  private static ImmutableMap<ObservableId, LocalDateDoubleTimeSeries> readTimeSeries(SnapshotInput in) {
+    int count = in.readVarInt();
+    ImmutableMap.Builder<ObservableId, LocalDateDoubleTimeSeries> builder = ImmutableMap.builder();
+    for (int i = 0; i < count; i++) {
+      MarketDataId<?> id = in.readId();
+      if (!(id instanceof ObservableId)) {
+        throw new IllegalArgumentException(Messages.format("Invalid snapshot, time-series identifier is not observable: {}", id));
+      }
+      builder.put((ObservableId) id, in.readTimeSeries());
+    }
+    return builder.build();
+  }
+
+  // reads a curve
+  private static Curve readCurve(SnapshotInput in) {
+    int tag = in.readByte();
+    switch (tag) {
+      case CURVE_INTERPOLATED_NODAL:
+        CurveMetadata metadata = in.readBean(CurveMetadata.class);
+        DoubleArray xValues = DoubleArray.ofUnsafe(in.readDoubleArray());
+        DoubleArray yValues = DoubleArray.ofUnsafe(in.readDoubleArray());
+        CurveInterpolator interpolator = CurveInterpolator.of(in.readString());
+        CurveExtrapolator extrapolatorLeft = CurveExtrapolator.of(in.readString());
+        CurveExtrapolator extrapolatorRight = CurveExtrapolator.of(in.readString());
+        return InterpolatedNodalCurve.of(metadata, xValues, yValues, interpolator, extrapolatorLeft, extrapolatorRight);
+      case CURVE_BEAN:
+        return in.readBean(Curve.class);
+      default:
+        throw new IllegalArgumentException(Messages.format("Invalid snapshot, unknown curve type: {}", tag));
+    }
+  }
+
+  // decodes bytes, converting a premature end of data to an IllegalArgumentException
+  private static <T> T decode(byte[] bytes, Function<SnapshotInput, T> decoder) {
+    try {
+      return decoder.apply(new SnapshotInput(bytes));
+    } catch (BufferUnderflowException ex) {
+      throw new IllegalArgumentException("Invalid snapshot, unexpected end of data", ex);
+    }
+  }
+
+  // reads part of the source
+  private static byte[] read(ByteSource source, long offset, int length) {
+    try {
+      return source.slice(offset, length).read();
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "BinarySnapshot" + sections.keySet();
+  }
+
+  //-------------------------------------------------------------------------
+  // an entry in the table of contents
+  private static final class Section {
+    private final SnapshotSectionType type;
+    private final long offset;
+    private final int length;
+
+    private Section(SnapshotSectionType type, long offset, int length) {
+      this.type = type;
+      this.offset = offset;
+      this.length = length;
+    }
+  }
+
+}
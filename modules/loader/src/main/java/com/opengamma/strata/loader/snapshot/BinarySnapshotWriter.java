@@ -0,0 +1,288 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.loader.snapshot;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.index.Index;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.io.ArrayByteSource;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.collect.tuple.Pair;
+import com.opengamma.strata.data.ImmutableMarketData;
+import com.opengamma.strata.data.MarketDataId;
+import com.opengamma.strata.data.ObservableId;
+import com.opengamma.strata.market.curve.Curve;
+import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
+import com.opengamma.strata.market.curve.RatesCurveGroup;
+import com.opengamma.strata.product.Trade;
+
+/**
+ * Writes a binary snapshot of trades and market data.
+ * <p>
+ * A snapshot consists of a number of named sections, each of which holds a single type of data.
+ * Supported sections are lists of {@link Trade}, {@link ImmutableMarketData},
+ * {@link RatesCurveGroup} and maps of {@link LocalDateDoubleTimeSeries}.
+ * The snapshot can be read using {@link BinarySnapshot}, which loads each section on demand.
+ * <p>
+ * The format is designed to be fast to read and compact.
+ * Quote and index identifiers, quote values, time-series and the nodes of interpolated curves
+ * are written directly, with strings and identifiers written once per section.
+ * Other objects, including trades, are written using Joda-Beans binary format.
+ * <p>
+ * The format is versioned, and is intended for caching data between runs of the same application.
+ * It is not intended as a long-term storage format.
+ * <p>
+ * This class is mutable and not thread-safe.
+ */
+public final class BinarySnapshotWriter {
+
+  /**
+   * The bytes at the start of the file.
+   */
+  static final int MAGIC = 0x4F47534E;
+  /**
+   * The current version of the format.
+   */
+  static final int VERSION = 1;
+  /**
+   * Tag for a market data value that is a double.
+   */
+  static final int VALUE_DOUBLE = 1;
+  /**
+   * Tag for a market data value that is a Joda-Bean.
+   */
+  static final int VALUE_BEAN = 2;
+  /**
+   * Tag for a curve that is an interpolated nodal curve.
+   */
+  static final int CURVE_INTERPOLATED_NODAL = 1;
+  /**
+   * Tag for a curve that is a Joda-Bean.
+   */
+  static final int CURVE_BEAN = 2;
+
+  /**
+   * The encoded sections, keyed by name.
+   */
+  private final Map<String, Pair<SnapshotSectionType, byte[]>> sections = new LinkedHashMap<>();
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates an empty writer.
+   *
+   * @return the writer
+   */
+  public static BinarySnapshotWriter create() {
+    return new BinarySnapshotWriter();
+  }
+
+  // restricted constructor
+  private BinarySnapshotWriter() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Adds a section containing a list of trades.
+   * <p>
+   * Each trade is written using Joda-Beans binary format.
+   * The trades are encoded in parallel.
+   *
+   * @param name  the name of the section, unique within the snapshot
+   * @param trades  the trades
+   * @return this writer, for chaining
+   * @throws IllegalArgumentException if the name is already used, or a trade is not a Joda-Bean
+   */
+  public BinarySnapshotWriter addTrades(String name, List<? extends Trade> trades) {
+    ArgChecker.notNull(trades, "trades");
+    List<byte[]> encoded = trades.parallelStream()
+        .map(SnapshotOutput::encodeBean)
+        .collect(toImmutableList());
+    SnapshotOutput out = new SnapshotOutput();
+    out.writeVarInt(encoded.size());
+    for (byte[] bytes : encoded) {
+      out.writeBytes(bytes);
+    }
+    return addSection(name, SnapshotSectionType.TRADES, out);
+  }
+
+  /**
+   * Adds a section containing market data.
+   * <p>
+   * Values of type {@code Double} are written directly, other values are written using Joda-Beans binary format.
+   *
+   * @param name  the name of the section, unique within the snapshot
+   * @param marketData  the market data
+   * @return this writer, for chaining
+   * @throws IllegalArgumentException if the name is already used, or a value is not a Joda-Bean
+   */
+  public BinarySnapshotWriter addMarketData(String name, ImmutableMarketData marketData) {
+    ArgChecker.notNull(marketData, "marketData");
+    SnapshotOutput out = new SnapshotOutput();
+    out.writeDate(marketData.getValuationDate());
+    out.writeVarInt(marketData.getValues().size());
+    for (Entry<MarketDataId<?>, Object> entry : marketData.getValues().entrySet()) {
+      out.writeId(entry.getKey());
+      Object value = entry.getValue();
+      if (value instanceof Double) {
+        out.writeByte(VALUE_DOUBLE);
+        out.writeDouble((Double) value);
+      } else {
+        out.writeByte(VALUE_BEAN);
+        out.writeBean(value);
+      }
+    }
+    writeTimeSeries(out, marketData.getTimeSeries());
+    return addSection(name, SnapshotSectionType.MARKET_DATA, out);
+  }
+
+  /**
+   * Adds a section containing a curve group.
+   * <p>
+   * The nodes of each {@link InterpolatedNodalCurve} are written directly,
+   * other curves are written using Joda-Beans binary format.
+   *
+   * @param name  the name of the section, unique within the snapshot
+   * @param curveGroup  the curve group
+   * @return this writer, for chaining
+   * @throws IllegalArgumentException if the name is already used, or a curve is not a Joda-Bean
+   */
+  public BinarySnapshotWriter addCurveGroup(String name, RatesCurveGroup curveGroup) {
+    ArgChecker.notNull(curveGroup, "curveGroup");
+    SnapshotOutput out = new SnapshotOutput();
+    out.writeString(curveGroup.getName().getName());
+    out.writeVarInt(curveGroup.getDiscountCurves().size());
+    for (Entry<Currency, Curve> entry : curveGroup.getDiscountCurves().entrySet()) {
+      out.writeString(entry.getKey().getCode());
+      writeCurve(out, entry.getValue());
+    }
+    out.writeVarInt(curveGroup.getForwardCurves().size());
+    for (Entry<Index, Curve> entry : curveGroup.getForwardCurves().entrySet()) {
+      out.writeString(entry.getKey().getName());
+      writeCurve(out, entry.getValue());
+    }
+    return addSection(name, SnapshotSectionType.CURVE_GROUP, out);
+  }
+
+  /**
+   * Adds a section containing a map of time-series.
+   * <p>
+   * The dates and values of each time-series are written directly.
+   *
+   * @param name  the name of the section, unique within the snapshot
+   * @param timeSeries  the time-series, keyed by identifier
+   * @return this writer, for chaining
+   * @throws IllegalArgumentException if the name is already used, or an identifier cannot be written
+   */
+  public BinarySnapshotWriter addTimeSeries(
+      String name,
+      Map<? extends ObservableId, LocalDateDoubleTimeSeries> timeSeries) {
+
+    ArgChecker.notNull(timeSeries, "timeSeries");
+    SnapshotOutput out = new SnapshotOutput();
+    writeTimeSeries(out, timeSeries);
+    return addSection(name, SnapshotSectionType.TIME_SERIES, out);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Writes the snapshot to the specified output stream.
+   * <p>
+   * The output stream is not closed.
+   *
+   * @param out  the output stream
+   * @throws UncheckedIOException if an IO error occurs
+   */
+  public void write(OutputStream out) {
+    ArgChecker.notNull(out, "out");
+    SnapshotOutput toc = new SnapshotOutput();
+    toc.writeVarInt(sections.size());
+    long offset = 0;
+    for (Entry<String, Pair<SnapshotSectionType, byte[]>> entry : sections.entrySet()) {
+      toc.writeString(entry.getKey());
+      toc.writeByte(entry.getValue().getFirst().getCode());
+      toc.writeVarInt(offset);
+      toc.writeVarInt(entry.getValue().getSecond().length);
+      offset += entry.getValue().getSecond().length;
+    }
+    byte[] tocBytes = toc.toByteArray();
+    ByteBuffer header = ByteBuffer.allocate(12);
+    header.putInt(MAGIC).putInt(VERSION).putInt(tocBytes.length);
+    try {
+      out.write(header.array());
+      out.write(tocBytes);
+      for (Pair<SnapshotSectionType, byte[]> section : sections.values()) {
+        out.write(section.getSecond());
+      }
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  /**
+   * Writes the snapshot to a byte source.
+   *
+   * @return the byte source containing the snapshot
+   */
+  public ArrayByteSource toByteSource() {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    write(baos);
+    return ArrayByteSource.ofUnsafe(baos.toByteArray());
+  }
+
+  //-------------------------------------------------------------------------
+  // adds a section
+  private BinarySnapshotWriter addSection(String name, SnapshotSectionType type, SnapshotOutput out) {
+    ArgChecker.notEmpty(name, "name");
+    if (sections.containsKey(name)) {
+      throw new IllegalArgumentException(Messages.format("Snapshot already contains a section named '{}'", name));
+    }
+    sections.put(name, Pair.of(type, out.toByteArray()));
+    return this;
+  }
+
+  // writes a map of time-series
+  private static void writeTimeSeries(
+      SnapshotOutput out,
+      Map<? extends ObservableId, LocalDateDoubleTimeSeries> timeSeries) {
+
+    out.writeVarInt(timeSeries.size());
+    for (Entry<? extends ObservableId, LocalDateDoubleTimeSeries> entry : timeSeries.entrySet()) {
+      out.writeId(entry.getKey());
+      out.writeTimeSeries(entry.getValue());
+    }
+  }
+
+  // writes a curve, writing the nodes of interpolated curves directly
+  private static void writeCurve(SnapshotOutput out, Curve curve) {
+    if (curve instanceof InterpolatedNodalCurve) {
+      InterpolatedNodalCurve nodalCurve = (InterpolatedNodalCurve) curve;
+      out.writeByte(CURVE_INTERPOLATED_NODAL);
+      out.writeBean(nodalCurve.getMetadata());
+      out.writeDoubleArray(nodalCurve.getXValues().toArrayUnsafe());
+      out.writeDoubleArray(nodalCurve.getYValues().toArrayUnsafe());
+      out.writeString(nodalCurve.getInterpolator().getName());
+      out.writeString(nodalCurve.getExtrapolatorLeft().getName());
+      out.writeString(nodalCurve.getExtrapolatorRight().getName());
+    } else {
+      out.writeByte(CURVE_BEAN);
+      out.writeBean(curve);
+    }
+  }
+
+}
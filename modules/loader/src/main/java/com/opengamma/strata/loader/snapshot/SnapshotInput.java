@@ -0,0 +1,207 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.loader.snapshot;
+
+import static com.opengamma.strata.loader.snapshot.SnapshotOutput.ID_BEAN;
+import static com.opengamma.strata.loader.snapshot.SnapshotOutput.ID_INDEX_QUOTE;
+import static com.opengamma.strata.loader.snapshot.SnapshotOutput.ID_QUOTE;
+import static com.opengamma.strata.loader.snapshot.SnapshotOutput.TAG_NEW;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.joda.beans.ser.JodaBeanSer;
+
+import com.opengamma.strata.basics.StandardId;
+import com.opengamma.strata.basics.index.Index;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.FieldName;
+import com.opengamma.strata.data.MarketDataId;
+import com.opengamma.strata.data.ObservableSource;
+import com.opengamma.strata.market.observable.IndexQuoteId;
+import com.opengamma.strata.market.observable.QuoteId;
+
+/**
+ * Input used to read a single section of a binary snapshot.
+ * <p>
+ * This reads the format written by {@link SnapshotOutput}.
+ */
+final class SnapshotInput {
+
+  /**
+   * The buffer.
+   */
+  private final ByteBuffer buf;
+  /**
+   * The interned strings, in the order they were first written.
+   */
+  private final List<String> strings = new ArrayList<>();
+  /**
+   * The interned identifiers, in the order they were first written.
+   */
+  private final List<MarketDataId<?>> ids = new ArrayList<>();
+
+  // creates an instance
+  SnapshotInput(byte[] bytes) {
+    this.buf = ByteBuffer.wrap(bytes);
+  }
+
+  //-------------------------------------------------------------------------
+  // reads a byte
+  int readByte() {
+    return buf.get() & 0xFF;
+  }
+
+  // reads an unsigned variable length integer
+  long readVarLong() {
+    long result = 0;
+    int shift = 0;
+    while (true) {
+      byte b = buf.get();
+      result |= (long) (b & 0x7F) << shift;
+      if (b >= 0) {
+        return result;
+      }
+      shift += 7;
+      if (shift > 63) {
+        throw new IllegalArgumentException("Invalid snapshot, variable length integer is too long");
+      }
+    }
+  }
+
+  // reads an unsigned variable length integer that must fit in an int
+  int readVarInt() {
+    long value = readVarLong();
+    if (value > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Invalid snapshot, integer out of range: " + value);
+    }
+    return (int) value;
+  }
+
+  // reads a double
+  double readDouble() {
+    return buf.getDouble();
+  }
+
+  // reads an array of doubles, prefixed by the length
+  double[] readDoubleArray() {
+    return readRawDoubles(readVarInt());
+  }
+
+  // reads an array of bytes, prefixed by the length
+  byte[] readBytes() {
+    int length = readVarInt();
+    checkRemaining(length);
+    byte[] bytes = new byte[length];
+    buf.get(bytes);
+    return bytes;
+  }
+
+  // reads an interned string
+  String readString() {
+    int index = readVarInt();
+    if (index == TAG_NEW) {
+      String str = new String(readBytes(), StandardCharsets.UTF_8);
+      strings.add(str);
+      return str;
+    }
+    return lookup(strings, index - 1);
+  }
+
+  // reads a date
+  LocalDate readDate() {
+    return LocalDate.ofEpochDay(readSignedVarLong());
+  }
+
+  // reads a bean using Joda-Beans binary
+  <T> T readBean(Class<T> type) {
+    return decodeBean(readBytes(), type);
+  }
+
+  // decodes a bean using Joda-Beans binary
+  static <T> T decodeBean(byte[] bytes, Class<T> type) {
+    return JodaBeanSer.COMPACT.binReader().read(bytes, type);
+  }
+
+  // reads an interned market data identifier
+  MarketDataId<?> readId() {
+    int index = readVarInt();
+    if (index != TAG_NEW) {
+      return lookup(ids, index - 1);
+    }
+    MarketDataId<?> id;
+    int type = readByte();
+    switch (type) {
+      case ID_QUOTE:
+        StandardId standardId = StandardId.of(readString(), readString());
+        id = QuoteId.of(standardId, FieldName.of(readString()), ObservableSource.of(readString()));
+        break;
+      case ID_INDEX_QUOTE:
+        Index idx = Index.of(readString());
+        id = IndexQuoteId.of(idx, FieldName.of(readString()), ObservableSource.of(readString()));
+        break;
+      case ID_BEAN:
+        id = readBean(MarketDataId.class);
+        break;
+      default:
+        throw new IllegalArgumentException(Messages.format("Invalid snapshot, unknown identifier type: {}", type));
+    }
+    ids.add(id);
+    return id;
+  }
+
+  // reads a time-series, which is stored as a column of dates followed by a column of values
+  LocalDateDoubleTimeSeries readTimeSeries() {
+    int size = readVarInt();
+    // each date takes at least one byte and each value eight
+    checkRemaining(size * 9L);
+    LocalDate[] dates = new LocalDate[size];
+    long epochDay = 0;
+    for (int i = 0; i < size; i++) {
+      epochDay += readSignedVarLong();
+      dates[i] = LocalDate.ofEpochDay(epochDay);
+    }
+    double[] values = readRawDoubles(size);
+    return LocalDateDoubleTimeSeries.ofSorted(dates, values);
+  }
+
+  //-------------------------------------------------------------------------
+  // reads doubles without a length prefix
+  private double[] readRawDoubles(int size) {
+    checkRemaining(size * 8L);
+    double[] values = new double[size];
+    buf.asDoubleBuffer().get(values);
+    buf.position(buf.position() + size * 8);
+    return values;
+  }
+
+  // checks that the declared length of the data is available, before allocating memory for it
+  private void checkRemaining(long length) {
+    if (length > buf.remaining()) {
+      throw new IllegalArgumentException(Messages.format(
+          "Invalid snapshot, length {} exceeds the {} bytes remaining", length, buf.remaining()));
+    }
+  }
+
+  // reads a signed variable length integer, using zig-zag encoding
+  private long readSignedVarLong() {
+    long value = readVarLong();
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  // looks up an interned value
+  private static <T> T lookup(List<T> values, int index) {
+    if (index >= values.size()) {
+      throw new IllegalArgumentException(Messages.format("Invalid snapshot, unknown reference: {}", index));
+    }
+    return values.get(index);
+  }
+
+}
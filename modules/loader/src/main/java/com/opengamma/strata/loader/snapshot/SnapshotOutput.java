@@ -0,0 +1,211 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.loader.snapshot;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.joda.beans.Bean;
+import org.joda.beans.ser.JodaBeanSer;
+
+import com.opengamma.strata.basics.StandardId;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.MarketDataId;
+import com.opengamma.strata.market.observable.IndexQuoteId;
+import com.opengamma.strata.market.observable.QuoteId;
+
+/**
+ * Output used to write a single section of a binary snapshot.
+ * <p>
+ * Strings and market data identifiers are interned, with each distinct value written once
+ * and subsequent occurrences written as a reference to the first.
+ * Arrays of doubles are written directly as IEEE-754 values.
+ */
+final class SnapshotOutput {
+
+  /**
+   * Tag for a new interned string or identifier.
+   */
+  static final int TAG_NEW = 0;
+  /**
+   * Tag for an identifier that is a {@link QuoteId}.
+   */
+  static final int ID_QUOTE = 1;
+  /**
+   * Tag for an identifier that is an {@link IndexQuoteId}.
+   */
+  static final int ID_INDEX_QUOTE = 2;
+  /**
+   * Tag for an identifier that is written as a Joda-Bean.
+   */
+  static final int ID_BEAN = 3;
+
+  /**
+   * The buffer.
+   */
+  private ByteBuffer buf = ByteBuffer.allocate(4096);
+  /**
+   * The interned strings, mapped to the index used to refer to them.
+   */
+  private final Map<String, Integer> strings = new HashMap<>();
+  /**
+   * The interned identifiers, mapped to the index used to refer to them.
+   */
+  private final Map<MarketDataId<?>, Integer> ids = new HashMap<>();
+
+  //-------------------------------------------------------------------------
+  // writes a byte
+  void writeByte(int value) {
+    ensureCapacity(1);
+    buf.put((byte) value);
+  }
+
+  // writes an unsigned variable length integer
+  void writeVarInt(long value) {
+    ensureCapacity(10);
+    long remaining = value;
+    while ((remaining & ~0x7FL) != 0) {
+      buf.put((byte) ((remaining & 0x7F) | 0x80));
+      remaining >>>= 7;
+    }
+    buf.put((byte) remaining);
+  }
+
+  // writes a double
+  void writeDouble(double value) {
+    ensureCapacity(8);
+    buf.putDouble(value);
+  }
+
+  // writes an array of doubles, prefixed by the length
+  void writeDoubleArray(double[] values) {
+    writeVarInt(values.length);
+    writeRawDoubles(values);
+  }
+
+  // writes an array of bytes, prefixed by the length
+  void writeBytes(byte[] bytes) {
+    writeVarInt(bytes.length);
+    ensureCapacity(bytes.length);
+    buf.put(bytes);
+  }
+
+  // writes a string, interning it
+  void writeString(String str) {
+    Integer index = strings.get(str);
+    if (index != null) {
+      writeVarInt(index + 1);
+    } else {
+      strings.put(str, strings.size());
+      writeVarInt(TAG_NEW);
+      writeBytes(str.getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  // writes a date
+  void writeDate(LocalDate date) {
+    writeSignedVarInt(date.toEpochDay());
+  }
+
+  // writes a bean using Joda-Beans binary, which interns values within the bean
+  void writeBean(Object bean) {
+    writeBytes(encodeBean(bean));
+  }
+
+  // encodes a bean using Joda-Beans binary, which interns values within the bean
+  static byte[] encodeBean(Object bean) {
+    if (!(bean instanceof Bean)) {
+      throw new IllegalArgumentException(
+          Messages.format("Unable to write object to snapshot, it is not a Joda-Bean: {}", bean.getClass().getName()));
+    }
+    return JodaBeanSer.COMPACT.binWriterReferencing().write((Bean) bean);
+  }
+
+  // writes a market data identifier, interning it
+  void writeId(MarketDataId<?> id) {
+    Integer index = ids.get(id);
+    if (index != null) {
+      writeVarInt(index + 1);
+      return;
+    }
+    ids.put(id, ids.size());
+    writeVarInt(TAG_NEW);
+    if (id instanceof QuoteId) {
+      QuoteId quoteId = (QuoteId) id;
+      writeByte(ID_QUOTE);
+      writeStandardId(quoteId.getStandardId());
+      writeString(quoteId.getFieldName().getName());
+      writeString(quoteId.getObservableSource().getName());
+    } else if (id instanceof IndexQuoteId) {
+      IndexQuoteId indexQuoteId = (IndexQuoteId) id;
+      writeByte(ID_INDEX_QUOTE);
+      writeString(indexQuoteId.getIndex().getName());
+      writeString(indexQuoteId.getFieldName().getName());
+      writeString(indexQuoteId.getObservableSource().getName());
+    } else {
+      writeByte(ID_BEAN);
+      writeBean(id);
+    }
+  }
+
+  // writes a time-series as a column of dates followed by a column of values
+  // the dates are in ascending order, thus are written as differences from the previous date
+  void writeTimeSeries(LocalDateDoubleTimeSeries series) {
+    int size = series.size();
+    writeVarInt(size);
+    double[] values = new double[size];
+    long[] previous = {0};
+    int[] index = {0};
+    series.forEach((date, value) -> {
+      long epochDay = date.toEpochDay();
+      writeSignedVarInt(epochDay - previous[0]);
+      previous[0] = epochDay;
+      values[index[0]++] = value;
+    });
+    writeRawDoubles(values);
+  }
+
+  // returns the bytes written
+  byte[] toByteArray() {
+    return Arrays.copyOf(buf.array(), buf.position());
+  }
+
+  //-------------------------------------------------------------------------
+  // writes a standard identifier
+  private void writeStandardId(StandardId id) {
+    writeString(id.getScheme());
+    writeString(id.getValue());
+  }
+
+  // writes doubles without a length prefix
+  private void writeRawDoubles(double[] values) {
+    ensureCapacity(values.length * 8);
+    buf.asDoubleBuffer().put(values);
+    buf.position(buf.position() + values.length * 8);
+  }
+
+  // writes a signed variable length integer, using zig-zag encoding
+  private void writeSignedVarInt(long value) {
+    writeVarInt((value << 1) ^ (value >> 63));
+  }
+
+  // ensures there is space to write the specified number of bytes
+  private void ensureCapacity(int required) {
+    if (buf.remaining() < required) {
+      int newSize = Math.max(buf.capacity() * 2, buf.position() + required);
+      ByteBuffer newBuf = ByteBuffer.allocate(newSize);
+      buf.flip();
+      newBuf.put(buf);
+      buf = newBuf;
+    }
+  }
+
+}
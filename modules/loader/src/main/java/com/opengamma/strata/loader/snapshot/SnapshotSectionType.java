@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.loader.snapshot;
+
+import com.opengamma.strata.collect.Messages;
+
+/**
+ * The type of a section in a binary snapshot.
+ * <p>
+ * The code of each type is stored in the snapshot, thus must not be changed.
+ */
+enum SnapshotSectionType {
+
+  /**
+   * A list of trades.
+   */
+  TRADES(1),
+  /**
+   * An instance of {@code ImmutableMarketData}.
+   */
+  MARKET_DATA(2),
+  /**
+   * An instance of {@code RatesCurveGroup}.
+   */
+  CURVE_GROUP(3),
+  /**
+   * A map of time-series.
+   */
+  TIME_SERIES(4);
+
+  /**
+   * The code stored in the snapshot.
+   */
+  private final int code;
+
+  // creates an instance
+  private SnapshotSectionType(int code) {
+    this.code = code;
+  }
+
+  //-------------------------------------------------------------------------
+  // finds the type matching the code
+  static SnapshotSectionType ofCode(int code) {
+    for (SnapshotSectionType type : values()) {
+      if (type.code == code) {
+        return type;
+      }
+    }
+    throw new IllegalArgumentException(Messages.format("Invalid snapshot, unknown section type: {}", code));
+  }
+
+  // gets the code stored in the snapshot
+  int getCode() {
+    return code;
+  }
+
+}
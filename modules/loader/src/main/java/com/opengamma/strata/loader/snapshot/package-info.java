@@ -0,0 +1,13 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+
+/**
+ * Binary snapshots of trades and market data.
+ * <p>
+ * See {@link com.opengamma.strata.loader.snapshot.BinarySnapshotWriter} and
+ * {@link com.opengamma.strata.loader.snapshot.BinarySnapshot}.
+ */
+package com.opengamma.strata.loader.snapshot;
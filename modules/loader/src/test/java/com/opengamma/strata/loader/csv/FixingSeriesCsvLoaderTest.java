@@ -15,6 +15,7 @@ import java.util.Map;
 import org.junit.jupiter.api.Test;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.io.CharSource;
 import com.opengamma.strata.basics.index.IborIndices;
 import com.opengamma.strata.basics.index.PriceIndices;
 import com.opengamma.strata.collect.io.ResourceLocator;
@@ -37,6 +38,8 @@ public class FixingSeriesCsvLoaderTest {
       ResourceLocator.of("classpath:com/opengamma/strata/loader/csv/fixings-2.csv");
   private static final ResourceLocator FIXING_SERIES_1_AND_2 =
       ResourceLocator.of("classpath:com/opengamma/strata/loader/csv/fixings-1-and-2.csv");
+  private static final ResourceLocator FIXING_SERIES_ZIP =
+      ResourceLocator.of("classpath:com/opengamma/strata/loader/csv/fixings.zip");
   private static final ResourceLocator FIXING_SERIES_INVALID_DATE =
       ResourceLocator.of("classpath:com/opengamma/strata/loader/csv/fixings-invalid-date.csv");
   private static final ResourceLocator FIXING_SERIES_PRICE1 =
@@ -71,6 +74,23 @@ public class FixingSeriesCsvLoaderTest {
     assertLibor3m6mSeries(ts);
   }
 
+  @Test
+  public void test_multiple_series_zip() {
+    Map<ObservableId, LocalDateDoubleTimeSeries> ts = FixingSeriesCsvLoader.load(FIXING_SERIES_ZIP);
+    assertThat(ts).isEqualTo(FixingSeriesCsvLoader.load(FIXING_SERIES_1, FIXING_SERIES_2));
+    assertThat(ts).hasSize(2);
+    assertLibor3mSeries(ts.get(ID_USD_LIBOR_3M));
+  }
+
+  @Test
+  public void test_headerOnly() {
+    CharSource headerOnly = CharSource.wrap("Reference,Date\n");
+    assertThat(FixingSeriesCsvLoader.parse(ImmutableList.of(headerOnly))).isEmpty();
+    CharSource missingHeader = CharSource.wrap("Reference,Date\nUSD-LIBOR-3M,1971-01-04\n");
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> FixingSeriesCsvLoader.parse(ImmutableList.of(missingHeader)));
+  }
+
   @Test
   public void test_priceIndex1() {
     Map<ObservableId, LocalDateDoubleTimeSeries> ts = FixingSeriesCsvLoader.load(FIXING_SERIES_PRICE1);
@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.loader.csv;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.CharSource;
+import com.opengamma.strata.collect.io.CsvIterator;
+import com.opengamma.strata.collect.io.CsvRow;
+import com.opengamma.strata.collect.result.FailureItem;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.ValueWithFailures;
+
+/**
+ * Test {@link ParallelCsvBatchIterator}.
+ */
+public class ParallelCsvBatchIteratorTest {
+
+  private static final String CSV = "Value\n1\n2\n3\n4\n5\n6\n7\n";
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_stream() {
+    List<FailureItem> failures = new ArrayList<>();
+    try (Stream<List<Integer>> stream = ParallelCsvBatchIterator.stream(
+        CsvIterator.of(CharSource.wrap(CSV), true),
+        csv -> ImmutableList.of(csv.next()),
+        3,
+        ParallelCsvBatchIteratorTest::parse,
+        failures::add,
+        ForkJoinPool.commonPool(),
+        2)) {
+      assertThat(stream.collect(toImmutableList())).containsExactly(
+          ImmutableList.of(1, 3), ImmutableList.of(5), ImmutableList.of(7));
+    }
+    assertThat(failures.stream().map(FailureItem::getMessage)).containsExactly("2", "4", "6");
+  }
+
+  @Test
+  public void test_stream_exception() {
+    try (Stream<List<Integer>> stream = ParallelCsvBatchIterator.stream(
+        CsvIterator.of(CharSource.wrap(CSV), true),
+        csv -> ImmutableList.of(csv.next()),
+        3,
+        rowGroups -> {
+          throw new IllegalArgumentException("Bad");
+        },
+        failure -> {},
+        ForkJoinPool.commonPool(),
+        2)) {
+      assertThatIllegalArgumentException()
+          .isThrownBy(() -> stream.count())
+          .withMessage("Bad");
+    }
+  }
+
+  // parses odd values, with even values as failures
+  private static ValueWithFailures<List<Integer>> parse(List<List<CsvRow>> rowGroups) {
+    List<Integer> values = new ArrayList<>();
+    List<FailureItem> failures = new ArrayList<>();
+    for (List<CsvRow> rowGroup : rowGroups) {
+      int value = Integer.parseInt(rowGroup.get(0).getValue("Value"));
+      if (value % 2 == 0) {
+        failures.add(FailureItem.of(FailureReason.PARSING, Integer.toString(value)));
+      } else {
+        values.add(value);
+      }
+    }
+    return ValueWithFailures.of(values, failures);
+  }
+
+}
@@ -19,8 +19,10 @@ import org.junit.jupiter.api.Test;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.io.CharSource;
 import com.opengamma.strata.basics.StandardId;
 import com.opengamma.strata.collect.io.ResourceLocator;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
 import com.opengamma.strata.market.observable.QuoteId;
 
 /**
@@ -39,6 +41,10 @@ public class QuotesCsvLoaderTest {
       ResourceLocator.of("classpath:com/opengamma/strata/loader/csv/quotes-1.csv");
   private static final ResourceLocator QUOTES_2 =
       ResourceLocator.of("classpath:com/opengamma/strata/loader/csv/quotes-2.csv");
+  private static final ResourceLocator QUOTES_ZIP =
+      ResourceLocator.of("classpath:com/opengamma/strata/loader/csv/quotes.zip");
+  private static final ResourceLocator QUOTES_ZIP_TXT =
+      ResourceLocator.of("classpath:com/opengamma/strata/loader/csv/quotes-txt.zip");
   private static final ResourceLocator QUOTES_INVALID_DATE =
       ResourceLocator.of("classpath:com/opengamma/strata/loader/csv/quotes-invalid-date.csv");
   private static final ResourceLocator QUOTES_INVALID_DUPLICATE =
@@ -108,6 +114,71 @@ public class QuotesCsvLoaderTest {
     assertFile1Date2(map.get(DATE2));
   }
 
+  @Test
+  public void test_load_allDates_zip() {
+    Map<LocalDate, ImmutableMap<QuoteId, Double>> map = QuotesCsvLoader.loadAllDates(QUOTES_ZIP);
+    assertThat(map).isEqualTo(QuotesCsvLoader.loadAllDates(QUOTES_1, QUOTES_2));
+    assertThat(map.get(DATE1)).hasSize(3);
+  }
+
+  @Test
+  public void test_load_allDates_zipEntryWithoutCsvSuffix() {
+    Map<LocalDate, ImmutableMap<QuoteId, Double>> map = QuotesCsvLoader.loadAllDates(QUOTES_ZIP_TXT);
+    assertThat(map).isEqualTo(QuotesCsvLoader.loadAllDates(QUOTES_1));
+  }
+
+  @Test
+  public void test_parse_headerOnly() {
+    CharSource headerOnly = CharSource.wrap("Valuation Date,Value\n");
+    assertThat(QuotesCsvLoader.parse(d -> true, ImmutableList.of(headerOnly))).isEmpty();
+    assertThat(QuotesCsvLoader.parseTimeSeries(d -> true, ImmutableList.of(headerOnly))).isEmpty();
+    CharSource missingHeader = CharSource.wrap("Valuation Date,Value\n2014-01-22,1.5\n");
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> QuotesCsvLoader.parse(d -> true, ImmutableList.of(missingHeader)));
+  }
+
+  @Test
+  public void test_load_allDates_invalidDuplicate() {
+    assertThatIllegalArgumentException().isThrownBy(() -> QuotesCsvLoader.loadAllDates(QUOTES_1, QUOTES_1));
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_loadTimeSeries() {
+    Map<QuoteId, LocalDateDoubleTimeSeries> map = QuotesCsvLoader.loadTimeSeries(QUOTES_1, QUOTES_2);
+    assertThat(map).hasSize(3);
+    assertThat(map.get(FGBL_MAR14)).isEqualTo(LocalDateDoubleTimeSeries.builder()
+        .put(DATE1, 150.43)
+        .put(DATE2, 150.50)
+        .build());
+    assertThat(map.get(ED_MAR14)).isEqualTo(LocalDateDoubleTimeSeries.builder()
+        .put(DATE1, 99.62)
+        .put(DATE2, 99.63)
+        .build());
+    assertThat(map.get(FGBL_JUN14)).isEqualTo(LocalDateDoubleTimeSeries.of(DATE1, 150.99));
+    assertThat(QuotesCsvLoader.loadTimeSeries(ImmutableList.of(QUOTES_ZIP))).isEqualTo(map);
+    assertThat(QuotesCsvLoader.loadTimeSeries()).isEmpty();
+  }
+
+  @Test
+  public void test_parseTimeSeries_filtered() {
+    Map<QuoteId, LocalDateDoubleTimeSeries> map = QuotesCsvLoader.parseTimeSeries(
+        date -> date.equals(DATE2),
+        ImmutableList.of(QUOTES_1.getCharSource(), QUOTES_2.getCharSource()));
+    assertThat(map).hasSize(2);
+    assertThat(map.get(FGBL_MAR14)).isEqualTo(LocalDateDoubleTimeSeries.of(DATE2, 150.50));
+  }
+
+  @Test
+  public void test_loadTimeSeries_invalid() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> QuotesCsvLoader.loadTimeSeries(QUOTES_1, QUOTES_1))
+        .withMessageStartingWith("Duplicate entry for ");
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> QuotesCsvLoader.loadTimeSeries(QUOTES_1, QUOTES_INVALID_DATE))
+        .withMessageStartingWith("Error processing resource as CSV file: ");
+  }
+
   //-------------------------------------------------------------------------
   private void assertFile1Date1(Map<QuoteId, Double> map) {
     assertThat(map.containsKey(FGBL_MAR14)).isTrue();
@@ -5,20 +5,27 @@
  */
 package com.opengamma.strata.loader.csv;
 
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
 import static com.opengamma.strata.collect.TestHelper.date;
 import static com.opengamma.strata.market.sensitivity.CurveSensitivitiesType.ZERO_RATE_DELTA;
 import static com.opengamma.strata.market.sensitivity.CurveSensitivitiesType.ZERO_RATE_GAMMA;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
+import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ListMultimap;
 import com.google.common.io.CharSource;
 import com.opengamma.strata.basics.currency.Currency;
 import com.opengamma.strata.basics.date.Tenor;
+import com.opengamma.strata.collect.Messages;
 import com.opengamma.strata.collect.io.ResourceLocator;
 import com.opengamma.strata.collect.result.ValueWithFailures;
 import com.opengamma.strata.market.curve.CurveName;
@@ -26,6 +33,7 @@ import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
 import com.opengamma.strata.market.param.TenorDateParameterMetadata;
 import com.opengamma.strata.market.param.TenorParameterMetadata;
 import com.opengamma.strata.market.sensitivity.CurveSensitivities;
+import com.opengamma.strata.market.sensitivity.CurveSensitivitiesBuilder;
 import com.opengamma.strata.product.AttributeType;
 import com.opengamma.strata.product.PortfolioItemInfo;
 
@@ -139,4 +147,92 @@ public final class SensitivityCsvWriterTest {
     assertThat(csens2).isEqualTo(csens1);
   }
 
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_write_values() {
+    CurveSensitivities sens = CurveSensitivities.builder(PortfolioItemInfo.empty())
+        .add(ZERO_RATE_DELTA, CurveName.of("GBDSC"), Currency.GBP, TenorParameterMetadata.of(Tenor.TENOR_1M), 0d)
+        .add(ZERO_RATE_DELTA, CurveName.of("GBDSC"), Currency.GBP, TenorParameterMetadata.of(Tenor.TENOR_3M), -0.5d)
+        .add(ZERO_RATE_DELTA, CurveName.of("GBDSC"), Currency.GBP, TenorParameterMetadata.of(Tenor.TENOR_6M), 1.5e-7d)
+        .add(ZERO_RATE_DELTA, CurveName.of("GBDSC"), Currency.GBP, TenorParameterMetadata.of(Tenor.TENOR_1Y), 2.5e12d)
+        .build();
+
+    StringBuffer buf = new StringBuffer();
+    WRITER.write(sens, buf);
+    String content = buf.toString();
+
+    String expected = "" +
+        "Reference,Sensitivity Type,Sensitivity Tenor,Currency,Value\n" +
+        "GBDSC,ZeroRateDelta,1M,GBP,0.0\n" +
+        "GBDSC,ZeroRateDelta,3M,GBP,-0.5\n" +
+        "GBDSC,ZeroRateDelta,6M,GBP,0.00000015\n" +
+        "GBDSC,ZeroRateDelta,1Y,GBP,2500000000000\n";
+    assertThat(content).isEqualTo(expected);
+  }
+
+  @Test
+  public void test_writeChunked() {
+    CurveSensitivities sens = sensitivities(10, 7);
+    StringBuffer buf = new StringBuffer();
+    WRITER_CCP.write(sens, buf);
+    List<String> lines = Splitter.on('\n').omitEmptyStrings().splitToList(buf.toString());
+    assertThat(lines).hasSize(71);
+
+    Map<Integer, StringBuilder> chunks = new ConcurrentHashMap<>();
+    int chunkCount = WRITER_CCP.writeChunked(sens, 16, chunk -> chunks.computeIfAbsent(chunk, k -> new StringBuilder()));
+    assertThat(chunkCount).isEqualTo(5);
+    assertThat(chunks).containsOnlyKeys(0, 1, 2, 3, 4);
+    for (int chunk = 0; chunk < chunkCount; chunk++) {
+      StringBuilder expected = new StringBuilder(lines.get(0)).append('\n');
+      for (int row = chunk * 16 + 1; row < Math.min(chunk * 16 + 17, lines.size()); row++) {
+        expected.append(lines.get(row)).append('\n');
+      }
+      assertThat(chunks.get(chunk).toString()).isEqualTo(expected.toString());
+    }
+  }
+
+  @Test
+  public void test_writeChunked_empty() {
+    CurveSensitivities sens = CurveSensitivities.empty();
+    Map<Integer, StringBuilder> chunks = new ConcurrentHashMap<>();
+    int chunkCount = WRITER.writeChunked(sens, 16, chunk -> chunks.computeIfAbsent(chunk, k -> new StringBuilder()));
+    assertThat(chunkCount).isEqualTo(1);
+    assertThat(chunks.get(0).toString()).isEqualTo("Reference,Sensitivity Type,Sensitivity Tenor,Currency,Value\n");
+  }
+
+  @Test
+  public void test_writeChunked_roundTrip() {
+    CurveSensitivities sens = sensitivities(50, 40);
+    Map<Integer, StringBuilder> chunks = new ConcurrentHashMap<>();
+    int chunkCount = WRITER.writeChunked(sens, 300, chunk -> chunks.computeIfAbsent(chunk, k -> new StringBuilder()));
+    assertThat(chunkCount).isEqualTo(7);
+
+    List<CharSource> sources = IntStream.range(0, chunkCount)
+        .mapToObj(chunk -> CharSource.wrap(chunks.get(chunk)))
+        .collect(toImmutableList());
+    ValueWithFailures<ListMultimap<String, CurveSensitivities>> parsed = LOADER.parse(sources);
+    assertThat(parsed.getFailures()).isEmpty();
+    CurveSensitivities merged = parsed.getValue().get("").stream()
+        .reduce(CurveSensitivities.empty(), CurveSensitivities::mergedWith);
+    assertThat(merged.getTypedSensitivity(ZERO_RATE_DELTA).getSensitivities())
+        .hasSameElementsAs(sens.getTypedSensitivity(ZERO_RATE_DELTA).getSensitivities());
+  }
+
+  // creates sensitivities to a number of curves, each with a number of tenors
+  private static CurveSensitivities sensitivities(int curveCount, int tenorCount) {
+    Random random = new Random(1);
+    CurveSensitivitiesBuilder builder = CurveSensitivities.builder(PortfolioItemInfo.empty().withAttribute(CCP_ATTR, "LCH"));
+    for (int curve = 0; curve < curveCount; curve++) {
+      for (int tenor = 2; tenor <= tenorCount + 1; tenor++) {
+        builder.add(
+            ZERO_RATE_DELTA,
+            CurveName.of(Messages.format("Curve{}", curve)),
+            Currency.GBP,
+            TenorParameterMetadata.of(Tenor.ofYears(tenor)),
+            random.nextInt(1_000_000) / 100d);
+      }
+    }
+    return builder.build();
+  }
+
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.loader.csv;
+
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeriesBuilder;
+
+/**
+ * Test {@link TimeSeriesColumns}.
+ */
+public class TimeSeriesColumnsTest {
+
+  @Test
+  public void test_sorted() {
+    TimeSeriesColumns<String> test = new TimeSeriesColumns<>();
+    test.add("A", date(2020, 1, 1), 1d);
+    test.add("B", date(2020, 1, 1), 10d);
+    test.add("A", date(2020, 1, 2), 2d);
+    Map<String, LocalDateDoubleTimeSeries> map = test.toTimeSeries(false);
+    assertThat(map).containsOnlyKeys("A", "B");
+    assertThat(map.get("A")).isEqualTo(LocalDateDoubleTimeSeries.builder()
+        .put(date(2020, 1, 1), 1d)
+        .put(date(2020, 1, 2), 2d)
+        .build());
+    assertThat(map.get("B")).isEqualTo(LocalDateDoubleTimeSeries.of(date(2020, 1, 1), 10d));
+  }
+
+  @Test
+  public void test_unsorted_merged() {
+    Random random = new Random(1);
+    LocalDateDoubleTimeSeriesBuilder expected = LocalDateDoubleTimeSeries.builder();
+    TimeSeriesColumns<String> test = new TimeSeriesColumns<>();
+    for (int file = 0; file < 5; file++) {
+      TimeSeriesColumns<String> fileColumns = new TimeSeriesColumns<>();
+      for (int i = 0; i < 100; i++) {
+        LocalDate date = date(1960, 1, 1).plusDays(file * 100 + i);
+        double value = random.nextDouble();
+        fileColumns.add("A", date, value);
+        expected.put(date, value);
+      }
+      test.addAll(fileColumns);
+    }
+    TimeSeriesColumns<String> reversed = new TimeSeriesColumns<>();
+    LocalDateDoubleTimeSeries expectedSeries = expected.build();
+    expectedSeries.stream().sorted((a, b) -> b.getDate().compareTo(a.getDate()))
+        .forEach(pt -> reversed.add("A", pt.getDate(), pt.getValue()));
+    assertThat(test.toTimeSeries(false).get("A")).isEqualTo(expectedSeries);
+    assertThat(reversed.toTimeSeries(false).get("A")).isEqualTo(expectedSeries);
+  }
+
+  @Test
+  public void test_duplicates() {
+    TimeSeriesColumns<String> test = new TimeSeriesColumns<>();
+    test.add("A", date(2020, 1, 2), 1d);
+    test.add("A", date(2020, 1, 1), 2d);
+    test.add("A", date(2020, 1, 2), 3d);
+    assertThat(test.toTimeSeries(true).get("A")).isEqualTo(LocalDateDoubleTimeSeries.builder()
+        .put(date(2020, 1, 1), 2d)
+        .put(date(2020, 1, 2), 3d)
+        .build());
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> test.toTimeSeries(false))
+        .withMessage("Duplicate entry for 'A' on date 2020-01-02");
+  }
+
+}
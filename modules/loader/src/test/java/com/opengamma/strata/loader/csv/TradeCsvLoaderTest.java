@@ -33,10 +33,12 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.Period;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 
 import org.joda.beans.Bean;
 import org.junit.jupiter.api.Test;
@@ -1964,6 +1966,68 @@ public class TradeCsvLoaderTest {
     assertThat(failure.getMessage().contains("CSV file does not contain 'Strata Trade Type' header")).isTrue();
   }
 
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_parseStream() {
+    TradeCsvLoader test = TradeCsvLoader.standard();
+    ValueWithFailures<List<Trade>> expected = test.parse(ImmutableList.of(FILE.getCharSource()));
+
+    List<FailureItem> failures = new ArrayList<>();
+    try (Stream<Trade> stream = test.parseStream(FILE.getCharSource(), Trade.class, failures::add)) {
+      assertThat(stream.collect(toImmutableList())).isEqualTo(expected.getValue());
+    }
+    assertThat(failures.stream().map(FailureItem::getMessage))
+        .containsExactlyElementsOf(expected.getFailures().stream().map(FailureItem::getMessage).collect(toImmutableList()));
+  }
+
+  @Test
+  public void test_parseBatches() {
+    TradeCsvLoader test = TradeCsvLoader.standard();
+    ValueWithFailures<List<SwapTrade>> expected = test.parse(ImmutableList.of(FILE.getCharSource()), SwapTrade.class);
+
+    List<FailureItem> failures = new ArrayList<>();
+    try (Stream<List<SwapTrade>> stream = test.parseBatches(FILE.getCharSource(), SwapTrade.class, 2, failures::add)) {
+      List<List<SwapTrade>> batches = stream.collect(toImmutableList());
+      assertThat(batches.size()).isGreaterThan(1);
+      assertThat(batches.stream().allMatch(batch -> batch.size() <= 2)).isTrue();
+      assertThat(batches.stream().flatMap(List::stream).collect(toImmutableList())).isEqualTo(expected.getValue());
+    }
+    assertThat(failures.stream().map(FailureItem::getMessage))
+        .containsExactlyElementsOf(expected.getFailures().stream().map(FailureItem::getMessage).collect(toImmutableList()));
+  }
+
+  @Test
+  public void test_parseStream_variableRowFailures() {
+    TradeCsvLoader test = TradeCsvLoader.standard();
+    CharSource source = CharSource.wrap("Strata Trade Type\nVariable\nFoo\nVariable\nSwap\nVariable");
+    ValueWithFailures<List<Trade>> expected = test.parse(ImmutableList.of(source));
+    assertThat(expected.getFailures()).hasSize(4);
+    assertThat(expected.getFailures().get(0).getMessage()).isEqualTo(
+        "CSV file contained a 'Variable' type at line 2 that was not preceeded by a 'Swap' or 'Swaption'");
+    assertThat(expected.getFailures().get(1).getMessage()).isEqualTo("CSV file trade type 'Foo' is not known at line 3");
+    assertThat(expected.getFailures().get(2).getMessage()).isEqualTo(
+        "CSV file contained a 'Variable' type at line 4 that was not preceeded by a 'Swap' or 'Swaption'");
+    assertThat(expected.getFailures().get(3).getMessage()).startsWith("CSV file trade could not be parsed at line 5");
+
+    List<FailureItem> failures = new ArrayList<>();
+    try (Stream<Trade> stream = test.parseStream(source, Trade.class, failures::add)) {
+      assertThat(stream.count()).isEqualTo(0);
+    }
+    assertThat(failures.stream().map(FailureItem::getMessage))
+        .containsExactlyElementsOf(expected.getFailures().stream().map(FailureItem::getMessage).collect(toImmutableList()));
+  }
+
+  @Test
+  public void test_parseStream_invalid() {
+    TradeCsvLoader test = TradeCsvLoader.standard();
+    List<FailureItem> failures = new ArrayList<>();
+    assertThat(test.parseStream(CharSource.wrap(""), Trade.class, failures::add).count()).isEqualTo(0);
+    assertThat(test.parseStream(CharSource.wrap("Id"), Trade.class, failures::add).count()).isEqualTo(0);
+    assertThat(failures).hasSize(2);
+    assertThat(failures.get(0).getMessage()).startsWith("CSV file could not be parsed");
+    assertThat(failures.get(1).getMessage()).startsWith("CSV file does not contain 'Strata Trade Type' header");
+  }
+
   @Test
   public void test_load_invalidUnknownType() {
     TradeCsvLoader test = TradeCsvLoader.standard();
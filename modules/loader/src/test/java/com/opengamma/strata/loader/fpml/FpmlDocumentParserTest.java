@@ -40,6 +40,7 @@ import static com.opengamma.strata.basics.index.IborIndices.GBP_LIBOR_6M;
 import static com.opengamma.strata.basics.index.IborIndices.USD_LIBOR_3M;
 import static com.opengamma.strata.basics.index.IborIndices.USD_LIBOR_6M;
 import static com.opengamma.strata.basics.index.OvernightIndices.EUR_EONIA;
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
 import static com.opengamma.strata.collect.TestHelper.assertEqualsBean;
 import static com.opengamma.strata.collect.TestHelper.date;
 import static com.opengamma.strata.product.common.BuySell.BUY;
@@ -59,13 +60,16 @@ import java.time.ZoneId;
 import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import org.joda.beans.Bean;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.ImmutableMap;
@@ -1578,6 +1582,67 @@ public class FpmlDocumentParserTest {
     assertThat(trades).hasSize(1);
   }
 
+  //-------------------------------------------------------------------------
+  @ParameterizedTest
+  @MethodSource("data_parse")
+  public void streamTrades(String location) {
+    ByteSource resource = ResourceLocator.of(location).getByteSource();
+    FpmlDocumentParser parser = FpmlDocumentParser.of(FpmlPartySelector.matching("Party2"));
+    List<Trade> expected = parser.parseTrades(resource);
+    try (Stream<Trade> stream = parser.streamTrades(resource)) {
+      assertThat(stream.collect(toImmutableList())).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  public void streamTrades_wrapper() {
+    FpmlDocumentParser parser = FpmlDocumentParser.of(FpmlPartySelector.matching("Party2"));
+    for (String file : ImmutableList.of("wrapper1", "wrapper2", "wrapper-clearing-status")) {
+      String location = "classpath:com/opengamma/strata/loader/fpml/ird-ex08-fra-" + file + ".xml";
+      ByteSource resource = ResourceLocator.of(location).getByteSource();
+      try (Stream<Trade> stream = parser.streamTrades(resource)) {
+        assertFra(stream.collect(toImmutableList()), false);
+      }
+    }
+  }
+
+  @Test
+  public void streamTrades_parallel() throws Exception {
+    String location = "classpath:com/opengamma/strata/loader/fpml/ird-ex01-vanilla-swap.xml";
+    String xml = ResourceLocator.of(location).getCharSource().read();
+    int tradeStart = xml.indexOf("<trade>");
+    int tradeEnd = xml.indexOf("</trade>") + "</trade>".length();
+    String trade = xml.substring(tradeStart, tradeEnd);
+    String multiXml = xml.substring(0, tradeStart) + Strings.repeat(trade, 50) + xml.substring(tradeEnd);
+    ByteSource resource = ByteSource.wrap(multiXml.getBytes(StandardCharsets.UTF_8));
+    FpmlDocumentParser parser = FpmlDocumentParser.of(FpmlPartySelector.matching("Party1"));
+    List<Trade> expected = parser.parseTrades(resource);
+    assertThat(expected).hasSize(50);
+    try (Stream<Trade> stream = parser.streamTrades(resource, ForkJoinPool.commonPool(), 8)) {
+      assertThat(stream.collect(toImmutableList())).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  public void streamTrades_noParties() {
+    String xml = "<dataDocument><trade><swap/></trade></dataDocument>";
+    ByteSource resource = ByteSource.wrap(xml.getBytes(StandardCharsets.UTF_8));
+    assertThatExceptionOfType(FpmlParseException.class)
+        .isThrownBy(() -> FpmlDocumentParser.of(FpmlPartySelector.any()).streamTrades(resource))
+        .withMessage("Unable to find FpML root element");
+  }
+
+  @Test
+  public void streamTrades_unknownProduct() {
+    String xml = "<dataDocument><trade><foo/></trade><party id=\"p1\"><partyId>A</partyId></party></dataDocument>";
+    ByteSource resource = ByteSource.wrap(xml.getBytes(StandardCharsets.UTF_8));
+    try (Stream<Trade> stream = FpmlDocumentParser.of(FpmlPartySelector.any()).streamTrades(resource)) {
+      assertThatExceptionOfType(FpmlParseException.class)
+          .isThrownBy(() -> stream.count())
+          .withMessage("Unknown product type: [foo]");
+    }
+  }
+
   //-------------------------------------------------------------------------
   @Test
   public void noTrades() {
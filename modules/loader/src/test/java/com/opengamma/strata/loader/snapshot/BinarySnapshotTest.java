@@ -0,0 +1,191 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.loader.snapshot;
+
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.basics.index.IborIndices.GBP_LIBOR_3M;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.ByteSource;
+import com.opengamma.strata.basics.currency.FxRate;
+import com.opengamma.strata.basics.index.Index;
+import com.opengamma.strata.collect.io.ArrayByteSource;
+import com.opengamma.strata.collect.io.ResourceLocator;
+import com.opengamma.strata.collect.timeseries.LocalDateDoubleTimeSeries;
+import com.opengamma.strata.data.FxRateId;
+import com.opengamma.strata.data.ImmutableMarketData;
+import com.opengamma.strata.data.ObservableId;
+import com.opengamma.strata.loader.csv.FixingSeriesCsvLoader;
+import com.opengamma.strata.loader.csv.QuotesCsvLoader;
+import com.opengamma.strata.loader.csv.RatesCurvesCsvLoader;
+import com.opengamma.strata.loader.csv.TradeCsvLoader;
+import com.opengamma.strata.market.curve.ConstantCurve;
+import com.opengamma.strata.market.curve.Curve;
+import com.opengamma.strata.market.curve.InterpolatedNodalCurve;
+import com.opengamma.strata.market.curve.RatesCurveGroup;
+import com.opengamma.strata.market.observable.IndexQuoteId;
+import com.opengamma.strata.market.observable.QuoteId;
+import com.opengamma.strata.product.Trade;
+
+/**
+ * Test {@link BinarySnapshot} and {@link BinarySnapshotWriter}.
+ */
+public class BinarySnapshotTest {
+
+  private static final String CSV = "classpath:com/opengamma/strata/loader/csv/";
+  private static final LocalDate DATE = LocalDate.of(2014, 1, 22);
+  private static final LocalDate CURVE_DATE = LocalDate.of(2009, 7, 31);
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_trades() {
+    List<Trade> trades = TradeCsvLoader.standard().load(ResourceLocator.of(CSV + "trades.csv")).getValue();
+    assertThat(trades).isNotEmpty();
+    BinarySnapshot test = BinarySnapshot.of(BinarySnapshotWriter.create()
+        .addTrades("trades", trades)
+        .addTrades("empty", ImmutableList.of())
+        .toByteSource());
+    assertThat(test.getSectionNames()).containsExactly("trades", "empty");
+    assertThat(test.containsSection("trades")).isTrue();
+    assertThat(test.containsSection("other")).isFalse();
+    assertThat(test.readTrades("trades")).isEqualTo(trades);
+    assertThat(test.readTrades("empty")).isEmpty();
+    assertThat(test.toString()).isEqualTo("BinarySnapshot[trades, empty]");
+  }
+
+  @Test
+  public void test_marketData() {
+    Map<QuoteId, Double> quotes = QuotesCsvLoader.load(DATE, ResourceLocator.of(CSV + "quotes-1.csv"));
+    Map<ObservableId, LocalDateDoubleTimeSeries> fixings =
+        FixingSeriesCsvLoader.load(ResourceLocator.of(CSV + "fixings-1.csv"));
+    ImmutableMarketData marketData = ImmutableMarketData.builder(DATE)
+        .addValueMap(quotes)
+        .addValue(IndexQuoteId.of(GBP_LIBOR_3M), 0.0125d)
+        .addValue(FxRateId.of(GBP, USD), FxRate.of(GBP, USD, 1.6d))
+        .addTimeSeriesMap(fixings)
+        .build();
+    BinarySnapshot test = BinarySnapshot.of(BinarySnapshotWriter.create()
+        .addMarketData("md", marketData)
+        .toByteSource());
+    assertThat(test.readMarketData("md")).isEqualTo(marketData);
+  }
+
+  @Test
+  public void test_curveGroup() {
+    RatesCurveGroup loaded = RatesCurvesCsvLoader.load(
+        CURVE_DATE,
+        ResourceLocator.of(CSV + "groups.csv"),
+        ResourceLocator.of(CSV + "settings.csv"),
+        ImmutableList.of(ResourceLocator.of(CSV + "curves-1-and-2.csv"))).get(0);
+    Map<Index, Curve> forwardCurves = new HashMap<>(loaded.getForwardCurves());
+    forwardCurves.put(GBP_LIBOR_3M, ConstantCurve.of("Constant", 0.01d));
+    RatesCurveGroup group = RatesCurveGroup.of(loaded.getName(), loaded.getDiscountCurves(), forwardCurves);
+    assertThat(loaded.getDiscountCurves().values()).allMatch(curve -> curve instanceof InterpolatedNodalCurve);
+    BinarySnapshot test = BinarySnapshot.of(BinarySnapshotWriter.create()
+        .addCurveGroup("curves", group)
+        .toByteSource());
+    assertThat(test.readCurveGroup("curves")).isEqualTo(group);
+  }
+
+  @Test
+  public void test_timeSeries() {
+    Map<ObservableId, LocalDateDoubleTimeSeries> fixings =
+        FixingSeriesCsvLoader.load(ResourceLocator.of(CSV + "fixings-1-and-2.csv"));
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    BinarySnapshotWriter.create()
+        .addTimeSeries("fixings", fixings)
+        .write(baos);
+    BinarySnapshot test = BinarySnapshot.of(ByteSource.wrap(baos.toByteArray()));
+    assertThat(test.readTimeSeries("fixings")).isEqualTo(fixings);
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_duplicateSection() {
+    BinarySnapshotWriter writer = BinarySnapshotWriter.create().addTrades("a", ImmutableList.of());
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> writer.addTimeSeries("a", ImmutableMap.of()))
+        .withMessage("Snapshot already contains a section named 'a'");
+  }
+
+  @Test
+  public void test_missingSection() {
+    BinarySnapshot test = BinarySnapshot.of(BinarySnapshotWriter.create().toByteSource());
+    assertThat(test.getSectionNames()).isEmpty();
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> test.readTrades("a"))
+        .withMessage("Snapshot section not found: 'a'");
+  }
+
+  @Test
+  public void test_wrongSectionType() {
+    BinarySnapshot test = BinarySnapshot.of(BinarySnapshotWriter.create()
+        .addTimeSeries("a", ImmutableMap.of())
+        .toByteSource());
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> test.readTrades("a"))
+        .withMessage("Snapshot section 'a' has type TIME_SERIES, but TRADES was requested");
+  }
+
+  @Test
+  public void test_invalidHeader() {
+    byte[] bytes = BinarySnapshotWriter.create().addTrades("a", ImmutableList.of()).toByteSource().read();
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BinarySnapshot.of(ArrayByteSource.copyOf(Arrays.copyOf(bytes, 5))))
+        .withMessage("Invalid snapshot, header is incomplete");
+    byte[] badMagic = bytes.clone();
+    badMagic[0] = 'X';
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BinarySnapshot.of(ArrayByteSource.copyOf(badMagic)))
+        .withMessageStartingWith("Invalid snapshot");
+    byte[] badVersion = bytes.clone();
+    badVersion[7] = 99;
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BinarySnapshot.of(ArrayByteSource.copyOf(badVersion)))
+        .withMessage("Unsupported snapshot format version: 99");
+  }
+
+  @Test
+  public void test_truncatedSection() {
+    byte[] bytes = BinarySnapshotWriter.create()
+        .addTimeSeries("a", FixingSeriesCsvLoader.load(ResourceLocator.of(CSV + "fixings-1.csv")))
+        .toByteSource()
+        .read();
+    BinarySnapshot test = BinarySnapshot.of(ArrayByteSource.copyOf(Arrays.copyOf(bytes, bytes.length - 4)));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> test.readTimeSeries("a"))
+        .withMessage("Invalid snapshot, section 'a' is incomplete");
+  }
+
+  @Test
+  public void test_lengthExceedsData() {
+    // a declared length of Integer.MAX_VALUE, followed by no data
+    byte[] bytes = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07};
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> new SnapshotInput(bytes).readBytes())
+        .withMessage("Invalid snapshot, length 2147483647 exceeds the 0 bytes remaining");
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> new SnapshotInput(bytes).readTimeSeries())
+        .withMessageStartingWith("Invalid snapshot, length ");
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> new SnapshotInput(bytes).readDoubleArray())
+        .withMessageStartingWith("Invalid snapshot, length ");
+  }
+
+}
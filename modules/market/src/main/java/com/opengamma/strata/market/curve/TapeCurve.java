@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.curve;
+
+import java.util.Arrays;
+
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
+import com.opengamma.strata.market.param.UnitParameterSensitivity;
+import com.opengamma.strata.math.impl.differentiation.AdjointTape;
+
+/**
+ * A curve whose values are recorded on an adjoint tape.
+ * <p>
+ * The parameters of the curve are recorded as inputs of the tape when this adapter is created.
+ * Each call to {@link #yValue(double)} then records a node depending on the parameters,
+ * using {@link Curve#yValueParameterSensitivity(double)} for the partial derivatives.
+ * <p>
+ * This allows a model without hand-written sensitivities to obtain the sensitivity to all the parameters
+ * of all its curves from a single backward sweep of the tape, rather than by finite difference.
+ * Several curves may be recorded on the same tape, the gradient of the tape being split using
+ * {@link #parameterSensitivity(double[])}.
+ * <p>
+ * This class is mutable and not thread-safe, as it records on the tape.
+ */
+public final class TapeCurve {
+
+  /**
+   * The tape.
+   */
+  private final AdjointTape tape;
+  /**
+   * The underlying curve.
+   */
+  private final Curve curve;
+  /**
+   * The nodes of the parameters.
+   */
+  private final int[] parameterNodes;
+  /**
+   * The index of the first parameter in the inputs of the tape.
+   */
+  private final int firstInput;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance, recording the parameters of the curve as inputs of the tape.
+   *
+   * @param tape  the tape
+   * @param curve  the curve
+   * @return the adapter
+   */
+  public static TapeCurve of(AdjointTape tape, Curve curve) {
+    ArgChecker.notNull(tape, "tape");
+    ArgChecker.notNull(curve, "curve");
+    return new TapeCurve(tape, curve);
+  }
+
+  // restricted constructor
+  private TapeCurve(AdjointTape tape, Curve curve) {
+    this.tape = tape;
+    this.curve = curve;
+    this.firstInput = tape.inputCount();
+    this.parameterNodes = new int[curve.getParameterCount()];
+    for (int i = 0; i < parameterNodes.length; i++) {
+      parameterNodes[i] = tape.input(curve.getParameter(i));
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the tape.
+   *
+   * @return the tape
+   */
+  public AdjointTape getTape() {
+    return tape;
+  }
+
+  /**
+   * Gets the underlying curve.
+   *
+   * @return the curve
+   */
+  public Curve getCurve() {
+    return curve;
+  }
+
+  /**
+   * Records the y-value for the specified x-value.
+   *
+   * @param x  the x-value
+   * @return the node of the y-value
+   */
+  public int yValue(double x) {
+    double value = curve.yValue(x);
+    double[] partials = curve.yValueParameterSensitivity(x).getSensitivity().toArrayUnsafe();
+    return tape.record(value, parameterNodes, partials);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Extracts the sensitivity to the parameters of the curve from the gradient of the tape.
+   *
+   * @param gradient  the gradient, as returned by {@link AdjointTape#gradient(int)}
+   * @return the sensitivity
+   */
+  public UnitParameterSensitivity parameterSensitivity(double[] gradient) {
+    return curve.createParameterSensitivity(slice(gradient));
+  }
+
+  /**
+   * Extracts the sensitivity to the parameters of the curve from the gradient of the tape.
+   *
+   * @param gradient  the gradient, as returned by {@link AdjointTape#gradient(int)}
+   * @param currency  the currency of the sensitivity
+   * @return the sensitivity
+   */
+  public CurrencyParameterSensitivity parameterSensitivity(double[] gradient, Currency currency) {
+    return curve.createParameterSensitivity(currency, slice(gradient));
+  }
+
+  // extracts the part of the gradient relating to this curve
+  private DoubleArray slice(double[] gradient) {
+    ArgChecker.isTrue(gradient.length >= firstInput + parameterNodes.length,
+        "Gradient does not include the parameters of the curve");
+    return DoubleArray.ofUnsafe(Arrays.copyOfRange(gradient, firstInput, firstInput + parameterNodes.length));
+  }
+
+}
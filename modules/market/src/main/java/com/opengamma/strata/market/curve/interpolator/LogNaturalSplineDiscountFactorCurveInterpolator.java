@@ -7,23 +7,16 @@ package com.opengamma.strata.market.curve.interpolator;
 
 import java.io.Serializable;
 
-import com.google.common.base.Supplier;
-import com.google.common.base.Suppliers;
-import com.opengamma.strata.basics.value.ValueDerivatives;
+import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
-import com.opengamma.strata.math.impl.function.PiecewisePolynomialWithSensitivityFunction1D;
-import com.opengamma.strata.math.impl.interpolation.ClampedPiecewisePolynomialInterpolator;
-import com.opengamma.strata.math.impl.interpolation.LogNaturalSplineHelper;
-import com.opengamma.strata.math.impl.interpolation.NaturalSplineInterpolator;
-import com.opengamma.strata.math.impl.interpolation.PiecewisePolynomialResult;
-import com.opengamma.strata.math.impl.interpolation.PiecewisePolynomialResultsWithSensitivity;
+import com.opengamma.strata.math.impl.interpolation.NaturalCubicSpline;
 
 /**
  * Log natural cubic spline interpolator for discount factors.
  * <p>
  * Find a interpolant F(x) = exp( f(x) ) so that F(0) = 1 where f(x) is a Natural cubic spline.
  * <p>
- * The natural cubic spline is determined by {@link LogNaturalSplineHelper}, where the tridiagonal
+ * The natural cubic spline is determined by {@link NaturalCubicSpline}, where the tridiagonal
  * algorithm is used to solve a linear system.
  */
 final class LogNaturalSplineDiscountFactorCurveInterpolator implements CurveInterpolator, Serializable {
@@ -41,10 +34,6 @@ final class LogNaturalSplineDiscountFactorCurveInterpolator implements CurveInte
    * The serialization version id.
    */
   private static final long serialVersionUID = 1L;
-  /**
-   * The polynomial function.
-   */
-  private static final PiecewisePolynomialWithSensitivityFunction1D FUNCTION = new PiecewisePolynomialWithSensitivityFunction1D();
 
   /**
    * Restricted constructor.
@@ -81,61 +70,59 @@ final class LogNaturalSplineDiscountFactorCurveInterpolator implements CurveInte
   static class Bound extends AbstractBoundCurveInterpolator {
     private final double[] xValues;
     private final double[] yValues;
-    private final PiecewisePolynomialResult poly;
-    private final Supplier<PiecewisePolynomialResultsWithSensitivity> polySens;
-    private double[] logYValues;
+    private final NaturalCubicSpline spline;
+    private final int clampedIndex;
 
     Bound(DoubleArray xValues, DoubleArray yValues) {
       super(xValues, yValues);
       this.xValues = xValues.toArrayUnsafe();
       this.yValues = yValues.toArrayUnsafe();
-      this.logYValues = getYLogValues(this.yValues);
-      ClampedPiecewisePolynomialInterpolator underlying = new ClampedPiecewisePolynomialInterpolator(
-          new NaturalSplineInterpolator(), new double[] {0d}, new double[] {0d});
-      this.poly = underlying.interpolate(xValues.toArray(), logYValues);
-      this.polySens = Suppliers.memoize(() -> underlying.interpolateWithSensitivity(xValues.toArray(), logYValues));
+      int nData = this.xValues.length;
+      // the node (0, 0) is inserted into the log values, ensuring F(0) = 1
+      int index = 0;
+      while (index < nData && this.xValues[index] < 0d) {
+        index++;
+      }
+      double[] xValuesTotal = new double[nData + 1];
+      double[] logYValuesTotal = new double[nData + 1];
+      for (int i = 0; i < nData; ++i) {
+        int j = i < index ? i : i + 1;
+        xValuesTotal[j] = this.xValues[i];
+        logYValuesTotal[j] = Math.log(this.yValues[i]);
+        ArgChecker.isTrue(Double.isFinite(logYValuesTotal[j]), "Discount factors must be positive and finite");
+      }
+      this.clampedIndex = index;
+      this.spline = NaturalCubicSpline.of(xValuesTotal, logYValuesTotal);
     }
 
     Bound(Bound base, BoundCurveExtrapolator extrapolatorLeft, BoundCurveExtrapolator extrapolatorRight) {
       super(base, extrapolatorLeft, extrapolatorRight);
       this.xValues = base.xValues;
       this.yValues = base.yValues;
-      this.logYValues = base.logYValues;
-      this.poly = base.poly;
-      this.polySens = base.polySens;
-    }
-
-    private static double[] getYLogValues(double[] yValues) {
-      int nData = yValues.length;
-      double[] logYValues = new double[nData];
-      for (int i = 0; i < nData; ++i) {
-        logYValues[i] = Math.log(yValues[i]);
-      }
-      return logYValues;
+      this.spline = base.spline;
+      this.clampedIndex = base.clampedIndex;
     }
 
     //-------------------------------------------------------------------------
     @Override
     protected double doInterpolate(double xValue) {
-      double resValue = FUNCTION.evaluate(poly, xValue).get(0);
-      return Math.exp(resValue);
+      return Math.exp(spline.value(xValue));
     }
 
     @Override
     protected double doFirstDerivative(double xValue) {
-      ValueDerivatives resValue = FUNCTION.evaluateAndDifferentiate(poly, xValue);
-      return Math.exp(resValue.getValue()) * resValue.getDerivative(0);
+      return Math.exp(spline.value(xValue)) * spline.firstDerivative(xValue);
     }
 
     @Override
     protected DoubleArray doParameterSensitivity(double xValue) {
       int nParams = yValues.length;
-      double resValue = FUNCTION.evaluate(poly, xValue).get(0);
-      DoubleArray resSense = FUNCTION.nodeSensitivity(polySens.get(), xValue);
-      double expResValue = Math.exp(resValue);
+      double expResValue = Math.exp(spline.value(xValue));
+      double[] resSense = spline.nodeSensitivity(xValue);
       double[] res = new double[nParams];
       for (int i = 0; i < nParams; ++i) {
-        res[i] = resSense.get(i + 1) * expResValue / yValues[i];
+        int j = i < clampedIndex ? i : i + 1;
+        res[i] = resSense[j] * expResValue / yValues[i];
       }
       return DoubleArray.ofUnsafe(res);
     }
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.market.curve;
+
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.basics.date.DayCounts.ACT_365F;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.data.Offset.offset;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.market.curve.interpolator.CurveInterpolators;
+import com.opengamma.strata.market.param.CurrencyParameterSensitivity;
+import com.opengamma.strata.market.param.UnitParameterSensitivity;
+import com.opengamma.strata.math.impl.differentiation.AdjointTape;
+
+/**
+ * Test {@link TapeCurve}.
+ */
+public class TapeCurveTest {
+
+  private static final CurveMetadata METADATA_1 = Curves.zeroRates("Discount", ACT_365F);
+  private static final CurveMetadata METADATA_2 = Curves.zeroRates("Forward", ACT_365F);
+  private static final InterpolatedNodalCurve CURVE_1 = InterpolatedNodalCurve.of(
+      METADATA_1,
+      DoubleArray.of(0.5, 1, 2, 5, 10),
+      DoubleArray.of(0.01, 0.012, 0.015, 0.02, 0.022),
+      CurveInterpolators.NATURAL_SPLINE);
+  private static final InterpolatedNodalCurve CURVE_2 = InterpolatedNodalCurve.of(
+      METADATA_2,
+      DoubleArray.of(1, 3, 7),
+      DoubleArray.of(0.015, 0.018, 0.021),
+      CurveInterpolators.LINEAR);
+  private static final double[] TIMES = {0.25, 1.5, 2.5, 4, 7.5};
+  private static final double[] AMOUNTS = {100, -50, 75, 20, 1000};
+  private static final double TOL = 1e-12;
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_yValue() {
+    AdjointTape tape = AdjointTape.create();
+    TapeCurve test = TapeCurve.of(tape, CURVE_1);
+    assertThat(test.getTape()).isSameAs(tape);
+    assertThat(test.getCurve()).isSameAs(CURVE_1);
+    assertThat(tape.inputCount()).isEqualTo(CURVE_1.getParameterCount());
+    for (double time : TIMES) {
+      int node = test.yValue(time);
+      assertThat(tape.value(node)).isEqualTo(CURVE_1.yValue(time));
+      UnitParameterSensitivity sens = test.parameterSensitivity(tape.gradient(node));
+      assertThat(sens.getMarketDataName()).isEqualTo(CURVE_1.getName());
+      assertThat(sens.getSensitivity().equalWithTolerance(
+          CURVE_1.yValueParameterSensitivity(time).getSensitivity(), TOL)).isTrue();
+    }
+  }
+
+  @Test
+  public void test_presentValueSensitivity() {
+    // a model without hand-written sensitivities, the present value of fixed amounts with a spread curve
+    AdjointTape tape = AdjointTape.create();
+    TapeCurve curve1 = TapeCurve.of(tape, CURVE_1);
+    TapeCurve curve2 = TapeCurve.of(tape, CURVE_2);
+    int[] discounted = new int[TIMES.length];
+    for (int i = 0; i < TIMES.length; i++) {
+      int rate = tape.add(curve1.yValue(TIMES[i]), curve2.yValue(TIMES[i]));
+      discounted[i] = tape.scale(tape.exp(tape.scale(rate, -TIMES[i])), AMOUNTS[i]);
+    }
+    int pv = tape.sum(discounted);
+    double[] gradient = tape.gradient(pv);
+    assertThat(gradient).hasSize(CURVE_1.getParameterCount() + CURVE_2.getParameterCount());
+    // compare with the hand-written sensitivity
+    double expectedPv = 0d;
+    DoubleArray expected1 = DoubleArray.filled(CURVE_1.getParameterCount());
+    DoubleArray expected2 = DoubleArray.filled(CURVE_2.getParameterCount());
+    for (int i = 0; i < TIMES.length; i++) {
+      double df = Math.exp(-TIMES[i] * (CURVE_1.yValue(TIMES[i]) + CURVE_2.yValue(TIMES[i])));
+      expectedPv += AMOUNTS[i] * df;
+      double rateBar = -TIMES[i] * AMOUNTS[i] * df;
+      expected1 = expected1.plus(CURVE_1.yValueParameterSensitivity(TIMES[i]).getSensitivity().multipliedBy(rateBar));
+      expected2 = expected2.plus(CURVE_2.yValueParameterSensitivity(TIMES[i]).getSensitivity().multipliedBy(rateBar));
+    }
+    assertThat(tape.value(pv)).isCloseTo(expectedPv, offset(TOL));
+    CurrencyParameterSensitivity sens1 = curve1.parameterSensitivity(gradient, USD);
+    CurrencyParameterSensitivity sens2 = curve2.parameterSensitivity(gradient, USD);
+    assertThat(sens1.getCurrency()).isEqualTo(USD);
+    assertThat(sens1.getMarketDataName()).isEqualTo(CURVE_1.getName());
+    assertThat(sens2.getMarketDataName()).isEqualTo(CURVE_2.getName());
+    assertThat(sens1.getSensitivity().equalWithTolerance(expected1, TOL)).isTrue();
+    assertThat(sens2.getSensitivity().equalWithTolerance(expected2, TOL)).isTrue();
+  }
+
+  @Test
+  public void test_parameterSensitivity_invalid() {
+    AdjointTape tape = AdjointTape.create();
+    TapeCurve test = TapeCurve.of(tape, CURVE_1);
+    assertThatIllegalArgumentException().isThrownBy(() -> test.parameterSensitivity(new double[2]));
+  }
+
+}
@@ -7,6 +7,7 @@ package com.opengamma.strata.market.curve.interpolator;
 
 import static com.opengamma.strata.collect.TestHelper.assertSerialization;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.data.Offset.offset;
 
 import org.junit.jupiter.api.Test;
@@ -119,6 +120,17 @@ public class LogNaturalSplineDiscountFactorCurveInterpolatorTest {
   }
 
   //-------------------------------------------------------------------------
+  @Test
+  public void test_invalid() {
+    DoubleArray xValues = DoubleArray.of(1, 2, 3);
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> LNDFC_INTERPOLATOR.bind(xValues, DoubleArray.of(0.99, 0, 0.9)));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> LNDFC_INTERPOLATOR.bind(xValues, DoubleArray.of(0.99, -0.95, 0.9)));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> LNDFC_INTERPOLATOR.bind(xValues, DoubleArray.of(0.99, Double.NaN, 0.9)));
+  }
+
   @Test
   public void test_serialization() {
     assertSerialization(LNDFC_INTERPOLATOR);
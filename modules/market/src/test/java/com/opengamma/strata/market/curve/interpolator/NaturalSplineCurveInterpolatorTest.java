@@ -7,6 +7,7 @@ package com.opengamma.strata.market.curve.interpolator;
 
 import static com.opengamma.strata.collect.TestHelper.assertSerialization;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.data.Offset.offset;
 
 import org.junit.jupiter.api.Test;
@@ -81,6 +82,17 @@ public class NaturalSplineCurveInterpolatorTest {
   }
 
   //-------------------------------------------------------------------------
+  @Test
+  public void test_invalid() {
+    DoubleArray xValues = DoubleArray.of(1, 2, 3);
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> NATURAL_SPLINE_INTERPOLATOR.bind(xValues, DoubleArray.of(0.99, Double.NaN, 0.9)))
+        .withMessage("yData containing NaN");
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> NATURAL_SPLINE_INTERPOLATOR.bind(xValues, DoubleArray.of(0.99, Double.POSITIVE_INFINITY, 0.9)))
+        .withMessage("yData containing Infinity");
+  }
+
   @Test
   public void test_serialization() {
     assertSerialization(NATURAL_SPLINE_INTERPOLATOR);
@@ -0,0 +1,474 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.differentiation;
+
+import java.util.Arrays;
+
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * A tape recording a calculation for reverse mode automatic differentiation.
+ * <p>
+ * Each value in the calculation is a node on the tape, identified by an {@code int} index.
+ * A node holds its value and the partial derivatives with respect to the nodes it was calculated from.
+ * The nodes and partial derivatives are held in primitive arrays, thus recording an operation does not box.
+ * <p>
+ * The gradient of any node with respect to all the inputs is obtained by a single backward sweep
+ * over the tape, see {@link #gradient(int)}. The cost is a small multiple of the cost of the calculation,
+ * whatever the number of inputs.
+ * <p>
+ * Operations not provided here can be recorded using {@link #unary(int, double, double)},
+ * {@link #binary(int, int, double, double, double)} or {@link #record(double, int[], double[])},
+ * by supplying the value and the partial derivatives.
+ * <p>
+ * This class is mutable and not thread-safe. A tape may be reused by calling {@link #reset()}.
+ */
+public final class AdjointTape {
+
+  /**
+   * The default initial number of nodes.
+   */
+  private static final int DEFAULT_CAPACITY = 64;
+
+  /**
+   * The value of each node.
+   */
+  private double[] values;
+  /**
+   * The start of the edges of each node, with the end of the edges of the last node in the last element.
+   */
+  private int[] edgeStarts;
+  /**
+   * The node at the other end of each edge.
+   */
+  private int[] edgeNodes;
+  /**
+   * The partial derivative along each edge.
+   */
+  private double[] edgePartials;
+  /**
+   * The nodes of the inputs, in the order they were created.
+   */
+  private int[] inputNodes;
+  /**
+   * The number of nodes.
+   */
+  private int nodeCount;
+  /**
+   * The number of edges.
+   */
+  private int edgeCount;
+  /**
+   * The number of inputs.
+   */
+  private int inputCount;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates an empty tape.
+   *
+   * @return the tape
+   */
+  public static AdjointTape create() {
+    return new AdjointTape(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates an empty tape with an initial capacity.
+   * <p>
+   * The tape grows as needed, the capacity avoids the cost of growing for large calculations.
+   *
+   * @param capacity  the initial number of nodes
+   * @return the tape
+   */
+  public static AdjointTape create(int capacity) {
+    ArgChecker.notNegativeOrZero(capacity, "capacity");
+    return new AdjointTape(capacity);
+  }
+
+  // restricted constructor
+  private AdjointTape(int capacity) {
+    this.values = new double[capacity];
+    this.edgeStarts = new int[capacity + 1];
+    this.edgeNodes = new int[2 * capacity];
+    this.edgePartials = new double[2 * capacity];
+    this.inputNodes = new int[Math.min(capacity, DEFAULT_CAPACITY)];
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of nodes on the tape.
+   *
+   * @return the number of nodes
+   */
+  public int nodeCount() {
+    return nodeCount;
+  }
+
+  /**
+   * Gets the number of inputs on the tape.
+   *
+   * @return the number of inputs
+   */
+  public int inputCount() {
+    return inputCount;
+  }
+
+  /**
+   * Gets the value of a node.
+   *
+   * @param node  the node
+   * @return the value
+   */
+  public double value(int node) {
+    return nodeValue(node, "node");
+  }
+
+  /**
+   * Clears the tape, allowing it to be reused.
+   * <p>
+   * The nodes previously returned are no longer valid.
+   */
+  public void reset() {
+    nodeCount = 0;
+    edgeCount = 0;
+    inputCount = 0;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Records an input.
+   * <p>
+   * The gradient is calculated with respect to the inputs, in the order they are created.
+   *
+   * @param value  the value of the input
+   * @return the node
+   */
+  public int input(double value) {
+    int node = push(value, 0);
+    if (inputCount == inputNodes.length) {
+      inputNodes = Arrays.copyOf(inputNodes, 2 * inputCount);
+    }
+    inputNodes[inputCount++] = node;
+    return node;
+  }
+
+  /**
+   * Records an input for each value.
+   *
+   * @param values  the values of the inputs
+   * @return the nodes
+   */
+  public int[] inputs(double[] values) {
+    int[] nodes = new int[values.length];
+    for (int i = 0; i < values.length; i++) {
+      nodes[i] = input(values[i]);
+    }
+    return nodes;
+  }
+
+  /**
+   * Records a constant.
+   * <p>
+   * A constant does not depend on the inputs.
+   *
+   * @param value  the value of the constant
+   * @return the node
+   */
+  public int constant(double value) {
+    return push(value, 0);
+  }
+
+  /**
+   * Records a node depending on one node.
+   *
+   * @param node  the node the value is calculated from
+   * @param value  the value
+   * @param partial  the partial derivative of the value with respect to the node
+   * @return the new node
+   */
+  public int unary(int node, double value, double partial) {
+    ArgChecker.inRange(node, 0, nodeCount, "node");
+    int result = push(value, 1);
+    edgeNodes[edgeCount - 1] = node;
+    edgePartials[edgeCount - 1] = partial;
+    return result;
+  }
+
+  /**
+   * Records a node depending on two nodes.
+   *
+   * @param node1  the first node the value is calculated from
+   * @param node2  the second node the value is calculated from
+   * @param value  the value
+   * @param partial1  the partial derivative of the value with respect to the first node
+   * @param partial2  the partial derivative of the value with respect to the second node
+   * @return the new node
+   */
+  public int binary(int node1, int node2, double value, double partial1, double partial2) {
+    ArgChecker.inRange(node1, 0, nodeCount, "node1");
+    ArgChecker.inRange(node2, 0, nodeCount, "node2");
+    int result = push(value, 2);
+    edgeNodes[edgeCount - 2] = node1;
+    edgePartials[edgeCount - 2] = partial1;
+    edgeNodes[edgeCount - 1] = node2;
+    edgePartials[edgeCount - 1] = partial2;
+    return result;
+  }
+
+  /**
+   * Records a node depending on any number of nodes.
+   * <p>
+   * Nodes with a partial derivative of zero are not recorded.
+   *
+   * @param value  the value
+   * @param nodes  the nodes the value is calculated from
+   * @param partials  the partial derivative of the value with respect to each node
+   * @return the new node
+   */
+  public int record(double value, int[] nodes, double[] partials) {
+    ArgChecker.isTrue(nodes.length == partials.length, "nodes and partials must have the same length");
+    int count = 0;
+    for (int i = 0; i < nodes.length; i++) {
+      ArgChecker.inRange(nodes[i], 0, nodeCount, "node");
+      if (partials[i] != 0d) {
+        count++;
+      }
+    }
+    int result = push(value, count);
+    int edge = edgeCount - count;
+    for (int i = 0; i < nodes.length; i++) {
+      if (partials[i] != 0d) {
+        edgeNodes[edge] = nodes[i];
+        edgePartials[edge] = partials[i];
+        edge++;
+      }
+    }
+    return result;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Records the sum of two nodes.
+   *
+   * @param node1  the first node
+   * @param node2  the second node
+   * @return the new node
+   */
+  public int add(int node1, int node2) {
+    return binary(node1, node2, nodeValue(node1, "node1") + nodeValue(node2, "node2"), 1d, 1d);
+  }
+
+  /**
+   * Records the difference of two nodes.
+   *
+   * @param node1  the first node
+   * @param node2  the second node, subtracted from the first
+   * @return the new node
+   */
+  public int subtract(int node1, int node2) {
+    return binary(node1, node2, nodeValue(node1, "node1") - nodeValue(node2, "node2"), 1d, -1d);
+  }
+
+  /**
+   * Records the product of two nodes.
+   *
+   * @param node1  the first node
+   * @param node2  the second node
+   * @return the new node
+   */
+  public int multiply(int node1, int node2) {
+    double value1 = nodeValue(node1, "node1");
+    double value2 = nodeValue(node2, "node2");
+    return binary(node1, node2, value1 * value2, value2, value1);
+  }
+
+  /**
+   * Records the quotient of two nodes.
+   *
+   * @param node1  the numerator
+   * @param node2  the denominator
+   * @return the new node
+   */
+  public int divide(int node1, int node2) {
+    double inverse = 1d / nodeValue(node2, "node2");
+    double value = nodeValue(node1, "node1") * inverse;
+    return binary(node1, node2, value, inverse, -value * inverse);
+  }
+
+  /**
+   * Records a node plus a constant.
+   *
+   * @param node  the node
+   * @param constant  the constant
+   * @return the new node
+   */
+  public int shift(int node, double constant) {
+    return unary(node, nodeValue(node, "node") + constant, 1d);
+  }
+
+  /**
+   * Records a node multiplied by a constant.
+   *
+   * @param node  the node
+   * @param constant  the constant
+   * @return the new node
+   */
+  public int scale(int node, double constant) {
+    return unary(node, nodeValue(node, "node") * constant, constant);
+  }
+
+  /**
+   * Records the negation of a node.
+   *
+   * @param node  the node
+   * @return the new node
+   */
+  public int negate(int node) {
+    return unary(node, -nodeValue(node, "node"), -1d);
+  }
+
+  /**
+   * Records the exponential of a node.
+   *
+   * @param node  the node
+   * @return the new node
+   */
+  public int exp(int node) {
+    double value = Math.exp(nodeValue(node, "node"));
+    return unary(node, value, value);
+  }
+
+  /**
+   * Records the natural logarithm of a node.
+   *
+   * @param node  the node
+   * @return the new node
+   */
+  public int log(int node) {
+    double value = nodeValue(node, "node");
+    return unary(node, Math.log(value), 1d / value);
+  }
+
+  /**
+   * Records the square root of a node.
+   *
+   * @param node  the node
+   * @return the new node
+   */
+  public int sqrt(int node) {
+    double value = Math.sqrt(nodeValue(node, "node"));
+    return unary(node, value, 0.5 / value);
+  }
+
+  /**
+   * Records a node raised to a constant power.
+   *
+   * @param node  the node
+   * @param power  the power
+   * @return the new node
+   */
+  public int pow(int node, double power) {
+    double value = nodeValue(node, "node");
+    // the value is not derived from the partial, which is infinite or undefined for a value of zero
+    double partial = power == 0d ? 0d : power * Math.pow(value, power - 1d);
+    return unary(node, Math.pow(value, power), partial);
+  }
+
+  /**
+   * Records the sine of a node.
+   *
+   * @param node  the node
+   * @return the new node
+   */
+  public int sin(int node) {
+    double value = nodeValue(node, "node");
+    return unary(node, Math.sin(value), Math.cos(value));
+  }
+
+  /**
+   * Records the cosine of a node.
+   *
+   * @param node  the node
+   * @return the new node
+   */
+  public int cos(int node) {
+    double value = nodeValue(node, "node");
+    return unary(node, Math.cos(value), -Math.sin(value));
+  }
+
+  /**
+   * Records the sum of several nodes.
+   *
+   * @param nodes  the nodes
+   * @return the new node
+   */
+  public int sum(int... nodes) {
+    double value = 0d;
+    for (int node : nodes) {
+      value += nodeValue(node, "node");
+    }
+    double[] partials = new double[nodes.length];
+    Arrays.fill(partials, 1d);
+    return record(value, nodes, partials);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the gradient of a node with respect to the inputs.
+   * <p>
+   * This performs a single backward sweep over the tape.
+   * The result contains the derivative with respect to each input, in the order the inputs were created.
+   *
+   * @param output  the node to differentiate
+   * @return the gradient
+   */
+  public double[] gradient(int output) {
+    ArgChecker.inRange(output, 0, nodeCount, "output");
+    double[] adjoints = new double[output + 1];
+    adjoints[output] = 1d;
+    for (int node = output; node >= 0; node--) {
+      double adjoint = adjoints[node];
+      if (adjoint != 0d) {
+        for (int edge = edgeStarts[node]; edge < edgeStarts[node + 1]; edge++) {
+          adjoints[edgeNodes[edge]] += adjoint * edgePartials[edge];
+        }
+      }
+    }
+    double[] gradient = new double[inputCount];
+    for (int i = 0; i < inputCount; i++) {
+      int node = inputNodes[i];
+      gradient[i] = node <= output ? adjoints[node] : 0d;
+    }
+    return gradient;
+  }
+
+  // gets the value of a node, validating that the node is on the tape
+  private double nodeValue(int node, String name) {
+    ArgChecker.inRange(node, 0, nodeCount, name);
+    return values[node];
+  }
+
+  // adds a node with space for its edges
+  private int push(double value, int edges) {
+    if (nodeCount == values.length) {
+      values = Arrays.copyOf(values, 2 * nodeCount);
+      edgeStarts = Arrays.copyOf(edgeStarts, 2 * nodeCount + 1);
+    }
+    if (edgeCount + edges > edgeNodes.length) {
+      int size = Math.max(2 * edgeNodes.length, edgeCount + edges);
+      edgeNodes = Arrays.copyOf(edgeNodes, size);
+      edgePartials = Arrays.copyOf(edgePartials, size);
+    }
+    int node = nodeCount++;
+    values[node] = value;
+    edgeStarts[node] = edgeCount;
+    edgeCount += edges;
+    edgeStarts[nodeCount] = edgeCount;
+    return node;
+  }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.differentiation;
+
+import java.util.function.Function;
+
+import com.opengamma.strata.basics.value.ValueDerivatives;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+
+/**
+ * Differentiates functions using automatic differentiation.
+ * <p>
+ * Unlike the finite difference differentiators, the derivatives are exact to machine precision.
+ * Reverse mode, based on {@link AdjointTape}, calculates the gradient of a scalar function
+ * with respect to all its variables at a small multiple of the cost of the function.
+ * Forward mode, based on {@link DualNumber}, calculates the derivative in a single direction.
+ */
+public final class AutomaticDifferentiator {
+
+  // restricted constructor
+  private AutomaticDifferentiator() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the value and gradient of a function using reverse mode.
+   *
+   * @param function  the function
+   * @param x  the point at which to differentiate
+   * @return the value and the gradient with respect to each variable
+   */
+  public static ValueDerivatives valueAndGradient(TapeFunction function, DoubleArray x) {
+    ArgChecker.notNull(function, "function");
+    ArgChecker.notNull(x, "x");
+    AdjointTape tape = AdjointTape.create();
+    int output = function.apply(tape, tape.inputs(x.toArrayUnsafe()));
+    return ValueDerivatives.of(tape.value(output), DoubleArray.ofUnsafe(tape.gradient(output)));
+  }
+
+  /**
+   * Provides a function that calculates the gradient using reverse mode.
+   * <p>
+   * The returned function is thread-safe, a new tape being used for each call.
+   *
+   * @param function  the function
+   * @return a function that calculates the gradient
+   */
+  public static Function<DoubleArray, DoubleArray> gradient(TapeFunction function) {
+    ArgChecker.notNull(function, "function");
+    return x -> valueAndGradient(function, x).getDerivatives();
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Calculates the value and derivative of a scalar function using forward mode.
+   *
+   * @param function  the function
+   * @param x  the point at which to differentiate
+   * @return the value and the derivative
+   */
+  public static ValueDerivatives valueAndDerivative(Function<DualNumber, DualNumber> function, double x) {
+    ArgChecker.notNull(function, "function");
+    DualNumber result = function.apply(DualNumber.variable(x));
+    return ValueDerivatives.of(result.getValue(), DoubleArray.of(result.getDerivative()));
+  }
+
+  /**
+   * Calculates the derivative of a function of several variables in one direction using forward mode.
+   *
+   * @param function  the function
+   * @param x  the point at which to differentiate
+   * @param direction  the direction of differentiation
+   * @return the value and the directional derivative
+   */
+  public static DualNumber directionalDerivative(
+      Function<DualNumber[], DualNumber> function,
+      DoubleArray x,
+      DoubleArray direction) {
+
+    ArgChecker.notNull(function, "function");
+    ArgChecker.isTrue(x.size() == direction.size(), "x and direction must have the same size");
+    DualNumber[] variables = new DualNumber[x.size()];
+    for (int i = 0; i < variables.length; i++) {
+      variables[i] = DualNumber.of(x.get(i), direction.get(i));
+    }
+    return function.apply(variables);
+  }
+
+}
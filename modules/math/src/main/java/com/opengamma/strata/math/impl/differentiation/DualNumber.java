@@ -0,0 +1,275 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.differentiation;
+
+/**
+ * A dual number, used for forward mode automatic differentiation.
+ * <p>
+ * A dual number holds a value and the derivative of that value in a single direction.
+ * Each operation applies the chain rule, thus a calculation written in terms of dual numbers
+ * produces the derivative alongside the value.
+ * <p>
+ * Forward mode is efficient when there are few inputs, as each direction requires a separate calculation.
+ * For many inputs, see {@link AdjointTape}.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class DualNumber {
+
+  /**
+   * The value.
+   */
+  private final double value;
+  /**
+   * The derivative.
+   */
+  private final double derivative;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance from the value and derivative.
+   *
+   * @param value  the value
+   * @param derivative  the derivative
+   * @return the dual number
+   */
+  public static DualNumber of(double value, double derivative) {
+    return new DualNumber(value, derivative);
+  }
+
+  /**
+   * Obtains an instance representing the variable of differentiation, with a derivative of one.
+   *
+   * @param value  the value
+   * @return the dual number
+   */
+  public static DualNumber variable(double value) {
+    return new DualNumber(value, 1d);
+  }
+
+  /**
+   * Obtains an instance representing a constant, with a derivative of zero.
+   *
+   * @param value  the value
+   * @return the dual number
+   */
+  public static DualNumber constant(double value) {
+    return new DualNumber(value, 0d);
+  }
+
+  // restricted constructor
+  private DualNumber(double value, double derivative) {
+    this.value = value;
+    this.derivative = derivative;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the value.
+   *
+   * @return the value
+   */
+  public double getValue() {
+    return value;
+  }
+
+  /**
+   * Gets the derivative.
+   *
+   * @return the derivative
+   */
+  public double getDerivative() {
+    return derivative;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns the sum of this and another dual number.
+   *
+   * @param other  the other dual number
+   * @return the sum
+   */
+  public DualNumber plus(DualNumber other) {
+    return new DualNumber(value + other.value, derivative + other.derivative);
+  }
+
+  /**
+   * Returns the sum of this and a constant.
+   *
+   * @param constant  the constant
+   * @return the sum
+   */
+  public DualNumber plus(double constant) {
+    return new DualNumber(value + constant, derivative);
+  }
+
+  /**
+   * Returns the difference of this and another dual number.
+   *
+   * @param other  the other dual number
+   * @return the difference
+   */
+  public DualNumber minus(DualNumber other) {
+    return new DualNumber(value - other.value, derivative - other.derivative);
+  }
+
+  /**
+   * Returns the difference of this and a constant.
+   *
+   * @param constant  the constant
+   * @return the difference
+   */
+  public DualNumber minus(double constant) {
+    return new DualNumber(value - constant, derivative);
+  }
+
+  /**
+   * Returns the product of this and another dual number.
+   *
+   * @param other  the other dual number
+   * @return the product
+   */
+  public DualNumber multipliedBy(DualNumber other) {
+    return new DualNumber(value * other.value, derivative * other.value + value * other.derivative);
+  }
+
+  /**
+   * Returns the product of this and a constant.
+   *
+   * @param constant  the constant
+   * @return the product
+   */
+  public DualNumber multipliedBy(double constant) {
+    return new DualNumber(value * constant, derivative * constant);
+  }
+
+  /**
+   * Returns the quotient of this and another dual number.
+   *
+   * @param other  the other dual number, the denominator
+   * @return the quotient
+   */
+  public DualNumber dividedBy(DualNumber other) {
+    double quotient = value / other.value;
+    return new DualNumber(quotient, (derivative - quotient * other.derivative) / other.value);
+  }
+
+  /**
+   * Returns the quotient of this and a constant.
+   *
+   * @param constant  the constant, the denominator
+   * @return the quotient
+   */
+  public DualNumber dividedBy(double constant) {
+    return new DualNumber(value / constant, derivative / constant);
+  }
+
+  /**
+   * Returns the negation of this dual number.
+   *
+   * @return the negation
+   */
+  public DualNumber negated() {
+    return new DualNumber(-value, -derivative);
+  }
+
+  /**
+   * Returns the exponential of this dual number.
+   *
+   * @return the exponential
+   */
+  public DualNumber exp() {
+    double exp = Math.exp(value);
+    return new DualNumber(exp, exp * derivative);
+  }
+
+  /**
+   * Returns the natural logarithm of this dual number.
+   *
+   * @return the natural logarithm
+   */
+  public DualNumber log() {
+    return new DualNumber(Math.log(value), derivative / value);
+  }
+
+  /**
+   * Returns the square root of this dual number.
+   *
+   * @return the square root
+   */
+  public DualNumber sqrt() {
+    double sqrt = Math.sqrt(value);
+    return new DualNumber(sqrt, 0.5 * derivative / sqrt);
+  }
+
+  /**
+   * Returns this dual number raised to a constant power.
+   *
+   * @param power  the power
+   * @return the power of this dual number
+   */
+  public DualNumber pow(double power) {
+    // the value is not derived from the partial, which is infinite or undefined for a value of zero
+    double partial = power == 0d ? 0d : power * Math.pow(value, power - 1d);
+    return new DualNumber(Math.pow(value, power), partial * derivative);
+  }
+
+  /**
+   * Returns the sine of this dual number.
+   *
+   * @return the sine
+   */
+  public DualNumber sin() {
+    return new DualNumber(Math.sin(value), Math.cos(value) * derivative);
+  }
+
+  /**
+   * Returns the cosine of this dual number.
+   *
+   * @return the cosine
+   */
+  public DualNumber cos() {
+    return new DualNumber(Math.cos(value), -Math.sin(value) * derivative);
+  }
+
+  /**
+   * Applies a function with a known derivative to this dual number.
+   * <p>
+   * This allows functions not provided here to be used, applying the chain rule.
+   *
+   * @param functionValue  the value of the function at the value of this dual number
+   * @param functionDerivative  the derivative of the function at the value of this dual number
+   * @return the result of the function
+   */
+  public DualNumber apply(double functionValue, double functionDerivative) {
+    return new DualNumber(functionValue, functionDerivative * derivative);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj instanceof DualNumber) {
+      DualNumber other = (DualNumber) obj;
+      return Double.doubleToLongBits(value) == Double.doubleToLongBits(other.value) &&
+          Double.doubleToLongBits(derivative) == Double.doubleToLongBits(other.derivative);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * Double.hashCode(value) + Double.hashCode(derivative);
+  }
+
+  @Override
+  public String toString() {
+    return "DualNumber[" + value + ", " + derivative + "]";
+  }
+
+}
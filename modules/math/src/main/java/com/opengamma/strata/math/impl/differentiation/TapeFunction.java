@@ -0,0 +1,28 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.differentiation;
+
+/**
+ * A scalar function of several variables, recorded on an {@link AdjointTape}.
+ * <p>
+ * The function is written in terms of the operations of the tape, for example:
+ * <pre>
+ *  TapeFunction f = (tape, x) -&gt; tape.multiply(x[0], tape.exp(x[1]));
+ * </pre>
+ */
+@FunctionalInterface
+public interface TapeFunction {
+
+  /**
+   * Records the function on the tape.
+   *
+   * @param tape  the tape
+   * @param variables  the nodes of the variables
+   * @return the node of the result
+   */
+  public abstract int apply(AdjointTape tape, int[] variables);
+
+}
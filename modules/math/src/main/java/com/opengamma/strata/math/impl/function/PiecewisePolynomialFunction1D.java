@@ -432,6 +432,103 @@ public class PiecewisePolynomialFunction1D {
     return ValueDerivatives.of(resValue, DoubleArray.of(resDeriv));
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Evaluates the function at sorted keys, writing into an output array.
+   * <p>
+   * The keys must be sorted in ascending order, allowing the intervals to be found in a single pass.
+   * The result is the same as {@link #evaluate(PiecewisePolynomialResult, double[])}, flattened by row,
+   * thus the value of piecewise polynomial {@code k} at {@code xKeys[j]} is held in
+   * {@code output[k * xKeys.length + j]}.
+   * 
+   * @param pp  the PiecewisePolynomialResult
+   * @param xKeys  the keys, sorted in ascending order
+   * @param output  the array to populate, of length {@code pp.getDimensions() * xKeys.length}
+   */
+  public void evaluateSorted(PiecewisePolynomialResult pp, double[] xKeys, double[] output) {
+    ArgChecker.notNull(pp, "pp");
+    evaluateSorted(pp, xKeys, output, 0);
+  }
+
+  /**
+   * Finds the first derivatives at sorted keys, writing into an output array.
+   * <p>
+   * The keys must be sorted in ascending order, allowing the intervals to be found in a single pass.
+   * The layout of the output is as for {@link #evaluateSorted(PiecewisePolynomialResult, double[], double[])}.
+   * 
+   * @param pp  the PiecewisePolynomialResult
+   * @param xKeys  the keys, sorted in ascending order
+   * @param output  the array to populate, of length {@code pp.getDimensions() * xKeys.length}
+   */
+  public void differentiateSorted(PiecewisePolynomialResult pp, double[] xKeys, double[] output) {
+    ArgChecker.notNull(pp, "pp");
+    ArgChecker.isFalse(pp.getOrder() < 2, "polynomial degree < 1");
+    evaluateSorted(pp, xKeys, output, 1);
+  }
+
+  /**
+   * Finds the second derivatives at sorted keys, writing into an output array.
+   * <p>
+   * The keys must be sorted in ascending order, allowing the intervals to be found in a single pass.
+   * The layout of the output is as for {@link #evaluateSorted(PiecewisePolynomialResult, double[], double[])}.
+   * 
+   * @param pp  the PiecewisePolynomialResult
+   * @param xKeys  the keys, sorted in ascending order
+   * @param output  the array to populate, of length {@code pp.getDimensions() * xKeys.length}
+   */
+  public void differentiateTwiceSorted(PiecewisePolynomialResult pp, double[] xKeys, double[] output) {
+    ArgChecker.notNull(pp, "pp");
+    ArgChecker.isFalse(pp.getOrder() < 3, "polynomial degree < 2");
+    evaluateSorted(pp, xKeys, output, 2);
+  }
+
+  // evaluates the derivative of the specified order, walking the intervals once
+  private void evaluateSorted(PiecewisePolynomialResult pp, double[] xKeys, double[] output, int derivativeOrder) {
+    ArgChecker.notNull(xKeys, "xKeys");
+    ArgChecker.notNull(output, "output");
+    int keyLength = xKeys.length;
+    int dim = pp.getDimensions();
+    ArgChecker.isTrue(output.length == dim * keyLength, "output length must be dimensions * xKeys length");
+    for (int j = 0; j < keyLength; ++j) {
+      ArgChecker.isFalse(Double.isNaN(xKeys[j]), "xKeys containing NaN");
+      ArgChecker.isFalse(Double.isInfinite(xKeys[j]), "xKeys containing Infinity");
+      ArgChecker.isFalse(j > 0 && xKeys[j] < xKeys[j - 1], "xKeys must be sorted");
+    }
+
+    double[] knots = pp.getKnots().toArrayUnsafe();
+    int lastInterval = knots.length - 2;
+    double[][] coefMatrix = pp.getCoefMatrix().toArrayUnsafe();
+    int nCoefs = pp.getOrder() - derivativeOrder;
+    // the factor applied to each coefficient by differentiation
+    double[] factors = new double[nCoefs];
+    for (int i = 0; i < nCoefs; ++i) {
+      int power = nCoefs - 1 - i + derivativeOrder;
+      factors[i] = 1d;
+      for (int d = 0; d < derivativeOrder; ++d) {
+        factors[i] *= power - d;
+      }
+    }
+
+    int indicator = 0;
+    for (int j = 0; j < keyLength; ++j) {
+      double xKey = xKeys[j];
+      while (indicator < lastInterval && knots[indicator + 1] <= xKey) {
+        indicator++;
+      }
+      double s = xKey - knots[indicator];
+      for (int k = 0; k < dim; ++k) {
+        double[] coefs = coefMatrix[dim * indicator + k];
+        double res = coefs[0] * factors[0];
+        for (int i = 1; i < nCoefs; ++i) {
+          res = res * s + coefs[i] * factors[i];
+        }
+        ArgChecker.isFalse(Double.isInfinite(res), "Too large input");
+        ArgChecker.isFalse(Double.isNaN(res), "Too large input");
+        output[k * keyLength + j] = res;
+      }
+    }
+  }
+
   //-------------------------------------------------------------------------
   /**
    * @param coefs  {a_n,a_{n-1},...} of f(x) = a_n x^{n} + a_{n-1} x^{n-1} + ....
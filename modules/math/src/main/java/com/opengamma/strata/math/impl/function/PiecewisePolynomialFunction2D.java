@@ -513,6 +513,153 @@ public class PiecewisePolynomialFunction2D {
     return evaluate(ppDiff, x0Keys, x1Keys);
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Evaluates the function on a grid of sorted keys, writing into an output array.
+   * <p>
+   * The keys must be sorted in ascending order, allowing the intervals to be found in a single pass
+   * in each direction. The result is the same as {@link #evaluate(PiecewisePolynomialResult2D, double[], double[])}.
+   * 
+   * @param pp  the PiecewisePolynomialResult2D
+   * @param x0Keys  the first keys, sorted in ascending order
+   * @param x1Keys  the second keys, sorted in ascending order
+   * @param output  the array to populate with the value at (x0Keys_i, x1Keys_j), of size x0Keys length by x1Keys length
+   */
+  public void evaluateSorted(PiecewisePolynomialResult2D pp, double[] x0Keys, double[] x1Keys, double[][] output) {
+    ArgChecker.notNull(pp, "pp");
+    evaluateSorted(pp, x0Keys, x1Keys, output, 0, 0);
+  }
+
+  /**
+   * Finds the first derivative with respect to x0 on a grid of sorted keys, writing into an output array.
+   * <p>
+   * The keys must be sorted in ascending order, allowing the intervals to be found in a single pass
+   * in each direction.
+   * 
+   * @param pp  the PiecewisePolynomialResult2D
+   * @param x0Keys  the first keys, sorted in ascending order
+   * @param x1Keys  the second keys, sorted in ascending order
+   * @param output  the array to populate with the derivative at (x0Keys_i, x1Keys_j)
+   */
+  public void differentiateX0Sorted(
+      PiecewisePolynomialResult2D pp,
+      double[] x0Keys,
+      double[] x1Keys,
+      double[][] output) {
+
+    ArgChecker.notNull(pp, "pp");
+    ArgChecker.isFalse(pp.getOrder()[0] < 2, "polynomial degree of x0 < 1");
+    evaluateSorted(pp, x0Keys, x1Keys, output, 1, 0);
+  }
+
+  /**
+   * Finds the first derivative with respect to x1 on a grid of sorted keys, writing into an output array.
+   * <p>
+   * The keys must be sorted in ascending order, allowing the intervals to be found in a single pass
+   * in each direction.
+   * 
+   * @param pp  the PiecewisePolynomialResult2D
+   * @param x0Keys  the first keys, sorted in ascending order
+   * @param x1Keys  the second keys, sorted in ascending order
+   * @param output  the array to populate with the derivative at (x0Keys_i, x1Keys_j)
+   */
+  public void differentiateX1Sorted(
+      PiecewisePolynomialResult2D pp,
+      double[] x0Keys,
+      double[] x1Keys,
+      double[][] output) {
+
+    ArgChecker.notNull(pp, "pp");
+    ArgChecker.isFalse(pp.getOrder()[1] < 2, "polynomial degree of x1 < 1");
+    evaluateSorted(pp, x0Keys, x1Keys, output, 0, 1);
+  }
+
+  // evaluates the partial derivative of the specified orders, walking the intervals once in each direction
+  private void evaluateSorted(
+      PiecewisePolynomialResult2D pp,
+      double[] x0Keys,
+      double[] x1Keys,
+      double[][] output,
+      int derivativeOrder0,
+      int derivativeOrder1) {
+
+    ArgChecker.notNull(x0Keys, "x0Keys");
+    ArgChecker.notNull(x1Keys, "x1Keys");
+    ArgChecker.notNull(output, "output");
+    int n0Keys = x0Keys.length;
+    int n1Keys = x1Keys.length;
+    ArgChecker.isTrue(output.length == n0Keys, "output length must match x0Keys length");
+    double[] knots0 = pp.getKnots0().toArrayUnsafe();
+    double[] knots1 = pp.getKnots1().toArrayUnsafe();
+    int[] intervals1 = sortedIntervals(knots1, x1Keys, "x1Keys");
+    int[] intervals0 = sortedIntervals(knots0, x0Keys, "x0Keys");
+    DoubleMatrix[][] coefs = pp.getCoefs();
+
+    for (int i = 0; i < n0Keys; ++i) {
+      ArgChecker.isTrue(output[i].length == n1Keys, "output row length must match x1Keys length");
+      int ind0 = intervals0[i];
+      double x0Mod = x0Keys[i] - knots0[ind0];
+      for (int j = 0; j < n1Keys; ++j) {
+        int ind1 = intervals1[j];
+        double x1Mod = x1Keys[j] - knots1[ind1];
+        double[][] coefMat = coefs[ind0][ind1].toArrayUnsafe();
+        double res = getValue(coefMat, x0Mod, x1Mod, derivativeOrder0, derivativeOrder1);
+        ArgChecker.isFalse(Double.isInfinite(res), "Too large input");
+        ArgChecker.isFalse(Double.isNaN(res), "Too large input");
+        output[i][j] = res;
+      }
+    }
+  }
+
+  // finds the interval of each sorted key in a single pass
+  private static int[] sortedIntervals(double[] knots, double[] keys, String name) {
+    int lastInterval = knots.length - 2;
+    int[] intervals = new int[keys.length];
+    int indicator = 0;
+    for (int j = 0; j < keys.length; ++j) {
+      double key = keys[j];
+      ArgChecker.isFalse(Double.isNaN(key), "{} containing NaN", name);
+      ArgChecker.isFalse(Double.isInfinite(key), "{} containing Infinity", name);
+      ArgChecker.isFalse(j > 0 && key < keys[j - 1], "{} must be sorted", name);
+      while (indicator < lastInterval && knots[indicator + 1] <= key) {
+        indicator++;
+      }
+      intervals[j] = indicator;
+    }
+    return intervals;
+  }
+
+  // evaluates the partial derivative of the polynomial using nested Horner schemes
+  private static double getValue(
+      double[][] coefMat,
+      double x0Mod,
+      double x1Mod,
+      int derivativeOrder0,
+      int derivativeOrder1) {
+
+    int order0 = coefMat.length;
+    int order1 = coefMat[0].length;
+    double res = 0d;
+    for (int k = 0; k < order0 - derivativeOrder0; ++k) {
+      double[] row = coefMat[k];
+      double inner = 0d;
+      for (int l = 0; l < order1 - derivativeOrder1; ++l) {
+        inner = inner * x1Mod + row[l] * fallingFactorial(order1 - 1 - l, derivativeOrder1);
+      }
+      res = res * x0Mod + inner * fallingFactorial(order0 - 1 - k, derivativeOrder0);
+    }
+    return res;
+  }
+
+  // the factor applied to the coefficient of x^power by differentiating the specified number of times
+  private static double fallingFactorial(int power, int derivativeOrder) {
+    double factor = 1d;
+    for (int d = 0; d < derivativeOrder; ++d) {
+      factor *= power - d;
+    }
+    return factor;
+  }
+
   // sum_{i=0}^{order0-1} sum_{j=0}^{order1-1} coefMat_{ij} (x0-leftKnots0)^{order0-1-i} (x1-leftKnots1)^{order0-1-j}
   private double getValue(DoubleMatrix coefMat, double x0, double x1, double leftKnot0, double leftKnot1) {
 
@@ -27,11 +27,14 @@ public class GaussHermiteQuadratureIntegrator1D extends GaussianQuadratureIntegr
   private static final Double[] LIMITS = new Double[] {Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY};
   private static final GaussHermiteWeightAndAbscissaFunction GENERATOR = new GaussHermiteWeightAndAbscissaFunction();
 
+  private final GaussianQuadratureData integrationData;
+
   /**
    * @param n The number of sample points to use in the integration
    */
   public GaussHermiteQuadratureIntegrator1D(int n) {
     super(n, GENERATOR);
+    this.integrationData = integrationData();
   }
 
   /**
@@ -71,4 +74,30 @@ public class GaussHermiteQuadratureIntegrator1D extends GaussianQuadratureIntegr
     throw new UnsupportedOperationException("Limits for this integration method are +/-infinity");
   }
 
+  /**
+   * {@inheritDoc}
+   * The weights include the inverse of the weight function, as for {@link #getIntegralFunction}.
+   * The arrays are copied from those held by this integrator.
+   */
+  @Override
+  protected GaussianQuadratureData getIntegrationData(double lower, double upper) {
+    if (lower == LIMITS[0] && upper == LIMITS[1]) {
+      return new GaussianQuadratureData(integrationData.getAbscissas().clone(), integrationData.getWeights().clone());
+    }
+    throw new UnsupportedOperationException("Limits for this integration method are +/-infinity");
+  }
+
+  // the abscissas and the weights multiplied by the inverse of the weight function
+  private GaussianQuadratureData integrationData() {
+    GaussianQuadratureData quadrature = getQuadratureData();
+    double[] abscissas = quadrature.getAbscissas();
+    double[] weights = quadrature.getWeights();
+    double[] scaledWeights = new double[abscissas.length];
+    for (int i = 0; i < abscissas.length; i++) {
+      double x = abscissas[i];
+      scaledWeights[i] = weights[i] * Math.exp(x * x);
+    }
+    return new GaussianQuadratureData(abscissas.clone(), scaledWeights);
+  }
+
 }
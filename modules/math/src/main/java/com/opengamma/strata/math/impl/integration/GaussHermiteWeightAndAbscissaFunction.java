@@ -76,4 +76,17 @@ public class GaussHermiteWeightAndAbscissaFunction implements QuadratureWeightAn
     return 2 * previousRoot + x[i - 2];
   }
 
+  @Override
+  public int hashCode() {
+    return getClass().hashCode();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    return obj != null && getClass() == obj.getClass();
+  }
+
 }
@@ -68,4 +68,24 @@ public class GaussJacobiQuadratureIntegrator1D extends GaussianQuadratureIntegra
     };
   }
 
+  /**
+   * {@inheritDoc}
+   * The points and weights include the change of interval, as for {@link #getIntegralFunction}.
+   */
+  @Override
+  protected GaussianQuadratureData getIntegrationData(double lower, double upper) {
+    GaussianQuadratureData quadrature = getQuadratureData();
+    double[] abscissas = quadrature.getAbscissas();
+    double[] weights = quadrature.getWeights();
+    double m = (upper - lower) / 2;
+    double c = (upper + lower) / 2;
+    double[] points = new double[abscissas.length];
+    double[] scaledWeights = new double[abscissas.length];
+    for (int i = 0; i < abscissas.length; i++) {
+      points[i] = m * abscissas[i] + c;
+      scaledWeights[i] = m * weights[i];
+    }
+    return new GaussianQuadratureData(points, scaledWeights);
+  }
+
 }
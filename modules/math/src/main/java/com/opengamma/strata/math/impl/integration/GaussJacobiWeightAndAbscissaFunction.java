@@ -121,4 +121,29 @@ public class GaussJacobiWeightAndAbscissaFunction implements QuadratureWeightAnd
     return 3. * x[i - 1] - 3. * x[i - 2] + x[i - 3];
   }
 
+  @Override
+  public int hashCode() {
+    int prime = 31;
+    int result = 1;
+    result = prime * result + Double.hashCode(_alpha);
+    result = prime * result + Double.hashCode(_beta);
+    return result;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (getClass() != obj.getClass()) {
+      return false;
+    }
+    GaussJacobiWeightAndAbscissaFunction other = (GaussJacobiWeightAndAbscissaFunction) obj;
+    return Double.doubleToLongBits(_alpha) == Double.doubleToLongBits(other._alpha) &&
+        Double.doubleToLongBits(_beta) == Double.doubleToLongBits(other._beta);
+  }
+
 }
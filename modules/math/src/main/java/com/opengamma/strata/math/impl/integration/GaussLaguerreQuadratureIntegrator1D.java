@@ -24,12 +24,15 @@ public class GaussLaguerreQuadratureIntegrator1D extends GaussianQuadratureInteg
 
   private static final Double[] LIMITS = new Double[] {0., Double.POSITIVE_INFINITY};
 
+  private final GaussianQuadratureData integrationData;
+
   /**
    * Creates an instance.
    * @param n  the value
    */
   public GaussLaguerreQuadratureIntegrator1D(int n) {
     super(n, new GaussLaguerreWeightAndAbscissaFunction());
+    this.integrationData = integrationData();
   }
 
   /**
@@ -40,6 +43,7 @@ public class GaussLaguerreQuadratureIntegrator1D extends GaussianQuadratureInteg
    */
   public GaussLaguerreQuadratureIntegrator1D(int n, double alpha) {
     super(n, new GaussLaguerreWeightAndAbscissaFunction(alpha));
+    this.integrationData = integrationData();
   }
 
   @Override
@@ -73,4 +77,30 @@ public class GaussLaguerreQuadratureIntegrator1D extends GaussianQuadratureInteg
     throw new UnsupportedOperationException("Limits for Gauss-Laguerre integration are 0 and +infinity");
   }
 
+  /**
+   * {@inheritDoc}
+   * The weights include the inverse of the weight function, as for {@link #getIntegralFunction}.
+   * The arrays are copied from those held by this integrator.
+   */
+  @Override
+  protected GaussianQuadratureData getIntegrationData(double lower, double upper) {
+    if (lower == LIMITS[0] && upper == LIMITS[1]) {
+      return new GaussianQuadratureData(integrationData.getAbscissas().clone(), integrationData.getWeights().clone());
+    }
+    throw new UnsupportedOperationException("Limits for Gauss-Laguerre integration are 0 and +infinity");
+  }
+
+  // the abscissas and the weights multiplied by the inverse of the weight function
+  private GaussianQuadratureData integrationData() {
+    GaussianQuadratureData quadrature = getQuadratureData();
+    double[] abscissas = quadrature.getAbscissas();
+    double[] weights = quadrature.getWeights();
+    double[] scaledWeights = new double[abscissas.length];
+    for (int i = 0; i < abscissas.length; i++) {
+      double x = abscissas[i];
+      scaledWeights[i] = weights[i] * Math.exp(x);
+    }
+    return new GaussianQuadratureData(abscissas.clone(), scaledWeights);
+  }
+
 }
@@ -88,4 +88,24 @@ public class GaussLaguerreWeightAndAbscissaFunction implements QuadratureWeightA
         (1 + 0.3 * _alpha);
   }
 
+  @Override
+  public int hashCode() {
+    return Double.hashCode(_alpha);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (getClass() != obj.getClass()) {
+      return false;
+    }
+    GaussLaguerreWeightAndAbscissaFunction other = (GaussLaguerreWeightAndAbscissaFunction) obj;
+    return Double.doubleToLongBits(_alpha) == Double.doubleToLongBits(other._alpha);
+  }
+
 }
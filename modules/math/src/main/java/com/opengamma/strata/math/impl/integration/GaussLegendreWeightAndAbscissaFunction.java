@@ -57,4 +57,17 @@ public class GaussLegendreWeightAndAbscissaFunction implements QuadratureWeightA
     return Math.cos(Math.PI * (i + 0.75) / (n + 0.5));
   }
 
+  @Override
+  public int hashCode() {
+    return getClass().hashCode();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    return obj != null && getClass() == obj.getClass();
+  }
+
 }
@@ -5,10 +5,14 @@
  */
 package com.opengamma.strata.math.impl.integration;
 
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.tuple.Pair;
 import com.opengamma.strata.math.impl.function.special.OrthogonalPolynomialFunctionGenerator;
 
 /**
@@ -27,10 +31,25 @@ import com.opengamma.strata.math.impl.function.special.OrthogonalPolynomialFunct
  * The evaluation points, weights and valid limits of integration depend on the type of orthogonal
  * polynomials that are used 
  * (see {@link OrthogonalPolynomialFunctionGenerator} and {@link GaussLaguerreWeightAndAbscissaFunction}).
- * 
+ * <p>
+ * The weights and abscissas are cached by generator and number of points, thus they are only
+ * computed the first time an integrator of each type and size is created.
+ * The batch methods evaluate the function at all the abscissas in a single call, which allows
+ * the function to be vectorized, avoiding boxing and dispatch for each point.
  */
 public abstract class GaussianQuadratureIntegrator1D extends Integrator1D<Double, Double> {
 
+  /**
+   * The maximum number of entries in the cache.
+   * Beyond this, the weights and abscissas are computed for each integrator.
+   */
+  private static final int MAX_CACHE_SIZE = 1000;
+  /**
+   * The cached weights and abscissas, keyed by generator and number of points.
+   */
+  private static final Map<Pair<QuadratureWeightAndAbscissaFunction, Integer>, GaussianQuadratureData> CACHE =
+      new ConcurrentHashMap<>();
+
   private final int size;
   private final QuadratureWeightAndAbscissaFunction generator;
   private final GaussianQuadratureData quadrature;
@@ -46,7 +65,25 @@ public abstract class GaussianQuadratureIntegrator1D extends Integrator1D<Double
     ArgChecker.notNull(generator, "generating function");
     this.size = n;
     this.generator = generator;
-    this.quadrature = generator.generate(size);
+    this.quadrature = quadrature(generator, n);
+  }
+
+  // obtains the weights and abscissas from the cache, generating them if necessary
+  private static GaussianQuadratureData quadrature(QuadratureWeightAndAbscissaFunction generator, int n) {
+    Pair<QuadratureWeightAndAbscissaFunction, Integer> key = Pair.of(generator, n);
+    GaussianQuadratureData cached = CACHE.get(key);
+    if (cached != null) {
+      return cached;
+    }
+    if (CACHE.size() >= MAX_CACHE_SIZE) {
+      return generator.generate(n);
+    }
+    return CACHE.computeIfAbsent(key, k -> copy(generator.generate(n)));
+  }
+
+  // copies the arrays, as the generator may retain or expose the arrays it returns
+  private static GaussianQuadratureData copy(GaussianQuadratureData data) {
+    return new GaussianQuadratureData(data.getAbscissas().clone(), data.getWeights().clone());
   }
 
   /**
@@ -84,6 +121,83 @@ public abstract class GaussianQuadratureIntegrator1D extends Integrator1D<Double
     return sum;
   }
 
+  /**
+   * Integrates a function between the limits, evaluating the function at all the points in a single call.
+   * <p>
+   * The function is passed the array of points at which it is to be evaluated,
+   * and must return an array of the same size containing the value at each point.
+   * 
+   * @param function  the function to be integrated
+   * @param lower  the lower integration limit
+   * @param upper  the upper integration limit
+   * @return the integral
+   * @throws UnsupportedOperationException if the limits are not valid for the type of quadrature
+   */
+  public double integrateBatch(Function<DoubleArray, DoubleArray> function, double lower, double upper) {
+    ArgChecker.notNull(function, "function");
+    return sum(function, getIntegrationData(lower, upper));
+  }
+
+  /**
+   * Integrates a function $f(x)$ where the full function is $g(x) = W(x)f(x)$,
+   * evaluating the function at all the abscissas in a single call.
+   * <p>
+   * This is the batch form of {@link #integrateFromPolyFunc(Function)}.
+   * The function is passed the array of abscissas, and must return an array of the same size
+   * containing the value at each abscissa.
+   * 
+   * @param polyFunction  the function $f(x)$ rather than the full function $g(x) = W(x)f(x)$
+   * @return the integral
+   */
+  public double integrateBatchFromPolyFunc(Function<DoubleArray, DoubleArray> polyFunction) {
+    ArgChecker.notNull(polyFunction, "polyFunction");
+    return sum(polyFunction, quadrature);
+  }
+
+  // evaluates the function at the points and sums the weighted values
+  private static double sum(Function<DoubleArray, DoubleArray> function, GaussianQuadratureData data) {
+    double[] weights = data.getWeights();
+    DoubleArray values = function.apply(DoubleArray.ofUnsafe(data.getAbscissas()));
+    ArgChecker.isTrue(values.size() == weights.length,
+        "Function must return {} values, but returned {}", weights.length, values.size());
+    double sum = 0;
+    for (int i = 0; i < weights.length; i++) {
+      sum += values.get(i) * weights[i];
+    }
+    return sum;
+  }
+
+  /**
+   * Gets the weights and abscissas of the quadrature.
+   * <p>
+   * The arrays are shared between integrators, and must not be modified.
+   * As such, this is not exposed outside this package.
+   * 
+   * @return the weights and abscissas
+   */
+  GaussianQuadratureData getQuadratureData() {
+    return quadrature;
+  }
+
+  /**
+   * Gets the points and weights used to integrate a function between the limits.
+   * <p>
+   * The integral of a function $f(x)$ is approximated as $\sum_{i=0}^{N-1} w_i f(x_i)$ where
+   * the points $x_i$ and weights $w_i$ include the change of interval and the weight function.
+   * This is used by {@link #integrateBatch(Function, double, double)}.
+   * Implementations must return arrays that are not shared, as the caller may modify them.
+   * <p>
+   * The default implementation throws {@code UnsupportedOperationException}.
+   * 
+   * @param lower  the lower integration limit
+   * @param upper  the upper integration limit
+   * @return the points and weights
+   * @throws UnsupportedOperationException if the limits are not valid for the type of quadrature
+   */
+  protected GaussianQuadratureData getIntegrationData(double lower, double upper) {
+    throw new UnsupportedOperationException("Batch integration is not supported by " + getClass().getSimpleName());
+  }
+
   /**
    * Gets the limits.
    * 
@@ -10,6 +10,12 @@ import com.opengamma.strata.math.impl.function.special.OrthogonalPolynomialFunct
 /**
  * Interface for classes that generate weights and abscissas for use in Gaussian quadrature. The abscissas are the roots
  * of an orthogonal polynomial {@link OrthogonalPolynomialFunctionGenerator}.
+ * <p>
+ * {@link GaussianQuadratureIntegrator1D} caches the generated weights and abscissas, keyed by the generator
+ * and number of points. Implementations should therefore implement {@code equals} and {@code hashCode}
+ * based on their parameters. Otherwise, each instance gets a new cache entry, which is held forever.
+ * Once the cache holds 1000 entries, nothing more is cached, and each new integrator generates its own
+ * weights and abscissas.
  */
 public interface QuadratureWeightAndAbscissaFunction {
 
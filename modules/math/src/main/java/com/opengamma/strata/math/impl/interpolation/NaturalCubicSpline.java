@@ -0,0 +1,212 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.interpolation;
+
+import java.util.Arrays;
+
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * A natural cubic spline through a set of nodes, solved in linear time.
+ * <p>
+ * This produces the same spline as {@link NaturalSplineInterpolator}, where the second derivative is zero
+ * at the first and last node. The second derivatives at the interior nodes solve a symmetric tridiagonal
+ * system, which is factorized once using the Thomas algorithm. The polynomial coefficients of each interval
+ * are held in flat arrays, rather than in a {@code PiecewisePolynomialResult}.
+ * <p>
+ * The sensitivity of the value at a point to the node values is obtained from a single tridiagonal solve
+ * using the stored factorization, without forming the dense sensitivity matrices.
+ * <p>
+ * Outside the range of the nodes, the polynomial of the first or last interval is used.
+ * The x-values must be sorted in increasing order without duplicates.
+ */
+public final class NaturalCubicSpline {
+
+  /**
+   * The x-values of the nodes.
+   */
+  private final double[] xValues;
+  /**
+   * The width of each interval.
+   */
+  private final double[] widths;
+  /**
+   * The pivots of the factorized tridiagonal system, one for each interior node.
+   */
+  private final double[] pivots;
+  /**
+   * The constant coefficient of each interval, the y-value at the start of the interval.
+   */
+  private final double[] coef0;
+  /**
+   * The linear coefficient of each interval.
+   */
+  private final double[] coef1;
+  /**
+   * The quadratic coefficient of each interval.
+   */
+  private final double[] coef2;
+  /**
+   * The cubic coefficient of each interval.
+   */
+  private final double[] coef3;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance from the nodes.
+   * <p>
+   * The arrays are copied.
+   *
+   * @param xValues  the x-values of the nodes, sorted in increasing order, at least two
+   * @param yValues  the y-values of the nodes
+   * @return the spline
+   * @throws IllegalArgumentException if the values are not finite or the x-values are not sorted and distinct
+   */
+  public static NaturalCubicSpline of(double[] xValues, double[] yValues) {
+    ArgChecker.notNull(xValues, "xValues");
+    ArgChecker.notNull(yValues, "yValues");
+    ArgChecker.isTrue(xValues.length == yValues.length, "xValues length = yValues length");
+    ArgChecker.isTrue(xValues.length > 1, "Data points should be more than 1");
+    for (int i = 0; i < xValues.length; i++) {
+      ArgChecker.isFalse(Double.isNaN(xValues[i]), "xData containing NaN");
+      ArgChecker.isFalse(Double.isInfinite(xValues[i]), "xData containing Infinity");
+      ArgChecker.isFalse(Double.isNaN(yValues[i]), "yData containing NaN");
+      ArgChecker.isFalse(Double.isInfinite(yValues[i]), "yData containing Infinity");
+    }
+    return new NaturalCubicSpline(xValues.clone(), yValues.clone());
+  }
+
+  // restricted constructor
+  private NaturalCubicSpline(double[] xValues, double[] yValues) {
+    int intervalCount = xValues.length - 1;
+    this.xValues = xValues;
+    this.widths = new double[intervalCount];
+    double[] slopes = new double[intervalCount];
+    for (int i = 0; i < intervalCount; i++) {
+      widths[i] = xValues[i + 1] - xValues[i];
+      ArgChecker.isTrue(widths[i] > 0, "xValues must be sorted and distinct");
+      slopes[i] = (yValues[i + 1] - yValues[i]) / widths[i];
+    }
+    // factorize the system for the interior second derivatives and solve it
+    this.pivots = new double[intervalCount - 1];
+    double[] secondDerivatives = new double[intervalCount + 1];
+    for (int k = 0; k < intervalCount - 1; k++) {
+      double diagonal = 2d * (widths[k] + widths[k + 1]);
+      double rhs = 6d * (slopes[k + 1] - slopes[k]);
+      if (k > 0) {
+        double factor = widths[k] / pivots[k - 1];
+        diagonal -= factor * widths[k];
+        rhs -= factor * secondDerivatives[k];
+      }
+      pivots[k] = diagonal;
+      secondDerivatives[k + 1] = rhs;
+    }
+    for (int k = intervalCount - 2; k >= 0; k--) {
+      secondDerivatives[k + 1] = (secondDerivatives[k + 1] - widths[k + 1] * secondDerivatives[k + 2]) / pivots[k];
+    }
+    // convert to polynomial coefficients in the distance from the start of each interval
+    this.coef0 = Arrays.copyOf(yValues, intervalCount);
+    this.coef1 = new double[intervalCount];
+    this.coef2 = new double[intervalCount];
+    this.coef3 = new double[intervalCount];
+    for (int i = 0; i < intervalCount; i++) {
+      double h = widths[i];
+      coef1[i] = slopes[i] - h * (2d * secondDerivatives[i] + secondDerivatives[i + 1]) / 6d;
+      coef2[i] = 0.5 * secondDerivatives[i];
+      coef3[i] = (secondDerivatives[i + 1] - secondDerivatives[i]) / (6d * h);
+      ArgChecker.isTrue(Double.isFinite(coef1[i]) && Double.isFinite(coef3[i]), "Too large input");
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of nodes.
+   *
+   * @return the number of nodes
+   */
+  public int getNodeCount() {
+    return xValues.length;
+  }
+
+  /**
+   * Calculates the value of the spline.
+   *
+   * @param x  the x-value
+   * @return the value
+   */
+  public double value(double x) {
+    int i = interval(x);
+    double s = x - xValues[i];
+    return ((coef3[i] * s + coef2[i]) * s + coef1[i]) * s + coef0[i];
+  }
+
+  /**
+   * Calculates the first derivative of the spline.
+   *
+   * @param x  the x-value
+   * @return the first derivative
+   */
+  public double firstDerivative(double x) {
+    int i = interval(x);
+    double s = x - xValues[i];
+    return (3d * coef3[i] * s + 2d * coef2[i]) * s + coef1[i];
+  }
+
+  /**
+   * Calculates the sensitivity of the value of the spline to the y-value of each node.
+   *
+   * @param x  the x-value
+   * @return the sensitivity to each node
+   */
+  public double[] nodeSensitivity(double x) {
+    int intervalCount = widths.length;
+    int i = interval(x);
+    double h = widths[i];
+    double s = x - xValues[i];
+    double t = s / h;
+    double[] result = new double[intervalCount + 1];
+    result[i] = 1d - t;
+    result[i + 1] = t;
+    if (intervalCount == 1) {
+      return result;
+    }
+    // the weights of the second derivatives at the ends of the interval
+    // the second derivatives are at the interior nodes, indexed from zero at the second node
+    double[] z = new double[intervalCount - 1];
+    if (i > 0) {
+      z[i - 1] = s * (-h / 3d + s / 2d - s * t / 6d);
+    }
+    if (i < intervalCount - 1) {
+      z[i] = s * (-h / 6d + s * t / 6d);
+    }
+    // the system is symmetric, thus solve it for the weights, then apply the transpose of the right hand side
+    for (int k = 1; k < intervalCount - 1; k++) {
+      z[k] -= widths[k] / pivots[k - 1] * z[k - 1];
+    }
+    z[intervalCount - 2] /= pivots[intervalCount - 2];
+    for (int k = intervalCount - 3; k >= 0; k--) {
+      z[k] = (z[k] - widths[k + 1] * z[k + 1]) / pivots[k];
+    }
+    for (int k = 0; k < intervalCount - 1; k++) {
+      double left = 6d / widths[k];
+      double right = 6d / widths[k + 1];
+      result[k] += z[k] * left;
+      result[k + 1] -= z[k] * (left + right);
+      result[k + 2] += z[k] * right;
+    }
+    return result;
+  }
+
+  // finds the interval, using the first or last interval outside the range of the nodes
+  private int interval(double x) {
+    int index = Arrays.binarySearch(xValues, x);
+    if (index < 0) {
+      index = -(index + 1) - 1;
+    }
+    return Math.max(0, Math.min(index, widths.length - 1));
+  }
+
+}
@@ -8,12 +8,18 @@ package com.opengamma.strata.math.impl.interpolation;
 import com.opengamma.strata.collect.ArgChecker;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.math.impl.function.PiecewisePolynomialFunction2D;
 
 /**
  * Abstract class for interpolations based on 2d piecewise polynomial functions .
  */
 public abstract class PiecewisePolynomialInterpolator2D {
 
+  /**
+   * The function used to evaluate the interpolant.
+   */
+  private static final PiecewisePolynomialFunction2D FUNCTION = new PiecewisePolynomialFunction2D();
+
   /**
    * Given a set of data points (x0Values_i, x1Values_j, yValues_{ij}), 2d spline interpolation
    * is returned such that f(x0Values_i, x1Values_j) = yValues_{ij}.
@@ -132,6 +138,31 @@ public abstract class PiecewisePolynomialInterpolator2D {
     return res;
   }
 
+  /**
+   * Interpolates on a grid of sorted keys, writing into an output array.
+   * <p>
+   * The keys must be sorted in ascending order, allowing the intervals to be found in a single pass
+   * in each direction. This is suited to evaluating large grids of points.
+   * 
+   * @param x0Values  the values
+   * @param x1Values  the values
+   * @param yValues  the values
+   * @param x0Keys  the keys, sorted in ascending order
+   * @param x1Keys  the keys, sorted in ascending order
+   * @param output  the array to populate with the value of the 2D interpolant at (x0Keys_i, x1Keys_j)
+   */
+  public void interpolateSorted(
+      double[] x0Values,
+      double[] x1Values,
+      double[][] yValues,
+      double[] x0Keys,
+      double[] x1Keys,
+      double[][] output) {
+
+    PiecewisePolynomialResult2D result = this.interpolate(x0Values, x1Values, yValues);
+    FUNCTION.evaluateSorted(result, x0Keys, x1Keys, output);
+  }
+
   /**
    * @param coefMat  the coefMat
    * @param x0  the x0
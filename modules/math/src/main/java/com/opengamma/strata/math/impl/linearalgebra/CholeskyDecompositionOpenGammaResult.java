@@ -6,6 +6,7 @@
 package com.opengamma.strata.math.impl.linearalgebra;
 
 import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.array.DoubleMatrix;
 import com.opengamma.strata.math.impl.matrix.MatrixAlgebra;
 import com.opengamma.strata.math.impl.matrix.OGMatrixAlgebra;
@@ -97,6 +98,59 @@ public class CholeskyDecompositionOpenGammaResult implements CholeskyDecompositi
     return DoubleMatrix.copyOf(x);
   }
 
+  /**
+   * Returns the decomposition of $\mathbf{A} + xx^T$, where $\mathbf{A}$ is the decomposed matrix.
+   * <p>
+   * The factor is updated directly, which is O(n^2) rather than the O(n^3) of a new decomposition.
+   * This instance is not altered.
+   *
+   * @param x  the vector of the rank-one update
+   * @return the updated decomposition
+   */
+  public CholeskyDecompositionOpenGammaResult withRankOneUpdate(DoubleArray x) {
+    return rankOne(x, 1d);
+  }
+
+  /**
+   * Returns the decomposition of $\mathbf{A} - xx^T$, where $\mathbf{A}$ is the decomposed matrix.
+   * <p>
+   * The factor is updated directly, which is O(n^2) rather than the O(n^3) of a new decomposition.
+   * This instance is not altered.
+   *
+   * @param x  the vector of the rank-one downdate
+   * @return the downdated decomposition
+   * @throws IllegalArgumentException if the downdated matrix is not positive definite
+   */
+  public CholeskyDecompositionOpenGammaResult withRankOneDowndate(DoubleArray x) {
+    return rankOne(x, -1d);
+  }
+
+  // applies a rank-one update or downdate to a copy of the factor
+  private CholeskyDecompositionOpenGammaResult rankOne(DoubleArray x, double sign) {
+    ArgChecker.notNull(x, "x");
+    int dim = _lArray.length;
+    ArgChecker.isTrue(x.size() == dim, "x array of incorrect size");
+    double[][] l = new double[dim][];
+    for (int looprow = 0; looprow < dim; looprow++) {
+      l[looprow] = _lArray[looprow].clone();
+    }
+    double[] work = x.toArray();
+    for (int k = 0; k < dim; k++) {
+      double lkk = l[k][k];
+      double r2 = lkk * lkk + sign * work[k] * work[k];
+      ArgChecker.isTrue(r2 > 0d, "Matrix not positive");
+      double r = Math.sqrt(r2);
+      double c = r / lkk;
+      double s = work[k] / lkk;
+      l[k][k] = r;
+      for (int i = k + 1; i < dim; i++) {
+        l[i][k] = (l[i][k] + sign * s * work[i]) / c;
+        work[i] = c * work[i] - s * l[i][k];
+      }
+    }
+    return new CholeskyDecompositionOpenGammaResult(l);
+  }
+
   @Override
   public DoubleMatrix getL() {
     return _l;
@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.linearalgebra;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.math.linearalgebra.Decomposition;
+
+/**
+ * OpenGamma implementation of LU decomposition with partial pivoting.
+ * <p>
+ * This works directly on a single copy of the matrix, which is factored in place and then owned by the result.
+ * Unlike {@link LUDecompositionCommons}, there is no conversion to and from Commons Math types,
+ * and the $\mathbf{L}$, $\mathbf{U}$ and $\mathbf{P}$ matrices are only created if requested.
+ * This suits iterative algorithms, such as root finders, that decompose a matrix on each iteration
+ * but only use the result to solve.
+ * <p>
+ * The pivot is chosen by the same rule as {@link LUDecompositionCommons}, the largest absolute value in the column,
+ * but the floating point operations are performed in a different order.
+ * As such, results agree with {@link LUDecompositionCommons} to round-off, not bit for bit.
+ */
+// CSOFF: AbbreviationAsWordInName
+public class LUDecompositionOpenGamma implements Decomposition<LUDecompositionResult> {
+
+  /**
+   * The default threshold below which a pivot is considered to be zero, matching Commons Math.
+   */
+  public static final double DEFAULT_SINGULARITY_THRESHOLD = 1.0E-11;
+
+  /**
+   * The threshold below which a pivot is considered to be zero.
+   */
+  private final double singularityThreshold;
+
+  /**
+   * Creates an instance using the default singularity threshold.
+   */
+  public LUDecompositionOpenGamma() {
+    this(DEFAULT_SINGULARITY_THRESHOLD);
+  }
+
+  /**
+   * Creates an instance.
+   *
+   * @param singularityThreshold  the threshold below which a pivot is considered to be zero
+   */
+  public LUDecompositionOpenGamma(double singularityThreshold) {
+    this.singularityThreshold = ArgChecker.notNegative(singularityThreshold, "singularityThreshold");
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public LUDecompositionResult apply(DoubleMatrix x) {
+    ArgChecker.notNull(x, "x");
+    int n = x.rowCount();
+    ArgChecker.isTrue(n == x.columnCount(), "Matrix not square");
+    double[][] lu = x.toArray();
+    int[] pivot = new int[n];
+    for (int i = 0; i < n; i++) {
+      pivot[i] = i;
+    }
+    boolean even = true;
+    for (int k = 0; k < n; k++) {
+      // find the pivot
+      int max = k;
+      double largest = Math.abs(lu[k][k]);
+      for (int i = k + 1; i < n; i++) {
+        double abs = Math.abs(lu[i][k]);
+        if (abs > largest) {
+          largest = abs;
+          max = i;
+        }
+      }
+      ArgChecker.isTrue(largest >= singularityThreshold, "Matrix is singular; could not perform LU decomposition");
+      if (max != k) {
+        double[] tmpRow = lu[max];
+        lu[max] = lu[k];
+        lu[k] = tmpRow;
+        int tmpPivot = pivot[max];
+        pivot[max] = pivot[k];
+        pivot[k] = tmpPivot;
+        even = !even;
+      }
+      // eliminate, updating the remaining rows
+      double[] pivotRow = lu[k];
+      double inverse = 1d / pivotRow[k];
+      for (int i = k + 1; i < n; i++) {
+        double[] row = lu[i];
+        double factor = row[k] * inverse;
+        row[k] = factor;
+        if (factor != 0d) {
+          for (int j = k + 1; j < n; j++) {
+            row[j] -= factor * pivotRow[j];
+          }
+        }
+      }
+    }
+    return new LUDecompositionOpenGammaResult(lu, pivot, even);
+  }
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.linearalgebra;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+
+/**
+ * Results of the OpenGamma implementation of LU decomposition ({@link LUDecompositionOpenGamma}).
+ * <p>
+ * The factors are held in a single array, with $\mathbf{L}$ below the diagonal, its unit diagonal implied,
+ * and $\mathbf{U}$ on and above the diagonal.
+ */
+// CSOFF: AbbreviationAsWordInName
+public class LUDecompositionOpenGammaResult implements LUDecompositionResult {
+
+  /**
+   * The combined factors, with the rows in pivot order.
+   */
+  private final double[][] _lu;
+  /**
+   * The pivot permutation vector.
+   */
+  private final int[] _pivot;
+  /**
+   * The determinant of the original matrix.
+   */
+  private final double _determinant;
+
+  /**
+   * Creates an instance.
+   *
+   * @param lu  the combined factors, with the rows in pivot order, not copied
+   * @param pivot  the pivot permutation vector, not copied
+   * @param evenPermutation  true if the permutation is even
+   */
+  LUDecompositionOpenGammaResult(double[][] lu, int[] pivot, boolean evenPermutation) {
+    _lu = lu;
+    _pivot = pivot;
+    double determinant = evenPermutation ? 1d : -1d;
+    for (int i = 0; i < lu.length; i++) {
+      determinant *= lu[i][i];
+    }
+    _determinant = determinant;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public double getDeterminant() {
+    return _determinant;
+  }
+
+  @Override
+  public DoubleMatrix getL() {
+    int n = _lu.length;
+    return DoubleMatrix.of(n, n, (i, j) -> i > j ? _lu[i][j] : (i == j ? 1d : 0d));
+  }
+
+  @Override
+  public DoubleMatrix getU() {
+    int n = _lu.length;
+    return DoubleMatrix.of(n, n, (i, j) -> i <= j ? _lu[i][j] : 0d);
+  }
+
+  @Override
+  public DoubleMatrix getP() {
+    int n = _lu.length;
+    return DoubleMatrix.of(n, n, (i, j) -> _pivot[i] == j ? 1d : 0d);
+  }
+
+  @Override
+  public int[] getPivot() {
+    return _pivot.clone();
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public DoubleArray solve(DoubleArray b) {
+    ArgChecker.notNull(b, "b");
+    return DoubleArray.ofUnsafe(solve(b.toArrayUnsafe()));
+  }
+
+  @Override
+  public double[] solve(double[] b) {
+    ArgChecker.notNull(b, "b");
+    int n = _lu.length;
+    ArgChecker.isTrue(b.length == n, "b array of incorrect size");
+    double[] x = new double[n];
+    for (int i = 0; i < n; i++) {
+      x[i] = b[_pivot[i]];
+    }
+    // L y = P b, where L has a unit diagonal
+    for (int i = 1; i < n; i++) {
+      double[] row = _lu[i];
+      double sum = x[i];
+      for (int j = 0; j < i; j++) {
+        sum -= row[j] * x[j];
+      }
+      x[i] = sum;
+    }
+    // U x = y
+    for (int i = n - 1; i >= 0; i--) {
+      double[] row = _lu[i];
+      double sum = x[i];
+      for (int j = i + 1; j < n; j++) {
+        sum -= row[j] * x[j];
+      }
+      x[i] = sum / row[i];
+    }
+    return x;
+  }
+
+  @Override
+  public DoubleMatrix solve(DoubleMatrix b) {
+    ArgChecker.notNull(b, "b");
+    int n = _lu.length;
+    ArgChecker.isTrue(b.rowCount() == n, "b array of incorrect size");
+    int m = b.columnCount();
+    double[][] bArray = b.toArrayUnsafe();
+    double[][] x = new double[n][];
+    for (int i = 0; i < n; i++) {
+      x[i] = bArray[_pivot[i]].clone();
+    }
+    // solve all columns at once, operating on whole rows
+    // L Y = P B
+    for (int k = 0; k < n; k++) {
+      double[] xk = x[k];
+      for (int i = k + 1; i < n; i++) {
+        subtractMultiple(x[i], _lu[i][k], xk, m);
+      }
+    }
+    // U X = Y
+    for (int k = n - 1; k >= 0; k--) {
+      double[] xk = x[k];
+      double inverse = 1d / _lu[k][k];
+      for (int j = 0; j < m; j++) {
+        xk[j] *= inverse;
+      }
+      for (int i = 0; i < k; i++) {
+        subtractMultiple(x[i], _lu[i][k], xk, m);
+      }
+    }
+    return DoubleMatrix.ofUnsafe(x);
+  }
+
+  // target -= factor * source
+  private static void subtractMultiple(double[] target, double factor, double[] source, int length) {
+    if (factor != 0d) {
+      for (int j = 0; j < length; j++) {
+        target[j] -= factor * source[j];
+      }
+    }
+  }
+
+}
@@ -0,0 +1,341 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.matrix;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+
+/**
+ * Cache-blocked kernels for dense matrix products.
+ * <p>
+ * The kernels operate on matrices stored in a contiguous row-major {@code double[]},
+ * where element {@code (i, j)} of a matrix with {@code n} columns is at index {@code i * n + j}.
+ * The products are computed over square blocks, such that the blocks of the operands
+ * in use remain in the processor cache, and the innermost loop runs over contiguous memory.
+ * <p>
+ * Each element of a product is summed in the same order as the textbook triple loop,
+ * thus the results are identical to those of the unblocked algorithm.
+ * <p>
+ * Methods are also provided that accept and return {@link DoubleMatrix}, copying
+ * to and from the row-major form. Where every dimension fits within a single block,
+ * the blocking brings nothing and the copies would dominate, so the product is instead
+ * computed directly on the rows of the matrix, in the same order.
+ */
+public final class BlockedMatrixKernels {
+
+  /**
+   * The size of the square blocks, chosen so that three blocks fit within a typical L2 cache.
+   */
+  static final int BLOCK_SIZE = 64;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Converts a matrix to row-major form.
+   *
+   * @param matrix  the matrix
+   * @return the row-major values
+   */
+  public static double[] toRowMajor(DoubleMatrix matrix) {
+    int rows = matrix.rowCount();
+    int columns = matrix.columnCount();
+    double[][] array = matrix.toArrayUnsafe();
+    double[] values = new double[rows * columns];
+    for (int i = 0; i < rows; i++) {
+      System.arraycopy(array[i], 0, values, i * columns, columns);
+    }
+    return values;
+  }
+
+  /**
+   * Converts row-major values to a matrix.
+   *
+   * @param rows  the number of rows
+   * @param columns  the number of columns
+   * @param values  the row-major values
+   * @return the matrix
+   * @throws IllegalArgumentException if the number of values does not match the size
+   */
+  public static DoubleMatrix fromRowMajor(int rows, int columns, double[] values) {
+    ArgChecker.isTrue(
+        values.length == rows * columns, "Expected {} values for {} by {} matrix", rows * columns, rows, columns);
+    if (rows == 0 || columns == 0) {
+      return DoubleMatrix.EMPTY;
+    }
+    double[][] array = new double[rows][columns];
+    for (int i = 0; i < rows; i++) {
+      System.arraycopy(values, i * columns, array[i], 0, columns);
+    }
+    return DoubleMatrix.ofUnsafe(array);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Multiplies two matrices, $\mathbf{C} = \mathbf{AB}$.
+   *
+   * @param a  the first matrix, m by k
+   * @param b  the second matrix, k by n
+   * @return the product, m by n
+   * @throws IllegalArgumentException if the sizes do not match
+   */
+  public static DoubleMatrix multiply(DoubleMatrix a, DoubleMatrix b) {
+    int m = a.rowCount();
+    int k = a.columnCount();
+    int n = b.columnCount();
+    ArgChecker.isTrue(
+        k == b.rowCount(),
+        "Matrix size mismatch. m1 is " + m + " by " + k + ", but m2 is " + b.rowCount() + " by " + n);
+    if (isSingleBlock(m, k, n)) {
+      return multiplyDirect(a.toArrayUnsafe(), b.toArrayUnsafe(), m, k, n);
+    }
+    double[] c = new double[m * n];
+    gemm(toRowMajor(a), toRowMajor(b), c, m, k, n);
+    return fromRowMajor(m, n, c);
+  }
+
+  /**
+   * Multiplies the transpose of a matrix by another matrix, $\mathbf{C} = \mathbf{A}^T\mathbf{B}$.
+   * <p>
+   * This avoids forming the transpose, and is typically used for normal equations, such as $J^TJ$.
+   *
+   * @param a  the first matrix, k by m
+   * @param b  the second matrix, k by n
+   * @return the product, m by n
+   * @throws IllegalArgumentException if the sizes do not match
+   */
+  public static DoubleMatrix multiplyTransposeLeft(DoubleMatrix a, DoubleMatrix b) {
+    int k = a.rowCount();
+    int m = a.columnCount();
+    int n = b.columnCount();
+    ArgChecker.isTrue(
+        k == b.rowCount(),
+        "Matrix size mismatch. m1 is " + k + " by " + m + ", but m2 is " + b.rowCount() + " by " + n);
+    if (isSingleBlock(m, k, n)) {
+      return multiplyTransposeLeftDirect(a.toArrayUnsafe(), b.toArrayUnsafe(), k, m, n);
+    }
+    double[] c = new double[m * n];
+    gemtm(toRowMajor(a), toRowMajor(b), c, k, m, n);
+    return fromRowMajor(m, n, c);
+  }
+
+  /**
+   * Multiplies a matrix by a vector, $y = \mathbf{A}x$.
+   *
+   * @param a  the matrix, m by n
+   * @param x  the vector, of size n
+   * @return the product, of size m
+   * @throws IllegalArgumentException if the sizes do not match
+   */
+  public static DoubleArray multiply(DoubleMatrix a, DoubleArray x) {
+    int m = a.rowCount();
+    int n = a.columnCount();
+    ArgChecker.isTrue(x.size() == n, "Matrix/vector size mismatch");
+    double[][] array = a.toArrayUnsafe();
+    double[] xs = x.toArrayUnsafe();
+    double[] y = new double[m];
+    for (int i = 0; i < m; i++) {
+      y[i] = dot(array[i], 0, xs, n);
+    }
+    return DoubleArray.ofUnsafe(y);
+  }
+
+  /**
+   * Multiplies a vector by a matrix, $y = x^T\mathbf{A}$.
+   *
+   * @param x  the vector, of size m
+   * @param a  the matrix, m by n
+   * @return the product, of size n
+   * @throws IllegalArgumentException if the sizes do not match
+   */
+  public static DoubleArray multiply(DoubleArray x, DoubleMatrix a) {
+    int m = a.rowCount();
+    int n = a.columnCount();
+    ArgChecker.isTrue(x.size() == m, "Matrix/vector size mismatch");
+    double[][] array = a.toArrayUnsafe();
+    double[] y = new double[n];
+    for (int i = 0; i < m; i++) {
+      axpy(x.get(i), array[i], 0, y, 0, n);
+    }
+    return DoubleArray.ofUnsafe(y);
+  }
+
+  /**
+   * Transposes a matrix, copying in blocks.
+   *
+   * @param a  the matrix, m by n
+   * @return the transpose, n by m
+   */
+  public static DoubleMatrix transpose(DoubleMatrix a) {
+    int m = a.rowCount();
+    int n = a.columnCount();
+    if (m == 0 || n == 0) {
+      return DoubleMatrix.EMPTY;
+    }
+    double[][] array = a.toArrayUnsafe();
+    double[][] result = new double[n][m];
+    for (int ii = 0; ii < m; ii += BLOCK_SIZE) {
+      int iEnd = Math.min(ii + BLOCK_SIZE, m);
+      for (int jj = 0; jj < n; jj += BLOCK_SIZE) {
+        int jEnd = Math.min(jj + BLOCK_SIZE, n);
+        for (int i = ii; i < iEnd; i++) {
+          double[] row = array[i];
+          for (int j = jj; j < jEnd; j++) {
+            result[j][i] = row[j];
+          }
+        }
+      }
+    }
+    return DoubleMatrix.ofUnsafe(result);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Adds the product of two row-major matrices to a third, $\mathbf{C} = \mathbf{C} + \mathbf{AB}$.
+   *
+   * @param a  the first matrix, m by k
+   * @param b  the second matrix, k by n
+   * @param c  the matrix to add to, m by n
+   * @param m  the number of rows of A and C
+   * @param k  the number of columns of A and rows of B
+   * @param n  the number of columns of B and C
+   */
+  public static void gemm(double[] a, double[] b, double[] c, int m, int k, int n) {
+    checkLength(a, m, k, "a");
+    checkLength(b, k, n, "b");
+    checkLength(c, m, n, "c");
+    for (int ii = 0; ii < m; ii += BLOCK_SIZE) {
+      int iEnd = Math.min(ii + BLOCK_SIZE, m);
+      for (int pp = 0; pp < k; pp += BLOCK_SIZE) {
+        int pEnd = Math.min(pp + BLOCK_SIZE, k);
+        for (int jj = 0; jj < n; jj += BLOCK_SIZE) {
+          int jLength = Math.min(jj + BLOCK_SIZE, n) - jj;
+          for (int i = ii; i < iEnd; i++) {
+            int aRow = i * k;
+            int cStart = i * n + jj;
+            for (int p = pp; p < pEnd; p++) {
+              axpy(a[aRow + p], b, p * n + jj, c, cStart, jLength);
+            }
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Adds the product of the transpose of a row-major matrix and another to a third,
+   * $\mathbf{C} = \mathbf{C} + \mathbf{A}^T\mathbf{B}$.
+   *
+   * @param a  the first matrix, k by m
+   * @param b  the second matrix, k by n
+   * @param c  the matrix to add to, m by n
+   * @param k  the number of rows of A and B
+   * @param m  the number of columns of A and rows of C
+   * @param n  the number of columns of B and C
+   */
+  public static void gemtm(double[] a, double[] b, double[] c, int k, int m, int n) {
+    checkLength(a, k, m, "a");
+    checkLength(b, k, n, "b");
+    checkLength(c, m, n, "c");
+    for (int ii = 0; ii < m; ii += BLOCK_SIZE) {
+      int iEnd = Math.min(ii + BLOCK_SIZE, m);
+      for (int jj = 0; jj < n; jj += BLOCK_SIZE) {
+        int jLength = Math.min(jj + BLOCK_SIZE, n) - jj;
+        for (int p = 0; p < k; p++) {
+          int aRow = p * m;
+          int bStart = p * n + jj;
+          for (int i = ii; i < iEnd; i++) {
+            axpy(a[aRow + i], b, bStart, c, i * n + jj, jLength);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Multiplies a row-major matrix by a vector, $y = \mathbf{A}x$.
+   *
+   * @param a  the matrix, m by n
+   * @param x  the vector, of size n
+   * @param y  the result, of size m
+   * @param m  the number of rows of A
+   * @param n  the number of columns of A
+   */
+  public static void gemv(double[] a, double[] x, double[] y, int m, int n) {
+    checkLength(a, m, n, "a");
+    checkLength(x, n, 1, "x");
+    checkLength(y, m, 1, "y");
+    for (int i = 0; i < m; i++) {
+      y[i] = dot(a, i * n, x, n);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  // checks if the product fits within a single block, in which case the row-major copies are not worthwhile
+  private static boolean isSingleBlock(int m, int k, int n) {
+    return m <= BLOCK_SIZE && k <= BLOCK_SIZE && n <= BLOCK_SIZE;
+  }
+
+  // C = AB on the rows of the matrices, summing in the same order as gemm
+  private static DoubleMatrix multiplyDirect(double[][] a, double[][] b, int m, int k, int n) {
+    if (m == 0 || n == 0) {
+      return DoubleMatrix.EMPTY;
+    }
+    double[][] c = new double[m][n];
+    for (int i = 0; i < m; i++) {
+      double[] aRow = a[i];
+      for (int p = 0; p < k; p++) {
+        axpy(aRow[p], b[p], 0, c[i], 0, n);
+      }
+    }
+    return DoubleMatrix.ofUnsafe(c);
+  }
+
+  // C = A^T B on the rows of the matrices, summing in the same order as gemtm
+  private static DoubleMatrix multiplyTransposeLeftDirect(double[][] a, double[][] b, int k, int m, int n) {
+    if (m == 0 || n == 0) {
+      return DoubleMatrix.EMPTY;
+    }
+    double[][] c = new double[m][n];
+    for (int p = 0; p < k; p++) {
+      double[] aRow = a[p];
+      for (int i = 0; i < m; i++) {
+        axpy(aRow[i], b[p], 0, c[i], 0, n);
+      }
+    }
+    return DoubleMatrix.ofUnsafe(c);
+  }
+
+  // y[yStart + j] += alpha * x[xStart + j] for j in [0, length)
+  private static void axpy(double alpha, double[] x, int xStart, double[] y, int yStart, int length) {
+    for (int j = 0; j < length; j++) {
+      y[yStart + j] += alpha * x[xStart + j];
+    }
+  }
+
+  // the sum of a[aStart + j] * x[j] for j in [0, length)
+  private static double dot(double[] a, int aStart, double[] x, int length) {
+    double sum = 0d;
+    for (int j = 0; j < length; j++) {
+      sum += a[aStart + j] * x[j];
+    }
+    return sum;
+  }
+
+  // checks the length of a row-major array
+  private static void checkLength(double[] array, int rows, int columns, String name) {
+    if (array.length != rows * columns) {
+      throw new IllegalArgumentException(Messages.format(
+          "Array '{}' has length {}, expected {} for {} by {}", name, array.length, rows * columns, rows, columns));
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  // restricted constructor
+  private BlockedMatrixKernels() {
+  }
+
+}
@@ -194,6 +194,9 @@ public class CommonsMatrixAlgebra extends MatrixAlgebra {
     ArgChecker.notNull(m1, "m1");
     ArgChecker.notNull(m2, "m2");
     ArgChecker.isTrue(!(m1 instanceof DoubleArray), "Cannot have 1D matrix as first argument");
+    if (m1 instanceof DoubleMatrix && m2 instanceof DoubleMatrix) {
+      return BlockedMatrixKernels.multiply((DoubleMatrix) m1, (DoubleMatrix) m2);
+    }
     if (m1 instanceof DoubleMatrix) {
       RealMatrix t1 = CommonsMathWrapper.wrap((DoubleMatrix) m1);
       RealMatrix t2;
@@ -15,6 +15,7 @@ import com.opengamma.strata.math.impl.linearalgebra.TridiagonalMatrix;
  * A minimal implementation of matrix algebra.
  * <p>
  * This includes only some of the multiplications.
+ * Products of dense matrices use the cache-blocked kernels of {@link BlockedMatrixKernels}.
  * For more advanced operations, such as calculating the inverse, use {@link CommonsMatrixAlgebra}.
  */
 // CSOFF: AbbreviationAsWordInName
@@ -151,8 +152,7 @@ public class OGMatrixAlgebra extends MatrixAlgebra {
   public DoubleMatrix getTranspose(Matrix m) {
     ArgChecker.notNull(m, "m");
     if (m instanceof DoubleMatrix) {
-      DoubleMatrix matrix = (DoubleMatrix) m;
-      return DoubleMatrix.of(matrix.columnCount(), matrix.rowCount(), (i, j) -> matrix.get(j, i));
+      return BlockedMatrixKernels.transpose((DoubleMatrix) m);
     }
     throw new IllegalArgumentException("Can only take transpose of DoubleMatrix; have " + m.getClass());
   }
@@ -195,33 +195,11 @@ public class OGMatrixAlgebra extends MatrixAlgebra {
   }
 
   private DoubleMatrix multiply(DoubleMatrix m1, DoubleMatrix m2) {
-    int p = m2.rowCount();
-    ArgChecker.isTrue(
-        m1.columnCount() == p,
-        "Matrix size mismatch. m1 is " + m1.rowCount() + " by " + m1.columnCount() +
-            ", but m2 is " + m2.rowCount() + " by " + m2.columnCount());
-    return DoubleMatrix.of(
-        m1.rowCount(),
-        m2.columnCount(),
-        (i, j) -> {
-          double sum = 0d;
-          for (int k = 0; k < p; k++) {
-            sum += m1.get(i, k) * m2.get(k, j);
-          }
-          return sum;
-        });
+    return BlockedMatrixKernels.multiply(m1, m2);
   }
 
   private DoubleArray multiply(DoubleMatrix matrix, DoubleArray vector) {
-    int n = vector.size();
-    ArgChecker.isTrue(matrix.columnCount() == n, "Matrix/vector size mismatch");
-    return DoubleArray.of(matrix.rowCount(), i -> {
-      double sum = 0;
-      for (int j = 0; j < n; j++) {
-        sum += matrix.get(i, j) * vector.get(j);
-      }
-      return sum;
-    });
+    return BlockedMatrixKernels.multiply(matrix, vector);
   }
 
   private DoubleArray multiply(TridiagonalMatrix matrix, DoubleArray vector) {
@@ -242,15 +220,7 @@ public class OGMatrixAlgebra extends MatrixAlgebra {
   }
 
   private DoubleArray multiply(DoubleArray vector, DoubleMatrix matrix) {
-    int n = vector.size();
-    ArgChecker.isTrue(matrix.rowCount() == n, "Matrix/vector size mismatch");
-    return DoubleArray.of(matrix.columnCount(), i -> {
-      double sum = 0;
-      for (int j = 0; j < n; j++) {
-        sum += vector.get(j) * matrix.get(j, i);
-      }
-      return sum;
-    });
+    return BlockedMatrixKernels.multiply(vector, matrix);
   }
 
   private DoubleArray multiply(DoubleArray vector, TridiagonalMatrix matrix) {
@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.montecarlo;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+
+/**
+ * Brownian bridge construction of a path of a standard Brownian motion.
+ * <p>
+ * The first standard normal variate determines the value at the final time.
+ * Subsequent variates fill in the mid-points of the remaining intervals, conditional
+ * on the values already known. This assigns the most important variates, those determining
+ * the large-scale shape of the path, to the first dimensions of the generator.
+ * This greatly improves the effectiveness of low-discrepancy sequences, whose
+ * early dimensions are the most uniform.
+ * <p>
+ * Instances are immutable and thread-safe.
+ */
+public final class BrownianBridge {
+
+  /**
+   * The times, strictly increasing and positive.
+   */
+  private final DoubleArray times;
+  /**
+   * The index of the time determined by each variate.
+   */
+  private final int[] bridgeIndex;
+  /**
+   * The index of the known value to the left, exclusive, for each variate; zero is the origin.
+   */
+  private final int[] leftIndex;
+  /**
+   * The index of the known value to the right for each variate.
+   */
+  private final int[] rightIndex;
+  /**
+   * The weight of the left value for each variate.
+   */
+  private final double[] leftWeight;
+  /**
+   * The weight of the right value for each variate.
+   */
+  private final double[] rightWeight;
+  /**
+   * The conditional standard deviation for each variate.
+   */
+  private final double[] stdDev;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance for the specified times.
+   * <p>
+   * The Brownian motion starts at zero at time zero.
+   * 
+   * @param times  the times, strictly increasing and positive
+   * @return the bridge
+   */
+  public static BrownianBridge of(DoubleArray times) {
+    return new BrownianBridge(times);
+  }
+
+  // restricted constructor
+  private BrownianBridge(DoubleArray times) {
+    ArgChecker.notNull(times, "times");
+    ArgChecker.isTrue(times.size() > 0, "Times must not be empty");
+    ArgChecker.isTrue(times.get(0) > 0, "Times must be positive");
+    for (int i = 1; i < times.size(); i++) {
+      ArgChecker.isTrue(times.get(i) > times.get(i - 1), "Times must be strictly increasing");
+    }
+    int n = times.size();
+    double[] t = times.toArrayUnsafe();
+    this.times = times;
+    this.bridgeIndex = new int[n];
+    this.leftIndex = new int[n];
+    this.rightIndex = new int[n];
+    this.leftWeight = new double[n];
+    this.rightWeight = new double[n];
+    this.stdDev = new double[n];
+    // the construction order, bisecting the intervals between known points
+    int[] map = new int[n];
+    map[n - 1] = 1;
+    bridgeIndex[0] = n - 1;
+    stdDev[0] = Math.sqrt(t[n - 1]);
+    int j = 0;
+    for (int i = 1; i < n; i++) {
+      while (map[j] != 0) {
+        j++;
+      }
+      int k = j;
+      while (map[k] == 0) {
+        k++;
+      }
+      int l = j + ((k - 1 - j) >> 1);
+      map[l] = i;
+      bridgeIndex[i] = l;
+      leftIndex[i] = j;
+      rightIndex[i] = k;
+      double left = j == 0 ? 0d : t[j - 1];
+      leftWeight[i] = (t[k] - t[l]) / (t[k] - left);
+      rightWeight[i] = (t[l] - left) / (t[k] - left);
+      stdDev[i] = Math.sqrt((t[l] - left) * (t[k] - t[l]) / (t[k] - left));
+      j = k + 1;
+      if (j >= n) {
+        j = 0;
+      }
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the times.
+   * 
+   * @return the times
+   */
+  public DoubleArray getTimes() {
+    return times;
+  }
+
+  /**
+   * Gets the number of times, which is the number of variates required for each path.
+   * 
+   * @return the number of times
+   */
+  public int size() {
+    return bridgeIndex.length;
+  }
+
+  /**
+   * Builds the path of the Brownian motion from standard normal variates.
+   * <p>
+   * The value of the Brownian motion at each time is written to the path array.
+   * The arrays must not be the same.
+   * 
+   * @param normals  the standard normal variates, at least {@link #size()} elements
+   * @param path  the array to populate with the value at each time, at least {@link #size()} elements
+   */
+  public void buildPath(double[] normals, double[] path) {
+    int n = bridgeIndex.length;
+    path[n - 1] = stdDev[0] * normals[0];
+    for (int i = 1; i < n; i++) {
+      int j = leftIndex[i];
+      int k = rightIndex[i];
+      int l = bridgeIndex[i];
+      double left = j == 0 ? 0d : leftWeight[i] * path[j - 1];
+      path[l] = left + rightWeight[i] * path[k] + stdDev[i] * normals[i];
+    }
+  }
+
+}
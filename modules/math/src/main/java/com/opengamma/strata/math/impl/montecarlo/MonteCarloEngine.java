@@ -0,0 +1,318 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.montecarlo;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.math.impl.cern.Probability;
+import com.opengamma.strata.math.impl.random.HaltonSequence;
+import com.opengamma.strata.math.impl.random.QuasiRandomSequence;
+import com.opengamma.strata.math.impl.random.SobolSequence;
+
+/**
+ * Monte Carlo simulation engine.
+ * <p>
+ * Each path is driven by a vector of independent standard normal variates, one per dimension.
+ * The variates are obtained from uniform variates by the inverse cumulative normal distribution.
+ * The uniform variates are pseudo-random, or the points of a {@link SobolSequence} or {@link HaltonSequence}.
+ * <p>
+ * Paths are divided into blocks of a fixed size, which are simulated in parallel on the common fork-join pool.
+ * The variates of each path are determined by the index of the path alone. For pseudo-random variates,
+ * each block has its own {@link SplittableRandom} stream, seeded from the engine seed and the block index.
+ * For low-discrepancy sequences, the sequence is positioned at the index of the first path of the block.
+ * The statistics of each block are combined in block order, thus the results are reproducible,
+ * regardless of the number of threads.
+ * <p>
+ * The variates can also be generated directly into a buffer using {@link #generate(long, int, int, double[])},
+ * which produces the same variates as the simulation.
+ * <p>
+ * Instances are immutable and thread-safe.
+ */
+public final class MonteCarloEngine {
+
+  /**
+   * The default number of paths in each block.
+   */
+  private static final int DEFAULT_BLOCK_SIZE = 4096;
+  /**
+   * The scale converting 53 random bits to a double.
+   */
+  private static final double UNIT = 1d / (1L << 53);
+
+  /**
+   * The type of generator.
+   */
+  private final GeneratorType type;
+  /**
+   * The seed, used by pseudo-random generation.
+   */
+  private final long seed;
+  /**
+   * The number of paths in each block.
+   */
+  private final int blockSize;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an engine using pseudo-random variates.
+   * 
+   * @param seed  the seed
+   * @return the engine
+   */
+  public static MonteCarloEngine pseudoRandom(long seed) {
+    return new MonteCarloEngine(GeneratorType.PSEUDO_RANDOM, seed, DEFAULT_BLOCK_SIZE);
+  }
+
+  /**
+   * Obtains an engine using the Sobol sequence.
+   * <p>
+   * The number of dimensions is limited to {@link SobolSequence#MAX_DIMENSION}.
+   * 
+   * @return the engine
+   */
+  public static MonteCarloEngine sobol() {
+    return new MonteCarloEngine(GeneratorType.SOBOL, 0, DEFAULT_BLOCK_SIZE);
+  }
+
+  /**
+   * Obtains an engine using the Halton sequence.
+   * <p>
+   * The number of dimensions is limited to {@link HaltonSequence#MAX_DIMENSION}.
+   * 
+   * @return the engine
+   */
+  public static MonteCarloEngine halton() {
+    return new MonteCarloEngine(GeneratorType.HALTON, 0, DEFAULT_BLOCK_SIZE);
+  }
+
+  // restricted constructor
+  private MonteCarloEngine(GeneratorType type, long seed, int blockSize) {
+    this.type = type;
+    this.seed = seed;
+    this.blockSize = ArgChecker.notNegativeOrZero(blockSize, "blockSize");
+  }
+
+  /**
+   * Returns a copy of this engine with the specified number of paths in each block.
+   * <p>
+   * Pseudo-random variates and the rounding of the statistics depend on the block size.
+   * 
+   * @param blockSize  the number of paths in each block
+   * @return the engine
+   */
+  public MonteCarloEngine withBlockSize(int blockSize) {
+    return new MonteCarloEngine(type, seed, blockSize);
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Generates the standard normal variates of a range of paths into a buffer.
+   * <p>
+   * The variates are written in path order, {@code dimension} values for each path.
+   * 
+   * @param firstPath  the index of the first path, zero or greater
+   * @param pathCount  the number of paths
+   * @param dimension  the number of variates in each path
+   * @param buffer  the array to populate, at least {@code pathCount * dimension} elements
+   */
+  public void generate(long firstPath, int pathCount, int dimension, double[] buffer) {
+    ArgChecker.notNegative(firstPath, "firstPath");
+    ArgChecker.notNegative(pathCount, "pathCount");
+    ArgChecker.notNegativeOrZero(dimension, "dimension");
+    ArgChecker.isTrue(buffer.length >= (long) pathCount * dimension, "Buffer too small");
+    double[] normals = new double[dimension];
+    long path = firstPath;
+    int offset = 0;
+    while (path < firstPath + pathCount) {
+      // a new stream is needed at the start of each block for pseudo-random variates
+      long blockEnd = Math.min((path / blockSize + 1) * blockSize, firstPath + pathCount);
+      Consumer<double[]> stream = stream(path, dimension);
+      for (; path < blockEnd; path++) {
+        stream.accept(normals);
+        System.arraycopy(normals, 0, buffer, offset, dimension);
+        offset += dimension;
+      }
+    }
+  }
+
+  /**
+   * Simulates paths of standard normal variates.
+   * 
+   * @param pathCount  the number of paths, two or more
+   * @param dimension  the number of variates in each path
+   * @param valueCount  the number of values evaluated on each path
+   * @param evaluator  the evaluator of the values on each path
+   * @return the statistics of the values
+   */
+  public MonteCarloResult simulate(long pathCount, int dimension, int valueCount, PathEvaluator evaluator) {
+    return simulate(pathCount, dimension, null, valueCount, evaluator);
+  }
+
+  /**
+   * Simulates paths of a standard Brownian motion using a Brownian bridge.
+   * <p>
+   * The path passed to the evaluator contains the value of the Brownian motion at each time of the bridge.
+   * 
+   * @param pathCount  the number of paths, two or more
+   * @param bridge  the Brownian bridge
+   * @param valueCount  the number of values evaluated on each path
+   * @param evaluator  the evaluator of the values on each path
+   * @return the statistics of the values
+   */
+  public MonteCarloResult simulate(long pathCount, BrownianBridge bridge, int valueCount, PathEvaluator evaluator) {
+    ArgChecker.notNull(bridge, "bridge");
+    return simulate(pathCount, bridge.size(), bridge, valueCount, evaluator);
+  }
+
+  // simulates the paths in parallel blocks, combining the statistics in block order
+  private MonteCarloResult simulate(
+      long pathCount,
+      int dimension,
+      BrownianBridge bridge,
+      int valueCount,
+      PathEvaluator evaluator) {
+
+    ArgChecker.isTrue(pathCount >= 2, "Path count must be two or more, but was {}", pathCount);
+    ArgChecker.notNegativeOrZero(dimension, "dimension");
+    ArgChecker.notNegativeOrZero(valueCount, "valueCount");
+    ArgChecker.notNull(evaluator, "evaluator");
+    long blockCount = (pathCount + blockSize - 1) / blockSize;
+    ArgChecker.isTrue(blockCount <= Integer.MAX_VALUE, "Too many paths for block size: {}", pathCount);
+    List<BlockStatistics> blocks = IntStream.range(0, (int) blockCount)
+        .parallel()
+        .mapToObj(block -> simulateBlock(
+            (long) block * blockSize,
+            (int) Math.min(blockSize, pathCount - (long) block * blockSize),
+            dimension,
+            bridge,
+            valueCount,
+            evaluator))
+        .collect(toImmutableList());
+    BlockStatistics total = new BlockStatistics(valueCount);
+    for (BlockStatistics block : blocks) {
+      total.combine(block);
+    }
+    return MonteCarloResult.of(
+        total.count,
+        DoubleArray.copyOf(total.mean),
+        DoubleArray.of(valueCount, i -> total.m2[i] / (total.count - 1)));
+  }
+
+  // simulates a block of paths, reusing the buffers for each path
+  private BlockStatistics simulateBlock(
+      long firstPath,
+      int pathCount,
+      int dimension,
+      BrownianBridge bridge,
+      int valueCount,
+      PathEvaluator evaluator) {
+
+    Consumer<double[]> stream = stream(firstPath, dimension);
+    double[] normals = new double[dimension];
+    double[] path = bridge != null ? new double[dimension] : normals;
+    double[] values = new double[valueCount];
+    BlockStatistics statistics = new BlockStatistics(valueCount);
+    for (int i = 0; i < pathCount; i++) {
+      stream.accept(normals);
+      if (bridge != null) {
+        bridge.buildPath(normals, path);
+      }
+      evaluator.evaluate(path, values);
+      statistics.add(values);
+    }
+    return statistics;
+  }
+
+  // the stream of standard normal variates, starting at the path, valid until the end of the block
+  private Consumer<double[]> stream(long firstPath, int dimension) {
+    switch (type) {
+      case SOBOL:
+        return quasiRandomStream(SobolSequence.of(dimension).atIndex(firstPath + 1));
+      case HALTON:
+        return quasiRandomStream(HaltonSequence.of(dimension).atIndex(firstPath + 1));
+      case PSEUDO_RANDOM:
+      default:
+        SplittableRandom random = new SplittableRandom(blockSeed(firstPath / blockSize));
+        long skip = (firstPath % blockSize) * dimension;
+        for (long i = 0; i < skip; i++) {
+          random.nextLong();
+        }
+        return normals -> {
+          for (int i = 0; i < dimension; i++) {
+            normals[i] = Probability.normalInverse(((random.nextLong() >>> 11) + 0.5) * UNIT);
+          }
+        };
+    }
+  }
+
+  // the stream of normal variates from a low-discrepancy sequence
+  private static Consumer<double[]> quasiRandomStream(QuasiRandomSequence sequence) {
+    int dimension = sequence.getDimension();
+    return normals -> {
+      sequence.nextPoint(normals);
+      for (int i = 0; i < dimension; i++) {
+        normals[i] = Probability.normalInverse(normals[i]);
+      }
+    };
+  }
+
+  // the seed of the block, being the output of SplittableRandom seeded with the engine seed at the block index
+  private long blockSeed(long blockIndex) {
+    long z = seed + (blockIndex + 1) * 0x9e3779b97f4a7c15L;
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
+  }
+
+  //-------------------------------------------------------------------------
+  // the type of generator
+  private enum GeneratorType {
+    PSEUDO_RANDOM,
+    SOBOL,
+    HALTON
+  }
+
+  // the running mean and sum of squared deviations of a set of paths, using Welford's algorithm
+  private static final class BlockStatistics {
+    private long count;
+    private final double[] mean;
+    private final double[] m2;
+
+    private BlockStatistics(int valueCount) {
+      this.mean = new double[valueCount];
+      this.m2 = new double[valueCount];
+    }
+
+    // adds the values of a path
+    private void add(double[] values) {
+      count++;
+      for (int i = 0; i < mean.length; i++) {
+        double delta = values[i] - mean[i];
+        mean[i] += delta / count;
+        m2[i] += delta * (values[i] - mean[i]);
+      }
+    }
+
+    // combines the statistics of another set of paths, using the method of Chan et al.
+    private void combine(BlockStatistics other) {
+      long total = count + other.count;
+      for (int i = 0; i < mean.length; i++) {
+        double delta = other.mean[i] - mean[i];
+        mean[i] += delta * other.count / total;
+        m2[i] += other.m2[i] + delta * delta * count * other.count / total;
+      }
+      count = total;
+    }
+  }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.montecarlo;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.tuple.Pair;
+import com.opengamma.strata.math.impl.cern.Probability;
+
+/**
+ * The path-wise statistics of a Monte Carlo simulation.
+ * <p>
+ * This contains the mean and the sample variance of each value evaluated on the paths.
+ * The standard error and confidence intervals assume the paths are independent.
+ * When a low-discrepancy sequence is used this does not hold, and the error is
+ * typically overstated.
+ */
+public final class MonteCarloResult {
+
+  /**
+   * The number of paths.
+   */
+  private final long pathCount;
+  /**
+   * The mean of each value.
+   */
+  private final DoubleArray mean;
+  /**
+   * The sample variance of each value.
+   */
+  private final DoubleArray variance;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance.
+   * 
+   * @param pathCount  the number of paths, two or more
+   * @param mean  the mean of each value
+   * @param variance  the sample variance of each value
+   * @return the result
+   */
+  public static MonteCarloResult of(long pathCount, DoubleArray mean, DoubleArray variance) {
+    return new MonteCarloResult(pathCount, mean, variance);
+  }
+
+  // restricted constructor
+  private MonteCarloResult(long pathCount, DoubleArray mean, DoubleArray variance) {
+    ArgChecker.isTrue(pathCount >= 2, "Path count must be two or more, but was {}", pathCount);
+    ArgChecker.notNull(mean, "mean");
+    ArgChecker.notNull(variance, "variance");
+    ArgChecker.isTrue(mean.size() == variance.size(), "Mean and variance must be the same size");
+    this.pathCount = pathCount;
+    this.mean = mean;
+    this.variance = variance;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of paths.
+   * 
+   * @return the number of paths
+   */
+  public long getPathCount() {
+    return pathCount;
+  }
+
+  /**
+   * Gets the mean of each value.
+   * 
+   * @return the means
+   */
+  public DoubleArray getMean() {
+    return mean;
+  }
+
+  /**
+   * Gets the sample variance of each value.
+   * 
+   * @return the sample variances
+   */
+  public DoubleArray getVariance() {
+    return variance;
+  }
+
+  /**
+   * Gets the standard error of the mean of each value.
+   * 
+   * @return the standard errors
+   */
+  public DoubleArray getStandardError() {
+    return variance.map(v -> Math.sqrt(v / pathCount));
+  }
+
+  /**
+   * Gets the confidence interval of the mean of a value.
+   * <p>
+   * The interval is symmetric about the mean, using the normal approximation.
+   * 
+   * @param index  the index of the value
+   * @param confidenceLevel  the confidence level, such as 0.95, greater than zero and less than one
+   * @return the lower and upper bounds of the interval
+   */
+  public Pair<Double, Double> getConfidenceInterval(int index, double confidenceLevel) {
+    ArgChecker.inRangeExclusive(confidenceLevel, 0d, 1d, "confidenceLevel");
+    double halfWidth = Probability.normalInverse(0.5 + confidenceLevel / 2) * Math.sqrt(variance.get(index) / pathCount);
+    return Pair.of(mean.get(index) - halfWidth, mean.get(index) + halfWidth);
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "MonteCarloResult[pathCount=" + pathCount + ", mean=" + mean + ", variance=" + variance + "]";
+  }
+
+}
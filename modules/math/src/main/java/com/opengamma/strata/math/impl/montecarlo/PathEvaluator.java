@@ -0,0 +1,28 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.montecarlo;
+
+/**
+ * Evaluates one or more values, such as discounted payoffs, on a single simulated path.
+ * <p>
+ * Implementations must be thread-safe, as paths are evaluated in parallel.
+ * The arrays are owned by the engine and reused for subsequent paths, thus must not be retained.
+ */
+@FunctionalInterface
+public interface PathEvaluator {
+
+  /**
+   * Evaluates the values on the path.
+   * <p>
+   * The path contains standard normal variates, or the values of a Brownian motion
+   * if the simulation uses a {@link BrownianBridge}.
+   * 
+   * @param path  the path
+   * @param results  the array to populate with the values
+   */
+  public abstract void evaluate(double[] path, double[] results);
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.random;
+
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * The Halton low-discrepancy sequence.
+ * <p>
+ * Each coordinate of the point at index n is the radical inverse of n in a prime base,
+ * the first dimension using base 2, the second base 3, and so on.
+ * The sequence can be positioned at any index.
+ * <p>
+ * The quality of the Halton sequence degrades in high dimensions, where the bases are large.
+ * The {@link SobolSequence} is generally preferred for more than a few dimensions.
+ */
+public final class HaltonSequence
+    implements QuasiRandomSequence {
+
+  /**
+   * The maximum dimension.
+   */
+  public static final int MAX_DIMENSION = 1000;
+  /**
+   * The prime bases, one for each dimension.
+   */
+  private static final int[] PRIMES = primes(MAX_DIMENSION);
+
+  /**
+   * The dimension.
+   */
+  private final int dimension;
+  /**
+   * The index of the next point.
+   */
+  private long index;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains a sequence of the specified dimension, starting at index one.
+   * 
+   * @param dimension  the dimension, from 1 to {@link #MAX_DIMENSION}
+   * @return the sequence
+   */
+  public static HaltonSequence of(int dimension) {
+    return new HaltonSequence(dimension, 1);
+  }
+
+  // restricted constructor
+  private HaltonSequence(int dimension, long index) {
+    ArgChecker.inRangeInclusive(dimension, 1, MAX_DIMENSION, "dimension");
+    ArgChecker.isTrue(index >= 1, "Index must be one or greater, but was {}", index);
+    this.dimension = dimension;
+    this.index = index;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public int getDimension() {
+    return dimension;
+  }
+
+  @Override
+  public long getIndex() {
+    return index;
+  }
+
+  @Override
+  public void nextPoint(double[] point) {
+    if (index == Long.MAX_VALUE) {
+      throw new IllegalStateException("Halton sequence exhausted");
+    }
+    for (int i = 0; i < dimension; i++) {
+      point[i] = radicalInverse(index, PRIMES[i]);
+    }
+    index++;
+  }
+
+  @Override
+  public HaltonSequence atIndex(long index) {
+    return new HaltonSequence(dimension, index);
+  }
+
+  //-------------------------------------------------------------------------
+  // the radical inverse of the index in the base, reflecting the digits about the decimal point
+  private static double radicalInverse(long index, int base) {
+    double inverseBase = 1d / base;
+    double factor = inverseBase;
+    double result = 0;
+    long remaining = index;
+    while (remaining > 0) {
+      result += (remaining % base) * factor;
+      remaining /= base;
+      factor *= inverseBase;
+    }
+    return result;
+  }
+
+  // the first primes, using a sieve
+  private static int[] primes(int count) {
+    int[] primes = new int[count];
+    int limit = 8000;  // the 1000th prime is 7919
+    boolean[] composite = new boolean[limit];
+    int found = 0;
+    for (int i = 2; i < limit && found < count; i++) {
+      if (!composite[i]) {
+        primes[found++] = i;
+        for (int j = i * i; j < limit; j += i) {
+          composite[j] = true;
+        }
+      }
+    }
+    return primes;
+  }
+
+}
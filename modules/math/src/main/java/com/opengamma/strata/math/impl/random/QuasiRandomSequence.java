@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.random;
+
+/**
+ * A low-discrepancy sequence of points in the unit hypercube.
+ * <p>
+ * The points are generated in order of their index.
+ * Each point lies strictly within the unit hypercube, as the point at index zero,
+ * the origin, is never generated.
+ * <p>
+ * Implementations are mutable and not thread-safe.
+ * A sequence for use by another thread is obtained using {@link #atIndex(long)},
+ * which allows a large sequence to be split into independent blocks.
+ */
+public interface QuasiRandomSequence {
+
+  /**
+   * Gets the dimension of each point.
+   * 
+   * @return the dimension
+   */
+  public abstract int getDimension();
+
+  /**
+   * Gets the index of the next point to be generated.
+   * 
+   * @return the index, one or greater
+   */
+  public abstract long getIndex();
+
+  /**
+   * Generates the next point in the sequence.
+   * <p>
+   * The coordinates are written to the first {@code dimension} elements of the array.
+   * 
+   * @param point  the array to populate
+   * @throws IllegalStateException if the sequence is exhausted
+   */
+  public abstract void nextPoint(double[] point);
+
+  /**
+   * Returns a new sequence of the same type and dimension, positioned at the specified index.
+   * <p>
+   * This sequence is unaffected.
+   * 
+   * @param index  the index of the next point to be generated, one or greater
+   * @return the new sequence
+   */
+  public abstract QuasiRandomSequence atIndex(long index);
+
+}
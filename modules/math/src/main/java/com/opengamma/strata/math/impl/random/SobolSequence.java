@@ -0,0 +1,255 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.random;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * The Sobol low-discrepancy sequence.
+ * <p>
+ * Points are generated using the Gray code ordering of Antonov and Saleev, thus each point
+ * requires a single exclusive-or per dimension, and the sequence can be positioned at any index.
+ * <p>
+ * The first dimension is the van der Corput sequence in base two.
+ * Subsequent dimensions use the primitive polynomials over GF(2) in order of degree,
+ * then coefficients, as tabulated by Joe and Kuo.
+ * The initial direction numbers of the first 21 dimensions are those of Joe and Kuo.
+ * The initial direction numbers of higher dimensions are chosen pseudo-randomly, with a fixed seed,
+ * subject to the conditions required of them, as suggested by Jäckel.
+ * <p>
+ * Direction numbers have 32 bits, thus at most 2<sup>32</sup> - 1 points can be generated.
+ */
+public final class SobolSequence
+    implements QuasiRandomSequence {
+
+  /**
+   * The maximum dimension, determined by the primitive polynomials of degree 13 or less.
+   */
+  public static final int MAX_DIMENSION = 1111;
+  /**
+   * The number of bits in the direction numbers.
+   */
+  private static final int BITS = 32;
+  /**
+   * The scale converting an integer to a double.
+   */
+  private static final double SCALE = 1d / (1L << BITS);
+  /**
+   * The maximum degree of the primitive polynomials.
+   */
+  private static final int MAX_DEGREE = 13;
+  /**
+   * The initial direction numbers of Joe and Kuo for dimensions 2 to 21.
+   */
+  private static final int[][] JOE_KUO_INITIAL = {
+      {1},
+      {1, 3},
+      {1, 3, 1},
+      {1, 1, 1},
+      {1, 1, 3, 3},
+      {1, 3, 5, 13},
+      {1, 1, 5, 5, 17},
+      {1, 1, 5, 5, 5},
+      {1, 1, 7, 11, 19},
+      {1, 1, 5, 1, 1},
+      {1, 1, 1, 3, 11},
+      {1, 3, 5, 5, 31},
+      {1, 3, 3, 9, 7, 49},
+      {1, 1, 1, 15, 21, 21},
+      {1, 3, 1, 13, 27, 49},
+      {1, 1, 1, 15, 7, 5},
+      {1, 3, 1, 15, 13, 25},
+      {1, 1, 5, 5, 19, 61},
+      {1, 3, 7, 11, 23, 15, 103},
+      {1, 3, 7, 13, 13, 15, 69},
+  };
+  /**
+   * The seed used to choose the initial direction numbers of the higher dimensions.
+   */
+  private static final long INITIAL_SEED = 20080301L;
+  /**
+   * The direction numbers, indexed by dimension and then bit, the most significant bit first.
+   */
+  private static final long[][] DIRECTIONS = directions();
+
+  /**
+   * The dimension.
+   */
+  private final int dimension;
+  /**
+   * The current integer coordinates, being the point at the current index.
+   */
+  private final long[] current;
+  /**
+   * The index of the next point.
+   */
+  private long index;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains a sequence of the specified dimension, starting at index one.
+   * 
+   * @param dimension  the dimension, from 1 to {@link #MAX_DIMENSION}
+   * @return the sequence
+   */
+  public static SobolSequence of(int dimension) {
+    return new SobolSequence(dimension, 1);
+  }
+
+  // restricted constructor
+  private SobolSequence(int dimension, long index) {
+    ArgChecker.inRangeInclusive(dimension, 1, MAX_DIMENSION, "dimension");
+    ArgChecker.isTrue(index >= 1 && index < (1L << BITS), "Index must be from 1 to 2^32 - 1, but was {}", index);
+    this.dimension = dimension;
+    this.current = new long[dimension];
+    this.index = index;
+    // the point at index n is the exclusive-or of the direction numbers at the set bits of the Gray code of n
+    long gray = index ^ (index >>> 1);
+    for (int bit = 0; bit < BITS; bit++) {
+      if ((gray & (1L << bit)) != 0) {
+        for (int i = 0; i < dimension; i++) {
+          current[i] ^= DIRECTIONS[i][bit];
+        }
+      }
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public int getDimension() {
+    return dimension;
+  }
+
+  @Override
+  public long getIndex() {
+    return index;
+  }
+
+  @Override
+  public void nextPoint(double[] point) {
+    if (index >= (1L << BITS)) {
+      throw new IllegalStateException("Sobol sequence exhausted");
+    }
+    for (int i = 0; i < dimension; i++) {
+      point[i] = current[i] * SCALE;
+    }
+    // moving from index n to n + 1 flips the bit of the Gray code at the lowest zero bit of n
+    int bit = Long.numberOfTrailingZeros(index + 1);
+    if (bit < BITS) {
+      for (int i = 0; i < dimension; i++) {
+        current[i] ^= DIRECTIONS[i][bit];
+      }
+    }
+    index++;
+  }
+
+  @Override
+  public SobolSequence atIndex(long index) {
+    return new SobolSequence(dimension, index);
+  }
+
+  //-------------------------------------------------------------------------
+  // determines the direction numbers of all dimensions
+  private static long[][] directions() {
+    long[][] directions = new long[MAX_DIMENSION][BITS];
+    for (int bit = 0; bit < BITS; bit++) {
+      directions[0][bit] = 1L << (BITS - 1 - bit);
+    }
+    List<int[]> polynomials = primitivePolynomials();
+    Random random = new Random(INITIAL_SEED);
+    for (int dim = 1; dim < MAX_DIMENSION; dim++) {
+      int degree = polynomials.get(dim - 1)[0];
+      int coefficients = polynomials.get(dim - 1)[1];
+      long[] v = directions[dim];
+      for (int k = 0; k < degree; k++) {
+        // the initial direction numbers are odd and less than 2^(k+1)
+        int m = dim <= JOE_KUO_INITIAL.length ? JOE_KUO_INITIAL[dim - 1][k] : 2 * random.nextInt(1 << k) + 1;
+        v[k] = ((long) m) << (BITS - 1 - k);
+      }
+      for (int k = degree; k < BITS; k++) {
+        long value = v[k - degree] ^ (v[k - degree] >>> degree);
+        for (int j = 1; j < degree; j++) {
+          if (((coefficients >>> (degree - 1 - j)) & 1) != 0) {
+            value ^= v[k - j];
+          }
+        }
+        v[k] = value;
+      }
+    }
+    return directions;
+  }
+
+  // the primitive polynomials, as degree and the interior coefficients, in order of degree and then coefficients
+  // the interior coefficients exclude the leading and constant terms, the highest power in the most significant bit
+  private static List<int[]> primitivePolynomials() {
+    List<int[]> polynomials = new ArrayList<>();
+    for (int degree = 1; degree <= MAX_DEGREE && polynomials.size() < MAX_DIMENSION - 1; degree++) {
+      for (int coefficients = 0; coefficients < (1 << (degree - 1)); coefficients++) {
+        int polynomial = (1 << degree) | (coefficients << 1) | 1;
+        if (isPrimitive(polynomial, degree)) {
+          polynomials.add(new int[] {degree, coefficients});
+        }
+      }
+    }
+    return polynomials;
+  }
+
+  // a polynomial is primitive if x has order 2^degree - 1 modulo the polynomial
+  private static boolean isPrimitive(int polynomial, int degree) {
+    long order = (1L << degree) - 1;
+    if (powerOfX(order, polynomial, degree) != 1) {
+      return false;
+    }
+    long remaining = order;
+    for (long factor = 2; factor * factor <= remaining; factor++) {
+      if (remaining % factor == 0) {
+        if (powerOfX(order / factor, polynomial, degree) == 1) {
+          return false;
+        }
+        while (remaining % factor == 0) {
+          remaining /= factor;
+        }
+      }
+    }
+    return remaining == 1 || remaining == order || powerOfX(order / remaining, polynomial, degree) != 1;
+  }
+
+  // x^power modulo the polynomial over GF(2)
+  private static int powerOfX(long power, int polynomial, int degree) {
+    int result = 1;
+    int base = degree == 1 ? (2 ^ polynomial) : 2;
+    long remaining = power;
+    while (remaining > 0) {
+      if ((remaining & 1) != 0) {
+        result = multiply(result, base, polynomial, degree);
+      }
+      base = multiply(base, base, polynomial, degree);
+      remaining >>>= 1;
+    }
+    return result;
+  }
+
+  // multiplies two polynomials modulo the polynomial over GF(2)
+  private static int multiply(int a, int b, int polynomial, int degree) {
+    int result = 0;
+    int shifted = a;
+    for (int bit = 0; bit < degree; bit++) {
+      if ((b & (1 << bit)) != 0) {
+        result ^= shifted;
+      }
+      shifted <<= 1;
+      if ((shifted & (1 << degree)) != 0) {
+        shifted ^= polynomial;
+      }
+    }
+    return result;
+  }
+
+}
@@ -6,6 +6,7 @@
 package com.opengamma.strata.math.impl.rootfinding.newton;
 
 import com.opengamma.strata.math.impl.linearalgebra.LUDecompositionCommons;
+import com.opengamma.strata.math.impl.linearalgebra.LUDecompositionOpenGamma;
 import com.opengamma.strata.math.linearalgebra.Decomposition;
 
 /**
@@ -40,13 +41,16 @@ public class BroydenVectorRootFinder extends BaseNewtonVectorRootFinder {
 
   /**
    * Creates an instance.
+   * <p>
+   * The decomposition is {@link LUDecompositionOpenGamma}, which agrees with {@link LUDecompositionCommons}
+   * to round-off. Use the constructor taking a decomposition to select another.
    * 
    * @param absoluteTol  the absolute tolerance
    * @param relativeTol  the relative tolerance
    * @param maxSteps  the maximum steps
    */
   public BroydenVectorRootFinder(double absoluteTol, double relativeTol, int maxSteps) {
-    this(absoluteTol, relativeTol, maxSteps, new LUDecompositionCommons());
+    this(absoluteTol, relativeTol, maxSteps, new LUDecompositionOpenGamma());
   }
 
   /**
@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.statistics.leastsquare;
+
+import java.time.Duration;
+
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.result.Result;
+
+/**
+ * The result of solving a single problem in a batch of non-linear least square problems.
+ * <p>
+ * This contains the best fit, or the failure if the problem could not be solved from any start position,
+ * together with statistics on the solve.
+ */
+public final class LeastSquareBatchResult {
+
+  /**
+   * The best fit, or the failure.
+   */
+  private final Result<LeastSquareResults> result;
+  /**
+   * The index of the start position that produced the best fit, -1 if the solve failed.
+   */
+  private final int startIndex;
+  /**
+   * The total number of iterations, summed over all start positions.
+   */
+  private final int iterationCount;
+  /**
+   * The elapsed time solving the problem from all start positions.
+   */
+  private final Duration elapsedTime;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance.
+   *
+   * @param result  the best fit, or the failure
+   * @param startIndex  the index of the start position that produced the best fit, -1 if the solve failed
+   * @param iterationCount  the total number of iterations, summed over all start positions
+   * @param elapsedTime  the elapsed time solving the problem
+   * @return the result
+   */
+  public static LeastSquareBatchResult of(
+      Result<LeastSquareResults> result,
+      int startIndex,
+      int iterationCount,
+      Duration elapsedTime) {
+
+    return new LeastSquareBatchResult(result, startIndex, iterationCount, elapsedTime);
+  }
+
+  // restricted constructor
+  private LeastSquareBatchResult(
+      Result<LeastSquareResults> result,
+      int startIndex,
+      int iterationCount,
+      Duration elapsedTime) {
+
+    this.result = ArgChecker.notNull(result, "result");
+    this.startIndex = startIndex;
+    this.iterationCount = ArgChecker.notNegative(iterationCount, "iterationCount");
+    this.elapsedTime = ArgChecker.notNull(elapsedTime, "elapsedTime");
+    ArgChecker.isTrue(result.isSuccess() == (startIndex >= 0), "startIndex must be -1 if and only if the solve failed");
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the best fit, or the failure if the problem could not be solved from any start position.
+   *
+   * @return the result
+   */
+  public Result<LeastSquareResults> getResult() {
+    return result;
+  }
+
+  /**
+   * Gets the index of the start position that produced the best fit.
+   *
+   * @return the start index, -1 if the solve failed
+   */
+  public int getStartIndex() {
+    return startIndex;
+  }
+
+  /**
+   * Gets the total number of iterations, summed over all start positions.
+   *
+   * @return the iteration count
+   */
+  public int getIterationCount() {
+    return iterationCount;
+  }
+
+  /**
+   * Gets the elapsed time solving the problem from all start positions.
+   *
+   * @return the elapsed time
+   */
+  public Duration getElapsedTime() {
+    return elapsedTime;
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return "LeastSquareBatchResult[result=" + result + ", startIndex=" + startIndex +
+        ", iterationCount=" + iterationCount + ", elapsedTime=" + elapsedTime + "]";
+  }
+
+}
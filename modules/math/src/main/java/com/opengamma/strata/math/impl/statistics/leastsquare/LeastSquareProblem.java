@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.statistics.leastsquare;
+
+import java.util.List;
+import java.util.function.Function;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+
+/**
+ * A single non-linear least square problem, solved as part of a batch.
+ * <p>
+ * The model is given as a function of its parameters only, with an analytic Jacobian,
+ * as for {@link NonLinearLeastSquare#solve(DoubleArray, DoubleArray, Function, Function, DoubleArray, Function, DoubleArray)}.
+ * One or more start positions may be specified. When there is more than one, the problem is
+ * solved from each start position and the fit with the lowest chi-square is retained.
+ * <p>
+ * The functions must be thread-safe, as problems are solved in parallel.
+ */
+public final class LeastSquareProblem {
+
+  /**
+   * The observed values.
+   */
+  private final DoubleArray observedValues;
+  /**
+   * The measurement errors.
+   */
+  private final DoubleArray sigma;
+  /**
+   * The model as a function of its parameters.
+   */
+  private final Function<DoubleArray, DoubleArray> func;
+  /**
+   * The Jacobian of the model as a function of its parameters.
+   */
+  private final Function<DoubleArray, DoubleMatrix> jac;
+  /**
+   * The start positions, at least one.
+   */
+  private final ImmutableList<DoubleArray> startPositions;
+  /**
+   * The constraints on the parameters.
+   */
+  private final Function<DoubleArray, Boolean> constraints;
+  /**
+   * The maximum absolute step in each direction, null if unlimited.
+   */
+  private final DoubleArray maxJumps;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an unconstrained problem with a single start position.
+   *
+   * @param observedValues  the observed values
+   * @param sigma  the measurement errors
+   * @param func  the model as a function of its parameters
+   * @param jac  the Jacobian of the model as a function of its parameters
+   * @param startPos  the initial value of the parameters
+   * @return the problem
+   */
+  public static LeastSquareProblem of(
+      DoubleArray observedValues,
+      DoubleArray sigma,
+      Function<DoubleArray, DoubleArray> func,
+      Function<DoubleArray, DoubleMatrix> jac,
+      DoubleArray startPos) {
+
+    return of(observedValues, sigma, func, jac, ImmutableList.of(startPos), NonLinearLeastSquare.UNCONSTRAINED, null);
+  }
+
+  /**
+   * Obtains a problem with several start positions.
+   * <p>
+   * Each start position must satisfy the constraints.
+   *
+   * @param observedValues  the observed values
+   * @param sigma  the measurement errors
+   * @param func  the model as a function of its parameters
+   * @param jac  the Jacobian of the model as a function of its parameters
+   * @param startPositions  the initial values of the parameters, at least one
+   * @param constraints  the function that returns true if a trial point is within the constraints of the model
+   * @param maxJumps  the maximum absolute step in each direction in each iteration, null if unlimited
+   * @return the problem
+   */
+  public static LeastSquareProblem of(
+      DoubleArray observedValues,
+      DoubleArray sigma,
+      Function<DoubleArray, DoubleArray> func,
+      Function<DoubleArray, DoubleMatrix> jac,
+      List<DoubleArray> startPositions,
+      Function<DoubleArray, Boolean> constraints,
+      DoubleArray maxJumps) {
+
+    return new LeastSquareProblem(observedValues, sigma, func, jac, startPositions, constraints, maxJumps);
+  }
+
+  // restricted constructor
+  private LeastSquareProblem(
+      DoubleArray observedValues,
+      DoubleArray sigma,
+      Function<DoubleArray, DoubleArray> func,
+      Function<DoubleArray, DoubleMatrix> jac,
+      List<DoubleArray> startPositions,
+      Function<DoubleArray, Boolean> constraints,
+      DoubleArray maxJumps) {
+
+    this.observedValues = ArgChecker.notNull(observedValues, "observedValues");
+    this.sigma = ArgChecker.notNull(sigma, "sigma");
+    this.func = ArgChecker.notNull(func, "func");
+    this.jac = ArgChecker.notNull(jac, "jac");
+    this.startPositions = ImmutableList.copyOf(ArgChecker.notEmpty(startPositions, "startPositions"));
+    this.constraints = ArgChecker.notNull(constraints, "constraints");
+    this.maxJumps = maxJumps;
+    ArgChecker.isTrue(observedValues.size() == sigma.size(), "observedValues and sigma must be same length");
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the start positions.
+   *
+   * @return the start positions, at least one
+   */
+  public ImmutableList<DoubleArray> getStartPositions() {
+    return startPositions;
+  }
+
+  // solves the problem from the specified start position, recording the number of iterations
+  LeastSquareResults solve(NonLinearLeastSquare solver, int startIndex, int[] iterations) {
+    return solver.solve(
+        observedValues, sigma, func, jac, startPositions.get(startIndex), constraints, maxJumps, iterations);
+  }
+
+}
@@ -35,7 +35,7 @@ public class NonLinearLeastSquare {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(NonLinearLeastSquare.class);
   private static final int MAX_ATTEMPTS = 10000;
-  private static final Function<DoubleArray, Boolean> UNCONSTRAINED = new Function<DoubleArray, Boolean>() {
+  static final Function<DoubleArray, Boolean> UNCONSTRAINED = new Function<DoubleArray, Boolean>() {
     @Override
     public Boolean apply(DoubleArray x) {
       return true;
@@ -381,6 +381,21 @@ public class NonLinearLeastSquare {
       Function<DoubleArray, Boolean> constraints,
       DoubleArray maxJumps) {
 
+    return solve(observedValues, sigma, func, jac, startPos, constraints, maxJumps, new int[1]);
+  }
+
+  // solves the problem, recording the number of iterations in the first element of the array
+  // the number of iterations is recorded as each starts, thus it is available if the solver fails
+  LeastSquareResults solve(
+      DoubleArray observedValues,
+      DoubleArray sigma,
+      Function<DoubleArray, DoubleArray> func,
+      Function<DoubleArray, DoubleMatrix> jac,
+      DoubleArray startPos,
+      Function<DoubleArray, Boolean> constraints,
+      DoubleArray maxJumps,
+      int[] iterations) {
+
     ArgChecker.notNull(observedValues, "observedValues");
     ArgChecker.notNull(sigma, " sigma");
     ArgChecker.notNull(func, " func");
@@ -413,6 +428,7 @@ public class NonLinearLeastSquare {
     DoubleArray beta = getChiSqrGrad(error, jacobian);
 
     for (int count = 0; count < MAX_ATTEMPTS; count++) {
+      iterations[0] = count + 1;
       alpha = getModifiedCurvatureMatrix(jacobian, lambda);
 
       DoubleArray deltaTheta;
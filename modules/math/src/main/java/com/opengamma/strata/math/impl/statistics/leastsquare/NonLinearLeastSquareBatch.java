@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.statistics.leastsquare;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Guavate;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
+
+/**
+ * Solves a batch of independent non-linear least square problems.
+ * <p>
+ * Each problem is solved using {@link NonLinearLeastSquare}.
+ * The problems are solved in turn, unless an executor is specified, in which case each problem
+ * is submitted to the executor, allowing the caller to control the parallelism.
+ * Where a problem has several start positions, it is solved from each in turn, and the fit with
+ * the lowest chi-square is retained. Solving from a start position that fails is not fatal
+ * provided another start position succeeds.
+ * <p>
+ * The result of each problem includes the number of iterations and the elapsed time.
+ * A problem that cannot be solved from any start position results in a failure,
+ * which does not affect the other problems in the batch.
+ */
+public final class NonLinearLeastSquareBatch {
+
+  /**
+   * The underlying solver.
+   */
+  private final NonLinearLeastSquare solver;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Creates an instance using the default {@link NonLinearLeastSquare} solver.
+   */
+  public NonLinearLeastSquareBatch() {
+    this(new NonLinearLeastSquare());
+  }
+
+  /**
+   * Creates an instance using the specified solver.
+   *
+   * @param solver  the underlying solver
+   */
+  public NonLinearLeastSquareBatch(NonLinearLeastSquare solver) {
+    this.solver = ArgChecker.notNull(solver, "solver");
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Solves the problems in turn.
+   * <p>
+   * The results are in the same order as the problems.
+   *
+   * @param problems  the problems to solve
+   * @return the result of each problem
+   */
+  public ImmutableList<LeastSquareBatchResult> solve(List<LeastSquareProblem> problems) {
+    ArgChecker.noNulls(problems, "problems");
+    return problems.stream()
+        .map(this::solve)
+        .collect(toImmutableList());
+  }
+
+  /**
+   * Solves the problems using the specified executor.
+   * <p>
+   * Each problem is submitted to the executor as a separate task.
+   * The results are in the same order as the problems.
+   *
+   * @param problems  the problems to solve
+   * @param executor  the executor used to solve each problem
+   * @return the result of each problem
+   */
+  public ImmutableList<LeastSquareBatchResult> solve(List<LeastSquareProblem> problems, Executor executor) {
+    ArgChecker.noNulls(problems, "problems");
+    ArgChecker.notNull(executor, "executor");
+    List<CompletableFuture<LeastSquareBatchResult>> futures = problems.stream()
+        .map(problem -> CompletableFuture.supplyAsync(() -> solve(problem), executor))
+        .collect(toImmutableList());
+    try {
+      return ImmutableList.copyOf(Guavate.combineFuturesAsList(futures).join());
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) ex.getCause();
+      }
+      throw ex;
+    }
+  }
+
+  /**
+   * Solves a single problem, trying each start position.
+   *
+   * @param problem  the problem to solve
+   * @return the result
+   */
+  public LeastSquareBatchResult solve(LeastSquareProblem problem) {
+    ArgChecker.notNull(problem, "problem");
+    long start = System.nanoTime();
+    int[] iterations = new int[1];
+    int totalIterations = 0;
+    LeastSquareResults best = null;
+    int bestIndex = -1;
+    RuntimeException firstFailure = null;
+    for (int i = 0; i < problem.getStartPositions().size(); i++) {
+      iterations[0] = 0;
+      try {
+        LeastSquareResults fit = problem.solve(solver, i, iterations);
+        if (best == null || fit.getChiSq() < best.getChiSq()) {
+          best = fit;
+          bestIndex = i;
+        }
+      } catch (RuntimeException ex) {
+        if (firstFailure == null) {
+          firstFailure = ex;
+        }
+      }
+      totalIterations += iterations[0];
+    }
+    Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+    if (best == null) {
+      Result<LeastSquareResults> failure = Result.failure(
+          FailureReason.CALCULATION_FAILED,
+          firstFailure,
+          "Least square problem could not be solved from any of {} start positions: {}",
+          problem.getStartPositions().size(),
+          firstFailure.getMessage());
+      return LeastSquareBatchResult.of(failure, -1, totalIterations, elapsed);
+    }
+    return LeastSquareBatchResult.of(Result.success(best), bestIndex, totalIterations, elapsed);
+  }
+
+}
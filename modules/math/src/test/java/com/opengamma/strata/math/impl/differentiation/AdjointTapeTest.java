@@ -0,0 +1,190 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.differentiation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.data.Offset.offset;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test {@link AdjointTape}.
+ */
+public class AdjointTapeTest {
+
+  private static final double TOL = 1e-14;
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_arithmetic() {
+    AdjointTape tape = AdjointTape.create();
+    int x = tape.input(1.5);
+    int y = tape.input(-0.4);
+    int c = tape.constant(2d);
+    assertThat(tape.inputCount()).isEqualTo(2);
+    assertThat(tape.nodeCount()).isEqualTo(3);
+    assertGradient(tape, tape.add(x, y), 1.1, 1, 1);
+    assertGradient(tape, tape.subtract(x, y), 1.9, 1, -1);
+    assertGradient(tape, tape.multiply(x, y), -0.6, -0.4, 1.5);
+    assertGradient(tape, tape.divide(x, y), -3.75, -2.5, -1.5 / 0.16);
+    assertGradient(tape, tape.shift(x, 2d), 3.5, 1, 0);
+    assertGradient(tape, tape.scale(y, 3d), -1.2, 0, 3);
+    assertGradient(tape, tape.negate(x), -1.5, -1, 0);
+    assertGradient(tape, tape.multiply(x, c), 3, 2, 0);
+    assertGradient(tape, tape.sum(x, y, x, c), 4.6, 2, 1);
+  }
+
+  @Test
+  public void test_functions() {
+    AdjointTape tape = AdjointTape.create();
+    int x = tape.input(0.7);
+    assertGradient(tape, tape.exp(x), Math.exp(0.7), Math.exp(0.7));
+    assertGradient(tape, tape.log(x), Math.log(0.7), 1 / 0.7);
+    assertGradient(tape, tape.sqrt(x), Math.sqrt(0.7), 0.5 / Math.sqrt(0.7));
+    assertGradient(tape, tape.pow(x, 2.5), Math.pow(0.7, 2.5), 2.5 * Math.pow(0.7, 1.5));
+    assertGradient(tape, tape.sin(x), Math.sin(0.7), Math.cos(0.7));
+    assertGradient(tape, tape.cos(x), Math.cos(0.7), -Math.sin(0.7));
+    assertGradient(tape, tape.unary(x, 5d, 3d), 5, 3);
+    assertGradient(tape, tape.binary(x, x, 5d, 3d, 2d), 5, 5);
+    assertGradient(tape, tape.record(5d, new int[] {x, x, x}, new double[] {1d, 0d, 2d}), 5, 3);
+  }
+
+  @Test
+  public void test_pow_zero() {
+    AdjointTape tape = AdjointTape.create();
+    int x = tape.input(0d);
+    assertThat(tape.value(tape.pow(x, 0.5))).isEqualTo(0d);
+    assertGradient(tape, tape.pow(x, 0d), 1, 0);
+    assertGradient(tape, tape.pow(x, 2d), 0, 0);
+  }
+
+  @Test
+  public void test_composite() {
+    // f(x, y, z) = x * exp(y * z) / (1 + x^2), with x reused across branches
+    double x0 = 0.8;
+    double y0 = -1.3;
+    double z0 = 0.45;
+    AdjointTape tape = AdjointTape.create(2);
+    int x = tape.input(x0);
+    int y = tape.input(y0);
+    int z = tape.input(z0);
+    int num = tape.multiply(x, tape.exp(tape.multiply(y, z)));
+    int den = tape.shift(tape.multiply(x, x), 1d);
+    int f = tape.divide(num, den);
+    double exp = Math.exp(y0 * z0);
+    double den0 = 1 + x0 * x0;
+    double expected = x0 * exp / den0;
+    double dfdx = exp * (1 - x0 * x0) / (den0 * den0);
+    assertGradient(tape, f, expected, dfdx, z0 * expected, y0 * expected);
+  }
+
+  @Test
+  public void test_gradient_partial() {
+    AdjointTape tape = AdjointTape.create();
+    int x = tape.input(2d);
+    int y = tape.multiply(x, x);
+    int z = tape.input(3d);
+    // the gradient of a node recorded before an input is zero for that input
+    assertThat(tape.gradient(y)).containsExactly(4d, 0d);
+    assertThat(tape.gradient(tape.multiply(y, z))).containsExactly(12d, 4d);
+  }
+
+  @Test
+  public void test_growth() {
+    AdjointTape tape = AdjointTape.create(1);
+    int[] inputs = tape.inputs(new double[200]);
+    int sum = tape.sum(inputs);
+    for (int i = 0; i < 1000; i++) {
+      sum = tape.add(sum, inputs[i % inputs.length]);
+    }
+    double[] gradient = tape.gradient(sum);
+    assertThat(gradient).hasSize(200);
+    for (int i = 0; i < gradient.length; i++) {
+      assertThat(gradient[i]).isEqualTo(6d);
+    }
+  }
+
+  @Test
+  public void test_reset() {
+    AdjointTape tape = AdjointTape.create();
+    tape.exp(tape.input(1d));
+    tape.reset();
+    assertThat(tape.nodeCount()).isEqualTo(0);
+    assertThat(tape.inputCount()).isEqualTo(0);
+    int x = tape.input(2d);
+    assertThat(tape.gradient(tape.log(x))).containsExactly(0.5);
+  }
+
+  @Test
+  public void test_invalid() {
+    AdjointTape tape = AdjointTape.create();
+    int x = tape.input(2d);
+    assertThatIllegalArgumentException().isThrownBy(() -> AdjointTape.create(0));
+    assertThatIllegalArgumentException().isThrownBy(() -> tape.value(x + 1));
+    assertThatIllegalArgumentException().isThrownBy(() -> tape.gradient(-1));
+    assertThatIllegalArgumentException().isThrownBy(() -> tape.record(1d, new int[] {x}, new double[2]));
+    assertThatIllegalArgumentException().isThrownBy(() -> tape.unary(x + 1, 1d, 1d));
+    assertThatIllegalArgumentException().isThrownBy(() -> tape.unary(-1, 1d, 1d));
+    assertThatIllegalArgumentException().isThrownBy(() -> tape.binary(x, x + 1, 1d, 1d, 1d));
+    assertThatIllegalArgumentException().isThrownBy(() -> tape.binary(-1, x, 1d, 1d, 1d));
+    assertThatIllegalArgumentException().isThrownBy(() -> tape.record(1d, new int[] {x, x + 1}, new double[2]));
+    assertThatIllegalArgumentException().isThrownBy(() -> tape.add(x, x + 1));
+    assertThat(tape.nodeCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void test_invalid_operations() {
+    AdjointTape tape = AdjointTape.create();
+    int x = tape.input(2d);
+    for (int bad : new int[] {-1, x + 1}) {
+      assertInvalidOperations(tape, x, bad);
+    }
+    assertThat(tape.nodeCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void test_invalid_afterReset() {
+    AdjointTape tape = AdjointTape.create();
+    tape.input(2d);
+    int stale = tape.exp(tape.input(3d));
+    tape.reset();
+    int x = tape.input(4d);
+    assertThatIllegalArgumentException().isThrownBy(() -> tape.value(stale));
+    assertInvalidOperations(tape, x, stale);
+    assertThat(tape.nodeCount()).isEqualTo(1);
+  }
+
+  //-------------------------------------------------------------------------
+  private static void assertInvalidOperations(AdjointTape tape, int valid, int bad) {
+    assertThatIllegalArgumentException().isThrownBy(() -> tape.add(valid, bad));
+    assertThatIllegalArgumentException().isThrownBy(() -> tape.add(bad, valid));
+    assertThatIllegalArgumentException().isThrownBy(() -> tape.subtract(valid, bad));
+    assertThatIllegalArgumentException().isThrownBy(() -> tape.multiply(bad, valid));
+    assertThatIllegalArgumentException().isThrownBy(() -> tape.divide(valid, bad));
+    assertThatIllegalArgumentException().isThrownBy(() -> tape.divide(bad, valid));
+    assertThatIllegalArgumentException().isThrownBy(() -> tape.shift(bad, 1d));
+    assertThatIllegalArgumentException().isThrownBy(() -> tape.scale(bad, 2d));
+    assertThatIllegalArgumentException().isThrownBy(() -> tape.negate(bad));
+    assertThatIllegalArgumentException().isThrownBy(() -> tape.exp(bad));
+    assertThatIllegalArgumentException().isThrownBy(() -> tape.log(bad));
+    assertThatIllegalArgumentException().isThrownBy(() -> tape.sqrt(bad));
+    assertThatIllegalArgumentException().isThrownBy(() -> tape.pow(bad, 2d));
+    assertThatIllegalArgumentException().isThrownBy(() -> tape.sin(bad));
+    assertThatIllegalArgumentException().isThrownBy(() -> tape.cos(bad));
+    assertThatIllegalArgumentException().isThrownBy(() -> tape.sum(valid, bad));
+  }
+
+  private static void assertGradient(AdjointTape tape, int node, double value, double... gradient) {
+    assertThat(tape.value(node)).isCloseTo(value, offset(TOL));
+    double[] test = tape.gradient(node);
+    assertThat(test).hasSize(gradient.length);
+    for (int i = 0; i < gradient.length; i++) {
+      assertThat(test[i]).isCloseTo(gradient[i], offset(TOL));
+    }
+  }
+
+}
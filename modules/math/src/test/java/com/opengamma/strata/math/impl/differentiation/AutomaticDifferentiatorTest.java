@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.differentiation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.data.Offset.offset;
+
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.basics.value.ValueDerivatives;
+import com.opengamma.strata.collect.array.DoubleArray;
+
+/**
+ * Test {@link AutomaticDifferentiator}.
+ */
+public class AutomaticDifferentiatorTest {
+
+  // f(x) = sum_i x_i^2 * exp(-x_{i+1})
+  private static final TapeFunction TAPE_FUNCTION = (tape, x) -> {
+    int[] terms = new int[x.length - 1];
+    for (int i = 0; i < terms.length; i++) {
+      terms[i] = tape.multiply(tape.multiply(x[i], x[i]), tape.exp(tape.negate(x[i + 1])));
+    }
+    return tape.sum(terms);
+  };
+  private static final Function<DoubleArray, Double> FUNCTION = x -> {
+    double sum = 0d;
+    for (int i = 0; i < x.size() - 1; i++) {
+      sum += x.get(i) * x.get(i) * Math.exp(-x.get(i + 1));
+    }
+    return sum;
+  };
+  private static final Function<DualNumber[], DualNumber> DUAL_FUNCTION = x -> {
+    DualNumber sum = DualNumber.constant(0d);
+    for (int i = 0; i < x.length - 1; i++) {
+      sum = sum.plus(x[i].multipliedBy(x[i]).multipliedBy(x[i + 1].negated().exp()));
+    }
+    return sum;
+  };
+  private static final DoubleArray X = DoubleArray.of(0.3, -0.5, 1.2, 0.8, 2.1, -0.1);
+  private static final ScalarFieldFirstOrderDifferentiator FD = new ScalarFieldFirstOrderDifferentiator();
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_valueAndGradient() {
+    ValueDerivatives test = AutomaticDifferentiator.valueAndGradient(TAPE_FUNCTION, X);
+    assertThat(test.getValue()).isCloseTo(FUNCTION.apply(X), offset(1e-14));
+    DoubleArray expected = FD.differentiate(FUNCTION).apply(X);
+    assertThat(test.getDerivatives().equalWithTolerance(expected, 1e-8)).isTrue();
+    assertThat(AutomaticDifferentiator.gradient(TAPE_FUNCTION).apply(X)).isEqualTo(test.getDerivatives());
+  }
+
+  @Test
+  public void test_valueAndDerivative() {
+    ValueDerivatives test = AutomaticDifferentiator.valueAndDerivative(x -> x.multipliedBy(x.sin()).plus(1d), 0.6);
+    assertThat(test.getValue()).isCloseTo(0.6 * Math.sin(0.6) + 1d, offset(1e-14));
+    assertThat(test.getDerivative(0)).isCloseTo(Math.sin(0.6) + 0.6 * Math.cos(0.6), offset(1e-14));
+  }
+
+  @Test
+  public void test_directionalDerivative() {
+    DoubleArray gradient = AutomaticDifferentiator.gradient(TAPE_FUNCTION).apply(X);
+    for (int i = 0; i < X.size(); i++) {
+      DoubleArray direction = DoubleArray.filled(X.size()).with(i, 1d);
+      DualNumber test = AutomaticDifferentiator.directionalDerivative(DUAL_FUNCTION, X, direction);
+      assertThat(test.getValue()).isCloseTo(FUNCTION.apply(X), offset(1e-14));
+      assertThat(test.getDerivative()).isCloseTo(gradient.get(i), offset(1e-13));
+    }
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> AutomaticDifferentiator.directionalDerivative(DUAL_FUNCTION, X, DoubleArray.of(1d)));
+  }
+
+}
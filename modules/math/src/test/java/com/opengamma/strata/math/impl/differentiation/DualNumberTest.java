@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.differentiation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.data.Offset.offset;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test {@link DualNumber}.
+ */
+public class DualNumberTest {
+
+  private static final double TOL = 1e-14;
+  private static final DualNumber X = DualNumber.variable(0.7);
+  private static final DualNumber Y = DualNumber.of(-1.2, 0.5);
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_of() {
+    assertThat(X.getValue()).isEqualTo(0.7);
+    assertThat(X.getDerivative()).isEqualTo(1d);
+    assertThat(DualNumber.constant(2d).getDerivative()).isEqualTo(0d);
+    assertThat(Y.getValue()).isEqualTo(-1.2);
+    assertThat(Y.getDerivative()).isEqualTo(0.5);
+  }
+
+  @Test
+  public void test_arithmetic() {
+    assertDual(X.plus(Y), -0.5, 1.5);
+    assertDual(X.plus(2d), 2.7, 1);
+    assertDual(X.minus(Y), 1.9, 0.5);
+    assertDual(X.minus(2d), -1.3, 1);
+    assertDual(X.multipliedBy(Y), -0.84, -1.2 + 0.35);
+    assertDual(X.multipliedBy(2d), 1.4, 2);
+    assertDual(X.dividedBy(Y), 0.7 / -1.2, (-1.2 - 0.35) / 1.44);
+    assertDual(X.dividedBy(2d), 0.35, 0.5);
+    assertDual(Y.negated(), 1.2, -0.5);
+  }
+
+  @Test
+  public void test_functions() {
+    assertDual(X.exp(), Math.exp(0.7), Math.exp(0.7));
+    assertDual(X.log(), Math.log(0.7), 1 / 0.7);
+    assertDual(X.sqrt(), Math.sqrt(0.7), 0.5 / Math.sqrt(0.7));
+    assertDual(X.pow(3d), 0.343, 1.47);
+    assertDual(Y.sin(), Math.sin(-1.2), 0.5 * Math.cos(-1.2));
+    assertDual(Y.cos(), Math.cos(-1.2), -0.5 * Math.sin(-1.2));
+    assertDual(Y.apply(3d, 4d), 3, 2);
+  }
+
+  @Test
+  public void test_pow_zero() {
+    DualNumber zero = DualNumber.variable(0d);
+    assertThat(zero.pow(0.5).getValue()).isEqualTo(0d);
+    assertDual(zero.pow(0d), 1, 0);
+    assertDual(zero.pow(2d), 0, 0);
+  }
+
+  @Test
+  public void test_equalsHashCode() {
+    assertThat(X).isEqualTo(DualNumber.of(0.7, 1d));
+    assertThat(X.hashCode()).isEqualTo(DualNumber.of(0.7, 1d).hashCode());
+    assertThat(X).isNotEqualTo(Y);
+    assertThat(X).isNotEqualTo(DualNumber.of(0.7, 2d));
+    assertThat(X).isNotEqualTo("");
+    assertThat(X.toString()).isEqualTo("DualNumber[0.7, 1.0]");
+  }
+
+  //-------------------------------------------------------------------------
+  private static void assertDual(DualNumber test, double value, double derivative) {
+    assertThat(test.getValue()).isCloseTo(value, offset(TOL));
+    assertThat(test.getDerivative()).isCloseTo(derivative, offset(TOL));
+  }
+
+}
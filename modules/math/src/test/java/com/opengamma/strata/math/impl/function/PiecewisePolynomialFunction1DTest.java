@@ -802,4 +802,54 @@ public class PiecewisePolynomialFunction1DTest {
         .isThrownBy(() -> function.evaluateAndDifferentiate(pp, 1.5));
   }
 
+  /**
+   * Sorted batch evaluation matches point by point evaluation.
+   */
+  @Test
+  public void sortedTest() {
+    DoubleMatrix coefsMatrix = DoubleMatrix.copyOf(new double[][] {
+        {1., -3., 3., -1}, {0., 5., -20., 20}, {1., 0., 0., 0.}, {0., 5., -10., 5}, {1., 3., 3., 1.}, {0., 5., 0., 0.}});
+    double[] xKeys = new double[] {-2, 0.5, 1, 1, 1.7, 2, 2.3, 2.9, 3, 3.5, 4, 6.2};
+    int dim = 2;
+    int nKeys = xKeys.length;
+    PiecewisePolynomialResult pp = new PiecewisePolynomialResult(X_VALUES, coefsMatrix, 4, dim);
+    PiecewisePolynomialFunction1D function = new PiecewisePolynomialFunction1D();
+    DoubleMatrix values = function.evaluate(pp, xKeys);
+    DoubleMatrix firsts = function.differentiate(pp, xKeys);
+    DoubleMatrix seconds = function.differentiateTwice(pp, xKeys);
+    double[] value = new double[dim * nKeys];
+    double[] first = new double[dim * nKeys];
+    double[] second = new double[dim * nKeys];
+    function.evaluateSorted(pp, xKeys, value);
+    function.differentiateSorted(pp, xKeys, first);
+    function.differentiateTwiceSorted(pp, xKeys, second);
+    for (int k = 0; k < dim; ++k) {
+      for (int j = 0; j < nKeys; ++j) {
+        assertThat(value[k * nKeys + j]).isCloseTo(values.get(k, j), offset(EPS * 100));
+        assertThat(first[k * nKeys + j]).isCloseTo(firsts.get(k, j), offset(EPS * 100));
+        assertThat(second[k * nKeys + j]).isCloseTo(seconds.get(k, j), offset(EPS * 100));
+      }
+    }
+  }
+
+  /**
+   * Sorted batch evaluation rejects invalid keys and outputs.
+   */
+  @Test
+  public void sortedFailTest() {
+    DoubleMatrix coefsMatrix = DoubleMatrix.copyOf(new double[][] {{1., -3.}, {0., 5.}, {1., 0.}});
+    PiecewisePolynomialResult pp = new PiecewisePolynomialResult(X_VALUES, coefsMatrix, 2, 1);
+    PiecewisePolynomialFunction1D function = new PiecewisePolynomialFunction1D();
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> function.evaluateSorted(pp, new double[] {2, 1}, new double[2]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> function.evaluateSorted(pp, new double[] {1, 2}, new double[3]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> function.evaluateSorted(pp, new double[] {1, INF}, new double[2]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> function.evaluateSorted(pp, new double[] {Double.NaN}, new double[1]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> function.differentiateTwiceSorted(pp, new double[] {1, 2}, new double[2]));
+  }
+
 }
@@ -996,4 +996,51 @@ public class PiecewisePolynomialFunction2DTest {
         .isThrownBy(() -> function.differentiateCross(result, x0Keys, x1Keys));
   }
 
+  /**
+   * Sorted grid evaluation matches the existing grid evaluation.
+   */
+  @Test
+  public void sortedTest() {
+    PiecewisePolynomialResult2D result = new PiecewisePolynomialResult2D(KNOTS0, KNOTS1, COEFS, new int[] {5, 4});
+    PiecewisePolynomialFunction2D function = new PiecewisePolynomialFunction2D();
+    double[] x0Keys = new double[] {0., 1., 1.5, 2., 2., 2.7, 3., 3.9, 4., 5.};
+    double[] x1Keys = new double[] {1., 2., 2.2, 3., 3.5, 4., 4.5};
+    double[][] values = function.evaluate(result, x0Keys, x1Keys).toArray();
+    double[][] diffX0 = function.differentiateX0(result, x0Keys, x1Keys).toArray();
+    double[][] diffX1 = function.differentiateX1(result, x0Keys, x1Keys).toArray();
+    double[][] value = new double[x0Keys.length][x1Keys.length];
+    double[][] firstX0 = new double[x0Keys.length][x1Keys.length];
+    double[][] firstX1 = new double[x0Keys.length][x1Keys.length];
+    function.evaluateSorted(result, x0Keys, x1Keys, value);
+    function.differentiateX0Sorted(result, x0Keys, x1Keys, firstX0);
+    function.differentiateX1Sorted(result, x0Keys, x1Keys, firstX1);
+    for (int i = 0; i < x0Keys.length; ++i) {
+      for (int j = 0; j < x1Keys.length; ++j) {
+        assertThat(value[i][j]).isCloseTo(values[i][j], offset(EPS * Math.max(1., Math.abs(values[i][j]))));
+        assertThat(firstX0[i][j]).isCloseTo(diffX0[i][j], offset(EPS * Math.max(1., Math.abs(diffX0[i][j]))));
+        assertThat(firstX1[i][j]).isCloseTo(diffX1[i][j], offset(EPS * Math.max(1., Math.abs(diffX1[i][j]))));
+      }
+    }
+  }
+
+  /**
+   * Sorted grid evaluation rejects invalid keys and outputs.
+   */
+  @Test
+  public void sortedFailTest() {
+    PiecewisePolynomialResult2D result = new PiecewisePolynomialResult2D(KNOTS0, KNOTS1, COEFS, new int[] {5, 4});
+    PiecewisePolynomialFunction2D function = new PiecewisePolynomialFunction2D();
+    double[] keys = new double[] {1., 2.};
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> function.evaluateSorted(result, new double[] {2., 1.}, keys, new double[2][2]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> function.evaluateSorted(result, keys, new double[] {2., 1.}, new double[2][2]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> function.evaluateSorted(result, keys, new double[] {1., INF}, new double[2][2]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> function.evaluateSorted(result, keys, keys, new double[3][2]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> function.evaluateSorted(result, keys, keys, new double[2][3]));
+  }
+
 }
@@ -6,12 +6,17 @@
 package com.opengamma.strata.math.impl.integration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.data.Offset.offset;
 
+import java.util.Arrays;
 import java.util.function.Function;
 
 import org.junit.jupiter.api.Test;
 
+import com.opengamma.strata.collect.array.DoubleArray;
+
 /**
  * Test.
  */
@@ -131,4 +136,90 @@ public class GaussianQuadratureIntegrator1DTest {
     assertThat(expected).isCloseTo(res2, offset(1e-15));
   }
 
+  @Test
+  public void testCache() {
+    GaussLegendreQuadratureIntegrator1D legendre = new GaussLegendreQuadratureIntegrator1D(6);
+    GaussianQuadratureData data = legendre.getQuadratureData();
+    assertThat(new GaussLegendreQuadratureIntegrator1D(6).getQuadratureData()).isSameAs(data);
+    assertThat(new GaussLegendreQuadratureIntegrator1D(8).getQuadratureData()).isNotEqualTo(data);
+    GaussLaguerreQuadratureIntegrator1D laguerre = new GaussLaguerreQuadratureIntegrator1D(12, 0.5);
+    data = laguerre.getQuadratureData();
+    assertThat(new GaussLaguerreQuadratureIntegrator1D(12, 0.5).getQuadratureData()).isSameAs(data);
+    assertThat(new GaussLaguerreQuadratureIntegrator1D(12, 0.5)).isEqualTo(laguerre);
+    assertThat(new GaussLaguerreQuadratureIntegrator1D(12, 1.5)).isNotEqualTo(laguerre);
+    assertThat(new GaussLaguerreQuadratureIntegrator1D(12, 0.5).hashCode()).isEqualTo(laguerre.hashCode());
+  }
+
+  @Test
+  public void testCache_generatorRetainsArrays() {
+    double[] abscissas = {0.5};
+    double[] weights = {2d};
+    QuadratureWeightAndAbscissaFunction generator = n -> new GaussianQuadratureData(abscissas, weights);
+    GaussianQuadratureIntegrator1D integrator = new GaussianQuadratureIntegrator1D(1, generator) {
+      @Override
+      public Double[] getLimits() {
+        return new Double[] {-1d, 1d};
+      }
+
+      @Override
+      public Function<Double, Double> getIntegralFunction(Function<Double, Double> function, Double lower, Double upper) {
+        return function;
+      }
+    };
+    abscissas[0] = 9d;
+    weights[0] = 9d;
+    assertThat(integrator.integrateFromPolyFunc(x -> x)).isEqualTo(1d);
+    assertThat(integrator.getQuadratureData().getAbscissas()).containsExactly(0.5);
+  }
+
+  @Test
+  public void testBatch() {
+    Function<DoubleArray, DoubleArray> df1 = xs -> xs.map(DF1::apply);
+    GaussLegendreQuadratureIntegrator1D legendre = new GaussLegendreQuadratureIntegrator1D(6);
+    assertThat(legendre.integrateBatch(df1, -0.56, 1.4)).isCloseTo(legendre.integrate(DF1, -0.56, 1.4), offset(1e-14));
+    GaussJacobiQuadratureIntegrator1D jacobi = new GaussJacobiQuadratureIntegrator1D(7);
+    assertThat(jacobi.integrateBatch(df1, -1, 12)).isCloseTo(jacobi.integrate(DF1, -1d, 12d), offset(1e-9));
+    GaussLaguerreQuadratureIntegrator1D laguerre = new GaussLaguerreQuadratureIntegrator1D(15);
+    assertThat(laguerre.integrateBatch(xs -> xs.map(x -> Math.exp(-2 * x)), 0, Double.POSITIVE_INFINITY))
+        .isCloseTo(laguerre.integrate(DF2, 0d, Double.POSITIVE_INFINITY), offset(1e-14));
+    GaussHermiteQuadratureIntegrator1D hermite = new GaussHermiteQuadratureIntegrator1D(11);
+    assertThat(hermite.integrateBatch(xs -> xs.map(x -> Math.cos(x) * Math.exp(-x * x)),
+        Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY))
+            .isCloseTo(hermite.integrateFromPolyFunc(COS), offset(1e-14));
+    assertThat(hermite.integrateBatchFromPolyFunc(xs -> xs.map(Math::cos)))
+        .isCloseTo(hermite.integrateFromPolyFunc(COS), offset(1e-15));
+  }
+
+  @Test
+  public void testIntegrationData_notShared() {
+    GaussHermiteQuadratureIntegrator1D hermite = new GaussHermiteQuadratureIntegrator1D(11);
+    double expected = hermite.integrateFromPolyFunc(COS);
+    GaussianQuadratureData hermiteData = hermite.getIntegrationData(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+    Arrays.fill(hermiteData.getAbscissas(), 9d);
+    Arrays.fill(hermiteData.getWeights(), 9d);
+    assertThat(hermite.integrateFromPolyFunc(COS)).isEqualTo(expected);
+    assertThat(new GaussHermiteQuadratureIntegrator1D(11).integrateFromPolyFunc(COS)).isEqualTo(expected);
+    assertThat(hermite.integrateBatch(xs -> xs.map(x -> Math.cos(x) * Math.exp(-x * x)),
+        Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY))
+            .isCloseTo(expected, offset(1e-14));
+    GaussLaguerreQuadratureIntegrator1D laguerre = new GaussLaguerreQuadratureIntegrator1D(15);
+    GaussianQuadratureData laguerreData = laguerre.getIntegrationData(0, Double.POSITIVE_INFINITY);
+    Arrays.fill(laguerreData.getAbscissas(), 9d);
+    Arrays.fill(laguerreData.getWeights(), 9d);
+    assertThat(laguerre.integrateBatch(xs -> xs.map(x -> Math.exp(-2 * x)), 0, Double.POSITIVE_INFINITY))
+        .isCloseTo(laguerre.integrate(DF2, 0d, Double.POSITIVE_INFINITY), offset(1e-14));
+  }
+
+  @Test
+  public void testBatchInvalid() {
+    GaussHermiteQuadratureIntegrator1D hermite = new GaussHermiteQuadratureIntegrator1D(11);
+    assertThatExceptionOfType(UnsupportedOperationException.class)
+        .isThrownBy(() -> hermite.integrateBatch(xs -> xs, 0, Double.POSITIVE_INFINITY));
+    GaussLaguerreQuadratureIntegrator1D laguerre = new GaussLaguerreQuadratureIntegrator1D(11);
+    assertThatExceptionOfType(UnsupportedOperationException.class)
+        .isThrownBy(() -> laguerre.integrateBatch(xs -> xs, 0, 1));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> hermite.integrateBatchFromPolyFunc(xs -> DoubleArray.of(1)));
+  }
+
 }
@@ -646,4 +646,38 @@ public class BicubicSplineInterpolatorTest {
         .isThrownBy(() -> intp.interpolate(x0Values, x1Values, yValues));
   }
 
+  /**
+   * Sorted grid interpolation matches the existing grid interpolation.
+   */
+  @Test
+  public void sortedTest() {
+    double[] x0Values = new double[] {1., 2., 3., 4.};
+    double[] x1Values = new double[] {-1., 0., 1., 2., 3.};
+    double[][] yValues = new double[x0Values.length][x1Values.length];
+    for (int i = 0; i < x0Values.length; ++i) {
+      for (int j = 0; j < x1Values.length; ++j) {
+        yValues[i][j] = Math.sin(x0Values[i]) * Math.exp(0.3 * x1Values[j]);
+      }
+    }
+    PiecewisePolynomialInterpolator2D interp = new BicubicSplineInterpolator(new CubicSplineInterpolator());
+    int n0Keys = 51;
+    int n1Keys = 61;
+    double[] x0Keys = new double[n0Keys];
+    double[] x1Keys = new double[n1Keys];
+    for (int i = 0; i < n0Keys; ++i) {
+      x0Keys[i] = 0. + 5. * i / (n0Keys - 1);
+    }
+    for (int i = 0; i < n1Keys; ++i) {
+      x1Keys[i] = -2. + 6. * i / (n1Keys - 1);
+    }
+    DoubleMatrix expected = interp.interpolate(x0Values, x1Values, yValues, x0Keys, x1Keys);
+    double[][] test = new double[n0Keys][n1Keys];
+    interp.interpolateSorted(x0Values, x1Values, yValues, x0Keys, x1Keys, test);
+    for (int i = 0; i < n0Keys; ++i) {
+      for (int j = 0; j < n1Keys; ++j) {
+        assertThat(test[i][j]).isCloseTo(expected.get(i, j), offset(EPS));
+      }
+    }
+  }
+
 }
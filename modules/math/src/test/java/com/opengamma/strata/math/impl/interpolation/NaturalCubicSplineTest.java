@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.interpolation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.data.Offset.offset;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.math.impl.function.PiecewisePolynomialWithSensitivityFunction1D;
+
+/**
+ * Test {@link NaturalCubicSpline}.
+ */
+public class NaturalCubicSplineTest {
+
+  private static final double[] X_VALUES = {0.1, 0.25, 0.5, 1, 2, 3.5, 5, 7, 10, 20, 30};
+  private static final double[] Y_VALUES = {0.02, 0.021, 0.019, 0.023, 0.025, 0.03, 0.028, 0.031, 0.034, 0.033, 0.035};
+  private static final double[] TEST_VALUES = {-1, 0.1, 0.15, 0.3, 0.5, 0.75, 1.9, 4, 5, 8, 12.5, 29, 30, 45};
+  private static final PiecewisePolynomialWithSensitivityFunction1D FUNCTION =
+      new PiecewisePolynomialWithSensitivityFunction1D();
+  private static final double TOL = 1e-12;
+  private static final double EPS = 1e-6;
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_compareExisting() {
+    NaturalSplineInterpolator interpolator = new NaturalSplineInterpolator();
+    PiecewisePolynomialResultsWithSensitivity expected = interpolator.interpolateWithSensitivity(X_VALUES, Y_VALUES);
+    NaturalCubicSpline test = NaturalCubicSpline.of(X_VALUES, Y_VALUES);
+    assertThat(test.getNodeCount()).isEqualTo(X_VALUES.length);
+    for (double x : TEST_VALUES) {
+      assertThat(test.value(x)).isCloseTo(FUNCTION.evaluate(expected, x).get(0), offset(TOL));
+      assertThat(test.firstDerivative(x)).isCloseTo(FUNCTION.differentiate(expected, x).get(0), offset(TOL));
+      DoubleArray expectedSens = FUNCTION.nodeSensitivity(expected, x);
+      double[] sens = test.nodeSensitivity(x);
+      assertThat(sens).hasSize(X_VALUES.length);
+      for (int i = 0; i < sens.length; i++) {
+        assertThat(sens[i]).isCloseTo(expectedSens.get(i), offset(TOL));
+      }
+    }
+  }
+
+  @Test
+  public void test_nodeSensitivity_finiteDifference() {
+    NaturalCubicSpline base = NaturalCubicSpline.of(X_VALUES, Y_VALUES);
+    for (double x : TEST_VALUES) {
+      double[] sens = base.nodeSensitivity(x);
+      for (int i = 0; i < X_VALUES.length; i++) {
+        double[] yUp = Y_VALUES.clone();
+        double[] yDw = Y_VALUES.clone();
+        yUp[i] += EPS;
+        yDw[i] -= EPS;
+        double fd = (NaturalCubicSpline.of(X_VALUES, yUp).value(x) - NaturalCubicSpline.of(X_VALUES, yDw).value(x)) /
+            (2d * EPS);
+        assertThat(sens[i]).isCloseTo(fd, offset(EPS));
+      }
+    }
+  }
+
+  @Test
+  public void test_natural() {
+    NaturalCubicSpline test = NaturalCubicSpline.of(X_VALUES, Y_VALUES);
+    for (int i = 0; i < X_VALUES.length; i++) {
+      assertThat(test.value(X_VALUES[i])).isCloseTo(Y_VALUES[i], offset(TOL));
+    }
+    // the second derivative is zero at the ends, thus the derivative is flat to first order
+    int n = X_VALUES.length;
+    double startDiff = test.firstDerivative(X_VALUES[0] + EPS) - test.firstDerivative(X_VALUES[0]);
+    double endDiff = test.firstDerivative(X_VALUES[n - 1]) - test.firstDerivative(X_VALUES[n - 1] - EPS);
+    assertThat(startDiff).isCloseTo(0d, offset(1e-10));
+    assertThat(endDiff).isCloseTo(0d, offset(1e-10));
+  }
+
+  @Test
+  public void test_twoPoints() {
+    NaturalCubicSpline test = NaturalCubicSpline.of(new double[] {1, 2}, new double[] {6, 1});
+    assertThat(test.value(1.5)).isCloseTo(3.5, offset(TOL));
+    assertThat(test.value(3)).isCloseTo(-4, offset(TOL));
+    assertThat(test.firstDerivative(1.2)).isCloseTo(-5, offset(TOL));
+    assertThat(test.nodeSensitivity(1.25)).containsExactly(0.75, 0.25);
+  }
+
+  @Test
+  public void test_threePoints() {
+    double[] xValues = {1, 2, 4};
+    double[] yValues = {1, 3, 2};
+    NaturalSplineInterpolator interpolator = new NaturalSplineInterpolator();
+    PiecewisePolynomialResultsWithSensitivity expected = interpolator.interpolateWithSensitivity(xValues, yValues);
+    NaturalCubicSpline test = NaturalCubicSpline.of(xValues, yValues);
+    for (double x : new double[] {0, 1.5, 2, 3, 4, 5}) {
+      assertThat(test.value(x)).isCloseTo(FUNCTION.evaluate(expected, x).get(0), offset(TOL));
+      double[] sens = test.nodeSensitivity(x);
+      DoubleArray expectedSens = FUNCTION.nodeSensitivity(expected, x);
+      for (int i = 0; i < sens.length; i++) {
+        assertThat(sens[i]).isCloseTo(expectedSens.get(i), offset(TOL));
+      }
+    }
+  }
+
+  @Test
+  public void test_invalid() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> NaturalCubicSpline.of(new double[] {1}, new double[] {1}));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> NaturalCubicSpline.of(new double[] {1, 2}, new double[] {1, 2, 3}));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> NaturalCubicSpline.of(new double[] {1, 3, 2}, new double[] {1, 2, 3}));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> NaturalCubicSpline.of(new double[] {1, 2, 2}, new double[] {1, 2, 3}));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> NaturalCubicSpline.of(new double[] {1, Double.NaN, 3}, new double[] {1, 2, 3}))
+        .withMessage("xData containing NaN");
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> NaturalCubicSpline.of(new double[] {1, 2, Double.POSITIVE_INFINITY}, new double[] {1, 2, 3}))
+        .withMessage("xData containing Infinity");
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> NaturalCubicSpline.of(new double[] {1, 2, 3}, new double[] {0.99, Double.NaN, 0.9}))
+        .withMessage("yData containing NaN");
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> NaturalCubicSpline.of(new double[] {1, 2, 3}, new double[] {1, Double.NEGATIVE_INFINITY, 3}))
+        .withMessage("yData containing Infinity");
+  }
+
+}
@@ -89,6 +89,26 @@ public class CholeskyDecompositionOpenGammaTest {
     assertThat(resultOG.getDeterminant()).isCloseTo(resultC.getDeterminant(), offset(1e-10));
   }
 
+  /**
+   * Tests the rank-one update and downdate against a new decomposition.
+   */
+  @Test
+  public void rankOneUpdate() {
+    final CholeskyDecompositionOpenGammaResult result = (CholeskyDecompositionOpenGammaResult) CDOG.apply(A5);
+    final DoubleArray x = DoubleArray.of(1.0, -2.0, 0.5, 3.0, 0.0);
+    final DoubleMatrix xxT = ALGEBRA.getOuterProduct(x, x);
+    final CholeskyDecompositionResult updated = result.withRankOneUpdate(x);
+    checkEquals(CDOG.apply(A5.plus(xxT)).getL(), updated.getL());
+    assertThat(updated.getDeterminant()).isCloseTo(CDOG.apply(A5.plus(xxT)).getDeterminant(), offset(1e-6));
+    final CholeskyDecompositionResult downdated = result.withRankOneUpdate(x).withRankOneDowndate(x);
+    checkEquals(result.getL(), downdated.getL());
+    checkEquals(A5, (DoubleMatrix) ALGEBRA.multiply(downdated.getL(), downdated.getLT()));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> result.withRankOneDowndate(DoubleArray.of(10, 0, 0, 0, 0)));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> result.withRankOneUpdate(DoubleArray.of(1, 2)));
+  }
+
   private void checkEquals(final DoubleMatrix x, final DoubleMatrix y) {
     final int n = x.rowCount();
     final int m = x.columnCount();
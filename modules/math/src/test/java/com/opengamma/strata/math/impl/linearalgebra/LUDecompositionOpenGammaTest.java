@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.linearalgebra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.data.Offset.offset;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.math.impl.matrix.MatrixAlgebra;
+import com.opengamma.strata.math.impl.matrix.OGMatrixAlgebra;
+import com.opengamma.strata.math.linearalgebra.Decomposition;
+
+/**
+ * Test {@link LUDecompositionOpenGamma}.
+ */
+public class LUDecompositionOpenGammaTest {
+
+  private static final MatrixAlgebra ALGEBRA = new OGMatrixAlgebra();
+  private static final Decomposition<LUDecompositionResult> LU = new LUDecompositionOpenGamma();
+  private static final Decomposition<LUDecompositionResult> LU_COMMONS = new LUDecompositionCommons();
+  private static final DoubleMatrix A = DoubleMatrix.copyOf(
+      new double[][] {{1, 2, -1}, {4, 3, 1}, {2, 2, 3}});
+  private static final double EPS = 1e-9;
+
+  @Test
+  public void testNullObjectMatrix() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> LU.apply((DoubleMatrix) null));
+  }
+
+  @Test
+  public void testNotSquare() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> LU.apply(DoubleMatrix.filled(2, 3)));
+  }
+
+  @Test
+  public void testSingular() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> LU.apply(DoubleMatrix.copyOf(new double[][] {{1, 2}, {2, 4}})))
+        .withMessage("Matrix is singular; could not perform LU decomposition");
+  }
+
+  @Test
+  public void testRecoverOrginal() {
+    LUDecompositionResult lu = LU.apply(A);
+    DoubleMatrix a = (DoubleMatrix) ALGEBRA.multiply(lu.getL(), lu.getU());
+    checkEquals((DoubleMatrix) ALGEBRA.multiply(lu.getP(), A), a);
+  }
+
+  @Test
+  public void testSameAsCommons() {
+    Random random = new Random(1);
+    DoubleMatrix a = DoubleMatrix.of(20, 20, (i, j) -> random.nextGaussian());
+    LUDecompositionResult test = LU.apply(a);
+    LUDecompositionResult expected = LU_COMMONS.apply(a);
+    assertThat(test.getPivot()).containsExactly(expected.getPivot());
+    checkEquals(test.getL(), expected.getL());
+    checkEquals(test.getU(), expected.getU());
+    checkEquals(test.getP(), expected.getP());
+    assertThat(test.getDeterminant())
+        .isCloseTo(expected.getDeterminant(), offset(Math.abs(expected.getDeterminant()) * 1e-12));
+
+    DoubleArray b = DoubleArray.of(20, i -> random.nextGaussian());
+    assertThat(test.solve(b).toArray()).usingComparatorWithPrecision(EPS).containsExactly(expected.solve(b).toArray());
+    assertThat(test.solve(b.toArray())).usingComparatorWithPrecision(EPS).containsExactly(expected.solve(b).toArray());
+    DoubleMatrix bm = DoubleMatrix.of(20, 3, (i, j) -> random.nextGaussian());
+    checkEquals(test.solve(bm), expected.solve(bm));
+  }
+
+  @Test
+  public void testSolveSizeMismatch() {
+    LUDecompositionResult lu = LU.apply(A);
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> lu.solve(new double[2]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> lu.solve(DoubleMatrix.filled(2, 2)));
+  }
+
+  @Test
+  public void testFactory() {
+    assertThat(DecompositionFactory.getDecomposition(DecompositionFactory.LU_OG_NAME))
+        .isSameAs(DecompositionFactory.LU_OG);
+    assertThat(DecompositionFactory.getDecompositionName(LU)).isEqualTo(DecompositionFactory.LU_OG_NAME);
+  }
+
+  private void checkEquals(DoubleMatrix x, DoubleMatrix y) {
+    int n = x.rowCount();
+    int m = x.columnCount();
+    assertThat(n).isEqualTo(y.rowCount());
+    assertThat(m).isEqualTo(y.columnCount());
+    for (int i = 0; i < n; i++) {
+      for (int j = 0; j < m; j++) {
+        assertThat(x.get(i, j)).isCloseTo(y.get(i, j), offset(EPS));
+      }
+    }
+  }
+
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.matrix;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+
+/**
+ * Test {@link BlockedMatrixKernels}.
+ */
+public class BlockedMatrixKernelsTest {
+
+  private static final Random RANDOM = new Random(1);
+
+  //-------------------------------------------------------------------------
+  @ParameterizedTest
+  @CsvSource({"1, 1, 1", "3, 2, 4", "64, 64, 64", "64, 65, 64", "65, 130, 7", "150, 70, 129"})
+  public void test_multiply(int m, int k, int n) {
+    DoubleMatrix a = random(m, k);
+    DoubleMatrix b = random(k, n);
+    // the blocked kernel sums in the same order as the naive algorithm, so the results are identical
+    assertThat(BlockedMatrixKernels.multiply(a, b)).isEqualTo(naiveMultiply(a, b));
+    DoubleMatrix c = random(k, m);
+    assertThat(BlockedMatrixKernels.multiplyTransposeLeft(c, b)).isEqualTo(naiveMultiply(c.transpose(), b));
+  }
+
+  @ParameterizedTest
+  @CsvSource({"1, 1, 1", "3, 2, 4", "64, 64, 64"})
+  public void test_multiply_singleBlock(int m, int k, int n) {
+    // products within a single block skip the row-major copies, but must match the kernels
+    DoubleMatrix a = random(m, k);
+    DoubleMatrix b = random(k, n);
+    double[] c = new double[m * n];
+    BlockedMatrixKernels.gemm(BlockedMatrixKernels.toRowMajor(a), BlockedMatrixKernels.toRowMajor(b), c, m, k, n);
+    assertThat(BlockedMatrixKernels.multiply(a, b)).isEqualTo(BlockedMatrixKernels.fromRowMajor(m, n, c));
+    DoubleMatrix d = random(k, m);
+    double[] e = new double[m * n];
+    BlockedMatrixKernels.gemtm(BlockedMatrixKernels.toRowMajor(d), BlockedMatrixKernels.toRowMajor(b), e, k, m, n);
+    assertThat(BlockedMatrixKernels.multiplyTransposeLeft(d, b)).isEqualTo(BlockedMatrixKernels.fromRowMajor(m, n, e));
+  }
+
+  @ParameterizedTest
+  @CsvSource({"1, 1", "3, 5", "65, 130", "200, 3"})
+  public void test_multiply_vector(int m, int n) {
+    DoubleMatrix a = random(m, n);
+    DoubleArray x = DoubleArray.of(n, i -> RANDOM.nextGaussian());
+    DoubleArray y = DoubleArray.of(m, i -> RANDOM.nextGaussian());
+    DoubleMatrix xMatrix = DoubleMatrix.of(n, 1, x.toArray());
+    DoubleMatrix yMatrix = DoubleMatrix.of(1, m, y.toArray());
+    assertThat(BlockedMatrixKernels.multiply(a, x)).isEqualTo(naiveMultiply(a, xMatrix).column(0));
+    assertThat(BlockedMatrixKernels.multiply(y, a)).isEqualTo(naiveMultiply(yMatrix, a).row(0));
+    double[] result = new double[m];
+    BlockedMatrixKernels.gemv(BlockedMatrixKernels.toRowMajor(a), x.toArray(), result, m, n);
+    assertThat(DoubleArray.ofUnsafe(result)).isEqualTo(naiveMultiply(a, xMatrix).column(0));
+  }
+
+  @ParameterizedTest
+  @CsvSource({"1, 1", "3, 5", "65, 130", "200, 3"})
+  public void test_transpose(int m, int n) {
+    DoubleMatrix a = random(m, n);
+    assertThat(BlockedMatrixKernels.transpose(a)).isEqualTo(a.transpose());
+  }
+
+  @Test
+  public void test_gemm_accumulates() {
+    double[] a = {1, 2, 3, 4};
+    double[] b = {5, 6, 7, 8};
+    double[] c = {1, 1, 1, 1};
+    BlockedMatrixKernels.gemm(a, b, c, 2, 2, 2);
+    assertThat(c).containsExactly(20, 23, 44, 51);
+  }
+
+  @Test
+  public void test_rowMajor() {
+    DoubleMatrix a = DoubleMatrix.of(2, 3, 1, 2, 3, 4, 5, 6);
+    double[] values = BlockedMatrixKernels.toRowMajor(a);
+    assertThat(values).containsExactly(1, 2, 3, 4, 5, 6);
+    assertThat(BlockedMatrixKernels.fromRowMajor(2, 3, values)).isEqualTo(a);
+    assertThat(BlockedMatrixKernels.fromRowMajor(0, 3, new double[0])).isEqualTo(DoubleMatrix.EMPTY);
+    assertThatIllegalArgumentException().isThrownBy(() -> BlockedMatrixKernels.fromRowMajor(2, 2, values));
+  }
+
+  @Test
+  public void test_emptyInner() {
+    DoubleMatrix a = DoubleMatrix.filled(2, 0);
+    DoubleMatrix b = DoubleMatrix.filled(0, 3);
+    assertThat(BlockedMatrixKernels.multiply(a, b)).isEqualTo(DoubleMatrix.EMPTY);
+  }
+
+  @Test
+  public void test_mismatch() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BlockedMatrixKernels.multiply(random(2, 3), random(2, 3)));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BlockedMatrixKernels.multiplyTransposeLeft(random(2, 3), random(3, 3)));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BlockedMatrixKernels.multiply(random(2, 3), DoubleArray.filled(2)));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> BlockedMatrixKernels.gemm(new double[4], new double[4], new double[3], 2, 2, 2))
+        .withMessage("Array 'c' has length 3, expected 4 for 2 by 2");
+  }
+
+  //-------------------------------------------------------------------------
+  private static DoubleMatrix random(int rows, int columns) {
+    return DoubleMatrix.of(rows, columns, (i, j) -> RANDOM.nextGaussian());
+  }
+
+  private static DoubleMatrix naiveMultiply(DoubleMatrix a, DoubleMatrix b) {
+    return DoubleMatrix.of(a.rowCount(), b.columnCount(), (i, j) -> {
+      double sum = 0d;
+      for (int k = 0; k < a.columnCount(); k++) {
+        sum += a.get(i, k) * b.get(k, j);
+      }
+      return sum;
+    });
+  }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.montecarlo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.data.Offset.offset;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+
+/**
+ * Test {@link BrownianBridge}.
+ */
+public class BrownianBridgeTest {
+
+  private static final double TOL = 1e-14;
+
+  @Test
+  public void test_singleTime() {
+    BrownianBridge test = BrownianBridge.of(DoubleArray.of(4d));
+    assertThat(test.size()).isEqualTo(1);
+    assertThat(test.getTimes()).isEqualTo(DoubleArray.of(4d));
+    double[] path = new double[1];
+    test.buildPath(new double[] {0.5}, path);
+    assertThat(path[0]).isCloseTo(1d, offset(TOL));
+  }
+
+  @Test
+  public void test_covariance() {
+    // the path is a linear function of the variates, whose covariance must be min(t_i, t_j)
+    DoubleArray times = DoubleArray.of(0.1, 0.25, 0.5, 1, 1.5, 2, 3, 5, 7, 10, 12);
+    int n = times.size();
+    BrownianBridge test = BrownianBridge.of(times);
+    double[][] columns = new double[n][n];
+    for (int i = 0; i < n; i++) {
+      double[] unit = new double[n];
+      unit[i] = 1;
+      test.buildPath(unit, columns[i]);
+    }
+    for (int i = 0; i < n; i++) {
+      for (int j = 0; j < n; j++) {
+        double covariance = 0;
+        for (int k = 0; k < n; k++) {
+          covariance += columns[k][i] * columns[k][j];
+        }
+        assertThat(covariance).isCloseTo(Math.min(times.get(i), times.get(j)), offset(TOL));
+      }
+    }
+  }
+
+  @Test
+  public void test_firstVariateDeterminesFinalValue() {
+    BrownianBridge test = BrownianBridge.of(DoubleArray.of(1, 2, 3, 4));
+    double[] path = new double[4];
+    test.buildPath(new double[] {1, 0, 0, 0}, path);
+    assertThat(path).containsExactly(new double[] {0.5, 1, 1.5, 2}, offset(TOL));
+  }
+
+  @Test
+  public void test_invalid() {
+    assertThatIllegalArgumentException().isThrownBy(() -> BrownianBridge.of(DoubleArray.EMPTY));
+    assertThatIllegalArgumentException().isThrownBy(() -> BrownianBridge.of(DoubleArray.of(0, 1)));
+    assertThatIllegalArgumentException().isThrownBy(() -> BrownianBridge.of(DoubleArray.of(1, 1)));
+  }
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.montecarlo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.data.Offset.offset;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.tuple.Pair;
+import com.opengamma.strata.math.impl.statistics.distribution.NormalDistribution;
+
+/**
+ * Test {@link MonteCarloEngine} and {@link MonteCarloResult}.
+ */
+public class MonteCarloEngineTest {
+
+  private static final NormalDistribution NORMAL = new NormalDistribution(0, 1);
+  private static final double SPOT = 100;
+  private static final double STRIKE = 100;
+  private static final double VOL = 0.2;
+  private static final double EXPIRY = 1;
+  // undiscounted Black-Scholes call price
+  private static final double CALL = SPOT * NORMAL.getCDF(0.5 * VOL) - STRIKE * NORMAL.getCDF(-0.5 * VOL);
+
+  // the call payoff at expiry, given the value of the Brownian motion at expiry
+  private static final PathEvaluator CALL_EVALUATOR = (path, results) -> {
+    double w = path[path.length - 1];
+    results[0] = Math.max(SPOT * Math.exp(-0.5 * VOL * VOL * EXPIRY + VOL * w) - STRIKE, 0);
+  };
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_pseudoRandom_moments() {
+    MonteCarloResult test = MonteCarloEngine.pseudoRandom(42).simulate(100_000, 2, 3, (path, results) -> {
+      results[0] = path[0];
+      results[1] = path[1] * path[1];
+      results[2] = path[0] * path[1];
+    });
+    assertThat(test.getPathCount()).isEqualTo(100_000);
+    assertWithinInterval(test, 0, 0d);
+    assertWithinInterval(test, 1, 1d);
+    assertWithinInterval(test, 2, 0d);
+    assertThat(test.getVariance().get(0)).isCloseTo(1d, offset(0.02));
+    assertThat(test.getStandardError().get(0)).isCloseTo(Math.sqrt(test.getVariance().get(0) / 100_000), offset(1e-15));
+  }
+
+  @Test
+  public void test_pseudoRandom_reproducible() {
+    MonteCarloEngine engine = MonteCarloEngine.pseudoRandom(1).withBlockSize(1000);
+    MonteCarloResult first = engine.simulate(50_000, 1, 1, CALL_EVALUATOR);
+    MonteCarloResult second = engine.simulate(50_000, 1, 1, CALL_EVALUATOR);
+    assertThat(first.getMean()).isEqualTo(second.getMean());
+    assertThat(first.getVariance()).isEqualTo(second.getVariance());
+    MonteCarloResult otherSeed = MonteCarloEngine.pseudoRandom(2).withBlockSize(1000)
+        .simulate(50_000, 1, 1, CALL_EVALUATOR);
+    assertThat(otherSeed.getMean()).isNotEqualTo(first.getMean());
+  }
+
+  @Test
+  public void test_call_allGenerators() {
+    BrownianBridge bridge = BrownianBridge.of(DoubleArray.of(12, i -> (i + 1) / 12d));
+    MonteCarloResult pseudo = MonteCarloEngine.pseudoRandom(7).simulate(200_000, bridge, 1, CALL_EVALUATOR);
+    assertWithinInterval(pseudo, 0, CALL);
+    MonteCarloResult sobol = MonteCarloEngine.sobol().simulate(1 << 16, bridge, 1, CALL_EVALUATOR);
+    assertThat(sobol.getMean().get(0)).isCloseTo(CALL, offset(0.01));
+    MonteCarloResult halton = MonteCarloEngine.halton().simulate(1 << 16, bridge, 1, CALL_EVALUATOR);
+    assertThat(halton.getMean().get(0)).isCloseTo(CALL, offset(0.02));
+  }
+
+  @Test
+  public void test_generate_sameAsSimulate() {
+    for (MonteCarloEngine engine : new MonteCarloEngine[] {
+        MonteCarloEngine.pseudoRandom(3).withBlockSize(64), MonteCarloEngine.sobol().withBlockSize(64)}) {
+      double[] all = new double[500 * 3];
+      engine.generate(0, 500, 3, all);
+      double[] part = new double[100 * 3];
+      engine.generate(150, 100, 3, part);
+      assertThat(part).containsExactly(Arrays.copyOfRange(all, 150 * 3, 250 * 3));
+      // the mean of the first variate from the simulation matches the generated variates
+      MonteCarloResult result = engine.simulate(500, 3, 1, (path, results) -> results[0] = path[0]);
+      double mean = 0;
+      for (int i = 0; i < 500; i++) {
+        mean += all[i * 3];
+      }
+      assertThat(result.getMean().get(0)).isCloseTo(mean / 500, offset(1e-12));
+    }
+  }
+
+  @Test
+  public void test_result() {
+    MonteCarloResult test = MonteCarloResult.of(100, DoubleArray.of(1, 2), DoubleArray.of(4, 9));
+    assertThat(test.getStandardError()).isEqualTo(DoubleArray.of(0.2, 0.3));
+    Pair<Double, Double> interval = test.getConfidenceInterval(1, 0.95);
+    assertThat(interval.getFirst()).isCloseTo(2 - 1.959963984540054 * 0.3, offset(1e-12));
+    assertThat(interval.getSecond()).isCloseTo(2 + 1.959963984540054 * 0.3, offset(1e-12));
+    assertThat(test.toString()).contains("pathCount=100");
+    assertThatIllegalArgumentException().isThrownBy(() -> MonteCarloResult.of(1, DoubleArray.of(1), DoubleArray.of(1)));
+    assertThatIllegalArgumentException().isThrownBy(() -> test.getConfidenceInterval(0, 1));
+  }
+
+  @Test
+  public void test_invalid() {
+    MonteCarloEngine engine = MonteCarloEngine.sobol();
+    assertThatIllegalArgumentException().isThrownBy(() -> engine.simulate(1, 1, 1, CALL_EVALUATOR));
+    assertThatIllegalArgumentException().isThrownBy(() -> engine.simulate(10, 0, 1, CALL_EVALUATOR));
+    assertThatIllegalArgumentException().isThrownBy(() -> engine.withBlockSize(0));
+  }
+
+  //-------------------------------------------------------------------------
+  private static void assertWithinInterval(MonteCarloResult result, int index, double expected) {
+    Pair<Double, Double> interval = result.getConfidenceInterval(index, 0.999);
+    assertThat(expected).isBetween(interval.getFirst(), interval.getSecond());
+  }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.data.Offset.offset;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test {@link HaltonSequence}.
+ */
+public class HaltonSequenceTest {
+
+  private static final double TOL = 1e-15;
+
+  @Test
+  public void test_firstPoints() {
+    double[][] expected = {
+        {1d / 2, 1d / 3, 1d / 5},
+        {1d / 4, 2d / 3, 2d / 5},
+        {3d / 4, 1d / 9, 3d / 5},
+        {1d / 8, 4d / 9, 4d / 5},
+        {5d / 8, 7d / 9, 1d / 25}};
+    HaltonSequence test = HaltonSequence.of(3);
+    assertThat(test.getDimension()).isEqualTo(3);
+    double[] point = new double[3];
+    for (double[] expectedPoint : expected) {
+      test.nextPoint(point);
+      for (int i = 0; i < 3; i++) {
+        assertThat(point[i]).isCloseTo(expectedPoint[i], offset(TOL));
+      }
+    }
+    assertThat(test.getIndex()).isEqualTo(6);
+  }
+
+  @Test
+  public void test_lastDimension() {
+    // the 1000th prime is 7919
+    HaltonSequence test = HaltonSequence.of(HaltonSequence.MAX_DIMENSION);
+    double[] point = new double[HaltonSequence.MAX_DIMENSION];
+    test.nextPoint(point);
+    assertThat(point[HaltonSequence.MAX_DIMENSION - 1]).isCloseTo(1d / 7919, offset(TOL));
+  }
+
+  @Test
+  public void test_atIndex() {
+    HaltonSequence base = HaltonSequence.of(10);
+    double[] expected = new double[10];
+    for (int i = 1; i < 500; i++) {
+      base.nextPoint(expected);
+    }
+    HaltonSequence test = base.atIndex(499);
+    double[] point = new double[10];
+    test.nextPoint(point);
+    assertThat(point).containsExactly(expected);
+    assertThat(test.getIndex()).isEqualTo(500);
+  }
+
+  @Test
+  public void test_invalid() {
+    assertThatIllegalArgumentException().isThrownBy(() -> HaltonSequence.of(0));
+    assertThatIllegalArgumentException().isThrownBy(() -> HaltonSequence.of(HaltonSequence.MAX_DIMENSION + 1));
+    assertThatIllegalArgumentException().isThrownBy(() -> HaltonSequence.of(1).atIndex(0));
+  }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test {@link SobolSequence}.
+ */
+public class SobolSequenceTest {
+
+  @Test
+  public void test_firstPoints() {
+    // the unscrambled Sobol sequence using the direction numbers of Joe and Kuo
+    double[][] expected = {
+        {0.5, 0.5, 0.5},
+        {0.75, 0.25, 0.25},
+        {0.25, 0.75, 0.75},
+        {0.375, 0.375, 0.625},
+        {0.875, 0.875, 0.125},
+        {0.625, 0.125, 0.875},
+        {0.125, 0.625, 0.375}};
+    SobolSequence test = SobolSequence.of(3);
+    assertThat(test.getDimension()).isEqualTo(3);
+    double[] point = new double[3];
+    for (double[] expectedPoint : expected) {
+      test.nextPoint(point);
+      assertThat(point).containsExactly(expectedPoint);
+    }
+    assertThat(test.getIndex()).isEqualTo(8);
+  }
+
+  @Test
+  public void test_stratified_allDimensions() {
+    // the first 2^k points, including the origin, have one point in each interval of width 2^-k in every dimension
+    int k = 10;
+    int count = 1 << k;
+    SobolSequence test = SobolSequence.of(SobolSequence.MAX_DIMENSION);
+    boolean[][] occupied = new boolean[SobolSequence.MAX_DIMENSION][count];
+    for (int d = 0; d < SobolSequence.MAX_DIMENSION; d++) {
+      occupied[d][0] = true;
+    }
+    double[] point = new double[SobolSequence.MAX_DIMENSION];
+    for (int i = 1; i < count; i++) {
+      test.nextPoint(point);
+      for (int d = 0; d < SobolSequence.MAX_DIMENSION; d++) {
+        assertThat(point[d]).isGreaterThan(0d).isLessThan(1d);
+        int interval = (int) (point[d] * count);
+        assertThat(occupied[d][interval]).isFalse();
+        occupied[d][interval] = true;
+      }
+    }
+  }
+
+  @Test
+  public void test_atIndex() {
+    SobolSequence base = SobolSequence.of(50);
+    double[] expected = new double[50];
+    for (int i = 1; i < 1000; i++) {
+      base.nextPoint(expected);
+    }
+    SobolSequence test = base.atIndex(999);
+    assertThat(test.getIndex()).isEqualTo(999);
+    double[] point = new double[50];
+    test.nextPoint(point);
+    assertThat(point).containsExactly(expected);
+    assertThat(base.getIndex()).isEqualTo(1000);
+  }
+
+  @Test
+  public void test_invalid() {
+    assertThatIllegalArgumentException().isThrownBy(() -> SobolSequence.of(0));
+    assertThatIllegalArgumentException().isThrownBy(() -> SobolSequence.of(SobolSequence.MAX_DIMENSION + 1));
+    assertThatIllegalArgumentException().isThrownBy(() -> SobolSequence.of(1).atIndex(0));
+  }
+
+}
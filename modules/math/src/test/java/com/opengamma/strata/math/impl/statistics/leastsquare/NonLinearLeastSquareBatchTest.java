@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.math.impl.statistics.leastsquare;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.data.Offset.offset;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.array.DoubleMatrix;
+import com.opengamma.strata.collect.result.FailureReason;
+
+/**
+ * Test {@link NonLinearLeastSquareBatch}.
+ */
+public class NonLinearLeastSquareBatchTest {
+
+  private static final DoubleArray X = DoubleArray.of(20, i -> i * 0.25);
+  private static final DoubleArray SIGMA = DoubleArray.filled(X.size(), 1d);
+  private static final NonLinearLeastSquare SOLVER = new NonLinearLeastSquare();
+  private static final NonLinearLeastSquareBatch BATCH = new NonLinearLeastSquareBatch(SOLVER);
+
+  // the model a * exp(-b * x) + c
+  private static final Function<DoubleArray, DoubleArray> FUNC =
+      p -> DoubleArray.of(X.size(), i -> p.get(0) * Math.exp(-p.get(1) * X.get(i)) + p.get(2));
+  private static final Function<DoubleArray, DoubleMatrix> JAC = p -> DoubleMatrix.of(X.size(), 3, (i, j) -> {
+    double exp = Math.exp(-p.get(1) * X.get(i));
+    return j == 0 ? exp : (j == 1 ? -p.get(0) * X.get(i) * exp : 1d);
+  });
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_solve_sameAsSequential() {
+    List<DoubleArray> observedValues = new ArrayList<>();
+    List<LeastSquareProblem> problems = new ArrayList<>();
+    for (int i = 0; i < 40; i++) {
+      int k = i;
+      DoubleArray observed = FUNC.apply(DoubleArray.of(1d + i * 0.1, 0.5 + i * 0.02, -0.2 + i * 0.01))
+          .plus(DoubleArray.of(X.size(), j -> 0.001 * Math.sin(j + k)));
+      observedValues.add(observed);
+      problems.add(LeastSquareProblem.of(observed, SIGMA, FUNC, JAC, DoubleArray.of(1d, 1d, 0d)));
+    }
+    List<LeastSquareBatchResult> test = BATCH.solve(problems);
+    assertThat(test).hasSize(problems.size());
+    for (int i = 0; i < problems.size(); i++) {
+      LeastSquareBatchResult result = test.get(i);
+      LeastSquareResults expected = SOLVER.solve(
+          observedValues.get(i), SIGMA, FUNC, JAC, DoubleArray.of(1d, 1d, 0d));
+      assertThat(result.getResult().isSuccess()).isTrue();
+      assertThat(result.getStartIndex()).isEqualTo(0);
+      assertThat(result.getIterationCount()).isPositive();
+      assertThat(result.getElapsedTime().isNegative()).isFalse();
+      assertThat(result.getResult().getValue().getFitParameters().equalWithTolerance(
+          expected.getFitParameters(), 1e-12)).isTrue();
+    }
+  }
+
+  @Test
+  public void test_solve_executor() {
+    List<LeastSquareProblem> problems = new ArrayList<>();
+    for (int i = 0; i < 40; i++) {
+      DoubleArray observed = FUNC.apply(DoubleArray.of(1d + i * 0.1, 0.5 + i * 0.02, -0.2 + i * 0.01));
+      problems.add(LeastSquareProblem.of(observed, SIGMA, FUNC, JAC, DoubleArray.of(1d, 1d, 0d)));
+    }
+    List<LeastSquareBatchResult> expected = BATCH.solve(problems);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<LeastSquareBatchResult> test = BATCH.solve(problems, executor);
+      assertThat(test).hasSize(problems.size());
+      for (int i = 0; i < problems.size(); i++) {
+        assertThat(test.get(i).getResult().getValue().getFitParameters())
+            .isEqualTo(expected.get(i).getResult().getValue().getFitParameters());
+        assertThat(test.get(i).getIterationCount()).isEqualTo(expected.get(i).getIterationCount());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void test_solve_exactFit() {
+    DoubleArray observed = FUNC.apply(DoubleArray.of(2d, 0.75, 0.5));
+    LeastSquareBatchResult test =
+        BATCH.solve(LeastSquareProblem.of(observed, SIGMA, FUNC, JAC, DoubleArray.of(1d, 1d, 0d)));
+    assertThat(test.getResult().getValue().getChiSq()).isCloseTo(0d, offset(1e-10));
+    DoubleArray fit = test.getResult().getValue().getFitParameters();
+    assertThat(fit.get(0)).isCloseTo(2d, offset(1e-6));
+    assertThat(fit.get(1)).isCloseTo(0.75, offset(1e-6));
+    assertThat(fit.get(2)).isCloseTo(0.5, offset(1e-6));
+  }
+
+  @Test
+  public void test_solve_multiStart() {
+    DoubleArray observed = FUNC.apply(DoubleArray.of(2d, 0.75, 0.5));
+    // the first start position violates the constraints, thus fails, but the problem is still solved
+    Function<DoubleArray, Boolean> constraints = p -> p.get(1) > 0;
+    LeastSquareProblem problem = LeastSquareProblem.of(
+        observed,
+        SIGMA,
+        FUNC,
+        JAC,
+        ImmutableList.of(DoubleArray.of(1d, -1d, 0d), DoubleArray.of(1d, 1d, 0d), DoubleArray.of(3d, 0.5, 1d)),
+        constraints,
+        null);
+    LeastSquareBatchResult test = BATCH.solve(problem);
+    assertThat(test.getResult().isSuccess()).isTrue();
+    assertThat(test.getStartIndex()).isIn(1, 2);
+    assertThat(test.getResult().getValue().getChiSq()).isCloseTo(0d, offset(1e-10));
+    LeastSquareResults single1 = SOLVER.solve(observed, SIGMA, FUNC, JAC, DoubleArray.of(1d, 1d, 0d));
+    LeastSquareResults single2 = SOLVER.solve(observed, SIGMA, FUNC, JAC, DoubleArray.of(3d, 0.5, 1d));
+    double bestChiSq = Math.min(single1.getChiSq(), single2.getChiSq());
+    assertThat(test.getResult().getValue().getChiSq()).isEqualTo(bestChiSq);
+  }
+
+  @Test
+  public void test_solve_failure() {
+    DoubleArray observed = FUNC.apply(DoubleArray.of(2d, 0.75, 0.5));
+    Function<DoubleArray, Boolean> constraints = p -> p.get(1) > 0;
+    LeastSquareProblem failing = LeastSquareProblem.of(
+        observed, SIGMA, FUNC, JAC, ImmutableList.of(DoubleArray.of(1d, -1d, 0d)), constraints, null);
+    LeastSquareProblem solvable = LeastSquareProblem.of(observed, SIGMA, FUNC, JAC, DoubleArray.of(1d, 1d, 0d));
+    List<LeastSquareBatchResult> test = BATCH.solve(ImmutableList.of(failing, solvable));
+    assertThat(test.get(0).getResult().isFailure()).isTrue();
+    assertThat(test.get(0).getResult().getFailure().getReason()).isEqualTo(FailureReason.CALCULATION_FAILED);
+    assertThat(test.get(0).getStartIndex()).isEqualTo(-1);
+    assertThat(test.get(0).getIterationCount()).isEqualTo(0);
+    assertThat(test.get(1).getResult().isSuccess()).isTrue();
+    assertThat(test.get(1).toString()).contains("LeastSquareBatchResult");
+  }
+
+}
@@ -21,8 +21,10 @@ import com.opengamma.strata.calc.runner.CalculationParameters;
 import com.opengamma.strata.calc.runner.FunctionRequirements;
 import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 import com.opengamma.strata.measure.Measures;
+import com.opengamma.strata.measure.rate.RatesMarketData;
 import com.opengamma.strata.measure.rate.RatesMarketDataLookup;
 import com.opengamma.strata.measure.rate.RatesScenarioMarketData;
 import com.opengamma.strata.product.fx.FxSingleTrade;
@@ -52,21 +54,44 @@ import com.opengamma.strata.product.fx.ResolvedFxSingleTrade;
 public class FxSingleTradeCalculationFunction
     implements CalculationFunction<FxSingleTrade> {
 
+  /**
+   * The measure calculations.
+   */
+  private static final FxSingleMeasureCalculations CALCS = FxSingleMeasureCalculations.DEFAULT;
+
   /**
    * The calculations by measure.
    */
-  private static final ImmutableMap<Measure, SingleMeasureCalculation> CALCULATORS =
-      ImmutableMap.<Measure, SingleMeasureCalculation>builder()
-          .put(Measures.PRESENT_VALUE, FxSingleMeasureCalculations.DEFAULT::presentValue)
-          .put(Measures.PV01_CALIBRATED_SUM, FxSingleMeasureCalculations.DEFAULT::pv01CalibratedSum)
-          .put(Measures.PV01_CALIBRATED_BUCKETED, FxSingleMeasureCalculations.DEFAULT::pv01CalibratedBucketed)
-          .put(Measures.PV01_MARKET_QUOTE_SUM, FxSingleMeasureCalculations.DEFAULT::pv01MarketQuoteSum)
-          .put(Measures.PV01_MARKET_QUOTE_BUCKETED, FxSingleMeasureCalculations.DEFAULT::pv01MarketQuoteBucketed)
-          .put(Measures.PAR_SPREAD, FxSingleMeasureCalculations.DEFAULT::parSpread)
-          .put(Measures.CURRENCY_EXPOSURE, FxSingleMeasureCalculations.DEFAULT::currencyExposure)
-          .put(Measures.CURRENT_CASH, FxSingleMeasureCalculations.DEFAULT::currentCash)
-          .put(Measures.FORWARD_FX_RATE, FxSingleMeasureCalculations.DEFAULT::forwardFxRate)
-          .put(Measures.RESOLVED_TARGET, (rt, smd) -> rt)
+  private static final ImmutableMap<Measure, MeasureCalculation> CALCULATORS =
+      ImmutableMap.<Measure, MeasureCalculation>builder()
+          .put(Measures.PRESENT_VALUE, new MeasureCalculation(
+              CALCS::presentValue,
+              (t, md) -> CALCS.presentValue(t, md.ratesProvider())))
+          .put(Measures.PV01_CALIBRATED_SUM, new MeasureCalculation(
+              CALCS::pv01CalibratedSum,
+              (t, md) -> CALCS.pv01CalibratedSum(t, md.ratesProvider())))
+          .put(Measures.PV01_CALIBRATED_BUCKETED, new MeasureCalculation(
+              CALCS::pv01CalibratedBucketed,
+              (t, md) -> CALCS.pv01CalibratedBucketed(t, md.ratesProvider())))
+          .put(Measures.PV01_MARKET_QUOTE_SUM, new MeasureCalculation(
+              CALCS::pv01MarketQuoteSum,
+              (t, md) -> CALCS.pv01MarketQuoteSum(t, md.ratesProvider())))
+          .put(Measures.PV01_MARKET_QUOTE_BUCKETED, new MeasureCalculation(
+              CALCS::pv01MarketQuoteBucketed,
+              (t, md) -> CALCS.pv01MarketQuoteBucketed(t, md.ratesProvider())))
+          .put(Measures.PAR_SPREAD, new MeasureCalculation(
+              CALCS::parSpread,
+              (t, md) -> CALCS.parSpread(t, md.ratesProvider())))
+          .put(Measures.CURRENCY_EXPOSURE, new MeasureCalculation(
+              CALCS::currencyExposure,
+              (t, md) -> CALCS.currencyExposure(t, md.ratesProvider())))
+          .put(Measures.CURRENT_CASH, new MeasureCalculation(
+              CALCS::currentCash,
+              (t, md) -> CALCS.currentCash(t, md.ratesProvider())))
+          .put(Measures.FORWARD_FX_RATE, new MeasureCalculation(
+              CALCS::forwardFxRate,
+              (t, md) -> CALCS.forwardFxRate(t, md.ratesProvider())))
+          .put(Measures.RESOLVED_TARGET, new MeasureCalculation((rt, smd) -> rt, (rt, md) -> rt))
           .build();
 
   private static final ImmutableSet<Measure> MEASURES = CALCULATORS.keySet();
@@ -145,11 +170,48 @@ public class FxSingleTradeCalculationFunction
       ResolvedFxSingleTrade trade,
       RatesScenarioMarketData marketData) {
 
-    SingleMeasureCalculation calculator = CALCULATORS.get(measure);
+    MeasureCalculation calculator = CALCULATORS.get(measure);
     if (calculator == null) {
       return Result.failure(FailureReason.UNSUPPORTED, "Unsupported measure for FxSingleTrade: {}", measure);
     }
-    return Result.of(() -> calculator.calculate(trade, marketData));
+    return Result.of(() -> calculator.scenarios.calculate(trade, marketData));
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public Map<Measure, Result<?>> calculateSingle(
+      FxSingleTrade trade,
+      Set<Measure> measures,
+      CalculationParameters parameters,
+      MarketData baseMarketData,
+      ReferenceData refData) {
+
+    // resolve the trade once for all measures
+    ResolvedFxSingleTrade resolved = trade.resolve(refData);
+
+    // use lookup to query market data, without creating a scenario view
+    RatesMarketDataLookup ratesLookup = parameters.getParameter(RatesMarketDataLookup.class);
+    RatesMarketData marketData = ratesLookup.marketDataView(baseMarketData);
+
+    // loop around measures, calculating the plain value for each measure
+    Map<Measure, Result<?>> results = new HashMap<>();
+    for (Measure measure : measures) {
+      results.put(measure, calculateSingle(measure, resolved, marketData));
+    }
+    return results;
+  }
+
+  // calculate one measure for a single set of market data
+  private Result<?> calculateSingle(
+      Measure measure,
+      ResolvedFxSingleTrade trade,
+      RatesMarketData marketData) {
+
+    MeasureCalculation calculator = CALCULATORS.get(measure);
+    if (calculator == null) {
+      return Result.failure(FailureReason.UNSUPPORTED, "Unsupported measure for FxSingleTrade: {}", measure);
+    }
+    return Result.of(() -> calculator.single.calculate(trade, marketData));
   }
 
   //-------------------------------------------------------------------------
@@ -160,4 +222,22 @@ public class FxSingleTradeCalculationFunction
         RatesScenarioMarketData marketData);
   }
 
+  @FunctionalInterface
+  interface SingleScenarioCalculation {
+    public abstract Object calculate(
+        ResolvedFxSingleTrade trade,
+        RatesMarketData marketData);
+  }
+
+  // the calculation of one measure, for all scenarios and for a single set of market data
+  static final class MeasureCalculation {
+    private final SingleMeasureCalculation scenarios;
+    private final SingleScenarioCalculation single;
+
+    MeasureCalculation(SingleMeasureCalculation scenarios, SingleScenarioCalculation single) {
+      this.scenarios = scenarios;
+      this.single = single;
+    }
+  }
+
 }
@@ -228,7 +228,7 @@ final class SwapMeasureCalculations {
   }
 
   // semi-parallel gamma PV01 for one scenario
-  private CurrencyParameterSensitivities pv01SemiParallelGammaBucketed(
+  CurrencyParameterSensitivities pv01SemiParallelGammaBucketed(
       ResolvedSwapTrade trade,
       RatesMarketData marketData) {
 
@@ -289,7 +289,7 @@ final class SwapMeasureCalculations {
   }
 
   // single-node gamma PV01 for one scenario
-  private CurrencyParameterSensitivities pv01SingleNodeGammaBucketed(
+  CurrencyParameterSensitivities pv01SingleNodeGammaBucketed(
       ResolvedSwapTrade trade,
       RatesProvider ratesProvider) {
 
@@ -20,9 +20,11 @@ import com.opengamma.strata.calc.runner.CalculationParameters;
 import com.opengamma.strata.calc.runner.FunctionRequirements;
 import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.data.MarketData;
 import com.opengamma.strata.data.scenario.ScenarioMarketData;
 import com.opengamma.strata.measure.AdvancedMeasures;
 import com.opengamma.strata.measure.Measures;
+import com.opengamma.strata.measure.rate.RatesMarketData;
 import com.opengamma.strata.measure.rate.RatesMarketDataLookup;
 import com.opengamma.strata.measure.rate.RatesScenarioMarketData;
 import com.opengamma.strata.product.swap.ResolvedSwapTrade;
@@ -60,28 +62,65 @@ import com.opengamma.strata.product.swap.SwapTrade;
 public class SwapTradeCalculationFunction
     implements CalculationFunction<SwapTrade> {
 
+  /**
+   * The measure calculations.
+   */
+  private static final SwapMeasureCalculations CALCS = SwapMeasureCalculations.DEFAULT;
+
   /**
    * The calculations by measure.
    */
-  private static final ImmutableMap<Measure, SingleMeasureCalculation> CALCULATORS =
-      ImmutableMap.<Measure, SingleMeasureCalculation>builder()
-          .put(Measures.PRESENT_VALUE, SwapMeasureCalculations.DEFAULT::presentValue)
-          .put(Measures.EXPLAIN_PRESENT_VALUE, SwapMeasureCalculations.DEFAULT::explainPresentValue)
-          .put(Measures.PV01_CALIBRATED_SUM, SwapMeasureCalculations.DEFAULT::pv01CalibratedSum)
-          .put(Measures.PV01_CALIBRATED_BUCKETED, SwapMeasureCalculations.DEFAULT::pv01CalibratedBucketed)
-          .put(Measures.PV01_MARKET_QUOTE_SUM, SwapMeasureCalculations.DEFAULT::pv01MarketQuoteSum)
-          .put(Measures.PV01_MARKET_QUOTE_BUCKETED, SwapMeasureCalculations.DEFAULT::pv01MarketQuoteBucketed)
-          .put(Measures.PAR_RATE, SwapMeasureCalculations.DEFAULT::parRate)
-          .put(Measures.PAR_SPREAD, SwapMeasureCalculations.DEFAULT::parSpread)
-          .put(Measures.CASH_FLOWS, SwapMeasureCalculations.DEFAULT::cashFlows)
-          .put(Measures.ACCRUED_INTEREST, SwapMeasureCalculations.DEFAULT::accruedInterest)
-          .put(Measures.LEG_INITIAL_NOTIONAL, SwapMeasureCalculations.DEFAULT::legInitialNotional)
-          .put(Measures.LEG_PRESENT_VALUE, SwapMeasureCalculations.DEFAULT::legPresentValue)
-          .put(Measures.CURRENCY_EXPOSURE, SwapMeasureCalculations.DEFAULT::currencyExposure)
-          .put(Measures.CURRENT_CASH, SwapMeasureCalculations.DEFAULT::currentCash)
-          .put(Measures.RESOLVED_TARGET, (rt, smd) -> rt)
-          .put(AdvancedMeasures.PV01_SEMI_PARALLEL_GAMMA_BUCKETED, SwapMeasureCalculations.DEFAULT::pv01SemiParallelGammaBucketed)
-          .put(AdvancedMeasures.PV01_SINGLE_NODE_GAMMA_BUCKETED, SwapMeasureCalculations.DEFAULT::pv01SingleNodeGammaBucketed)
+  private static final ImmutableMap<Measure, MeasureCalculation> CALCULATORS =
+      ImmutableMap.<Measure, MeasureCalculation>builder()
+          .put(Measures.PRESENT_VALUE, new MeasureCalculation(
+              CALCS::presentValue,
+              (t, md) -> CALCS.presentValue(t, md.ratesProvider())))
+          .put(Measures.EXPLAIN_PRESENT_VALUE, new MeasureCalculation(
+              CALCS::explainPresentValue,
+              (t, md) -> CALCS.explainPresentValue(t, md.ratesProvider())))
+          .put(Measures.PV01_CALIBRATED_SUM, new MeasureCalculation(
+              CALCS::pv01CalibratedSum,
+              (t, md) -> CALCS.pv01CalibratedSum(t, md.ratesProvider())))
+          .put(Measures.PV01_CALIBRATED_BUCKETED, new MeasureCalculation(
+              CALCS::pv01CalibratedBucketed,
+              (t, md) -> CALCS.pv01CalibratedBucketed(t, md.ratesProvider())))
+          .put(Measures.PV01_MARKET_QUOTE_SUM, new MeasureCalculation(
+              CALCS::pv01MarketQuoteSum,
+              (t, md) -> CALCS.pv01MarketQuoteSum(t, md.ratesProvider())))
+          .put(Measures.PV01_MARKET_QUOTE_BUCKETED, new MeasureCalculation(
+              CALCS::pv01MarketQuoteBucketed,
+              (t, md) -> CALCS.pv01MarketQuoteBucketed(t, md.ratesProvider())))
+          .put(Measures.PAR_RATE, new MeasureCalculation(
+              CALCS::parRate,
+              (t, md) -> CALCS.parRate(t, md.ratesProvider())))
+          .put(Measures.PAR_SPREAD, new MeasureCalculation(
+              CALCS::parSpread,
+              (t, md) -> CALCS.parSpread(t, md.ratesProvider())))
+          .put(Measures.CASH_FLOWS, new MeasureCalculation(
+              CALCS::cashFlows,
+              (t, md) -> CALCS.cashFlows(t, md.ratesProvider())))
+          .put(Measures.ACCRUED_INTEREST, new MeasureCalculation(
+              CALCS::accruedInterest,
+              (t, md) -> CALCS.accruedInterest(t, md.ratesProvider())))
+          .put(Measures.LEG_INITIAL_NOTIONAL, new MeasureCalculation(
+              CALCS::legInitialNotional,
+              (t, md) -> CALCS.legInitialNotional(t)))
+          .put(Measures.LEG_PRESENT_VALUE, new MeasureCalculation(
+              CALCS::legPresentValue,
+              (t, md) -> CALCS.legPresentValue(t, md.ratesProvider())))
+          .put(Measures.CURRENCY_EXPOSURE, new MeasureCalculation(
+              CALCS::currencyExposure,
+              (t, md) -> CALCS.currencyExposure(t, md.ratesProvider())))
+          .put(Measures.CURRENT_CASH, new MeasureCalculation(
+              CALCS::currentCash,
+              (t, md) -> CALCS.currentCash(t, md.ratesProvider())))
+          .put(Measures.RESOLVED_TARGET, new MeasureCalculation((rt, smd) -> rt, (rt, md) -> rt))
+          .put(AdvancedMeasures.PV01_SEMI_PARALLEL_GAMMA_BUCKETED, new MeasureCalculation(
+              CALCS::pv01SemiParallelGammaBucketed,
+              CALCS::pv01SemiParallelGammaBucketed))
+          .put(AdvancedMeasures.PV01_SINGLE_NODE_GAMMA_BUCKETED, new MeasureCalculation(
+              CALCS::pv01SingleNodeGammaBucketed,
+              (t, md) -> CALCS.pv01SingleNodeGammaBucketed(t, md.ratesProvider())))
           .build();
 
   private static final ImmutableSet<Measure> MEASURES = CALCULATORS.keySet();
@@ -160,11 +199,48 @@ public class SwapTradeCalculationFunction
       ResolvedSwapTrade trade,
       RatesScenarioMarketData marketData) {
 
-    SingleMeasureCalculation calculator = CALCULATORS.get(measure);
+    MeasureCalculation calculator = CALCULATORS.get(measure);
     if (calculator == null) {
       return Result.failure(FailureReason.UNSUPPORTED, "Unsupported measure for SwapTrade: {}", measure);
     }
-    return Result.of(() -> calculator.calculate(trade, marketData));
+    return Result.of(() -> calculator.scenarios.calculate(trade, marketData));
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public Map<Measure, Result<?>> calculateSingle(
+      SwapTrade trade,
+      Set<Measure> measures,
+      CalculationParameters parameters,
+      MarketData baseMarketData,
+      ReferenceData refData) {
+
+    // resolve the trade once for all measures
+    ResolvedSwapTrade resolved = trade.resolve(refData);
+
+    // use lookup to query market data, without creating a scenario view
+    RatesMarketDataLookup ratesLookup = parameters.getParameter(RatesMarketDataLookup.class);
+    RatesMarketData marketData = ratesLookup.marketDataView(baseMarketData);
+
+    // loop around measures, calculating the plain value for each measure
+    Map<Measure, Result<?>> results = new HashMap<>();
+    for (Measure measure : measures) {
+      results.put(measure, calculateSingle(measure, resolved, marketData));
+    }
+    return results;
+  }
+
+  // calculate one measure for a single set of market data
+  private Result<?> calculateSingle(
+      Measure measure,
+      ResolvedSwapTrade trade,
+      RatesMarketData marketData) {
+
+    MeasureCalculation calculator = CALCULATORS.get(measure);
+    if (calculator == null) {
+      return Result.failure(FailureReason.UNSUPPORTED, "Unsupported measure for SwapTrade: {}", measure);
+    }
+    return Result.of(() -> calculator.single.calculate(trade, marketData));
   }
 
   //-------------------------------------------------------------------------
@@ -175,4 +251,22 @@ public class SwapTradeCalculationFunction
         RatesScenarioMarketData marketData);
   }
 
+  @FunctionalInterface
+  interface SingleScenarioCalculation {
+    public abstract Object calculate(
+        ResolvedSwapTrade trade,
+        RatesMarketData marketData);
+  }
+
+  // the calculation of one measure, for all scenarios and for a single set of market data
+  static final class MeasureCalculation {
+    private final SingleMeasureCalculation scenarios;
+    private final SingleScenarioCalculation single;
+
+    MeasureCalculation(SingleMeasureCalculation scenarios, SingleScenarioCalculation single) {
+      this.scenarios = scenarios;
+      this.single = single;
+    }
+  }
+
 }
@@ -12,6 +12,7 @@ import static com.opengamma.strata.collect.TestHelper.date;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.LocalDate;
+import java.util.Map;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
@@ -26,6 +27,7 @@ import com.opengamma.strata.basics.currency.MultiCurrencyAmount;
 import com.opengamma.strata.calc.Measure;
 import com.opengamma.strata.calc.runner.CalculationParameters;
 import com.opengamma.strata.calc.runner.FunctionRequirements;
+import com.opengamma.strata.calc.runner.FunctionUtils;
 import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.data.FxRateId;
 import com.opengamma.strata.data.scenario.DoubleScenarioArray;
@@ -134,6 +136,35 @@ public class FxSingleTradeCalculationFunctionTest {
             Measures.PV01_CALIBRATED_BUCKETED, Result.success(ScenarioArray.of(ImmutableList.of(expectedBucketedPv01))));
   }
 
+  @Test
+  public void test_calculateSingle() {
+    FxSingleTradeCalculationFunction function = new FxSingleTradeCalculationFunction();
+    ScenarioMarketData md = marketData();
+    RatesProvider provider = RATES_LOOKUP.ratesProvider(md.scenario(0));
+    DiscountingFxSingleTradePricer pricer = DiscountingFxSingleTradePricer.DEFAULT;
+    MultiCurrencyAmount expectedPv = pricer.presentValue(RTRADE, provider);
+    double expectedParSpread = pricer.parSpread(RTRADE, provider);
+    FxRate expectedForwardFx = pricer.forwardFxRate(RTRADE, provider);
+
+    Set<Measure> measures = function.supportedMeasures();
+    Map<Measure, Result<?>> single = function.calculateSingle(TRADE, measures, PARAMS, md.scenario(0), REF_DATA);
+    assertThat(single)
+        .containsEntry(Measures.PRESENT_VALUE, Result.success(expectedPv))
+        .containsEntry(Measures.PAR_SPREAD, Result.success(expectedParSpread))
+        .containsEntry(Measures.FORWARD_FX_RATE, Result.success(expectedForwardFx))
+        .containsEntry(Measures.RESOLVED_TARGET, Result.success(RTRADE));
+    // consistent with the multi-scenario calculation
+    Map<Measure, Result<?>> multi = function.calculate(TRADE, measures, PARAMS, md, REF_DATA);
+    for (Measure measure : measures) {
+      Result<?> expected = FunctionUtils.unwrapSingleScenario(multi.get(measure));
+      if (expected.isSuccess()) {
+        assertThat(single.get(measure)).isEqualTo(expected);
+      } else {
+        assertThat(single.get(measure).getFailure().getMessage()).isEqualTo(expected.getFailure().getMessage());
+      }
+    }
+  }
+
   //-------------------------------------------------------------------------
   static ScenarioMarketData marketData() {
     Curve curve1 = ConstantCurve.of(Curves.discountFactors("Test", ACT_360), 0.992);
@@ -10,6 +10,7 @@ import static com.opengamma.strata.collect.TestHelper.date;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.LocalDate;
+import java.util.Map;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
@@ -25,6 +26,7 @@ import com.opengamma.strata.basics.index.IborIndex;
 import com.opengamma.strata.calc.Measure;
 import com.opengamma.strata.calc.runner.CalculationParameters;
 import com.opengamma.strata.calc.runner.FunctionRequirements;
+import com.opengamma.strata.calc.runner.FunctionUtils;
 import com.opengamma.strata.collect.result.Result;
 import com.opengamma.strata.data.scenario.DoubleScenarioArray;
 import com.opengamma.strata.data.scenario.MultiCurrencyScenarioArray;
@@ -145,6 +147,33 @@ public class SwapTradeCalculationFunctionTest {
             Measures.PV01_CALIBRATED_BUCKETED, Result.success(ScenarioArray.of(ImmutableList.of(expectedBucketedPv01))));
   }
 
+  @Test
+  public void test_calculateSingle() {
+    SwapTradeCalculationFunction function = new SwapTradeCalculationFunction();
+    ScenarioMarketData md = marketData();
+    RatesProvider provider = RATES_LOOKUP.ratesProvider(md.scenario(0));
+    DiscountingSwapTradePricer pricer = DiscountingSwapTradePricer.DEFAULT;
+    MultiCurrencyAmount expectedPv = pricer.presentValue(RTRADE, provider);
+    double expectedParRate = pricer.parRate(RTRADE, provider);
+
+    Set<Measure> measures = function.supportedMeasures();
+    Map<Measure, Result<?>> single = function.calculateSingle(TRADE, measures, PARAMS, md.scenario(0), REF_DATA);
+    assertThat(single)
+        .containsEntry(Measures.PRESENT_VALUE, Result.success(expectedPv))
+        .containsEntry(Measures.PAR_RATE, Result.success(expectedParRate))
+        .containsEntry(Measures.RESOLVED_TARGET, Result.success(RTRADE));
+    // consistent with the multi-scenario calculation
+    Map<Measure, Result<?>> multi = function.calculate(TRADE, measures, PARAMS, md, REF_DATA);
+    for (Measure measure : measures) {
+      Result<?> expected = FunctionUtils.unwrapSingleScenario(multi.get(measure));
+      if (expected.isSuccess()) {
+        assertThat(single.get(measure)).isEqualTo(expected);
+      } else {
+        assertThat(single.get(measure).getFailure().getMessage()).isEqualTo(expected.getFailure().getMessage());
+      }
+    }
+  }
+
   //-------------------------------------------------------------------------
   static ScenarioMarketData marketData() {
     Curve curve = ConstantCurve.of(Curves.discountFactors("Test", ACT_360), 0.99);
@@ -0,0 +1,207 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.option;
+
+import com.opengamma.strata.collect.ArgChecker;
+
+/**
+ * Batch Black formulas, computing the price, common greeks and implied volatility of many options at once.
+ * <p>
+ * These are equivalent to the methods of {@link BlackFormulaRepository}, but operate on arrays,
+ * writing the results to a preallocated array. The inner loops avoid object allocation and
+ * most branches, using fast inline normal distribution functions.
+ * They are intended for pricing large books of listed options and for surface calibration.
+ * <p>
+ * All prices are forward prices, i.e. (spot price)/numeraire.
+ * For performance, the inputs are not validated individually. The forward and strike must be
+ * non-negative, and the time to expiry and volatility must be non-negative and finite.
+ * If the volatility or time to expiry is zero, the intrinsic value is returned.
+ */
+public final class BatchBlackFormulaRepository {
+
+  /**
+   * The value of the standard deviation below which the intrinsic value is used.
+   */
+  private static final double SMALL = 1e-13;
+
+  // restricted constructor
+  private BatchBlackFormulaRepository() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the forward price of each option.
+   * 
+   * @param forwards  the forward value of the underlying of each option
+   * @param strikes  the strike of each option
+   * @param timesToExpiry  the time to expiry of each option
+   * @param lognormalVols  the log-normal volatility of each option
+   * @param isCalls  true for call, false for put, for each option
+   * @param prices  the array to populate with the forward prices
+   */
+  public static void price(
+      double[] forwards,
+      double[] strikes,
+      double[] timesToExpiry,
+      double[] lognormalVols,
+      boolean[] isCalls,
+      double[] prices) {
+
+    int size = checkSizes(forwards, strikes, timesToExpiry, lognormalVols, isCalls, prices);
+    for (int i = 0; i < size; i++) {
+      double forward = forwards[i];
+      double strike = strikes[i];
+      double sign = isCalls[i] ? 1d : -1d;
+      double sigmaRootT = lognormalVols[i] * Math.sqrt(timesToExpiry[i]);
+      if (sigmaRootT < SMALL) {
+        prices[i] = Math.max(sign * (forward - strike), 0d);
+        continue;
+      }
+      double d1 = Math.log(forward / strike) / sigmaRootT + 0.5 * sigmaRootT;
+      double d2 = d1 - sigmaRootT;
+      prices[i] = Math.max(sign * (forward * FastNormal.cdf(sign * d1) - strike * FastNormal.cdf(sign * d2)), 0d);
+    }
+  }
+
+  /**
+   * Computes the forward driftless delta of each option.
+   * <p>
+   * This is the first derivative of the forward price with respect to the forward.
+   * 
+   * @param forwards  the forward value of the underlying of each option
+   * @param strikes  the strike of each option
+   * @param timesToExpiry  the time to expiry of each option
+   * @param lognormalVols  the log-normal volatility of each option
+   * @param isCalls  true for call, false for put, for each option
+   * @param deltas  the array to populate with the deltas
+   */
+  public static void delta(
+      double[] forwards,
+      double[] strikes,
+      double[] timesToExpiry,
+      double[] lognormalVols,
+      boolean[] isCalls,
+      double[] deltas) {
+
+    int size = checkSizes(forwards, strikes, timesToExpiry, lognormalVols, isCalls, deltas);
+    for (int i = 0; i < size; i++) {
+      double forward = forwards[i];
+      double strike = strikes[i];
+      double sign = isCalls[i] ? 1d : -1d;
+      double sigmaRootT = lognormalVols[i] * Math.sqrt(timesToExpiry[i]);
+      if (sigmaRootT < SMALL) {
+        deltas[i] = sign * (forward - strike) > 0d ? sign : 0d;
+        continue;
+      }
+      double d1 = Math.log(forward / strike) / sigmaRootT + 0.5 * sigmaRootT;
+      deltas[i] = sign * FastNormal.cdf(sign * d1);
+    }
+  }
+
+  /**
+   * Computes the forward driftless gamma of each option.
+   * <p>
+   * This is the second derivative of the forward price with respect to the forward.
+   * The gamma is the same for calls and puts.
+   * 
+   * @param forwards  the forward value of the underlying of each option
+   * @param strikes  the strike of each option
+   * @param timesToExpiry  the time to expiry of each option
+   * @param lognormalVols  the log-normal volatility of each option
+   * @param gammas  the array to populate with the gammas
+   */
+  public static void gamma(
+      double[] forwards,
+      double[] strikes,
+      double[] timesToExpiry,
+      double[] lognormalVols,
+      double[] gammas) {
+
+    int size = checkSizes(forwards, strikes, timesToExpiry, lognormalVols, gammas);
+    for (int i = 0; i < size; i++) {
+      double forward = forwards[i];
+      double sigmaRootT = lognormalVols[i] * Math.sqrt(timesToExpiry[i]);
+      double d1 = Math.log(forward / strikes[i]) / sigmaRootT + 0.5 * sigmaRootT;
+      gammas[i] = sigmaRootT < SMALL ? 0d : FastNormal.pdf(d1) / (forward * sigmaRootT);
+    }
+  }
+
+  /**
+   * Computes the forward vega of each option.
+   * <p>
+   * This is the first derivative of the forward price with respect to the volatility.
+   * The vega is the same for calls and puts.
+   * 
+   * @param forwards  the forward value of the underlying of each option
+   * @param strikes  the strike of each option
+   * @param timesToExpiry  the time to expiry of each option
+   * @param lognormalVols  the log-normal volatility of each option
+   * @param vegas  the array to populate with the vegas
+   */
+  public static void vega(
+      double[] forwards,
+      double[] strikes,
+      double[] timesToExpiry,
+      double[] lognormalVols,
+      double[] vegas) {
+
+    int size = checkSizes(forwards, strikes, timesToExpiry, lognormalVols, vegas);
+    for (int i = 0; i < size; i++) {
+      double forward = forwards[i];
+      double rootT = Math.sqrt(timesToExpiry[i]);
+      double sigmaRootT = lognormalVols[i] * rootT;
+      double d1 = Math.log(forward / strikes[i]) / sigmaRootT + 0.5 * sigmaRootT;
+      vegas[i] = sigmaRootT < SMALL ? 0d : forward * rootT * FastNormal.pdf(d1);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the log-normal implied volatility of each option.
+   * <p>
+   * This uses {@link HouseholderImpliedVolatilitySolver}, which needs a small, bounded, number of iterations.
+   * <p>
+   * If the price is equal to the intrinsic value, the implied volatility is zero.
+   * If no volatility matches the price, the implied volatility is NaN.
+   * This allows a single invalid price to be identified without failing the whole batch.
+   * 
+   * @param prices  the forward price of each option
+   * @param forwards  the forward value of the underlying of each option, positive
+   * @param strikes  the strike of each option, positive
+   * @param timesToExpiry  the time to expiry of each option
+   * @param isCalls  true for call, false for put, for each option
+   * @param lognormalVols  the array to populate with the implied volatilities
+   */
+  public static void impliedVolatility(
+      double[] prices,
+      double[] forwards,
+      double[] strikes,
+      double[] timesToExpiry,
+      boolean[] isCalls,
+      double[] lognormalVols) {
+
+    HouseholderImpliedVolatilitySolver.blackImpliedVolatility(
+        prices, forwards, strikes, timesToExpiry, isCalls, lognormalVols);
+  }
+
+  //-------------------------------------------------------------------------
+  // checks the arrays have the same size
+  static int checkSizes(double[] a, double[] b, double[] c, double[] d, boolean[] e, double[] result) {
+    int size = checkSizes(a, b, c, d, result);
+    ArgChecker.isTrue(e.length == size, "Arrays must have the same size");
+    return size;
+  }
+
+  // checks the arrays have the same size
+  static int checkSizes(double[] a, double[] b, double[] c, double[] d, double[] result) {
+    int size = a.length;
+    ArgChecker.isTrue(
+        b.length == size && c.length == size && d.length == size && result.length == size,
+        "Arrays must have the same size");
+    return size;
+  }
+
+}
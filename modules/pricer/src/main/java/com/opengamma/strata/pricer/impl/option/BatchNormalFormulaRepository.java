@@ -0,0 +1,182 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.option;
+
+import static com.opengamma.strata.pricer.impl.option.BatchBlackFormulaRepository.checkSizes;
+
+/**
+ * Batch normal (Bachelier) formulas, computing the price, common greeks and implied volatility of many options at once.
+ * <p>
+ * These are equivalent to the methods of {@link NormalFormulaRepository}, but operate on arrays,
+ * writing the results to a preallocated array. The inner loops avoid object allocation and
+ * most branches, using fast inline normal distribution functions.
+ * <p>
+ * All prices are forward prices, i.e. (spot price)/numeraire.
+ * For performance, the inputs are not validated individually.
+ * The time to expiry and volatility must be non-negative and finite.
+ * If the volatility or time to expiry is zero, the intrinsic value is returned.
+ */
+public final class BatchNormalFormulaRepository {
+
+  /**
+   * The comparison value used to determine near-zero.
+   */
+  private static final double NEAR_ZERO = 1e-16;
+
+  // restricted constructor
+  private BatchNormalFormulaRepository() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the forward price of each option.
+   * 
+   * @param forwards  the forward value of the underlying of each option
+   * @param strikes  the strike of each option
+   * @param timesToExpiry  the time to expiry of each option
+   * @param normalVols  the normal volatility of each option
+   * @param isCalls  true for call, false for put, for each option
+   * @param prices  the array to populate with the forward prices
+   */
+  public static void price(
+      double[] forwards,
+      double[] strikes,
+      double[] timesToExpiry,
+      double[] normalVols,
+      boolean[] isCalls,
+      double[] prices) {
+
+    int size = checkSizes(forwards, strikes, timesToExpiry, normalVols, isCalls, prices);
+    for (int i = 0; i < size; i++) {
+      double x = (isCalls[i] ? 1d : -1d) * (forwards[i] - strikes[i]);
+      double sigmaRootT = normalVols[i] * Math.sqrt(timesToExpiry[i]);
+      if (sigmaRootT < NEAR_ZERO) {
+        prices[i] = Math.max(x, 0d);
+        continue;
+      }
+      double arg = x / sigmaRootT;
+      prices[i] = x * FastNormal.cdf(arg) + sigmaRootT * FastNormal.pdf(arg);
+    }
+  }
+
+  /**
+   * Computes the forward delta of each option.
+   * <p>
+   * This is the first derivative of the forward price with respect to the forward.
+   * 
+   * @param forwards  the forward value of the underlying of each option
+   * @param strikes  the strike of each option
+   * @param timesToExpiry  the time to expiry of each option
+   * @param normalVols  the normal volatility of each option
+   * @param isCalls  true for call, false for put, for each option
+   * @param deltas  the array to populate with the deltas
+   */
+  public static void delta(
+      double[] forwards,
+      double[] strikes,
+      double[] timesToExpiry,
+      double[] normalVols,
+      boolean[] isCalls,
+      double[] deltas) {
+
+    int size = checkSizes(forwards, strikes, timesToExpiry, normalVols, isCalls, deltas);
+    for (int i = 0; i < size; i++) {
+      double sign = isCalls[i] ? 1d : -1d;
+      double x = sign * (forwards[i] - strikes[i]);
+      double sigmaRootT = normalVols[i] * Math.sqrt(timesToExpiry[i]);
+      if (sigmaRootT < NEAR_ZERO) {
+        deltas[i] = x > 0d ? sign : 0d;
+        continue;
+      }
+      deltas[i] = sign * FastNormal.cdf(x / sigmaRootT);
+    }
+  }
+
+  /**
+   * Computes the forward gamma of each option.
+   * <p>
+   * This is the second derivative of the forward price with respect to the forward.
+   * The gamma is the same for calls and puts.
+   * 
+   * @param forwards  the forward value of the underlying of each option
+   * @param strikes  the strike of each option
+   * @param timesToExpiry  the time to expiry of each option
+   * @param normalVols  the normal volatility of each option
+   * @param gammas  the array to populate with the gammas
+   */
+  public static void gamma(
+      double[] forwards,
+      double[] strikes,
+      double[] timesToExpiry,
+      double[] normalVols,
+      double[] gammas) {
+
+    int size = checkSizes(forwards, strikes, timesToExpiry, normalVols, gammas);
+    for (int i = 0; i < size; i++) {
+      double sigmaRootT = normalVols[i] * Math.sqrt(timesToExpiry[i]);
+      double arg = (forwards[i] - strikes[i]) / sigmaRootT;
+      gammas[i] = sigmaRootT < NEAR_ZERO ? 0d : FastNormal.pdf(arg) / sigmaRootT;
+    }
+  }
+
+  /**
+   * Computes the forward vega of each option.
+   * <p>
+   * This is the first derivative of the forward price with respect to the volatility.
+   * The vega is the same for calls and puts.
+   * 
+   * @param forwards  the forward value of the underlying of each option
+   * @param strikes  the strike of each option
+   * @param timesToExpiry  the time to expiry of each option
+   * @param normalVols  the normal volatility of each option
+   * @param vegas  the array to populate with the vegas
+   */
+  public static void vega(
+      double[] forwards,
+      double[] strikes,
+      double[] timesToExpiry,
+      double[] normalVols,
+      double[] vegas) {
+
+    int size = checkSizes(forwards, strikes, timesToExpiry, normalVols, vegas);
+    for (int i = 0; i < size; i++) {
+      double rootT = Math.sqrt(timesToExpiry[i]);
+      double sigmaRootT = normalVols[i] * rootT;
+      double arg = (forwards[i] - strikes[i]) / sigmaRootT;
+      vegas[i] = sigmaRootT < NEAR_ZERO ? 0d : rootT * FastNormal.pdf(arg);
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the normal implied volatility of each option.
+   * <p>
+   * This uses {@link HouseholderImpliedVolatilitySolver}, which needs a small, bounded, number of iterations.
+   * <p>
+   * If the price is equal to the intrinsic value, the implied volatility is zero.
+   * If no volatility matches the price, the implied volatility is NaN.
+   * This allows a single invalid price to be identified without failing the whole batch.
+   * 
+   * @param prices  the forward price of each option
+   * @param forwards  the forward value of the underlying of each option
+   * @param strikes  the strike of each option
+   * @param timesToExpiry  the time to expiry of each option
+   * @param isCalls  true for call, false for put, for each option
+   * @param normalVols  the array to populate with the implied volatilities
+   */
+  public static void impliedVolatility(
+      double[] prices,
+      double[] forwards,
+      double[] strikes,
+      double[] timesToExpiry,
+      boolean[] isCalls,
+      double[] normalVols) {
+
+    HouseholderImpliedVolatilitySolver.normalImpliedVolatility(
+        prices, forwards, strikes, timesToExpiry, isCalls, normalVols);
+  }
+
+}
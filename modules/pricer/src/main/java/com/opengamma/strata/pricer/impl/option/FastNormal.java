@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.option;
+
+/**
+ * Fast double precision functions of the standard normal distribution.
+ * <p>
+ * These are static methods on primitives, suitable for use in the inner loops of batch formulas,
+ * avoiding the boxing of {@code ProbabilityDistribution}.
+ * The cumulative distribution uses algorithm 5666 of Hart, as described by West, in the body,
+ * and the continued fraction of Laplace in the tails, which is accurate to double precision relative to the tail.
+ * The inverse uses the rational approximation of Acklam, refined by one step of Halley's method.
+ */
+final class FastNormal {
+
+  /**
+   * The value of 1 / sqrt(2 * pi).
+   */
+  static final double INV_SQRT_2_PI = 0.3989422804014327;
+  /**
+   * The value of sqrt(2 * pi).
+   */
+  private static final double SQRT_2_PI = 2.5066282746310002;
+  /**
+   * The value beyond which the cumulative distribution is zero or one to double precision.
+   */
+  private static final double CDF_CUTOFF = 38d;
+  /**
+   * The value below which the rational approximation of the cumulative distribution is used.
+   */
+  private static final double CDF_RATIONAL_LIMIT = 3d;
+  /**
+   * The value below which the continued fraction needs additional terms.
+   */
+  private static final double CDF_FRACTION_LIMIT = 4d;
+  /**
+   * The probability below which the tail approximation of the inverse is used.
+   */
+  private static final double INVERSE_LOW = 0.02425;
+  private static final double[] INVERSE_A = {
+      -3.969683028665376e+01, 2.209460984245205e+02, -2.759285104469687e+02,
+      1.383577518672690e+02, -3.066479806614716e+01, 2.506628277459239e+00};
+  private static final double[] INVERSE_B = {
+      -5.447609879822406e+01, 1.615858368580409e+02, -1.556989798598866e+02,
+      6.680131188771972e+01, -1.328068155288572e+01};
+  private static final double[] INVERSE_C = {
+      -7.784894002430293e-03, -3.223964580411365e-01, -2.400758277161838e+00,
+      -2.549732539343734e+00, 4.374664141464968e+00, 2.938163982698783e+00};
+  private static final double[] INVERSE_D = {
+      7.784695709041462e-03, 3.224671290700398e-01, 2.445134137142996e+00, 3.754408661907416e+00};
+
+  // restricted constructor
+  private FastNormal() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the probability density function.
+   * 
+   * @param x  the value
+   * @return the density
+   */
+  static double pdf(double x) {
+    return INV_SQRT_2_PI * Math.exp(-0.5 * x * x);
+  }
+
+  /**
+   * Computes the cumulative distribution function.
+   * <p>
+   * The result has a small relative error in the lower tail, thus {@code cdf(-x)}
+   * should be used in preference to {@code 1 - cdf(x)}.
+   * 
+   * @param x  the value
+   * @return the probability
+   */
+  static double cdf(double x) {
+    double abs = Math.abs(x);
+    double tail;
+    if (abs > CDF_CUTOFF) {
+      tail = 0d;
+    } else {
+      double exp = Math.exp(-0.5 * abs * abs);
+      if (abs < CDF_RATIONAL_LIMIT) {
+        double num = 3.52624965998911e-02 * abs + 0.700383064443688;
+        num = num * abs + 6.37396220353165;
+        num = num * abs + 33.912866078383;
+        num = num * abs + 112.079291497871;
+        num = num * abs + 221.213596169931;
+        num = num * abs + 220.206867912376;
+        double den = 8.83883476483184e-02 * abs + 1.75566716318264;
+        den = den * abs + 16.064177579207;
+        den = den * abs + 86.7807322029461;
+        den = den * abs + 296.564248779674;
+        den = den * abs + 637.333633378831;
+        den = den * abs + 793.826512519948;
+        den = den * abs + 440.413735824752;
+        tail = exp * num / den;
+      } else {
+        // continued fraction, evaluated from the last term
+        int terms = abs < CDF_FRACTION_LIMIT ? 40 : 24;
+        double den = abs;
+        for (int k = terms; k > 0; k--) {
+          den = abs + k / den;
+        }
+        tail = exp / den / SQRT_2_PI;
+      }
+    }
+    return x > 0 ? 1d - tail : tail;
+  }
+
+  /**
+   * Computes the inverse of the cumulative distribution function.
+   * 
+   * @param p  the probability, greater than zero and less than one
+   * @return the value
+   */
+  static double inverseCdf(double p) {
+    double x;
+    if (p < INVERSE_LOW) {
+      double q = Math.sqrt(-2 * Math.log(p));
+      x = tail(q);
+    } else if (p > 1 - INVERSE_LOW) {
+      double q = Math.sqrt(-2 * Math.log1p(-p));
+      x = -tail(q);
+    } else {
+      double q = p - 0.5;
+      double r = q * q;
+      x = (((((INVERSE_A[0] * r + INVERSE_A[1]) * r + INVERSE_A[2]) * r + INVERSE_A[3]) * r + INVERSE_A[4]) * r +
+          INVERSE_A[5]) * q /
+          (((((INVERSE_B[0] * r + INVERSE_B[1]) * r + INVERSE_B[2]) * r + INVERSE_B[3]) * r + INVERSE_B[4]) * r + 1);
+    }
+    // one step of Halley's method, using the tail probability on the appropriate side for accuracy
+    double e = x < 0 ? cdf(x) - p : (1 - p) - cdf(-x);
+    double u = e * SQRT_2_PI * Math.exp(0.5 * x * x);
+    return x - u / (1 + 0.5 * x * u);
+  }
+
+  // the lower tail approximation of the inverse
+  private static double tail(double q) {
+    return (((((INVERSE_C[0] * q + INVERSE_C[1]) * q + INVERSE_C[2]) * q + INVERSE_C[3]) * q + INVERSE_C[4]) * q +
+        INVERSE_C[5]) /
+        ((((INVERSE_D[0] * q + INVERSE_D[1]) * q + INVERSE_D[2]) * q + INVERSE_D[3]) * q + 1);
+  }
+
+}
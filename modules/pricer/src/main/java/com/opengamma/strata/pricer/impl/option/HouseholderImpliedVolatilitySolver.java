@@ -0,0 +1,355 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.option;
+
+import static com.opengamma.strata.pricer.impl.option.BatchBlackFormulaRepository.checkSizes;
+
+/**
+ * Fast implied volatility solver for the Black and normal (Bachelier) models.
+ * <p>
+ * This follows the approach of "Let's Be Rational" by Peter Jaeckel.
+ * The price is converted to the normalized price of the out-of-the-money option, which is a function
+ * of the moneyness and the total standard deviation only. The range of prices is split into branches,
+ * with an initial guess and an objective function for each branch that is close to linear in the
+ * standard deviation. The objective is then solved by Householder's method of third order,
+ * which has cubic convergence, thus only a small, bounded, number of iterations is needed
+ * to reach machine precision, regardless of the moneyness and expiry.
+ * <p>
+ * In the Black model, the lower branch uses the objective {@code 1 / ln(b)}, where {@code b} is the normalized price,
+ * the central branch uses the price itself, and the upper branch uses {@code ln(bMax - b)}.
+ * In the normal model, the objective is the logarithm of the normalized price.
+ * <p>
+ * All prices are forward prices, i.e. (spot price)/numeraire.
+ * If the price is equal to the intrinsic value, the implied volatility is zero.
+ * If no volatility matches the price, or the iterations do not converge, the implied volatility is NaN.
+ * This allows a single invalid price to be identified without failing a whole batch.
+ */
+public final class HouseholderImpliedVolatilitySolver {
+
+  /**
+   * The maximum number of iterations.
+   */
+  static final int MAX_ITERATIONS = 4;
+  /**
+   * The maximum number of times the initial guess is doubled when its price is too small to be represented.
+   * These are counted separately from the iterations.
+   */
+  static final int MAX_DOUBLINGS = 32;
+  /**
+   * The relative size of step at which the iterations stop.
+   * As convergence is cubic, the error after such a step is at the level of machine precision.
+   */
+  private static final double STEP_ACCURACY = 1e-10;
+  /**
+   * The relative error of the objective that is accepted when the iterations end without a small step.
+   */
+  private static final double RESIDUAL_ACCURACY = 1e-9;
+  /**
+   * The value of sqrt(2 * pi).
+   */
+  private static final double SQRT_2_PI = Math.sqrt(2d * Math.PI);
+  /**
+   * The normalized Bachelier price at one standard deviation out-of-the-money.
+   */
+  private static final double ONE_STD_DEV_PRICE = FastNormal.pdf(1d) - FastNormal.cdf(-1d);
+  /**
+   * The value of the moneyness below which the Bachelier price uses the continued fraction.
+   */
+  private static final double FRACTION_LIMIT = -3d;
+  /**
+   * The number of terms of the continued fraction of the Bachelier price.
+   */
+  private static final int FRACTION_TERMS = 40;
+
+  // restricted constructor
+  private HouseholderImpliedVolatilitySolver() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the log-normal implied volatility of each option.
+   *
+   * @param prices  the forward price of each option
+   * @param forwards  the forward value of the underlying of each option, positive
+   * @param strikes  the strike of each option, positive
+   * @param timesToExpiry  the time to expiry of each option
+   * @param isCalls  true for call, false for put, for each option
+   * @param lognormalVols  the array to populate with the implied volatilities
+   */
+  public static void blackImpliedVolatility(
+      double[] prices,
+      double[] forwards,
+      double[] strikes,
+      double[] timesToExpiry,
+      boolean[] isCalls,
+      double[] lognormalVols) {
+
+    int size = checkSizes(prices, forwards, strikes, timesToExpiry, isCalls, lognormalVols);
+    for (int i = 0; i < size; i++) {
+      lognormalVols[i] = blackImpliedVolatility(prices[i], forwards[i], strikes[i], timesToExpiry[i], isCalls[i]);
+    }
+  }
+
+  /**
+   * Computes the log-normal implied volatility of an option.
+   *
+   * @param price  the forward price of the option
+   * @param forward  the forward value of the underlying, positive
+   * @param strike  the strike, positive
+   * @param timeToExpiry  the time to expiry
+   * @param isCall  true for call, false for put
+   * @return the implied volatility, NaN if there is no solution
+   */
+  public static double blackImpliedVolatility(
+      double price,
+      double forward,
+      double strike,
+      double timeToExpiry,
+      boolean isCall) {
+
+    double sign = isCall ? 1d : -1d;
+    double otmPrice = price - Math.max(sign * (forward - strike), 0d);
+    if (otmPrice == 0d) {
+      return 0d;
+    }
+    if (!(otmPrice > 0d && otmPrice < Math.min(forward, strike) && timeToExpiry > 0d)) {
+      return Double.NaN;
+    }
+    double rootT = Math.sqrt(timeToExpiry);
+    double x = -Math.abs(Math.log(forward / strike));
+    double beta = otmPrice / Math.sqrt(forward * strike);
+    if (x == 0d) {
+      return 2d * FastNormal.inverseCdf(0.5 * (beta + 1d)) / rootT;
+    }
+    // a price within rounding of the maximum can drive the standard deviation to infinity
+    double stdDev = blackStandardDeviation(beta, x);
+    return stdDev < Double.POSITIVE_INFINITY ? stdDev / rootT : Double.NaN;
+  }
+
+  // the standard deviation matching the normalized out-of-the-money price, where x < 0 and 0 < beta < bMax
+  private static double blackStandardDeviation(double beta, double x) {
+    double bMax = Math.exp(0.5 * x);
+    // the price is convex below the inflection point and concave above it
+    // the tangent at the inflection point defines the bounds of the central branch
+    double sc = Math.sqrt(-2d * x);
+    double bc = blackPrice(x, sc);
+    double vc = blackVega(x, sc);
+    double sl = sc - bc / vc;
+    double bl = sl > 0d ? blackPrice(x, sl) : 0d;
+    double su = sc + (bMax - bc) / vc;
+    double bu = blackPrice(x, su);
+    if (beta < bl) {
+      // 1 / ln(b) is approximately quadratic in s for small s
+      double lnBeta = Math.log(beta);
+      double s = sl * Math.sqrt(Math.log(bl) / lnBeta);
+      int iteration = 0;
+      int doublings = 0;
+      while (iteration < MAX_ITERATIONS) {
+        double b = blackPrice(x, s);
+        if (!(b > 0d)) {
+          // the price is too small to be represented, thus increase the standard deviation
+          if (++doublings > MAX_DOUBLINGS) {
+            return Double.NaN;
+          }
+          s = 2d * s;
+          continue;
+        }
+        iteration++;
+        double lnB = Math.log(b);
+        double q = blackVega(x, s) / b;
+        double a2 = blackVolga(x, s);
+        double newton = lnB * (lnBeta - lnB) / (lnBeta * q);
+        double h2 = -(2d + lnB) / lnB * q + a2;
+        double h3 = (2d * lnB * lnB + 6d * lnB + 6d) / (lnB * lnB) * q * q -
+            3d * (2d + lnB) / lnB * q * a2 + blackUltima(x, s, a2);
+        double step = householder(newton, h2, h3);
+        s = s + step > 0d ? s + step : 0.5 * s;
+        if (Math.abs(step) <= STEP_ACCURACY * s) {
+          return s;
+        }
+      }
+      return converged(s, blackPrice(x, s), beta);
+    }
+    if (beta <= bu) {
+      double s = sc + (beta - bc) / vc;
+      for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+        double a2 = blackVolga(x, s);
+        double newton = (beta - blackPrice(x, s)) / blackVega(x, s);
+        double step = householder(newton, a2, blackUltima(x, s, a2));
+        s = s + step > 0d ? s + step : 0.5 * s;
+        if (Math.abs(step) <= STEP_ACCURACY * s) {
+          return s;
+        }
+      }
+      return converged(s, blackPrice(x, s), beta);
+    }
+    // ln(bMax - b) is approximately -s^2 / 8 for large s
+    double lnTarget = Math.log(bMax - beta);
+    double s = Math.sqrt(su * su + 8d * (Math.log(bMax - bu) - lnTarget));
+    for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+      double c = blackPriceComplement(x, s);
+      double r = blackVega(x, s) / c;
+      double a2 = blackVolga(x, s);
+      double newton = (Math.log(c) - lnTarget) / r;
+      double step = householder(newton, r + a2, 2d * r * r + 3d * r * a2 + blackUltima(x, s, a2));
+      s = s + step > 0d ? s + step : 0.5 * s;
+      if (Math.abs(step) <= STEP_ACCURACY * s) {
+        return s;
+      }
+    }
+    return converged(s, blackPriceComplement(x, s), bMax - beta);
+  }
+
+  // the normalized Black price of the out-of-the-money option, where x < 0
+  private static double blackPrice(double x, double s) {
+    double h = x / s;
+    double t = 0.5 * s;
+    return Math.exp(0.5 * x) * FastNormal.cdf(h + t) - Math.exp(-0.5 * x) * FastNormal.cdf(h - t);
+  }
+
+  // the normalized maximum price less the normalized Black price, where x < 0
+  private static double blackPriceComplement(double x, double s) {
+    double h = x / s;
+    double t = 0.5 * s;
+    return Math.exp(0.5 * x) * FastNormal.cdf(-h - t) + Math.exp(-0.5 * x) * FastNormal.cdf(h - t);
+  }
+
+  // the first derivative of the normalized Black price with respect to s
+  private static double blackVega(double x, double s) {
+    double h = x / s;
+    double t = 0.5 * s;
+    return FastNormal.INV_SQRT_2_PI * Math.exp(-0.5 * (h * h + t * t));
+  }
+
+  // the ratio of the second derivative to the first derivative of the normalized Black price
+  private static double blackVolga(double x, double s) {
+    double h = x / s;
+    return h * h / s - 0.25 * s;
+  }
+
+  // the ratio of the third derivative to the first derivative of the normalized Black price
+  private static double blackUltima(double x, double s, double volga) {
+    double h = x / s;
+    return volga * volga - 3d * h * h / (s * s) - 0.25;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Computes the normal implied volatility of each option.
+   *
+   * @param prices  the forward price of each option
+   * @param forwards  the forward value of the underlying of each option
+   * @param strikes  the strike of each option
+   * @param timesToExpiry  the time to expiry of each option
+   * @param isCalls  true for call, false for put, for each option
+   * @param normalVols  the array to populate with the implied volatilities
+   */
+  public static void normalImpliedVolatility(
+      double[] prices,
+      double[] forwards,
+      double[] strikes,
+      double[] timesToExpiry,
+      boolean[] isCalls,
+      double[] normalVols) {
+
+    int size = checkSizes(prices, forwards, strikes, timesToExpiry, isCalls, normalVols);
+    for (int i = 0; i < size; i++) {
+      normalVols[i] = normalImpliedVolatility(prices[i], forwards[i], strikes[i], timesToExpiry[i], isCalls[i]);
+    }
+  }
+
+  /**
+   * Computes the normal implied volatility of an option.
+   *
+   * @param price  the forward price of the option
+   * @param forward  the forward value of the underlying
+   * @param strike  the strike
+   * @param timeToExpiry  the time to expiry
+   * @param isCall  true for call, false for put
+   * @return the implied volatility, NaN if there is no solution
+   */
+  public static double normalImpliedVolatility(
+      double price,
+      double forward,
+      double strike,
+      double timeToExpiry,
+      boolean isCall) {
+
+    double sign = isCall ? 1d : -1d;
+    double otmPrice = price - Math.max(sign * (forward - strike), 0d);
+    if (otmPrice == 0d) {
+      return 0d;
+    }
+    if (!(otmPrice > 0d && timeToExpiry > 0d && Double.isFinite(otmPrice))) {
+      return Double.NaN;
+    }
+    double rootT = Math.sqrt(timeToExpiry);
+    double x = -Math.abs(forward - strike);
+    if (x == 0d) {
+      return otmPrice * SQRT_2_PI / rootT;
+    }
+    return normalStandardDeviation(otmPrice / -x, x) / rootT;
+  }
+
+  // the standard deviation matching the out-of-the-money price, where x < 0 and beta is the price divided by -x
+  private static double normalStandardDeviation(double beta, double x) {
+    // the price divided by -x is a function of u = x / s only
+    double u;
+    if (beta > ONE_STD_DEV_PRICE) {
+      // for large s, the price is approximately s / sqrt(2 pi) + x / 2
+      u = -1d / (SQRT_2_PI * (beta + 0.5));
+    } else {
+      // for small s, the logarithm of the price is approximately -u^2 / 2 - 2 ln(-u) - ln(sqrt(2 pi))
+      double lnBeta = Math.log(beta * SQRT_2_PI);
+      u = -Math.sqrt(-2d * lnBeta);
+      u = -Math.sqrt(Math.max(-2d * lnBeta - 4d * Math.log(-u), 1d));
+    }
+    double lnTarget = Math.log(beta * -x);
+    double s = x / u;
+    for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+      u = x / s;
+      double q = FastNormal.pdf(u) / normalPrice(x, s);
+      double a2 = u * u / s;
+      double a3 = (u * u - 3d) * u * u / (s * s);
+      double newton = (lnTarget - Math.log(normalPrice(x, s))) / q;
+      double step = householder(newton, a2 - q, a3 - 3d * a2 * q + 2d * q * q);
+      s = s + step > 0d ? s + step : 0.5 * s;
+      if (Math.abs(step) <= STEP_ACCURACY * s) {
+        return s;
+      }
+    }
+    return converged(s, normalPrice(x, s), beta * -x);
+  }
+
+  // the Bachelier price of the out-of-the-money option, where x < 0
+  private static double normalPrice(double x, double s) {
+    double u = x / s;
+    if (u > FRACTION_LIMIT) {
+      return x * FastNormal.cdf(u) + s * FastNormal.pdf(u);
+    }
+    // pdf(u) + u cdf(u) = pdf(u) / (d1 d2), where d1 and d2 are the continued fractions
+    // of the Mills ratio starting at the first and second terms, which avoids cancellation
+    double abs = -u;
+    double d2 = abs;
+    for (int k = FRACTION_TERMS; k > 1; k--) {
+      d2 = abs + k / d2;
+    }
+    double d1 = abs + 1d / d2;
+    return s * FastNormal.pdf(u) / (d1 * d2);
+  }
+
+  //-------------------------------------------------------------------------
+  // the standard deviation once the iterations end without a small step, NaN unless the objective matches the target
+  private static double converged(double s, double value, double target) {
+    return Math.abs(value - target) <= RESIDUAL_ACCURACY * target ? s : Double.NaN;
+  }
+
+  // the step of Householder's third order method, from the Newton step and the ratios of derivatives
+  private static double householder(double newton, double h2, double h3) {
+    return newton * (1d + 0.5 * h2 * newton) / (1d + newton * (h2 + h3 * newton / 6d));
+  }
+
+}
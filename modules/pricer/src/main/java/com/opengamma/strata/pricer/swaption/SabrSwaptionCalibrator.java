@@ -12,6 +12,9 @@ import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.List;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 import com.opengamma.strata.basics.ReferenceData;
@@ -20,6 +23,7 @@ import com.opengamma.strata.basics.date.DayCount;
 import com.opengamma.strata.basics.date.Tenor;
 import com.opengamma.strata.basics.value.ValueDerivatives;
 import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Guavate;
 import com.opengamma.strata.collect.Messages;
 import com.opengamma.strata.collect.array.DoubleArray;
 import com.opengamma.strata.collect.array.DoubleMatrix;
@@ -178,7 +182,6 @@ public final class SabrSwaptionCalibrator {
    *   expiries/tenors which throw MathException
    * @return the SABR volatility object
    */
-  @SuppressWarnings("null")
   public SabrParametersSwaptionVolatilities calibrateWithFixedBetaAndShift(
       SabrSwaptionDefinition definition,
       ZonedDateTime calibrationDateTime,
@@ -188,6 +191,50 @@ public final class SabrSwaptionCalibrator {
       Surface shiftSurface,
       boolean stopOnMathException) {
 
+    return calibrateWithFixedBetaAndShift(
+        definition,
+        calibrationDateTime,
+        data,
+        ratesProvider,
+        betaSurface,
+        shiftSurface,
+        stopOnMathException,
+        Runnable::run);
+  }
+
+  /**
+   * Calibrate SABR parameters to a set of raw swaption data, using an executor.
+   * <p>
+   * The SABR parameters are calibrated with fixed beta and fixed shift surfaces.
+   * The raw data can be (shifted) log-normal volatilities, normal volatilities or option prices
+   * <p>
+   * The calibration of each expiry and tenor is independent, and is submitted to the executor as a separate task.
+   * This allows the caller to calibrate a large cube in parallel, using an executor it controls.
+   * The result is the same as that of the method without an executor.
+   * 
+   * @param definition  the definition of the calibration to be performed
+   * @param calibrationDateTime  the data and time of the calibration
+   * @param data  the map of raw option data, keyed by tenor
+   * @param ratesProvider  the rate provider used to compute the swap forward rates
+   * @param betaSurface  the beta surface
+   * @param shiftSurface  the shift surface
+   * @param stopOnMathException  flag indicating if the calibration should stop on math exceptions or skip the 
+   *   expiries/tenors which throw MathException
+   * @param executor  the executor used to calibrate each expiry and tenor
+   * @return the SABR volatility object
+   */
+  @SuppressWarnings("null")
+  public SabrParametersSwaptionVolatilities calibrateWithFixedBetaAndShift(
+      SabrSwaptionDefinition definition,
+      ZonedDateTime calibrationDateTime,
+      TenorRawOptionData data,
+      RatesProvider ratesProvider,
+      Surface betaSurface,
+      Surface shiftSurface,
+      boolean stopOnMathException,
+      Executor executor) {
+
+    ArgChecker.notNull(executor, "executor");
     SwaptionVolatilitiesName name = definition.getName();
     FixedIborSwapConvention convention = definition.getConvention();
     DayCount dayCount = definition.getDayCount();
@@ -203,6 +250,8 @@ public final class SabrSwaptionCalibrator {
     TreeMap<Double, TreeMap<Double, DoubleArray>> dataSensitivityRhoTmp = new TreeMap<>();
     TreeMap<Double, TreeMap<Double, DoubleArray>> dataSensitivityNuTmp = new TreeMap<>();
     TreeMap<Double, TreeMap<Double, SabrFormulaData>> sabrPointTmp = new TreeMap<>();
+    // the market data for each expiry and tenor is determined first
+    List<CalibrationCell> cells = new ArrayList<>();
     for (Tenor tenor : data.getTenors()) {
       RawOptionData tenorData = data.getData(tenor);
       double timeTenor = tenor.getPeriod().getYears() + tenor.getPeriod().getMonths() / 12;
@@ -221,46 +270,63 @@ public final class SabrSwaptionCalibrator {
         LocalDate endDate = effectiveDate.plus(tenor);
         SwapTrade swap0 = convention.toTrade(calibrationDate, effectiveDate, endDate, BuySell.BUY, 1.0, 0.0);
         double forward = swapPricer.parRate(swap0.getProduct().resolve(refData), ratesProvider);
-        SabrFormulaData sabrPoint = null;
-        DoubleMatrix inverseJacobian = null;
-        boolean error = false;
+        cells.add(new CalibrationCell(
+            tenor, expiries.get(loopexpiry), timeTenor, timeToExpiry, forward, shift, beta, availableSmile, tenorData));
+      }
+    }
+    // the calibration of each expiry and tenor is independent, thus each is a separate task for the executor
+    List<CompletableFuture<Void>> futures = new ArrayList<>(cells.size());
+    for (CalibrationCell cell : cells) {
+      futures.add(CompletableFuture.runAsync(() -> {
         try {
-          Pair<SabrFormulaData, DoubleMatrix> calibrationResult =
-              calibration(forward, shift, beta, fixed, bda, calibrationDateTime, dayCount,
-                  availableSmile.getFirst(), availableSmile.getSecond(), expiries.get(loopexpiry), tenorData);
-          sabrPoint = calibrationResult.getFirst();
-          inverseJacobian = calibrationResult.getSecond();
+          cell.calibrationResult = calibration(cell.forward, cell.shift, cell.beta, fixed, bda, calibrationDateTime,
+              dayCount, cell.smile.getFirst(), cell.smile.getSecond(), cell.expiry, cell.tenorData);
         } catch (MathException e) {
-          error = true;
-          if (stopOnMathException) {
-            String message = Messages.format("{} at expiry {} and tenor {}", e.getMessage(),
-                expiries.get(loopexpiry), tenor);
-            throw new MathException(message, e);
-          }
+          cell.exception = e;
         }
-        if (!error) {
-          if (!parameterMetadataTmp.containsKey(timeToExpiry)) {
-            parameterMetadataTmp.put(timeToExpiry, new TreeMap<>());
-            dataSensitivityAlphaTmp.put(timeToExpiry, new TreeMap<>());
-            dataSensitivityRhoTmp.put(timeToExpiry, new TreeMap<>());
-            dataSensitivityNuTmp.put(timeToExpiry, new TreeMap<>());
-            sabrPointTmp.put(timeToExpiry, new TreeMap<>());
-          }
-          TreeMap<Double, ParameterMetadata> parameterMetadataExpiryMap = parameterMetadataTmp.get(timeToExpiry);
-          TreeMap<Double, DoubleArray> dataSensitivityAlphaExpiryMap = dataSensitivityAlphaTmp.get(timeToExpiry);
-          TreeMap<Double, DoubleArray> dataSensitivityRhoExpiryMap = dataSensitivityRhoTmp.get(timeToExpiry);
-          TreeMap<Double, DoubleArray> dataSensitivityNuExpiryMap = dataSensitivityNuTmp.get(timeToExpiry);
-          TreeMap<Double, SabrFormulaData> sabrPointExpiryMap = sabrPointTmp.get(timeToExpiry);
-          parameterMetadataExpiryMap.put(timeTenor, SwaptionSurfaceExpiryTenorParameterMetadata.of(
-              timeToExpiry,
-              timeTenor,
-              expiries.get(loopexpiry).toString() + "x" + tenor.toString()));
-          dataSensitivityAlphaExpiryMap.put(timeTenor, inverseJacobian.row(0));
-          dataSensitivityRhoExpiryMap.put(timeTenor, inverseJacobian.row(2));
-          dataSensitivityNuExpiryMap.put(timeTenor, inverseJacobian.row(3));
-          sabrPointExpiryMap.put(timeTenor, sabrPoint);
+      }, executor));
+    }
+    try {
+      Guavate.combineFuturesAsList(futures).join();
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) ex.getCause();
+      }
+      throw ex;
+    }
+    for (CalibrationCell cell : cells) {
+      if (cell.exception != null) {
+        if (stopOnMathException) {
+          String message = Messages.format("{} at expiry {} and tenor {}", cell.exception.getMessage(),
+              cell.expiry, cell.tenor);
+          throw new MathException(message, cell.exception);
         }
+        continue;
+      }
+      double timeToExpiry = cell.timeToExpiry;
+      double timeTenor = cell.timeTenor;
+      SabrFormulaData sabrPoint = cell.calibrationResult.getFirst();
+      DoubleMatrix inverseJacobian = cell.calibrationResult.getSecond();
+      if (!parameterMetadataTmp.containsKey(timeToExpiry)) {
+        parameterMetadataTmp.put(timeToExpiry, new TreeMap<>());
+        dataSensitivityAlphaTmp.put(timeToExpiry, new TreeMap<>());
+        dataSensitivityRhoTmp.put(timeToExpiry, new TreeMap<>());
+        dataSensitivityNuTmp.put(timeToExpiry, new TreeMap<>());
+        sabrPointTmp.put(timeToExpiry, new TreeMap<>());
       }
+      TreeMap<Double, ParameterMetadata> parameterMetadataExpiryMap = parameterMetadataTmp.get(timeToExpiry);
+      TreeMap<Double, DoubleArray> dataSensitivityAlphaExpiryMap = dataSensitivityAlphaTmp.get(timeToExpiry);
+      TreeMap<Double, DoubleArray> dataSensitivityRhoExpiryMap = dataSensitivityRhoTmp.get(timeToExpiry);
+      TreeMap<Double, DoubleArray> dataSensitivityNuExpiryMap = dataSensitivityNuTmp.get(timeToExpiry);
+      TreeMap<Double, SabrFormulaData> sabrPointExpiryMap = sabrPointTmp.get(timeToExpiry);
+      parameterMetadataExpiryMap.put(timeTenor, SwaptionSurfaceExpiryTenorParameterMetadata.of(
+          timeToExpiry,
+          timeTenor,
+          cell.expiry.toString() + "x" + cell.tenor.toString()));
+      dataSensitivityAlphaExpiryMap.put(timeTenor, inverseJacobian.row(0));
+      dataSensitivityRhoExpiryMap.put(timeTenor, inverseJacobian.row(2));
+      dataSensitivityNuExpiryMap.put(timeTenor, inverseJacobian.row(3));
+      sabrPointExpiryMap.put(timeTenor, sabrPoint);
     }
     DoubleArray timeToExpiryArray = DoubleArray.EMPTY;
     DoubleArray timeTenorArray = DoubleArray.EMPTY;
@@ -900,4 +966,43 @@ public final class SabrSwaptionCalibrator {
     return bda.adjust(calibrationDate.plus(expiry), refData);
   }
 
+  //-------------------------------------------------------------------------
+  // the market data of a single expiry and tenor, and the result of its calibration
+  private static final class CalibrationCell {
+    private final Tenor tenor;
+    private final Period expiry;
+    private final double timeTenor;
+    private final double timeToExpiry;
+    private final double forward;
+    private final double shift;
+    private final double beta;
+    private final Pair<DoubleArray, DoubleArray> smile;
+    private final RawOptionData tenorData;
+    // written by the calibration, which happens-before the results are read
+    private Pair<SabrFormulaData, DoubleMatrix> calibrationResult;
+    private MathException exception;
+
+    private CalibrationCell(
+        Tenor tenor,
+        Period expiry,
+        double timeTenor,
+        double timeToExpiry,
+        double forward,
+        double shift,
+        double beta,
+        Pair<DoubleArray, DoubleArray> smile,
+        RawOptionData tenorData) {
+
+      this.tenor = tenor;
+      this.expiry = expiry;
+      this.timeTenor = timeTenor;
+      this.timeToExpiry = timeToExpiry;
+      this.forward = forward;
+      this.shift = shift;
+      this.beta = beta;
+      this.smile = smile;
+      this.tenorData = tenorData;
+    }
+  }
+
 }
@@ -0,0 +1,149 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.option;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.data.Offset.offset;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test {@link BatchBlackFormulaRepository}.
+ */
+public class BatchBlackFormulaRepositoryTest {
+
+  private static final double[] FORWARDS;
+  private static final double[] STRIKES;
+  private static final double[] TIMES;
+  private static final double[] VOLS;
+  private static final boolean[] IS_CALLS;
+  static {
+    double[] strikes = {0.5, 60, 80, 95, 100, 105, 120, 150, 300};
+    double[] times = {0, 0.01, 0.25, 1, 5, 30};
+    double[] vols = {0, 0.01, 0.1, 0.3, 1.2};
+    int size = strikes.length * times.length * vols.length * 2;
+    FORWARDS = new double[size];
+    STRIKES = new double[size];
+    TIMES = new double[size];
+    VOLS = new double[size];
+    IS_CALLS = new boolean[size];
+    int i = 0;
+    for (double strike : strikes) {
+      for (double time : times) {
+        for (double vol : vols) {
+          for (boolean isCall : new boolean[] {true, false}) {
+            FORWARDS[i] = 100;
+            STRIKES[i] = strike;
+            TIMES[i] = time;
+            VOLS[i] = vol;
+            IS_CALLS[i] = isCall;
+            i++;
+          }
+        }
+      }
+    }
+  }
+  private static final double TOL = 1e-12;
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_price() {
+    double[] test = new double[FORWARDS.length];
+    BatchBlackFormulaRepository.price(FORWARDS, STRIKES, TIMES, VOLS, IS_CALLS, test);
+    for (int i = 0; i < test.length; i++) {
+      double expected = BlackFormulaRepository.price(FORWARDS[i], STRIKES[i], TIMES[i], VOLS[i], IS_CALLS[i]);
+      assertThat(test[i]).isCloseTo(expected, offset(TOL * FORWARDS[i]));
+    }
+  }
+
+  @Test
+  public void test_delta() {
+    double[] test = new double[FORWARDS.length];
+    BatchBlackFormulaRepository.delta(FORWARDS, STRIKES, TIMES, VOLS, IS_CALLS, test);
+    for (int i = 0; i < test.length; i++) {
+      if (VOLS[i] * TIMES[i] > 0) {
+        double expected = BlackFormulaRepository.delta(FORWARDS[i], STRIKES[i], TIMES[i], VOLS[i], IS_CALLS[i]);
+        assertThat(test[i]).isCloseTo(expected, offset(TOL));
+      } else {
+        assertThat(test[i]).isEqualTo(IS_CALLS[i] ? (FORWARDS[i] > STRIKES[i] ? 1d : 0d) : (FORWARDS[i] < STRIKES[i] ? -1d : 0d));
+      }
+    }
+  }
+
+  @Test
+  public void test_gamma_vega() {
+    double[] gamma = new double[FORWARDS.length];
+    double[] vega = new double[FORWARDS.length];
+    BatchBlackFormulaRepository.gamma(FORWARDS, STRIKES, TIMES, VOLS, gamma);
+    BatchBlackFormulaRepository.vega(FORWARDS, STRIKES, TIMES, VOLS, vega);
+    for (int i = 0; i < gamma.length; i++) {
+      if (VOLS[i] * TIMES[i] > 0) {
+        double expectedGamma = BlackFormulaRepository.gamma(FORWARDS[i], STRIKES[i], TIMES[i], VOLS[i]);
+        double expectedVega = BlackFormulaRepository.vega(FORWARDS[i], STRIKES[i], TIMES[i], VOLS[i]);
+        assertThat(gamma[i]).isCloseTo(expectedGamma, offset(TOL * (1 + Math.abs(expectedGamma))));
+        assertThat(vega[i]).isCloseTo(expectedVega, offset(TOL * FORWARDS[i]));
+      } else {
+        assertThat(gamma[i]).isEqualTo(0d);
+        assertThat(vega[i]).isEqualTo(0d);
+      }
+    }
+  }
+
+  @Test
+  public void test_impliedVolatility() {
+    double[] prices = new double[FORWARDS.length];
+    BatchBlackFormulaRepository.price(FORWARDS, STRIKES, TIMES, VOLS, IS_CALLS, prices);
+    double[] vegas = new double[FORWARDS.length];
+    BatchBlackFormulaRepository.vega(FORWARDS, STRIKES, TIMES, VOLS, vegas);
+    double[] test = new double[FORWARDS.length];
+    BatchBlackFormulaRepository.impliedVolatility(prices, FORWARDS, STRIKES, TIMES, IS_CALLS, test);
+    for (int i = 0; i < test.length; i++) {
+      double intrinsic = Math.max((IS_CALLS[i] ? 1 : -1) * (FORWARDS[i] - STRIKES[i]), 0);
+      if (prices[i] == intrinsic) {
+        assertThat(test[i]).isEqualTo(0d);
+      } else if (vegas[i] > 1e-6) {
+        // where the price is sensitive to the volatility, it is recovered accurately, limited by the precision of the price
+        assertThat(test[i]).isCloseTo(VOLS[i], offset(Math.max(1e-10, 1e-13 * FORWARDS[i] / vegas[i])));
+        double scalar = BlackFormulaRepository.impliedVolatility(
+            prices[i], FORWARDS[i], STRIKES[i], TIMES[i], IS_CALLS[i]);
+        assertThat(test[i]).isCloseTo(scalar, offset(1e-6));
+      } else {
+        // otherwise, the price is recovered accurately
+        double[] repriced = new double[1];
+        BatchBlackFormulaRepository.price(
+            new double[] {FORWARDS[i]}, new double[] {STRIKES[i]}, new double[] {TIMES[i]},
+            new double[] {test[i]}, new boolean[] {IS_CALLS[i]}, repriced);
+        assertThat(repriced[0]).isCloseTo(prices[i], offset(1e-12 * FORWARDS[i]));
+      }
+    }
+  }
+
+  @Test
+  public void test_impliedVolatility_invalid() {
+    double[] test = new double[4];
+    BatchBlackFormulaRepository.impliedVolatility(
+        new double[] {10, 1, 120, 5},
+        new double[] {100, 100, 100, 100},
+        new double[] {80, 100, 100, 100},
+        new double[] {1, 0, 1, 1},
+        new boolean[] {true, true, true, false},
+        test);
+    assertThat(test[0]).isNaN();  // below intrinsic
+    assertThat(test[1]).isNaN();  // zero time to expiry
+    assertThat(test[2]).isNaN();  // above forward
+    assertThat(test[3]).isCloseTo(BlackFormulaRepository.impliedVolatility(5, 100, 100, 1, false), offset(1e-9));
+  }
+
+  @Test
+  public void test_sizes() {
+    assertThatIllegalArgumentException().isThrownBy(() -> BatchBlackFormulaRepository.price(
+        new double[1], new double[1], new double[1], new double[1], new boolean[1], new double[2]));
+    assertThatIllegalArgumentException().isThrownBy(() -> BatchBlackFormulaRepository.vega(
+        new double[1], new double[2], new double[1], new double[1], new double[1]));
+  }
+
+}
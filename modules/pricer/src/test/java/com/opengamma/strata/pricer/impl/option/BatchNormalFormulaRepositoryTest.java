@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.option;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.data.Offset.offset;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.product.common.PutCall;
+
+/**
+ * Test {@link BatchNormalFormulaRepository}.
+ */
+public class BatchNormalFormulaRepositoryTest {
+
+  private static final double[] FORWARDS;
+  private static final double[] STRIKES;
+  private static final double[] TIMES;
+  private static final double[] VOLS;
+  private static final boolean[] IS_CALLS;
+  static {
+    double[] strikes = {-0.02, -0.005, 0, 0.01, 0.015, 0.02, 0.03, 0.08};
+    double[] times = {0, 0.01, 0.25, 1, 5, 30};
+    double[] vols = {0, 0.0001, 0.005, 0.01, 0.05};
+    int size = strikes.length * times.length * vols.length * 2;
+    FORWARDS = new double[size];
+    STRIKES = new double[size];
+    TIMES = new double[size];
+    VOLS = new double[size];
+    IS_CALLS = new boolean[size];
+    int i = 0;
+    for (double strike : strikes) {
+      for (double time : times) {
+        for (double vol : vols) {
+          for (boolean isCall : new boolean[] {true, false}) {
+            FORWARDS[i] = 0.015;
+            STRIKES[i] = strike;
+            TIMES[i] = time;
+            VOLS[i] = vol;
+            IS_CALLS[i] = isCall;
+            i++;
+          }
+        }
+      }
+    }
+  }
+  private static final double TOL = 1e-14;
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_price_greeks() {
+    int size = FORWARDS.length;
+    double[] price = new double[size];
+    double[] delta = new double[size];
+    double[] gamma = new double[size];
+    double[] vega = new double[size];
+    BatchNormalFormulaRepository.price(FORWARDS, STRIKES, TIMES, VOLS, IS_CALLS, price);
+    BatchNormalFormulaRepository.delta(FORWARDS, STRIKES, TIMES, VOLS, IS_CALLS, delta);
+    BatchNormalFormulaRepository.gamma(FORWARDS, STRIKES, TIMES, VOLS, gamma);
+    BatchNormalFormulaRepository.vega(FORWARDS, STRIKES, TIMES, VOLS, vega);
+    for (int i = 0; i < size; i++) {
+      PutCall putCall = PutCall.ofPut(!IS_CALLS[i]);
+      assertThat(price[i])
+          .isCloseTo(NormalFormulaRepository.price(FORWARDS[i], STRIKES[i], TIMES[i], VOLS[i], putCall), offset(TOL));
+      if (VOLS[i] * TIMES[i] > 0) {
+        assertThat(delta[i]).isCloseTo(
+            NormalFormulaRepository.delta(FORWARDS[i], STRIKES[i], TIMES[i], VOLS[i], putCall), offset(1e-13));
+        double expectedGamma = NormalFormulaRepository.gamma(FORWARDS[i], STRIKES[i], TIMES[i], VOLS[i], putCall);
+        assertThat(gamma[i]).isCloseTo(expectedGamma, offset(1e-13 * (1 + expectedGamma)));
+        assertThat(vega[i]).isCloseTo(
+            NormalFormulaRepository.vega(FORWARDS[i], STRIKES[i], TIMES[i], VOLS[i], putCall), offset(1e-13));
+      }
+    }
+  }
+
+  @Test
+  public void test_impliedVolatility() {
+    int size = FORWARDS.length;
+    double[] prices = new double[size];
+    BatchNormalFormulaRepository.price(FORWARDS, STRIKES, TIMES, VOLS, IS_CALLS, prices);
+    double[] vegas = new double[size];
+    BatchNormalFormulaRepository.vega(FORWARDS, STRIKES, TIMES, VOLS, vegas);
+    double[] test = new double[size];
+    BatchNormalFormulaRepository.impliedVolatility(prices, FORWARDS, STRIKES, TIMES, IS_CALLS, test);
+    for (int i = 0; i < size; i++) {
+      double intrinsic = Math.max((IS_CALLS[i] ? 1 : -1) * (FORWARDS[i] - STRIKES[i]), 0);
+      if (prices[i] == intrinsic) {
+        assertThat(test[i]).isEqualTo(0d);
+      } else if (vegas[i] > 1e-6) {
+        assertThat(test[i]).isCloseTo(VOLS[i], offset(1e-12));
+        double scalar = NormalFormulaRepository.impliedVolatility(
+            prices[i], FORWARDS[i], STRIKES[i], TIMES[i], 0d, 1d, PutCall.ofPut(!IS_CALLS[i]));
+        assertThat(test[i]).isCloseTo(scalar, offset(1e-9));
+      } else {
+        double[] repriced = new double[1];
+        BatchNormalFormulaRepository.price(
+            new double[] {FORWARDS[i]}, new double[] {STRIKES[i]}, new double[] {TIMES[i]},
+            new double[] {test[i]}, new boolean[] {IS_CALLS[i]}, repriced);
+        assertThat(repriced[0]).isCloseTo(prices[i], offset(1e-15));
+      }
+    }
+  }
+
+  @Test
+  public void test_impliedVolatility_invalid() {
+    double[] test = new double[2];
+    BatchNormalFormulaRepository.impliedVolatility(
+        new double[] {0.001, 0.001},
+        new double[] {0.02, 0.02},
+        new double[] {0.01, 0.02},
+        new double[] {1, 0},
+        new boolean[] {true, true},
+        test);
+    assertThat(test[0]).isNaN();
+    assertThat(test[1]).isNaN();
+  }
+
+}
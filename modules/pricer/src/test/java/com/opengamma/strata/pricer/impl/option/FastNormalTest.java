@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.option;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.data.Offset.offset;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.math.impl.statistics.distribution.NormalDistribution;
+
+/**
+ * Test {@link FastNormal}.
+ */
+public class FastNormalTest {
+
+  private static final NormalDistribution NORMAL = new NormalDistribution(0, 1);
+
+  @Test
+  public void test_pdf() {
+    for (double x = -10; x <= 10; x += 0.01) {
+      assertThat(FastNormal.pdf(x)).isCloseTo(NORMAL.getPDF(x), offset(1e-15));
+    }
+  }
+
+  @Test
+  public void test_cdf() {
+    for (double x = -38; x <= 38; x += 0.001) {
+      double expected = NORMAL.getCDF(x);
+      assertThat(FastNormal.cdf(x)).isCloseTo(expected, offset(x < 0 ? 1e-300 + 1e-12 * expected : 1e-15));
+    }
+    assertThat(FastNormal.cdf(0)).isEqualTo(0.5);
+    assertThat(FastNormal.cdf(-40)).isEqualTo(0d);
+    assertThat(FastNormal.cdf(40)).isEqualTo(1d);
+  }
+
+  @Test
+  public void test_inverseCdf() {
+    for (double p = 1e-300; p < 0.5; p *= 1.5) {
+      double expected = NORMAL.getInverseCDF(p);
+      double test = FastNormal.inverseCdf(p);
+      assertThat(test).isCloseTo(expected, offset(1e-12 * Math.max(1, Math.abs(expected))));
+      assertThat(FastNormal.cdf(test)).isCloseTo(p, offset(1e-12 * p));
+    }
+    for (double p = 0.0001; p < 1; p += 0.0001) {
+      double expected = NORMAL.getInverseCDF(p);
+      assertThat(FastNormal.inverseCdf(p)).isCloseTo(expected, offset(1e-12 * Math.max(1, Math.abs(expected))));
+    }
+  }
+
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.pricer.impl.option;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.data.Offset.offset;
+
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.product.common.PutCall;
+
+/**
+ * Test {@link HouseholderImpliedVolatilitySolver}.
+ */
+public class HouseholderImpliedVolatilitySolverTest {
+
+  private static final double[] BLACK_STRIKES = {0.01, 0.2, 0.5, 0.8, 0.95, 0.999, 1, 1.001, 1.05, 1.3, 2, 5, 50};
+  private static final double[] BLACK_VOLS = {0.001, 0.01, 0.05, 0.2, 0.5, 1, 2, 4};
+  private static final double[] NORMAL_STRIKES = {-0.5, -0.05, 0, 0.009, 0.01, 0.0101, 0.02, 0.1, 1};
+  private static final double[] NORMAL_VOLS = {1e-5, 1e-4, 0.001, 0.01, 0.05, 0.5};
+  private static final double[] TIMES = {1e-4, 0.01, 0.1, 1, 5, 30};
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_black_extremes() {
+    double forward = 1d;
+    for (double strike : BLACK_STRIKES) {
+      for (double time : TIMES) {
+        for (double vol : BLACK_VOLS) {
+          for (boolean isCall : new boolean[] {true, false}) {
+            double price = BlackFormulaRepository.price(forward, strike, time, vol, isCall);
+            double vega = BlackFormulaRepository.vega(forward, strike, time, vol);
+            double intrinsic = Math.max((isCall ? 1 : -1) * (forward - strike), 0);
+            // the accuracy is limited by the precision of the price
+            double tol = Math.max(1e-12 * vol, 1e-14 * forward / vega);
+            if (price - intrinsic < 1e-200 || tol > 1e-3 * vol) {
+              continue;
+            }
+            double test = HouseholderImpliedVolatilitySolver.blackImpliedVolatility(
+                price, forward, strike, time, isCall);
+            assertThat(test).isCloseTo(vol, offset(tol));
+            double existing = BlackFormulaRepository.impliedVolatility(price, forward, strike, time, isCall);
+            assertThat(test).isCloseTo(existing, offset(Math.max(1e-6 * vol, 1e-12 / vega)));
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void test_black_batch() {
+    double[] prices = {0.05, 0.3, 1e-20, 0.4999, 0.1};
+    double[] forwards = {1, 1, 1, 1, 1};
+    double[] strikes = {1.1, 0.8, 3, 0.5, 1};
+    double[] times = {1, 2, 0.5, 10, 1};
+    boolean[] isCalls = {true, true, true, false, false};
+    double[] test = new double[5];
+    HouseholderImpliedVolatilitySolver.blackImpliedVolatility(prices, forwards, strikes, times, isCalls, test);
+    for (int i = 0; i < test.length; i++) {
+      double expected = BlackFormulaRepository.impliedVolatility(
+          prices[i], forwards[i], strikes[i], times[i], isCalls[i]);
+      assertThat(test[i]).isCloseTo(expected, offset(1e-8));
+      assertThat(BlackFormulaRepository.price(forwards[i], strikes[i], times[i], test[i], isCalls[i]))
+          .isCloseTo(prices[i], offset(1e-14 + 1e-12 * prices[i]));
+    }
+  }
+
+  @Test
+  public void test_black_deepOutOfTheMoney() {
+    // the price is either matched or the result is NaN, never an unconverged volatility
+    double[] strikes = {1e-8, 1e-4, 0.5, 0.99, 1.01, 2, 100, 1e8};
+    double[] otmPrices = {Double.MIN_VALUE, 1e-320, 1e-310, 1e-300, 1e-100};
+    for (double strike : strikes) {
+      for (double otmPrice : otmPrices) {
+        boolean isCall = strike > 1;
+        double test = HouseholderImpliedVolatilitySolver.blackImpliedVolatility(otmPrice, 1, strike, 1, isCall);
+        if (!Double.isNaN(test)) {
+          // subnormal prices carry fewer significant bits
+          assertThat(BlackFormulaRepository.price(1, strike, 1, test, isCall))
+              .isCloseTo(otmPrice, offset(1e-6 * otmPrice));
+        }
+      }
+      // prices that can be represented are solved
+      boolean isCall = strike > 1;
+      double test = HouseholderImpliedVolatilitySolver.blackImpliedVolatility(1e-300, 1, strike, 1, isCall);
+      assertThat(BlackFormulaRepository.price(1, strike, 1, test, isCall)).isCloseTo(1e-300, offset(1e-306));
+    }
+    // previously returned after doubling the initial guess, with a price wrong by many orders of magnitude
+    assertThat(HouseholderImpliedVolatilitySolver.blackImpliedVolatility(Double.MIN_VALUE, 1, 2, 1, true)).isNaN();
+    assertThat(HouseholderImpliedVolatilitySolver.blackImpliedVolatility(1e-320, 1, 1e4, 1, true)).isNaN();
+  }
+
+  @Test
+  public void test_black_nearIntrinsic() {
+    for (double strike : new double[] {0.5, 0.9, 1.1, 2}) {
+      boolean isCall = strike < 1;
+      double intrinsic = Math.abs(1 - strike);
+      for (double vol : new double[] {1e-3, 0.01, 0.05}) {
+        double price = BlackFormulaRepository.price(1, strike, 1, vol, isCall);
+        double test = HouseholderImpliedVolatilitySolver.blackImpliedVolatility(price, 1, strike, 1, isCall);
+        if (price > intrinsic) {
+          assertThat(test).isCloseTo(vol, offset(1e-6 * vol));
+        } else {
+          assertThat(test).isEqualTo(0d);
+        }
+      }
+      // the price of the out-of-the-money option is close to the maximum
+      double max = Math.min(1, strike);
+      double test = HouseholderImpliedVolatilitySolver.blackImpliedVolatility(max * (1 - 1e-16), 1, strike, 1, !isCall);
+      assertThat(Double.isNaN(test) || test > 10).isTrue();
+    }
+    // a price within rounding of the maximum previously returned infinity
+    assertThat(HouseholderImpliedVolatilitySolver.blackImpliedVolatility(0.01 * (1 - 1e-16), 1, 0.01, 1, false))
+        .isNaN();
+  }
+
+  @Test
+  public void test_black_invalid() {
+    assertThat(HouseholderImpliedVolatilitySolver.blackImpliedVolatility(0.25, 1, 0.75, 1, true)).isEqualTo(0d);
+    assertThat(HouseholderImpliedVolatilitySolver.blackImpliedVolatility(0.1, 1, 0.8, 1, true)).isNaN();
+    assertThat(HouseholderImpliedVolatilitySolver.blackImpliedVolatility(1.2, 1, 0.8, 1, true)).isNaN();
+    assertThat(HouseholderImpliedVolatilitySolver.blackImpliedVolatility(0.1, 1, 0.8, 0, true)).isNaN();
+    assertThat(HouseholderImpliedVolatilitySolver.blackImpliedVolatility(Double.NaN, 1, 0.8, 1, true)).isNaN();
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_normal_extremes() {
+    double forward = 0.01;
+    for (double strike : NORMAL_STRIKES) {
+      for (double time : TIMES) {
+        for (double vol : NORMAL_VOLS) {
+          for (boolean isCall : new boolean[] {true, false}) {
+            PutCall putCall = PutCall.ofPut(!isCall);
+            double price = NormalFormulaRepository.price(forward, strike, time, vol, putCall);
+            double vega = NormalFormulaRepository.vega(forward, strike, time, vol, putCall);
+            double intrinsic = Math.max((isCall ? 1 : -1) * (forward - strike), 0);
+            // the accuracy is limited by the precision of the price
+            double tol = Math.max(1e-12 * vol, 1e-15 * Math.max(price, forward) / vega);
+            if (price - intrinsic < 1e-200 || tol > 1e-3 * vol) {
+              continue;
+            }
+            double test = HouseholderImpliedVolatilitySolver.normalImpliedVolatility(
+                price, forward, strike, time, isCall);
+            assertThat(test).isCloseTo(vol, offset(tol));
+            double existing = NormalFormulaRepository.impliedVolatility(price, forward, strike, time, vol, 1d, putCall);
+            assertThat(test).isCloseTo(existing, offset(Math.max(1e-6 * vol, 1e-12 / vega)));
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void test_normal_batch() {
+    double[] prices = {0.005, 0.03, 1e-20, 0.0101, 0.002};
+    double[] forwards = {0.01, 0.01, 0.01, 0.01, 0.01};
+    double[] strikes = {0.02, -0.01, 0.1, 0, 0.01};
+    double[] times = {1, 2, 0.5, 10, 1};
+    boolean[] isCalls = {true, true, true, true, false};
+    double[] test = new double[5];
+    HouseholderImpliedVolatilitySolver.normalImpliedVolatility(prices, forwards, strikes, times, isCalls, test);
+    for (int i = 0; i < test.length; i++) {
+      PutCall putCall = PutCall.ofPut(!isCalls[i]);
+      double expected = NormalFormulaRepository.impliedVolatility(
+          prices[i], forwards[i], strikes[i], times[i], 0.01, 1d, putCall);
+      assertThat(test[i]).isCloseTo(expected, offset(1e-8 * expected));
+      assertThat(NormalFormulaRepository.price(forwards[i], strikes[i], times[i], test[i], putCall))
+          .isCloseTo(prices[i], offset(1e-17 + 1e-12 * prices[i]));
+    }
+  }
+
+  @Test
+  public void test_normal_deepOutOfTheMoney() {
+    double[] strikes = {-1, 0.02, 0.5, 5};
+    double[] otmPrices = {Double.MIN_VALUE, 1e-310, 1e-300, 1e-100, 1e-10};
+    for (double strike : strikes) {
+      for (double otmPrice : otmPrices) {
+        boolean isCall = strike > 0.01;
+        PutCall putCall = PutCall.ofPut(!isCall);
+        double test = HouseholderImpliedVolatilitySolver.normalImpliedVolatility(otmPrice, 0.01, strike, 1, isCall);
+        if (!Double.isNaN(test)) {
+          assertThat(NormalFormulaRepository.price(0.01, strike, 1, test, putCall))
+              .isCloseTo(otmPrice, offset(1e-9 * otmPrice));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void test_normal_invalid() {
+    assertThat(HouseholderImpliedVolatilitySolver.normalImpliedVolatility(0.01, 0.02, 0.01, 1, true)).isEqualTo(0d);
+    assertThat(HouseholderImpliedVolatilitySolver.normalImpliedVolatility(0.005, 0.02, 0.01, 1, true)).isNaN();
+    assertThat(HouseholderImpliedVolatilitySolver.normalImpliedVolatility(0.015, 0.02, 0.01, 0, true)).isNaN();
+    assertThat(HouseholderImpliedVolatilitySolver.normalImpliedVolatility(Double.NaN, 0.02, 0.01, 1, true)).isNaN();
+  }
+
+  @Test
+  public void test_sizes() {
+    assertThatIllegalArgumentException().isThrownBy(() -> HouseholderImpliedVolatilitySolver.blackImpliedVolatility(
+        new double[1], new double[1], new double[1], new double[1], new boolean[1], new double[2]));
+    assertThatIllegalArgumentException().isThrownBy(() -> HouseholderImpliedVolatilitySolver.normalImpliedVolatility(
+        new double[1], new double[1], new double[2], new double[1], new boolean[1], new double[1]));
+  }
+
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.report.cashflow;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.array.DoubleArray;
+
+/**
+ * Cash flows aggregated by currency and payment date bucket, as used for liquidity reporting.
+ * <p>
+ * The buckets are defined by a sorted list of end dates.
+ * Bucket zero contains cash flows paid on or before the first end date.
+ * Bucket {@code i} contains cash flows paid after end date {@code i - 1} and on or before end date {@code i}.
+ * The final bucket, at index {@code bucketEnds.size()}, contains cash flows paid after the last end date.
+ * <p>
+ * Instances are created by {@link CashFlowExtractor#aggregate}.
+ * This class is immutable and thread-safe.
+ */
+public final class CashFlowBuckets {
+
+  /**
+   * The end dates of the buckets, inclusive.
+   */
+  private final ImmutableList<LocalDate> bucketEnds;
+  /**
+   * The sum of the forecast values in each bucket, keyed by currency.
+   */
+  private final ImmutableMap<Currency, DoubleArray> forecastValues;
+  /**
+   * The sum of the present values in each bucket, keyed by currency.
+   */
+  private final ImmutableMap<Currency, DoubleArray> presentValues;
+
+  // restricted constructor
+  private CashFlowBuckets(
+      ImmutableList<LocalDate> bucketEnds,
+      ImmutableMap<Currency, DoubleArray> forecastValues,
+      ImmutableMap<Currency, DoubleArray> presentValues) {
+
+    this.bucketEnds = bucketEnds;
+    this.forecastValues = forecastValues;
+    this.presentValues = presentValues;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the end dates of the buckets, inclusive.
+   *
+   * @return the end dates
+   */
+  public ImmutableList<LocalDate> getBucketEnds() {
+    return bucketEnds;
+  }
+
+  /**
+   * Gets the number of buckets, which is one more than the number of end dates.
+   *
+   * @return the number of buckets
+   */
+  public int getBucketCount() {
+    return bucketEnds.size() + 1;
+  }
+
+  /**
+   * Gets the currencies of the cash flows.
+   *
+   * @return the currencies
+   */
+  public ImmutableSet<Currency> getCurrencies() {
+    return forecastValues.keySet();
+  }
+
+  /**
+   * Gets the sum of the forecast values in each bucket for the currency.
+   *
+   * @param currency  the currency
+   * @return the forecast values, indexed by bucket, zero if there are no cash flows in the currency
+   */
+  public DoubleArray getForecastValues(Currency currency) {
+    return forecastValues.getOrDefault(currency, DoubleArray.filled(getBucketCount()));
+  }
+
+  /**
+   * Gets the sum of the present values in each bucket for the currency.
+   *
+   * @param currency  the currency
+   * @return the present values, indexed by bucket, zero if there are no cash flows in the currency
+   */
+  public DoubleArray getPresentValues(Currency currency) {
+    return presentValues.getOrDefault(currency, DoubleArray.filled(getBucketCount()));
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public String toString() {
+    return Messages.format("CashFlowBuckets[bucketEnds={}, currencies={}]", bucketEnds, getCurrencies());
+  }
+
+  //-------------------------------------------------------------------------
+  // a mutable accumulator of cash flows, which is not thread-safe
+  static final class Accumulator implements CashFlowSink {
+    private final ImmutableList<LocalDate> bucketEnds;
+    private final Map<Currency, double[]> forecastValues = new TreeMap<>();
+    private final Map<Currency, double[]> presentValues = new TreeMap<>();
+
+    Accumulator(List<LocalDate> bucketEnds) {
+      this.bucketEnds = ImmutableList.copyOf(bucketEnds);
+      for (int i = 1; i < bucketEnds.size(); i++) {
+        ArgChecker.isTrue(
+            bucketEnds.get(i - 1).isBefore(bucketEnds.get(i)),
+            "Bucket end dates must be in ascending order: {}",
+            bucketEnds);
+      }
+    }
+
+    @Override
+    public void cashFlow(
+        int rowIndex,
+        int scenarioIndex,
+        LocalDate paymentDate,
+        Currency currency,
+        double forecastValue,
+        double discountFactor) {
+
+      int bucket = bucketIndex(paymentDate);
+      forecastValues.computeIfAbsent(currency, k -> new double[bucketEnds.size() + 1])[bucket] += forecastValue;
+      presentValues.computeIfAbsent(currency, k -> new double[bucketEnds.size() + 1])[bucket] +=
+          forecastValue * discountFactor;
+    }
+
+    // finds the bucket of the payment date
+    private int bucketIndex(LocalDate paymentDate) {
+      int index = Collections.binarySearch(bucketEnds, paymentDate);
+      return index >= 0 ? index : -index - 1;
+    }
+
+    // combines the other accumulator into this one
+    void combine(Accumulator other) {
+      combine(forecastValues, other.forecastValues);
+      combine(presentValues, other.presentValues);
+    }
+
+    private static void combine(Map<Currency, double[]> map, Map<Currency, double[]> other) {
+      other.forEach((currency, values) -> {
+        double[] existing = map.putIfAbsent(currency, values);
+        if (existing != null) {
+          for (int i = 0; i < existing.length; i++) {
+            existing[i] += values[i];
+          }
+        }
+      });
+    }
+
+    // creates the immutable result
+    CashFlowBuckets toBuckets() {
+      return new CashFlowBuckets(bucketEnds, toImmutable(forecastValues), toImmutable(presentValues));
+    }
+
+    private static ImmutableMap<Currency, DoubleArray> toImmutable(Map<Currency, double[]> map) {
+      ImmutableMap.Builder<Currency, DoubleArray> builder = ImmutableMap.builder();
+      map.forEach((currency, values) -> builder.put(currency, DoubleArray.ofUnsafe(values)));
+      return builder.build();
+    }
+  }
+
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.report.cashflow;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+
+import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.calc.Results;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.result.Failure;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.data.scenario.ScenarioArray;
+import com.opengamma.strata.market.amount.CashFlow;
+import com.opengamma.strata.market.amount.CashFlows;
+import com.opengamma.strata.measure.Measures;
+import com.opengamma.strata.report.ReportCalculationResults;
+import com.opengamma.strata.report.ReportRequirements;
+
+/**
+ * Extracts cash flows from calculation results into a sink, without building a report.
+ * <p>
+ * The {@link CashFlowReportRunner} builds a detailed report from the explanation of the present value
+ * of a single trade. By contrast, this extracts the {@linkplain Measures#CASH_FLOWS cash flows} measure,
+ * which the pricers produce as a flat list, for any number of trades.
+ * Each cash flow is passed to a {@link CashFlowSink} as primitive values.
+ * <p>
+ * The rows of the results are processed in order, unless an executor is specified, in which case
+ * blocks of rows are submitted to the executor, allowing the caller to control the parallelism.
+ * Cash flows may also be aggregated by currency and payment date bucket for liquidity reporting.
+ * The results may contain a {@code CashFlows} or a {@code ScenarioArray} of {@code CashFlows} for each row.
+ * Rows that failed are passed to {@link CashFlowSink#failure}.
+ */
+public final class CashFlowExtractor {
+
+  /**
+   * The column of the cash flows measure.
+   */
+  private static final Column COLUMN = Column.of(Measures.CASH_FLOWS);
+  /**
+   * The number of rows in each block submitted to an executor.
+   */
+  private static final int BLOCK_SIZE = 256;
+
+  // restricted constructor
+  private CashFlowExtractor() {
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the requirements of the extraction.
+   * <p>
+   * This is the cash flows measure.
+   *
+   * @return the requirements
+   */
+  public static ReportRequirements requirements() {
+    return ReportRequirements.of(COLUMN);
+  }
+
+  /**
+   * Extracts the cash flows, processing the rows in order.
+   *
+   * @param calculationResults  the calculation results, containing the cash flows measure
+   * @param sink  the sink to receive the cash flows
+   * @throws IllegalArgumentException if the results do not contain the cash flows measure
+   */
+  public static void extract(ReportCalculationResults calculationResults, CashFlowSink sink) {
+    ArgChecker.notNull(sink, "sink");
+    Results results = calculationResults.getCalculationResults();
+    int columnIndex = columnIndex(calculationResults);
+    for (int rowIndex = 0; rowIndex < results.getRowCount(); rowIndex++) {
+      extractRow(results, rowIndex, columnIndex, sink);
+    }
+  }
+
+  /**
+   * Extracts the cash flows, processing blocks of rows using the executor.
+   * <p>
+   * Each block of rows is submitted to the executor as a separate task.
+   * The cash flows of each row are passed to the sink in order, but the rows may be
+   * processed in any order, by any thread, thus the sink must be thread-safe.
+   *
+   * @param calculationResults  the calculation results, containing the cash flows measure
+   * @param sink  the thread-safe sink to receive the cash flows
+   * @param executor  the executor used to process the blocks of rows
+   * @throws IllegalArgumentException if the results do not contain the cash flows measure
+   */
+  public static void extract(ReportCalculationResults calculationResults, CashFlowSink sink, Executor executor) {
+    ArgChecker.notNull(sink, "sink");
+    ArgChecker.notNull(executor, "executor");
+    Results results = calculationResults.getCalculationResults();
+    int columnIndex = columnIndex(calculationResults);
+    processBlocks(results.getRowCount(), executor, (startRow, endRow) -> {
+      for (int rowIndex = startRow; rowIndex < endRow; rowIndex++) {
+        extractRow(results, rowIndex, columnIndex, sink);
+      }
+      return null;
+    });
+  }
+
+  /**
+   * Aggregates the cash flows of the first scenario by currency and payment date bucket.
+   * <p>
+   * The rows are processed in order. Failed rows are ignored.
+   *
+   * @param calculationResults  the calculation results, containing the cash flows measure
+   * @param bucketEnds  the end dates of the buckets, inclusive, in ascending order
+   * @return the aggregated cash flows
+   * @throws IllegalArgumentException if the results do not contain the cash flows measure,
+   *  or the bucket end dates are not in ascending order
+   */
+  public static CashFlowBuckets aggregate(ReportCalculationResults calculationResults, List<LocalDate> bucketEnds) {
+    return aggregate(calculationResults, bucketEnds, Runnable::run);
+  }
+
+  /**
+   * Aggregates the cash flows of the first scenario by currency and payment date bucket,
+   * processing blocks of rows using the executor.
+   * <p>
+   * Each block of rows is submitted to the executor as a separate task, aggregating into its own buckets.
+   * The buckets of each block are then combined. Failed rows are ignored.
+   *
+   * @param calculationResults  the calculation results, containing the cash flows measure
+   * @param bucketEnds  the end dates of the buckets, inclusive, in ascending order
+   * @param executor  the executor used to process the blocks of rows
+   * @return the aggregated cash flows
+   * @throws IllegalArgumentException if the results do not contain the cash flows measure,
+   *  or the bucket end dates are not in ascending order
+   */
+  public static CashFlowBuckets aggregate(
+      ReportCalculationResults calculationResults,
+      List<LocalDate> bucketEnds,
+      Executor executor) {
+
+    ArgChecker.notNull(bucketEnds, "bucketEnds");
+    ArgChecker.notNull(executor, "executor");
+    Results results = calculationResults.getCalculationResults();
+    int columnIndex = columnIndex(calculationResults);
+    CashFlowBuckets.Accumulator total = new CashFlowBuckets.Accumulator(bucketEnds);
+    List<CashFlowBuckets.Accumulator> blocks = processBlocks(results.getRowCount(), executor, (startRow, endRow) -> {
+      CashFlowBuckets.Accumulator acc = new CashFlowBuckets.Accumulator(bucketEnds);
+      for (int rowIndex = startRow; rowIndex < endRow; rowIndex++) {
+        extractRow(results, rowIndex, columnIndex, (row, scenario, date, ccy, fv, df) -> {
+          if (scenario == 0) {
+            acc.cashFlow(row, scenario, date, ccy, fv, df);
+          }
+        });
+      }
+      return acc;
+    });
+    blocks.forEach(total::combine);
+    return total.toBuckets();
+  }
+
+  //-------------------------------------------------------------------------
+  // processes the rows in blocks using the executor, returning the result of each block in order
+  // a runtime exception thrown when processing a block is rethrown unwrapped
+  private static <T> List<T> processBlocks(
+      int rowCount,
+      Executor executor,
+      BiFunction<Integer, Integer, T> blockFn) {
+
+    List<CompletableFuture<T>> futures = new ArrayList<>();
+    for (int startRow = 0; startRow < rowCount; startRow += BLOCK_SIZE) {
+      int blockStart = startRow;
+      int blockEnd = Math.min(startRow + BLOCK_SIZE, rowCount);
+      futures.add(CompletableFuture.supplyAsync(() -> blockFn.apply(blockStart, blockEnd), executor));
+    }
+    List<T> blockResults = new ArrayList<>(futures.size());
+    for (CompletableFuture<T> future : futures) {
+      try {
+        blockResults.add(future.join());
+      } catch (CompletionException ex) {
+        if (ex.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) ex.getCause();
+        }
+        throw ex;
+      }
+    }
+    return blockResults;
+  }
+
+  // finds the column of the cash flows measure
+  private static int columnIndex(ReportCalculationResults calculationResults) {
+    ArgChecker.notNull(calculationResults, "calculationResults");
+    int columnIndex = calculationResults.getColumns().indexOf(COLUMN);
+    if (columnIndex == -1) {
+      throw new IllegalArgumentException(
+          Messages.format("Unable to find column for required measure '{}' in calculation results",
+              Measures.CASH_FLOWS));
+    }
+    return columnIndex;
+  }
+
+  // extracts the cash flows of a single row
+  private static void extractRow(Results results, int rowIndex, int columnIndex, CashFlowSink sink) {
+    Result<?> result = results.get(rowIndex, columnIndex);
+    if (result.isFailure()) {
+      sink.failure(rowIndex, result.getFailure());
+      return;
+    }
+    Object value = result.getValue();
+    if (value instanceof CashFlows) {
+      extractCashFlows(rowIndex, 0, (CashFlows) value, sink);
+    } else if (value instanceof ScenarioArray && isCashFlowsArray((ScenarioArray<?>) value)) {
+      ScenarioArray<?> array = (ScenarioArray<?>) value;
+      for (int scenarioIndex = 0; scenarioIndex < array.getScenarioCount(); scenarioIndex++) {
+        extractCashFlows(rowIndex, scenarioIndex, (CashFlows) array.get(scenarioIndex), sink);
+      }
+    } else {
+      sink.failure(rowIndex, Failure.of(
+          FailureReason.INVALID,
+          "Expected cash flows for measure '{}' but found: {}",
+          Measures.CASH_FLOWS,
+          value.getClass().getSimpleName()));
+    }
+  }
+
+  // checks if the array contains cash flows
+  private static boolean isCashFlowsArray(ScenarioArray<?> array) {
+    return array.getScenarioCount() == 0 || array.get(0) instanceof CashFlows;
+  }
+
+  // passes each cash flow to the sink
+  private static void extractCashFlows(int rowIndex, int scenarioIndex, CashFlows cashFlows, CashFlowSink sink) {
+    for (CashFlow cashFlow : cashFlows.getCashFlows()) {
+      sink.cashFlow(
+          rowIndex,
+          scenarioIndex,
+          cashFlow.getPaymentDate(),
+          cashFlow.getForecastValue().getCurrency(),
+          cashFlow.getForecastValue().getAmount(),
+          cashFlow.getDiscountFactor());
+    }
+  }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.report.cashflow;
+
+import java.time.LocalDate;
+
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.result.Failure;
+
+/**
+ * A receiver of cash flows extracted from calculation results.
+ * <p>
+ * Each cash flow is passed as a set of primitive values, avoiding the creation of report rows.
+ * See {@link CashFlowExtractor}.
+ * <p>
+ * Implementations used for parallel extraction must be thread-safe.
+ */
+@FunctionalInterface
+public interface CashFlowSink {
+
+  /**
+   * Receives a single cash flow.
+   *
+   * @param rowIndex  the index of the row in the calculation results, typically a trade
+   * @param scenarioIndex  the index of the scenario, zero if the results are not scenario-based
+   * @param paymentDate  the payment date of the cash flow
+   * @param currency  the currency of the cash flow
+   * @param forecastValue  the forecast value of the cash flow
+   * @param discountFactor  the discount factor at the payment date
+   */
+  public abstract void cashFlow(
+      int rowIndex,
+      int scenarioIndex,
+      LocalDate paymentDate,
+      Currency currency,
+      double forecastValue,
+      double discountFactor);
+
+  /**
+   * Receives the failure of a row, where the cash flows could not be calculated.
+   * <p>
+   * The default implementation ignores the failure.
+   *
+   * @param rowIndex  the index of the row in the calculation results
+   * @param failure  the failure
+   */
+  public default void failure(int rowIndex, Failure failure) {
+  }
+
+}
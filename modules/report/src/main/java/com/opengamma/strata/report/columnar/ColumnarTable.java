@@ -0,0 +1,580 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.report.columnar;
+
+import static com.opengamma.strata.report.columnar.ColumnarTableWriter.ABSENT_CODE;
+import static com.opengamma.strata.report.columnar.ColumnarTableWriter.ABSENT_DATE;
+import static com.opengamma.strata.report.columnar.ColumnarTableWriter.HEADER_SIZE;
+import static com.opengamma.strata.report.columnar.ColumnarTableWriter.MAGIC;
+import static com.opengamma.strata.report.columnar.ColumnarTableWriter.SUCCESS;
+import static com.opengamma.strata.report.columnar.ColumnarTableWriter.VERSION;
+import static com.opengamma.strata.report.columnar.ColumnarTableWriter.align;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.ByteSource;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Messages;
+import com.opengamma.strata.collect.array.DoubleArray;
+
+/**
+ * A table of calculation results in columnar binary format.
+ * <p>
+ * This reads tables written by {@link ColumnarTableWriter}.
+ * Only the header and table of contents are decoded when the table is opened.
+ * When opened from a file, the blocks of each column are memory-mapped separately, thus the file
+ * may be larger than 2Gb, and only the pages holding the columns and scenarios that are read
+ * are loaded by the operating system.
+ * <p>
+ * Rows are identified by zero-based index, columns by name.
+ * Absent values are returned as NaN or an empty optional, as are the values of failed rows.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class ColumnarTable {
+
+  /**
+   * The maximum size of a mapped segment of a block.
+   */
+  private static final int MAX_SEGMENT_SIZE = Integer.MAX_VALUE;
+
+  /**
+   * The number of rows.
+   */
+  private final int rowCount;
+  /**
+   * The columns, keyed by name.
+   */
+  private final ImmutableMap<String, ColumnInfo> columns;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Opens a table from the specified file, memory-mapping the blocks of each column.
+   *
+   * @param file  the file to open
+   * @return the table
+   * @throws IllegalArgumentException if the file is not a valid table
+   * @throws UncheckedIOException if an IO error occurs
+   */
+  public static ColumnarTable of(Path file) {
+    return of(file, MAX_SEGMENT_SIZE);
+  }
+
+  // opens a table from the file, mapping blocks in segments no larger than the specified size
+  // package-scoped for testing
+  static ColumnarTable of(Path file, int maxSegmentSize) {
+    ArgChecker.notNull(file, "file");
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      // a mapping remains valid once the channel is closed
+      return of(channel.size(), (offset, length) -> channel.map(FileChannel.MapMode.READ_ONLY, offset, length),
+          maxSegmentSize);
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  /**
+   * Opens a table from the specified source, reading the source into memory.
+   *
+   * @param source  the source of the table
+   * @return the table
+   * @throws IllegalArgumentException if the source is not a valid table
+   * @throws UncheckedIOException if an IO error occurs
+   */
+  public static ColumnarTable of(ByteSource source) {
+    ArgChecker.notNull(source, "source");
+    try {
+      ByteBuffer buffer = ByteBuffer.wrap(source.read());
+      return of(buffer.limit(), (offset, length) -> slice(buffer, offset, length), MAX_SEGMENT_SIZE);
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  // decodes the header and table of contents, then maps the blocks of each column
+  private static ColumnarTable of(long size, Mapper mapper, int maxSegmentSize) throws IOException {
+    if (size < HEADER_SIZE) {
+      throw new IllegalArgumentException("Invalid columnar table, header is incomplete");
+    }
+    ByteBuffer header = mapper.map(0, HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    if (header.getInt(0) != MAGIC) {
+      throw new IllegalArgumentException("Invalid columnar table, header does not start with the expected bytes");
+    }
+    int version = header.getInt(4);
+    if (version != VERSION) {
+      throw new IllegalArgumentException(Messages.format("Unsupported columnar table format version: {}", version));
+    }
+    int rowCount = header.getInt(8);
+    int columnCount = header.getInt(12);
+    int tocLength = header.getInt(16);
+    if (rowCount < 0 || columnCount < 0 || tocLength < 0) {
+      throw new IllegalArgumentException("Invalid columnar table, header is corrupt");
+    }
+    long dataStart = align(HEADER_SIZE + (long) tocLength);
+    ByteBuffer toc = mapper.map(HEADER_SIZE, Math.min(tocLength, size - HEADER_SIZE)).order(ByteOrder.LITTLE_ENDIAN);
+    try {
+      Map<String, ColumnInfo> columns = new LinkedHashMap<>();
+      for (int i = 0; i < columnCount; i++) {
+        String name = readString(toc);
+        ColumnarValueType type = ColumnarValueType.ofCode(toc.getInt());
+        int scenarioCount = toc.getInt();
+        ImmutableList<String> dictionary = readStrings(toc);
+        ImmutableList<String> failures = readStrings(toc);
+        long statusOffset = dataStart + toc.getLong();
+        long codesOffset = dataStart + toc.getLong();
+        long valuesOffset = dataStart + toc.getLong();
+        if (scenarioCount < 1) {
+          throw new IllegalArgumentException(
+              Messages.format("Invalid columnar table, column '{}' has no scenarios", name));
+        }
+        int codesPerRow = type == ColumnarValueType.CURRENCY_AMOUNT ? 1 : type.isNumeric() ? 0 : scenarioCount;
+        int valuesPerRow = type.isNumeric() ? scenarioCount : 0;
+        if (!fits(statusOffset, rowCount, 4, size) ||
+            !fits(codesOffset, rowCount, codesPerRow * 4L, size) ||
+            !fits(valuesOffset, rowCount, valuesPerRow * 8L, size)) {
+          throw new IllegalArgumentException(Messages.format("Invalid columnar table, column '{}' is incomplete", name));
+        }
+        ColumnInfo info = new ColumnInfo(
+            type,
+            scenarioCount,
+            dictionary,
+            failures,
+            Block.map(mapper, statusOffset, rowCount, 4, maxSegmentSize),
+            Block.map(mapper, codesOffset, codesPerRow == 0 ? 0 : rowCount, codesPerRow * 4L, maxSegmentSize),
+            Block.map(mapper, valuesOffset, valuesPerRow == 0 ? 0 : rowCount, valuesPerRow * 8L, maxSegmentSize));
+        if (columns.putIfAbsent(name, info) != null) {
+          throw new IllegalArgumentException(Messages.format("Invalid columnar table, column '{}' is duplicated", name));
+        }
+      }
+      return new ColumnarTable(rowCount, ImmutableMap.copyOf(columns));
+    } catch (BufferUnderflowException | NegativeArraySizeException ex) {
+      throw new IllegalArgumentException("Invalid columnar table, unexpected end of data", ex);
+    }
+  }
+
+  // checks if a block of rows lies within the data
+  private static boolean fits(long offset, int rowCount, long rowSize, long size) {
+    return offset >= 0 && offset <= size && (rowCount == 0 || rowSize <= (size - offset) / rowCount);
+  }
+
+  // a region of an in-memory buffer
+  private static ByteBuffer slice(ByteBuffer buffer, long offset, long length) {
+    ByteBuffer region = buffer.duplicate();
+    region.position((int) offset);
+    region.limit((int) (offset + length));
+    return region.slice();
+  }
+
+  // reads a string
+  private static String readString(ByteBuffer buf) {
+    byte[] bytes = new byte[buf.getInt()];
+    buf.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  // reads a list of strings
+  private static ImmutableList<String> readStrings(ByteBuffer buf) {
+    int size = buf.getInt();
+    ImmutableList.Builder<String> builder = ImmutableList.builder();
+    for (int i = 0; i < size; i++) {
+      builder.add(readString(buf));
+    }
+    return builder.build();
+  }
+
+  // restricted constructor
+  private ColumnarTable(int rowCount, ImmutableMap<String, ColumnInfo> columns) {
+    this.rowCount = rowCount;
+    this.columns = columns;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the number of rows.
+   *
+   * @return the number of rows
+   */
+  public int getRowCount() {
+    return rowCount;
+  }
+
+  /**
+   * Gets the names of the columns, in the order they were written.
+   *
+   * @return the column names
+   */
+  public ImmutableList<String> getColumnNames() {
+    return columns.keySet().asList();
+  }
+
+  /**
+   * Checks if the table contains a column with the specified name.
+   *
+   * @param columnName  the column name
+   * @return true if the column exists
+   */
+  public boolean containsColumn(String columnName) {
+    return columns.containsKey(columnName);
+  }
+
+  /**
+   * Gets the type of the values in the column.
+   *
+   * @param columnName  the column name
+   * @return the type of the values
+   * @throws IllegalArgumentException if the column is not found
+   */
+  public ColumnarValueType getColumnType(String columnName) {
+    return column(columnName).type;
+  }
+
+  /**
+   * Gets the number of scenarios in the column.
+   * <p>
+   * This is one unless the column holds scenario arrays.
+   *
+   * @param columnName  the column name
+   * @return the number of scenarios
+   * @throws IllegalArgumentException if the column is not found
+   */
+  public int getScenarioCount(String columnName) {
+    return column(columnName).scenarioCount;
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Checks if the result of a row was successful.
+   *
+   * @param columnName  the column name
+   * @param rowIndex  the row index
+   * @return true if the result was successful
+   * @throws IllegalArgumentException if the column is not found
+   * @throws IndexOutOfBoundsException if the row index is invalid
+   */
+  public boolean isSuccess(String columnName, int rowIndex) {
+    return status(column(columnName), rowIndex) == SUCCESS;
+  }
+
+  /**
+   * Finds the failure message of a row.
+   *
+   * @param columnName  the column name
+   * @param rowIndex  the row index
+   * @return the failure message, empty if the result was successful
+   * @throws IllegalArgumentException if the column is not found
+   * @throws IndexOutOfBoundsException if the row index is invalid
+   */
+  public Optional<String> findFailureMessage(String columnName, int rowIndex) {
+    ColumnInfo column = column(columnName);
+    int status = status(column, rowIndex);
+    return status == SUCCESS ? Optional.empty() : Optional.of(column.failures.get(status));
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Gets the values of a single scenario for all rows.
+   * <p>
+   * The column must be of type {@code DOUBLE} or {@code CURRENCY_AMOUNT}.
+   * Only the values of the scenario are read.
+   *
+   * @param columnName  the column name
+   * @param scenarioIndex  the scenario index
+   * @return the values, indexed by row, NaN where absent
+   * @throws IllegalArgumentException if the column is not found or not numeric
+   * @throws IndexOutOfBoundsException if the scenario index is invalid
+   */
+  public DoubleArray getValues(String columnName, int scenarioIndex) {
+    ColumnInfo column = numericColumn(columnName);
+    checkScenario(column, scenarioIndex);
+    double[] values = new double[rowCount];
+    if (column.scenarioCount == 1) {
+      column.values.getAll(values);
+    } else {
+      for (int row = 0; row < rowCount; row++) {
+        values[row] = column.values.getDouble(row, scenarioIndex);
+      }
+    }
+    return DoubleArray.ofUnsafe(values);
+  }
+
+  /**
+   * Gets the values of all scenarios for a single row.
+   * <p>
+   * The column must be of type {@code DOUBLE} or {@code CURRENCY_AMOUNT}.
+   *
+   * @param columnName  the column name
+   * @param rowIndex  the row index
+   * @return the values, indexed by scenario, NaN where absent
+   * @throws IllegalArgumentException if the column is not found or not numeric
+   * @throws IndexOutOfBoundsException if the row index is invalid
+   */
+  public DoubleArray getScenarioValues(String columnName, int rowIndex) {
+    ColumnInfo column = numericColumn(columnName);
+    checkRow(rowIndex);
+    double[] values = new double[column.scenarioCount];
+    column.values.getRow(rowIndex, values);
+    return DoubleArray.ofUnsafe(values);
+  }
+
+  /**
+   * Gets a single value.
+   * <p>
+   * The column must be of type {@code DOUBLE} or {@code CURRENCY_AMOUNT}.
+   *
+   * @param columnName  the column name
+   * @param rowIndex  the row index
+   * @param scenarioIndex  the scenario index
+   * @return the value, NaN if absent
+   * @throws IllegalArgumentException if the column is not found or not numeric
+   * @throws IndexOutOfBoundsException if the row or scenario index is invalid
+   */
+  public double getValue(String columnName, int rowIndex, int scenarioIndex) {
+    ColumnInfo column = numericColumn(columnName);
+    checkRow(rowIndex);
+    checkScenario(column, scenarioIndex);
+    return column.values.getDouble(rowIndex, scenarioIndex);
+  }
+
+  /**
+   * Finds the currency of a row.
+   * <p>
+   * The column must be of type {@code CURRENCY_AMOUNT}.
+   *
+   * @param columnName  the column name
+   * @param rowIndex  the row index
+   * @return the currency, empty if absent
+   * @throws IllegalArgumentException if the column is not found or not of the correct type
+   * @throws IndexOutOfBoundsException if the row index is invalid
+   */
+  public Optional<Currency> findCurrency(String columnName, int rowIndex) {
+    ColumnInfo column = typedColumn(columnName, ColumnarValueType.CURRENCY_AMOUNT);
+    checkRow(rowIndex);
+    int code = column.codes.getInt(rowIndex, 0);
+    return code == ABSENT_CODE ? Optional.empty() : Optional.of(Currency.of(column.dictionary.get(code)));
+  }
+
+  /**
+   * Finds a date.
+   * <p>
+   * The column must be of type {@code DATE}.
+   *
+   * @param columnName  the column name
+   * @param rowIndex  the row index
+   * @param scenarioIndex  the scenario index
+   * @return the date, empty if absent
+   * @throws IllegalArgumentException if the column is not found or not of the correct type
+   * @throws IndexOutOfBoundsException if the row or scenario index is invalid
+   */
+  public Optional<LocalDate> findDate(String columnName, int rowIndex, int scenarioIndex) {
+    ColumnInfo column = typedColumn(columnName, ColumnarValueType.DATE);
+    int epochDay = code(column, rowIndex, scenarioIndex);
+    return epochDay == ABSENT_DATE ? Optional.empty() : Optional.of(LocalDate.ofEpochDay(epochDay));
+  }
+
+  /**
+   * Finds a text value.
+   * <p>
+   * The column must be of type {@code TEXT}.
+   *
+   * @param columnName  the column name
+   * @param rowIndex  the row index
+   * @param scenarioIndex  the scenario index
+   * @return the text, empty if absent
+   * @throws IllegalArgumentException if the column is not found or not of the correct type
+   * @throws IndexOutOfBoundsException if the row or scenario index is invalid
+   */
+  public Optional<String> findText(String columnName, int rowIndex, int scenarioIndex) {
+    ColumnInfo column = typedColumn(columnName, ColumnarValueType.TEXT);
+    int code = code(column, rowIndex, scenarioIndex);
+    return code == ABSENT_CODE ? Optional.empty() : Optional.of(column.dictionary.get(code));
+  }
+
+  //-------------------------------------------------------------------------
+  // finds the column
+  private ColumnInfo column(String columnName) {
+    ColumnInfo column = columns.get(columnName);
+    if (column == null) {
+      throw new IllegalArgumentException(Messages.format("Column not found: {}", columnName));
+    }
+    return column;
+  }
+
+  // finds the column, which must be numeric
+  private ColumnInfo numericColumn(String columnName) {
+    ColumnInfo column = column(columnName);
+    if (!column.type.isNumeric()) {
+      throw new IllegalArgumentException(Messages.format("Column '{}' is not numeric: {}", columnName, column.type));
+    }
+    return column;
+  }
+
+  // finds the column, which must be of the specified type
+  private ColumnInfo typedColumn(String columnName, ColumnarValueType type) {
+    ColumnInfo column = column(columnName);
+    if (column.type != type) {
+      throw new IllegalArgumentException(
+          Messages.format("Column '{}' is of type {}, not {}", columnName, column.type, type));
+    }
+    return column;
+  }
+
+  // reads the status of a row
+  private int status(ColumnInfo column, int rowIndex) {
+    checkRow(rowIndex);
+    return column.status.getInt(rowIndex, 0);
+  }
+
+  // reads the code of a row and scenario
+  private int code(ColumnInfo column, int rowIndex, int scenarioIndex) {
+    checkRow(rowIndex);
+    checkScenario(column, scenarioIndex);
+    return column.codes.getInt(rowIndex, scenarioIndex);
+  }
+
+  // checks the row index
+  private void checkRow(int rowIndex) {
+    if (rowIndex < 0 || rowIndex >= rowCount) {
+      throw new IndexOutOfBoundsException(Messages.format("Row index out of bounds: {}", rowIndex));
+    }
+  }
+
+  // checks the scenario index
+  private void checkScenario(ColumnInfo column, int scenarioIndex) {
+    if (scenarioIndex < 0 || scenarioIndex >= column.scenarioCount) {
+      throw new IndexOutOfBoundsException(Messages.format("Scenario index out of bounds: {}", scenarioIndex));
+    }
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns a string describing the table.
+   *
+   * @return the descriptive string
+   */
+  @Override
+  public String toString() {
+    return Messages.format("ColumnarTable[rows={}, columns={}]", rowCount, columns.keySet());
+  }
+
+  //-------------------------------------------------------------------------
+  // maps a region of the data
+  private interface Mapper {
+    public abstract ByteBuffer map(long offset, long length) throws IOException;
+  }
+
+  // the blocks of a column within the data
+  private static final class ColumnInfo {
+    private final ColumnarValueType type;
+    private final int scenarioCount;
+    private final ImmutableList<String> dictionary;
+    private final ImmutableList<String> failures;
+    private final Block status;
+    private final Block codes;
+    private final Block values;
+
+    private ColumnInfo(
+        ColumnarValueType type,
+        int scenarioCount,
+        ImmutableList<String> dictionary,
+        ImmutableList<String> failures,
+        Block status,
+        Block codes,
+        Block values) {
+
+      this.type = type;
+      this.scenarioCount = scenarioCount;
+      this.dictionary = dictionary;
+      this.failures = failures;
+      this.status = status;
+      this.codes = codes;
+      this.values = values;
+    }
+  }
+
+  // a block of fixed-size rows, mapped in segments of whole rows, little-endian
+  private static final class Block {
+    private final ByteBuffer[] segments;
+    private final int rowsPerSegment;
+    private final int rowSize;
+
+    // maps the block in segments no larger than the maximum size
+    private static Block map(Mapper mapper, long offset, int rowCount, long rowSize, int maxSegmentSize)
+        throws IOException {
+
+      if (rowCount == 0) {
+        return new Block(new ByteBuffer[0], 1, 0);
+      }
+      if (rowSize > maxSegmentSize) {
+        throw new IllegalArgumentException(
+            Messages.format("Columnar table has a row of {} bytes, which is too large to map", rowSize));
+      }
+      int rowsPerSegment = (int) Math.min(rowCount, maxSegmentSize / rowSize);
+      ByteBuffer[] segments = new ByteBuffer[(rowCount - 1) / rowsPerSegment + 1];
+      for (int i = 0; i < segments.length; i++) {
+        int firstRow = i * rowsPerSegment;
+        int rows = Math.min(rowsPerSegment, rowCount - firstRow);
+        segments[i] = mapper.map(offset + firstRow * rowSize, rows * rowSize).order(ByteOrder.LITTLE_ENDIAN);
+      }
+      return new Block(segments, rowsPerSegment, (int) rowSize);
+    }
+
+    private Block(ByteBuffer[] segments, int rowsPerSegment, int rowSize) {
+      this.segments = segments;
+      this.rowsPerSegment = rowsPerSegment;
+      this.rowSize = rowSize;
+    }
+
+    // reads an int of a row
+    private int getInt(int row, int index) {
+      return segments[row / rowsPerSegment].getInt((row % rowsPerSegment) * rowSize + index * 4);
+    }
+
+    // reads a double of a row
+    private double getDouble(int row, int index) {
+      return segments[row / rowsPerSegment].getDouble((row % rowsPerSegment) * rowSize + index * 8);
+    }
+
+    // reads all the doubles of a row
+    private void getRow(int row, double[] values) {
+      ByteBuffer segment = view(segments[row / rowsPerSegment]);
+      segment.position((row % rowsPerSegment) * rowSize);
+      segment.asDoubleBuffer().get(values);
+    }
+
+    // reads all the doubles of the block, which must have one double per row
+    private void getAll(double[] values) {
+      int index = 0;
+      for (ByteBuffer segment : segments) {
+        DoubleBuffer doubles = view(segment).asDoubleBuffer();
+        int count = doubles.remaining();
+        doubles.get(values, index, count);
+        index += count;
+      }
+    }
+
+    // a view of a segment with an independent position
+    private static ByteBuffer view(ByteBuffer segment) {
+      return segment.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    }
+  }
+
+}
@@ -0,0 +1,536 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.report.columnar;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.calc.Results;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
+import com.opengamma.strata.data.scenario.DoubleScenarioArray;
+import com.opengamma.strata.data.scenario.ScenarioArray;
+import com.opengamma.strata.report.trade.TradeReport;
+
+/**
+ * Writes calculation results and trade reports in a columnar binary format.
+ * <p>
+ * The output is read by {@link ColumnarTable}.
+ * Each column of the results is stored as a separate block of primitive values, typed by the
+ * values in the column, see {@link ColumnarValueType}.
+ * Scenario values are stored as fixed-width blocks, one per row, allowing the values of a single
+ * scenario to be read without reading the others.
+ * Currencies and text are dictionary-encoded.
+ * A value that is not a scenario array applies to all scenarios.
+ * <p>
+ * The message of each failure is stored, but the failure reason and causes are not.
+ * Optional values are unwrapped, with an empty optional stored as an absent value.
+ * <p>
+ * The format is little-endian, with each block of values aligned to eight bytes.
+ * The values of each column are encoded as they are written, in fixed-size chunks.
+ * The table of contents at the start describes each column, allowing a reader to load only
+ * the columns and scenarios it uses.
+ */
+public final class ColumnarTableWriter {
+
+  /**
+   * The bytes at the start of the file, 'OGCT'.
+   */
+  static final int MAGIC = 0x4F474354;
+  /**
+   * The version of the format.
+   */
+  static final int VERSION = 1;
+  /**
+   * The size of the header, containing the magic number, version, row count, column count
+   * and length of the table of contents, padded to eight bytes.
+   */
+  static final int HEADER_SIZE = 24;
+  /**
+   * The status of a successful row.
+   */
+  static final int SUCCESS = -1;
+  /**
+   * The dictionary code of an absent value.
+   */
+  static final int ABSENT_CODE = -1;
+  /**
+   * The epoch-day of an absent date.
+   */
+  static final int ABSENT_DATE = Integer.MIN_VALUE;
+  /**
+   * The size of the chunks written to the output.
+   */
+  private static final int CHUNK_SIZE = 64 * 1024;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Writes calculation results.
+   * <p>
+   * The column names are the names of the column headers.
+   * Column names must be unique in the output, thus a repeated name is suffixed by its occurrence,
+   * such as 'PV (2)'.
+   * The output stream is not closed.
+   *
+   * @param results  the results to write
+   * @param out  the output stream to write to
+   * @throws UncheckedIOException if an IO error occurs
+   */
+  public static void write(Results results, OutputStream out) {
+    ArgChecker.notNull(results, "results");
+    ArgChecker.notNull(out, "out");
+    List<String> names = results.getColumns().stream()
+        .map(header -> header.getName().getName())
+        .collect(toImmutableList());
+    write(names, results.getRowCount(), results::get, out);
+  }
+
+  /**
+   * Writes a trade report.
+   * <p>
+   * The column names are the headers of the report.
+   * Column names must be unique in the output, thus a repeated name is suffixed by its occurrence,
+   * such as 'PV (2)'.
+   * The output stream is not closed.
+   *
+   * @param report  the report to write
+   * @param out  the output stream to write to
+   * @throws UncheckedIOException if an IO error occurs
+   */
+  public static void write(TradeReport report, OutputStream out) {
+    ArgChecker.notNull(report, "report");
+    ArgChecker.notNull(out, "out");
+    write(report.getColumnHeaders(), report.getRowCount(), report.getData()::get, out);
+  }
+
+  //-------------------------------------------------------------------------
+  // encodes the columns in parallel, then writes the header, table of contents and columns
+  private static void write(List<String> headers, int rowCount, CellFunction cellFn, OutputStream out) {
+    List<String> names = uniqueNames(headers);
+    List<EncodedColumn> columns = IntStream.range(0, names.size())
+        .parallel()
+        .mapToObj(columnIndex -> encode(names.get(columnIndex), rowCount, columnIndex, cellFn))
+        .collect(toImmutableList());
+    byte[] toc = toc(columns);
+    try {
+      ChunkedOutput output = new ChunkedOutput(out);
+      output.putInt(MAGIC);
+      output.putInt(VERSION);
+      output.putInt(rowCount);
+      output.putInt(columns.size());
+      output.putInt(toc.length);
+      output.pad();
+      output.putBytes(toc);
+      output.pad();
+      for (EncodedColumn column : columns) {
+        column.write(output);
+      }
+      output.flush();
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  // suffixes repeated names by their occurrence, avoiding the other names, as the reader looks up columns by name
+  private static List<String> uniqueNames(List<String> headers) {
+    Set<String> used = new HashSet<>(headers);
+    if (used.size() == headers.size()) {
+      return headers;
+    }
+    Set<String> seen = new HashSet<>();
+    ImmutableList.Builder<String> builder = ImmutableList.builder();
+    for (String header : headers) {
+      String name = header;
+      int occurrence = 1;
+      while (seen.contains(name) || (occurrence > 1 && used.contains(name))) {
+        occurrence++;
+        name = header + " (" + occurrence + ")";
+      }
+      seen.add(name);
+      builder.add(name);
+    }
+    return builder.build();
+  }
+
+  // encodes the table of contents, containing the offset of each block relative to the end of the padded table
+  private static byte[] toc(List<EncodedColumn> columns) {
+    TocOutput toc = new TocOutput();
+    long offset = 0;
+    for (EncodedColumn column : columns) {
+      toc.writeString(column.name);
+      toc.writeInt(column.type.getCode());
+      toc.writeInt(column.scenarioCount);
+      toc.writeStrings(column.dictionary);
+      toc.writeStrings(column.failures);
+      toc.writeLong(offset);
+      offset += align(column.statusLength());
+      toc.writeLong(offset);
+      offset += align(column.codesLength());
+      toc.writeLong(offset);
+      offset += column.valuesLength();
+    }
+    return toc.toByteArray();
+  }
+
+  //-------------------------------------------------------------------------
+  // encodes a single column, leaving the values to be written in chunks
+  private static EncodedColumn encode(String name, int rowCount, int columnIndex, CellFunction cellFn) {
+    int[] status = new int[rowCount];
+    Object[] values = new Object[rowCount];
+    Map<String, Integer> failures = new LinkedHashMap<>();
+    for (int row = 0; row < rowCount; row++) {
+      Result<?> result = cellFn.get(row, columnIndex);
+      if (result != null && result.isFailure()) {
+        status[row] = failures.computeIfAbsent(result.getFailure().getMessage(), k -> failures.size());
+      } else {
+        status[row] = SUCCESS;
+        values[row] = result != null ? unwrap(result.getValue()) : null;
+      }
+    }
+    ColumnarValueType type = type(values);
+    int scenarioCount = 1;
+    for (Object value : values) {
+      if (value instanceof ScenarioArray) {
+        scenarioCount = Math.max(scenarioCount, ((ScenarioArray<?>) value).getScenarioCount());
+      }
+    }
+    Map<String, Integer> dictionary = new LinkedHashMap<>();
+    if (type == ColumnarValueType.CURRENCY_AMOUNT) {
+      for (Object value : values) {
+        currencyCode(value, dictionary);
+      }
+    } else if (type == ColumnarValueType.TEXT) {
+      for (Object value : values) {
+        textCodes(value, dictionary, code -> { });
+      }
+    }
+    return new EncodedColumn(
+        name,
+        type,
+        scenarioCount,
+        dictionary,
+        ImmutableList.copyOf(failures.keySet()),
+        status,
+        values);
+  }
+
+  // unwraps optional values, where an empty optional is absent
+  private static Object unwrap(Object value) {
+    return value instanceof Optional ? ((Optional<?>) value).orElse(null) : value;
+  }
+
+  // determines the type of the column from the values that are present
+  private static ColumnarValueType type(Object[] values) {
+    boolean doubles = true;
+    boolean amounts = true;
+    boolean dates = true;
+    boolean present = false;
+    for (Object value : values) {
+      if (value != null) {
+        present = true;
+        doubles &= value instanceof Double || value instanceof DoubleScenarioArray;
+        amounts &= value instanceof CurrencyAmount || value instanceof CurrencyScenarioArray;
+        dates &= value instanceof LocalDate;
+      }
+    }
+    if (!present) {
+      return ColumnarValueType.TEXT;
+    }
+    return doubles ? ColumnarValueType.DOUBLE :
+        amounts ? ColumnarValueType.CURRENCY_AMOUNT :
+            dates ? ColumnarValueType.DATE :
+                ColumnarValueType.TEXT;
+  }
+
+  // finds the code of the currency of a row, adding to the dictionary if necessary
+  private static int currencyCode(Object value, Map<String, Integer> dictionary) {
+    if (value instanceof CurrencyAmount) {
+      return code(((CurrencyAmount) value).getCurrency().getCode(), dictionary);
+    } else if (value instanceof CurrencyScenarioArray) {
+      return code(((CurrencyScenarioArray) value).getCurrency().getCode(), dictionary);
+    }
+    return ABSENT_CODE;
+  }
+
+  // finds the codes of the string form of the values of a row, adding to the dictionary if necessary
+  // the codes of scenario arrays are provided for each scenario, otherwise the single code is provided once
+  private static void textCodes(Object value, Map<String, Integer> dictionary, IntConsumer consumer) {
+    if (value instanceof ScenarioArray) {
+      ScenarioArray<?> array = (ScenarioArray<?>) value;
+      for (int i = 0; i < array.getScenarioCount(); i++) {
+        Object scenarioValue = array.get(i);
+        consumer.accept(scenarioValue != null ? code(scenarioValue.toString(), dictionary) : ABSENT_CODE);
+      }
+    } else {
+      consumer.accept(value != null ? code(value.toString(), dictionary) : ABSENT_CODE);
+    }
+  }
+
+  // finds or adds the dictionary code
+  private static int code(String str, Map<String, Integer> dictionary) {
+    return dictionary.computeIfAbsent(str, k -> dictionary.size());
+  }
+
+  //-------------------------------------------------------------------------
+  // creates a little-endian buffer
+  private static ByteBuffer buffer(int size) {
+    return ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  // rounds the length up to a multiple of eight
+  static long align(long length) {
+    return (length + 7) & ~7L;
+  }
+
+  //-------------------------------------------------------------------------
+  // restricted constructor
+  private ColumnarTableWriter() {
+  }
+
+  //-------------------------------------------------------------------------
+  // provides the result of a cell, which may be null
+  private interface CellFunction {
+    public abstract Result<?> get(int rowIndex, int columnIndex);
+  }
+
+  // a column, with the status, failures and dictionary encoded
+  private static final class EncodedColumn {
+    private final String name;
+    private final ColumnarValueType type;
+    private final int scenarioCount;
+    private final Map<String, Integer> dictionaryCodes;
+    private final List<String> dictionary;
+    private final List<String> failures;
+    private final int[] status;
+    private final Object[] values;
+
+    private EncodedColumn(
+        String name,
+        ColumnarValueType type,
+        int scenarioCount,
+        Map<String, Integer> dictionaryCodes,
+        List<String> failures,
+        int[] status,
+        Object[] values) {
+
+      this.name = name;
+      this.type = type;
+      this.scenarioCount = scenarioCount;
+      this.dictionaryCodes = dictionaryCodes;
+      this.dictionary = ImmutableList.copyOf(dictionaryCodes.keySet());
+      this.failures = failures;
+      this.status = status;
+      this.values = values;
+    }
+
+    // the length of the status block
+    private long statusLength() {
+      return status.length * 4L;
+    }
+
+    // the length of the codes block, one code per row for currencies, one per scenario for dates and text
+    private long codesLength() {
+      switch (type) {
+        case DOUBLE:
+          return 0;
+        case CURRENCY_AMOUNT:
+          return status.length * 4L;
+        default:
+          return Math.multiplyExact(Math.multiplyExact((long) status.length, scenarioCount), 4L);
+      }
+    }
+
+    // the length of the values block, one value per scenario for doubles and amounts
+    private long valuesLength() {
+      if (!type.isNumeric()) {
+        return 0;
+      }
+      return Math.multiplyExact(Math.multiplyExact((long) status.length, scenarioCount), 8L);
+    }
+
+    // writes the status, codes and values, row-major, each block padded to eight bytes
+    private void write(ChunkedOutput out) throws IOException {
+      for (int rowStatus : status) {
+        out.putInt(rowStatus);
+      }
+      out.pad();
+      if (type == ColumnarValueType.CURRENCY_AMOUNT) {
+        for (Object value : values) {
+          out.putInt(currencyCode(value, dictionaryCodes));
+        }
+      } else if (type == ColumnarValueType.DATE) {
+        for (Object value : values) {
+          int epochDay = value != null ? Math.toIntExact(((LocalDate) value).toEpochDay()) : ABSENT_DATE;
+          out.putInts(epochDay, scenarioCount);
+        }
+      } else if (type == ColumnarValueType.TEXT) {
+        for (Object value : values) {
+          writeTextCodes(value, out);
+        }
+      }
+      out.pad();
+      if (type.isNumeric()) {
+        for (Object value : values) {
+          writeDoubles(value, out);
+        }
+      }
+    }
+
+    // writes the codes of the text of a row, absent beyond the end of a shorter scenario array
+    private void writeTextCodes(Object value, ChunkedOutput out) throws IOException {
+      if (value instanceof ScenarioArray) {
+        ScenarioArray<?> array = (ScenarioArray<?>) value;
+        for (int i = 0; i < array.getScenarioCount(); i++) {
+          Object scenarioValue = array.get(i);
+          out.putInt(scenarioValue != null ? dictionaryCodes.get(scenarioValue.toString()) : ABSENT_CODE);
+        }
+        out.putInts(ABSENT_CODE, scenarioCount - array.getScenarioCount());
+      } else {
+        out.putInts(value != null ? dictionaryCodes.get(value.toString()) : ABSENT_CODE, scenarioCount);
+      }
+    }
+
+    // writes the doubles or amount of a row, NaN where absent
+    private void writeDoubles(Object value, ChunkedOutput out) throws IOException {
+      if (value instanceof Double) {
+        out.putDoubles((Double) value, scenarioCount);
+      } else if (value instanceof CurrencyAmount) {
+        out.putDoubles(((CurrencyAmount) value).getAmount(), scenarioCount);
+      } else if (value instanceof DoubleScenarioArray) {
+        writeDoubles(((DoubleScenarioArray) value).getValues(), out);
+      } else if (value instanceof CurrencyScenarioArray) {
+        writeDoubles(((CurrencyScenarioArray) value).getAmounts().getValues(), out);
+      } else {
+        out.putDoubles(Double.NaN, scenarioCount);
+      }
+    }
+
+    // writes the scenario values, NaN beyond the end of a shorter array
+    private void writeDoubles(DoubleArray array, ChunkedOutput out) throws IOException {
+      for (int i = 0; i < array.size(); i++) {
+        out.putDouble(array.get(i));
+      }
+      out.putDoubles(Double.NaN, scenarioCount - array.size());
+    }
+  }
+
+  // writes little-endian values to the output stream in fixed-size chunks
+  private static final class ChunkedOutput {
+    private final OutputStream out;
+    private final ByteBuffer chunk = buffer(CHUNK_SIZE);
+    private long written;
+
+    private ChunkedOutput(OutputStream out) {
+      this.out = out;
+    }
+
+    private void putInt(int value) throws IOException {
+      ensure(4);
+      chunk.putInt(value);
+    }
+
+    private void putInts(int value, int count) throws IOException {
+      for (int i = 0; i < count; i++) {
+        putInt(value);
+      }
+    }
+
+    private void putDouble(double value) throws IOException {
+      ensure(8);
+      chunk.putDouble(value);
+    }
+
+    private void putDoubles(double value, int count) throws IOException {
+      for (int i = 0; i < count; i++) {
+        putDouble(value);
+      }
+    }
+
+    private void putBytes(byte[] bytes) throws IOException {
+      int index = 0;
+      while (index < bytes.length) {
+        ensure(1);
+        int length = Math.min(chunk.remaining(), bytes.length - index);
+        chunk.put(bytes, index, length);
+        index += length;
+      }
+    }
+
+    // pads with zeros to a multiple of eight bytes
+    private void pad() throws IOException {
+      long position = written + chunk.position();
+      for (long i = position; i < align(position); i++) {
+        ensure(1);
+        chunk.put((byte) 0);
+      }
+    }
+
+    // ensures there is space in the chunk, writing it if necessary
+    private void ensure(int length) throws IOException {
+      if (chunk.remaining() < length) {
+        flush();
+      }
+    }
+
+    private void flush() throws IOException {
+      out.write(chunk.array(), 0, chunk.position());
+      written += chunk.position();
+      chunk.clear();
+    }
+  }
+
+  // writes the little-endian table of contents
+  private static final class TocOutput {
+    private final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    private final ByteBuffer scratch = buffer(8);
+
+    private void writeInt(int value) {
+      scratch.clear();
+      baos.write(scratch.putInt(value).array(), 0, 4);
+    }
+
+    private void writeLong(long value) {
+      scratch.clear();
+      baos.write(scratch.putLong(value).array(), 0, 8);
+    }
+
+    private void writeString(String str) {
+      byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+      writeInt(bytes.length);
+      baos.write(bytes, 0, bytes.length);
+    }
+
+    private void writeStrings(List<String> strs) {
+      writeInt(strs.size());
+      strs.forEach(this::writeString);
+    }
+
+    private byte[] toByteArray() {
+      return baos.toByteArray();
+    }
+  }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.report.columnar;
+
+import com.opengamma.strata.collect.Messages;
+
+/**
+ * The type of the values in a column of a columnar table.
+ * <p>
+ * The code of each type is stored in the table, thus must not be changed.
+ */
+public enum ColumnarValueType {
+
+  /**
+   * Double values, from {@code Double} or {@code DoubleScenarioArray}.
+   * <p>
+   * Each row holds one double for each scenario.
+   */
+  DOUBLE(1),
+  /**
+   * Currency amounts, from {@code CurrencyAmount} or {@code CurrencyScenarioArray}.
+   * <p>
+   * Each row holds a dictionary-encoded currency and one double for each scenario.
+   */
+  CURRENCY_AMOUNT(2),
+  /**
+   * Dates, from {@code LocalDate}.
+   * <p>
+   * Each row holds the date, as an epoch-day, for each scenario.
+   */
+  DATE(3),
+  /**
+   * Text, from the string form of any other value.
+   * <p>
+   * Each row holds the dictionary-encoded text for each scenario.
+   */
+  TEXT(4);
+
+  /**
+   * The code stored in the table.
+   */
+  private final int code;
+
+  // creates an instance
+  private ColumnarValueType(int code) {
+    this.code = code;
+  }
+
+  //-------------------------------------------------------------------------
+  // finds the type matching the code
+  static ColumnarValueType ofCode(int code) {
+    for (ColumnarValueType type : values()) {
+      if (type.code == code) {
+        return type;
+      }
+    }
+    throw new IllegalArgumentException(Messages.format("Invalid columnar table, unknown column type: {}", code));
+  }
+
+  // gets the code stored in the table
+  int getCode() {
+    return code;
+  }
+
+  // checks if the column holds doubles
+  boolean isNumeric() {
+    return this == DOUBLE || this == CURRENCY_AMOUNT;
+  }
+
+}
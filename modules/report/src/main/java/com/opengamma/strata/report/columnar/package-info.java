@@ -0,0 +1,13 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+
+/**
+ * Columnar binary format for calculation results and reports.
+ * <p>
+ * See {@link com.opengamma.strata.report.columnar.ColumnarTableWriter} and
+ * {@link com.opengamma.strata.report.columnar.ColumnarTable}.
+ */
+package com.opengamma.strata.report.columnar;
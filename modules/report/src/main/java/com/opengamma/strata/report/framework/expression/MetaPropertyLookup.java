@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.report.framework.expression;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.joda.beans.Bean;
+import org.joda.beans.DynamicBean;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
+
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * Finds the meta-property of a bean matching a token in an expression.
+ * <p>
+ * Tokens match property names ignoring case.
+ * The properties of each meta-bean are indexed by lower-case name once, and then cached.
+ * This avoids searching the property names of the bean for each row of a report.
+ */
+final class MetaPropertyLookup {
+
+  /**
+   * The meta-properties, keyed by lower-case name, for each meta-bean.
+   */
+  private static final Map<MetaBean, ImmutableMap<String, MetaProperty<?>>> CACHE = new ConcurrentHashMap<>();
+
+  //-------------------------------------------------------------------------
+  /**
+   * Finds the meta-property of the bean matching the token.
+   * <p>
+   * If more than one property matches, the first is returned.
+   * The properties of a {@link DynamicBean} are searched each time, as they vary by instance.
+   *
+   * @param bean  the bean
+   * @param token  the token
+   * @return the matching meta-property, empty if not found
+   */
+  static Optional<MetaProperty<?>> find(Bean bean, String token) {
+    if (bean instanceof DynamicBean) {
+      return bean.propertyNames().stream()
+          .filter(name -> name.equalsIgnoreCase(token))
+          .findFirst()
+          .map(name -> bean.property(name).metaProperty());
+    }
+    return find(bean.metaBean(), token);
+  }
+
+  /**
+   * Finds the meta-property of the meta-bean matching the token.
+   * <p>
+   * If more than one property matches, the first is returned.
+   *
+   * @param metaBean  the meta-bean
+   * @param token  the token
+   * @return the matching meta-property, empty if not found
+   */
+  static Optional<MetaProperty<?>> find(MetaBean metaBean, String token) {
+    ImmutableMap<String, MetaProperty<?>> properties = CACHE.computeIfAbsent(metaBean, MetaPropertyLookup::index);
+    return Optional.ofNullable(properties.get(token.toLowerCase(Locale.ENGLISH)));
+  }
+
+  // indexes the meta-properties by lower-case name, where the first matching property wins
+  private static ImmutableMap<String, MetaProperty<?>> index(MetaBean metaBean) {
+    Map<String, MetaProperty<?>> map = new LinkedHashMap<>();
+    for (MetaProperty<?> metaProperty : metaBean.metaPropertyIterable()) {
+      map.putIfAbsent(metaProperty.name().toLowerCase(Locale.ENGLISH), metaProperty);
+    }
+    return ImmutableMap.copyOf(map);
+  }
+
+  //-------------------------------------------------------------------------
+  // restricted constructor
+  private MetaPropertyLookup() {
+  }
+
+}
@@ -8,13 +8,18 @@ package com.opengamma.strata.report.framework.expression;
 import static com.opengamma.strata.collect.Guavate.toImmutableList;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.opengamma.strata.basics.CalculationTarget;
 import com.opengamma.strata.basics.ResolvableCalculationTarget;
 import com.opengamma.strata.calc.Column;
 import com.opengamma.strata.calc.Measure;
+import com.opengamma.strata.calc.runner.CalculationFunction;
 import com.opengamma.strata.calc.runner.CalculationFunctions;
 import com.opengamma.strata.collect.result.FailureReason;
 import com.opengamma.strata.collect.result.Result;
@@ -35,6 +40,9 @@ class ResultsRow {
   /** The results used to generate a report. */
   private final ReportCalculationResults results;
 
+  /** The lookup of measures, shared by all rows of the results. */
+  private final MeasureLookup measureLookup;
+
   /** The index of the row in the result whose data is exposed by this object. */
   private final int rowIndex;
 
@@ -45,7 +53,21 @@ class ResultsRow {
    * @param rowIndex  the index of the row in the result whose data is exposed by this object
    */
   ResultsRow(ReportCalculationResults results, int rowIndex) {
-    this.results = results;
+    this(new MeasureLookup(results), rowIndex);
+  }
+
+  /**
+   * Returns a new instance exposing the data from a single row in the results.
+   * <p>
+   * The lookup should be shared between the rows of the results, allowing the
+   * measure columns to be located once.
+   *
+   * @param measureLookup  the lookup of measures in the results used to generate a report
+   * @param rowIndex  the index of the row in the result whose data is exposed by this object
+   */
+  ResultsRow(MeasureLookup measureLookup, int rowIndex) {
+    this.results = measureLookup.results;
+    this.measureLookup = measureLookup;
     this.rowIndex = rowIndex;
   }
 
@@ -141,7 +163,7 @@ class ResultsRow {
    * @return the result of calculating the named measure for the trade in the row
    */
   Result<?> getResult(String measureName) {
-    List<String> validMeasureNames = measureNames(results.getTargets().get(rowIndex), results.getCalculationFunctions());
+    List<String> validMeasureNames = measureLookup.measureNames(results.getTargets().get(rowIndex));
     if (!validMeasureNames.contains(measureName)) {
       return Result.failure(
           FailureReason.INVALID,
@@ -150,8 +172,7 @@ class ResultsRow {
           validMeasureNames);
     }
     try {
-      Column column = Column.of(Measure.of(measureName));
-      int columnIndex = results.getColumns().indexOf(column);
+      int columnIndex = measureLookup.columnIndex(measureName);
       if (columnIndex == -1) {
         return Result.failure(
             FailureReason.INVALID,
@@ -191,4 +212,53 @@ class ResultsRow {
         .collect(toImmutableList());
   }
 
+  //-------------------------------------------------------------------------
+  /**
+   * Looks up the measures of a set of results.
+   * <p>
+   * This caches the names of the measures supported by each calculation function,
+   * and the column of each measure, so they are only determined once for all rows.
+   */
+  static final class MeasureLookup {
+
+    /** The results used to generate a report. */
+    private final ReportCalculationResults results;
+    /** The sorted measure names, keyed by calculation function. */
+    private final Map<CalculationFunction<?>, List<String>> measureNames = new ConcurrentHashMap<>();
+    /** The column index, keyed by measure name. */
+    private final Map<String, Integer> columnIndices = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an instance.
+     *
+     * @param results  the results used to generate a report
+     */
+    MeasureLookup(ReportCalculationResults results) {
+      this.results = results;
+    }
+
+    // the measure names supported by the function for the target
+    private List<String> measureNames(CalculationTarget target) {
+      Optional<? extends CalculationFunction<?>> function = results.getCalculationFunctions().findFunction(target);
+      if (!function.isPresent()) {
+        return ImmutableList.of();
+      }
+      return measureNames.computeIfAbsent(function.get(), fn -> fn.supportedMeasures().stream()
+          .map(Measure::getName)
+          .sorted()
+          .collect(toImmutableList()));
+    }
+
+    // the index of the column containing the measure, -1 if not found
+    // throws IllegalArgumentException if the measure name is invalid
+    private int columnIndex(String measureName) {
+      Integer index = columnIndices.get(measureName);
+      if (index == null) {
+        index = results.getColumns().indexOf(Column.of(Measure.of(measureName)));
+        columnIndices.put(measureName, index);
+      }
+      return index;
+    }
+  }
+
 }
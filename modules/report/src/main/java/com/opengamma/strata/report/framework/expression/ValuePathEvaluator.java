@@ -53,6 +53,19 @@ public final class ValuePathEvaluator {
       new BeanTokenEvaluator(),
       new IterableTokenEvaluator());
 
+  /**
+   * The evaluator for each target type.
+   * <p>
+   * The evaluator is found once for each type, rather than for each value in each row of a report.
+   */
+  private static final ClassValue<Optional<TokenEvaluator<Object>>> EVALUATOR_BY_TYPE =
+      new ClassValue<Optional<TokenEvaluator<Object>>>() {
+        @Override
+        protected Optional<TokenEvaluator<Object>> computeValue(Class<?> type) {
+          return findEvaluator(type);
+        }
+      };
+
   //-------------------------------------------------------------------------
   /**
    * Gets the measure encoded in a value path, if present.
@@ -91,9 +104,10 @@ public final class ValuePathEvaluator {
           Result.failure(FailureReason.INVALID, "Column expressions must not be empty"));
     }
     CalculationFunctions functions = results.getCalculationFunctions();
+    ResultsRow.MeasureLookup measureLookup = new ResultsRow.MeasureLookup(results);
     int rowCount = results.getCalculationResults().getRowCount();
     return IntStream.range(0, rowCount)
-        .mapToObj(rowIndex -> evaluate(functions, tokens, RootEvaluator.INSTANCE, new ResultsRow(results, rowIndex)))
+        .mapToObj(rowIndex -> evaluate(functions, tokens, RootEvaluator.INSTANCE, new ResultsRow(measureLookup, rowIndex)))
         .collect(toImmutableList());
   }
 
@@ -143,8 +157,14 @@ public final class ValuePathEvaluator {
     return ImmutableList.copyOf(tokens);
   }
 
-  @SuppressWarnings("unchecked")
+  // finds the evaluator for the target type, which is cached
   private static Optional<TokenEvaluator<Object>> getEvaluator(Class<?> targetClass) {
+    return EVALUATOR_BY_TYPE.get(targetClass);
+  }
+
+  // searches for the first evaluator that accepts the target type
+  @SuppressWarnings("unchecked")
+  private static Optional<TokenEvaluator<Object>> findEvaluator(Class<?> targetClass) {
     return EVALUATORS.stream()
         .filter(e -> e.getTargetType().isAssignableFrom(targetClass))
         .map(e -> (TokenEvaluator<Object>) e)
@@ -5,14 +5,17 @@
  */
 package com.opengamma.strata.report.framework.format;
 
-import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
-import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.common.base.Strings;
+import com.opengamma.strata.collect.NumberFormatter;
 
 /**
  * Formatter for double amounts.
+ * <p>
+ * This formatter is thread-safe, allowing reports to be formatted in parallel.
  */
 final class DoubleValueFormatter
     implements ValueFormatter<Double> {
@@ -25,12 +28,11 @@ final class DoubleValueFormatter
   /**
    * The decimal format.
    */
-  private static final DecimalFormat FULL_AMOUNT_FORMAT =
-      new DecimalFormat("#.##########", new DecimalFormatSymbols(Locale.ENGLISH));
+  private static final NumberFormatter FULL_AMOUNT_FORMAT = NumberFormatter.ofPattern("#.##########", Locale.ENGLISH);
   /**
    * The format cache.
    */
-  private final Map<Integer, DecimalFormat> displayFormatCache = new HashMap<Integer, DecimalFormat>();
+  private final Map<Integer, NumberFormatter> displayFormatCache = new ConcurrentHashMap<>();
 
   // restricted constructor
   private DoubleValueFormatter() {
@@ -55,20 +57,15 @@ final class DoubleValueFormatter
    * @return the formatted amount
    */
   public String formatForDisplay(double amount, int decimalPlaces) {
-    DecimalFormat format = getDecimalPlacesFormat(decimalPlaces);
+    NumberFormatter format = displayFormatCache.computeIfAbsent(decimalPlaces, DoubleValueFormatter::displayFormat);
     return format.format(amount);
   }
 
   //-------------------------------------------------------------------------
-  private DecimalFormat getDecimalPlacesFormat(int decimalPlaces) {
-    if (!displayFormatCache.containsKey(decimalPlaces)) {
-      DecimalFormat format = new DecimalFormat("#,##0;(#,##0)", new DecimalFormatSymbols(Locale.ENGLISH));
-      format.setMinimumFractionDigits(decimalPlaces);
-      format.setMaximumFractionDigits(decimalPlaces);
-      displayFormatCache.put(decimalPlaces, format);
-      return format;
-    }
-    return displayFormatCache.get(decimalPlaces);
+  // creates the display format, which shows negative amounts in brackets
+  private static NumberFormatter displayFormat(int decimalPlaces) {
+    String decimals = decimalPlaces > 0 ? "." + Strings.repeat("0", decimalPlaces) : "";
+    return NumberFormatter.ofPattern("#,##0" + decimals + ";(#,##0" + decimals + ")", Locale.ENGLISH);
   }
 
 }
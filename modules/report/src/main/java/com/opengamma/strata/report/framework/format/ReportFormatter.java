@@ -10,9 +10,14 @@ import static com.opengamma.strata.collect.Guavate.toImmutableList;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.stream.IntStream;
 
 import com.google.common.collect.ImmutableList;
@@ -29,6 +34,11 @@ import com.opengamma.strata.report.Report;
  */
 public abstract class ReportFormatter<R extends Report> {
 
+  /**
+   * The number of rows formatted together when writing CSV.
+   */
+  private static final int CSV_BLOCK_SIZE = 1000;
+
   /**
    * The default format settings, used if there are no settings for a data type.
    */
@@ -57,14 +67,83 @@ public abstract class ReportFormatter<R extends Report> {
   @SuppressWarnings("resource")
   public void writeCsv(R report, OutputStream out) {
     OutputStreamWriter outputWriter = new OutputStreamWriter(out, StandardCharsets.UTF_8);
-    CsvOutput csvOut = CsvOutput.safe(outputWriter);
-    csvOut.writeLine(report.getColumnHeaders());
-    IntStream.range(0, report.getRowCount())
-        .mapToObj(rowIdx -> formatRow(report, rowIdx, ReportOutputFormat.CSV))
-        .forEach(csvOut::writeLine);
+    writeCsv(report, outputWriter);
     Unchecked.wrap(outputWriter::flush);
   }
 
+  /**
+   * Outputs the report table in CSV format to an appendable.
+   * 
+   * @param report  the report
+   * @param output  the appendable to write to
+   * @throws UncheckedIOException if an IO error occurs
+   */
+  public void writeCsv(R report, Appendable output) {
+    CsvOutput.safe(output).writeLine(report.getColumnHeaders());
+    writeCsvRows(report, output);
+  }
+
+  /**
+   * Outputs the rows of the report table in CSV format to an appendable, without the header row.
+   * <p>
+   * This allows a report that has been split into parts to be written as a single table.
+   * 
+   * @param report  the report
+   * @param output  the appendable to write to
+   * @throws UncheckedIOException if an IO error occurs
+   */
+  public void writeCsvRows(R report, Appendable output) {
+    int rowCount = report.getRowCount();
+    for (int startRow = 0; startRow < rowCount; startRow += CSV_BLOCK_SIZE) {
+      String text = formatCsvRows(report, startRow, Math.min(startRow + CSV_BLOCK_SIZE, rowCount));
+      Unchecked.wrap(() -> output.append(text));
+    }
+  }
+
+  /**
+   * Outputs the rows of the report table in CSV format to an appendable, formatting using an executor.
+   * <p>
+   * The rows are formatted in blocks, with each block submitted to the executor as a separate task.
+   * The blocks are written in order, thus the output is the same as {@link #writeCsvRows(Report, Appendable)}.
+   * Since blocks may be formatted concurrently, the formatting methods of the subclass must be thread-safe.
+   * 
+   * @param report  the report
+   * @param output  the appendable to write to
+   * @param executor  the executor used to format the blocks of rows
+   * @throws UncheckedIOException if an IO error occurs
+   */
+  public void writeCsvRows(R report, Appendable output, Executor executor) {
+    int rowCount = report.getRowCount();
+    List<CompletableFuture<String>> blocks = new ArrayList<>();
+    for (int startRow = 0; startRow < rowCount; startRow += CSV_BLOCK_SIZE) {
+      int blockStart = startRow;
+      int blockEnd = Math.min(startRow + CSV_BLOCK_SIZE, rowCount);
+      blocks.add(CompletableFuture.supplyAsync(() -> formatCsvRows(report, blockStart, blockEnd), executor));
+    }
+    for (CompletableFuture<String> block : blocks) {
+      String text;
+      try {
+        text = block.join();
+      } catch (CompletionException ex) {
+        if (ex.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) ex.getCause();
+        }
+        throw ex;
+      }
+      Unchecked.wrap(() -> output.append(text));
+    }
+  }
+
+  // formats a block of rows as CSV
+  private String formatCsvRows(R report, int startRow, int endRow) {
+    StringBuilder buf = new StringBuilder(1024);
+    CsvOutput csvOut = CsvOutput.safe(buf);
+    for (int rowIdx = startRow; rowIdx < endRow; rowIdx++) {
+      csvOut.writeLine(formatRow(report, rowIdx, ReportOutputFormat.CSV));
+    }
+    return buf.toString();
+  }
+
   /**
    * Outputs the report as an ASCII table.
    * 
@@ -0,0 +1,349 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.report.trade;
+
+import static com.opengamma.strata.collect.Guavate.toImmutableList;
+
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.calc.ColumnHeader;
+import com.opengamma.strata.calc.Results;
+import com.opengamma.strata.calc.runner.CalculationFunctions;
+import com.opengamma.strata.calc.runner.CalculationListener;
+import com.opengamma.strata.calc.runner.CalculationResult;
+import com.opengamma.strata.collect.ArgChecker;
+import com.opengamma.strata.collect.Unchecked;
+import com.opengamma.strata.collect.io.CsvOutput;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.measure.StandardComponents;
+import com.opengamma.strata.report.ReportCalculationResults;
+
+/**
+ * Calculation listener that writes a trade report in CSV format as the results arrive.
+ * <p>
+ * The listener is passed to {@link com.opengamma.strata.calc.CalculationRunner#calculateAsync}
+ * in place of building the full set of results and then the {@link TradeReport}.
+ * The columns calculated must be those of the {@linkplain TradeReportRunner#requirements requirements}
+ * of the report template.
+ * <p>
+ * Results are stored as they arrive. Once a block of rows at the start of the report is complete,
+ * the value paths of the template are evaluated and the rows are formatted using the executor.
+ * By default, this is done by the thread notifying the listener. If an executor is specified,
+ * blocks may be formatted in parallel, but are still written to the output in order.
+ * The results of each block are discarded once it has been formatted.
+ * The output is identical to {@link TradeReport#writeCsv(java.io.OutputStream)}.
+ * <p>
+ * The output is not flushed or closed.
+ * {@link #getFuture()} and {@link #result()} provide notification once the report has been written.
+ * <p>
+ * A listener instance must not be used for multiple sets of calculations.
+ */
+public final class TradeReportCsvListener
+    implements CalculationListener {
+
+  /**
+   * The default number of rows in each block.
+   */
+  private static final int DEFAULT_BLOCK_SIZE = 1000;
+
+  /**
+   * The report template.
+   */
+  private final TradeReportTemplate template;
+  /**
+   * The valuation date.
+   */
+  private final LocalDate valuationDate;
+  /**
+   * The calculation functions.
+   */
+  private final CalculationFunctions calculationFunctions;
+  /**
+   * The reference data.
+   */
+  private final ReferenceData refData;
+  /**
+   * The output.
+   */
+  private final Appendable output;
+  /**
+   * The number of rows in each block.
+   */
+  private final int blockSize;
+  /**
+   * The executor used to format the blocks and write the output.
+   */
+  private final Executor executor;
+  /**
+   * The future that completes once the report has been written, with the number of rows.
+   */
+  private final CompletableFuture<Integer> future = new CompletableFuture<>();
+
+  /**
+   * The targets, set when the calculations start.
+   */
+  private List<CalculationTarget> targets;
+  /**
+   * The columns, set when the calculations start.
+   */
+  private List<Column> columns;
+  /**
+   * The column headers, set when the calculations start.
+   */
+  private List<ColumnHeader> headers;
+  /**
+   * The results of each row that has not yet been formatted.
+   */
+  private Result<?>[][] cells;
+  /**
+   * The number of results still to be received for each row.
+   */
+  private int[] remaining;
+  /**
+   * The index of the first row that is not yet complete.
+   */
+  private int completeRows;
+  /**
+   * The index of the first row that has not yet been submitted for formatting.
+   */
+  private int submittedRows;
+  /**
+   * The future that completes once all submitted blocks have been written.
+   */
+  private CompletableFuture<Void> written;
+
+  //-------------------------------------------------------------------------
+  /**
+   * Obtains an instance using the standard calculation functions and reference data.
+   *
+   * @param template  the report template
+   * @param valuationDate  the valuation date used in the calculations
+   * @param output  the appendable to write to
+   * @return the listener
+   */
+  public static TradeReportCsvListener of(TradeReportTemplate template, LocalDate valuationDate, Appendable output) {
+    return of(
+        template,
+        valuationDate,
+        StandardComponents.calculationFunctions(),
+        ReferenceData.standard(),
+        output,
+        DEFAULT_BLOCK_SIZE);
+  }
+
+  /**
+   * Obtains an instance.
+   * <p>
+   * The block size controls the number of rows that are evaluated and formatted together.
+   * The blocks are formatted by the thread notifying the listener.
+   *
+   * @param template  the report template
+   * @param valuationDate  the valuation date used in the calculations
+   * @param calculationFunctions  the calculation functions used in the calculations
+   * @param refData  the reference data used in the calculations
+   * @param output  the appendable to write to
+   * @param blockSize  the number of rows in each block
+   * @return the listener
+   */
+  public static TradeReportCsvListener of(
+      TradeReportTemplate template,
+      LocalDate valuationDate,
+      CalculationFunctions calculationFunctions,
+      ReferenceData refData,
+      Appendable output,
+      int blockSize) {
+
+    return of(template, valuationDate, calculationFunctions, refData, output, blockSize, Runnable::run);
+  }
+
+  /**
+   * Obtains an instance that formats the blocks using an executor.
+   * <p>
+   * The block size controls the number of rows that are evaluated and formatted together.
+   * Each block is submitted to the executor as a separate task, allowing blocks to be formatted in parallel
+   * without blocking the thread notifying the listener.
+   *
+   * @param template  the report template
+   * @param valuationDate  the valuation date used in the calculations
+   * @param calculationFunctions  the calculation functions used in the calculations
+   * @param refData  the reference data used in the calculations
+   * @param output  the appendable to write to
+   * @param blockSize  the number of rows in each block
+   * @param executor  the executor used to format the blocks and write the output
+   * @return the listener
+   */
+  public static TradeReportCsvListener of(
+      TradeReportTemplate template,
+      LocalDate valuationDate,
+      CalculationFunctions calculationFunctions,
+      ReferenceData refData,
+      Appendable output,
+      int blockSize,
+      Executor executor) {
+
+    return new TradeReportCsvListener(
+        template, valuationDate, calculationFunctions, refData, output, blockSize, executor);
+  }
+
+  // restricted constructor
+  private TradeReportCsvListener(
+      TradeReportTemplate template,
+      LocalDate valuationDate,
+      CalculationFunctions calculationFunctions,
+      ReferenceData refData,
+      Appendable output,
+      int blockSize,
+      Executor executor) {
+
+    this.template = ArgChecker.notNull(template, "template");
+    this.valuationDate = ArgChecker.notNull(valuationDate, "valuationDate");
+    this.calculationFunctions = ArgChecker.notNull(calculationFunctions, "calculationFunctions");
+    this.refData = ArgChecker.notNull(refData, "refData");
+    this.output = ArgChecker.notNull(output, "output");
+    this.blockSize = ArgChecker.notNegativeOrZero(blockSize, "blockSize");
+    this.executor = ArgChecker.notNull(executor, "executor");
+  }
+
+  //-------------------------------------------------------------------------
+  @Override
+  public void calculationsStarted(List<CalculationTarget> targets, List<Column> columns) {
+    this.targets = ImmutableList.copyOf(targets);
+    this.columns = ImmutableList.copyOf(columns);
+    this.headers = columns.stream().map(Column::toHeader).collect(toImmutableList());
+    this.cells = new Result<?>[targets.size()][];
+    this.remaining = new int[targets.size()];
+    Arrays.fill(remaining, columns.size());
+    List<String> reportHeaders = template.getColumns().stream()
+        .map(TradeReportColumn::getHeader)
+        .collect(toImmutableList());
+    this.written = CompletableFuture.runAsync(() -> CsvOutput.safe(output).writeLine(reportHeaders), executor);
+    advance(false);
+  }
+
+  @Override
+  public void resultReceived(CalculationTarget target, CalculationResult result) {
+    int rowIndex = result.getRowIndex();
+    if (cells[rowIndex] == null) {
+      cells[rowIndex] = new Result<?>[columns.size()];
+    }
+    cells[rowIndex][result.getColumnIndex()] = result.getResult();
+    if (--remaining[rowIndex] == 0 && rowIndex == completeRows) {
+      advance(false);
+    }
+  }
+
+  @Override
+  public void calculationsComplete() {
+    advance(true);
+    int rowCount = targets.size();
+    written.whenComplete((ignored, ex) -> {
+      if (ex != null) {
+        future.completeExceptionally(ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+      } else {
+        future.complete(rowCount);
+      }
+    });
+  }
+
+  //-------------------------------------------------------------------------
+  /**
+   * Returns the number of rows written, blocking until the report has been written.
+   * <p>
+   * If the thread is interrupted while this method is blocked, then a runtime exception
+   * is thrown, but with the interrupt flag set.
+   * For additional control, use {@link #getFuture()}.
+   *
+   * @return the number of rows written
+   * @throws UncheckedIOException if an IO error occurs
+   */
+  public int result() {
+    try {
+      return future.get();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(ex);
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) ex.getCause();
+      }
+      throw new RuntimeException("Exception writing report", ex.getCause());
+    }
+  }
+
+  /**
+   * A future providing asynchronous notification when the report has been written.
+   * <p>
+   * The future completes with the number of rows written.
+   *
+   * @return a future providing asynchronous notification when the report has been written
+   */
+  public CompletableFuture<Integer> getFuture() {
+    return future;
+  }
+
+  //-------------------------------------------------------------------------
+  // submits complete blocks of rows for formatting, including any partial block if the calculations are complete
+  private void advance(boolean finished) {
+    while (completeRows < remaining.length && remaining[completeRows] == 0) {
+      completeRows++;
+    }
+    while (completeRows - submittedRows >= blockSize || (finished && submittedRows < remaining.length)) {
+      int startRow = submittedRows;
+      int endRow = Math.min(startRow + blockSize, remaining.length);
+      ReportCalculationResults blockResults = block(startRow, endRow);
+      CompletableFuture<String> formatted = CompletableFuture.supplyAsync(() -> format(blockResults), executor);
+      written = written.thenCombine(formatted, (ignored, text) -> {
+        Unchecked.wrap(() -> output.append(text));
+        return null;
+      });
+      submittedRows = endRow;
+    }
+  }
+
+  // captures the results of a block of rows, releasing them from the listener
+  // this is invoked by the thread notifying the listener, before the block is formatted on another thread,
+  // thus no synchronization is needed
+  private ReportCalculationResults block(int startRow, int endRow) {
+    List<Result<?>> blockCells = new ArrayList<>((endRow - startRow) * columns.size());
+    for (int rowIndex = startRow; rowIndex < endRow; rowIndex++) {
+      Result<?>[] row = cells[rowIndex];
+      for (int columnIndex = 0; columnIndex < columns.size(); columnIndex++) {
+        Result<?> cell = row != null ? row[columnIndex] : null;
+        blockCells.add(cell != null ? cell : Result.failure(FailureReason.MISSING_DATA, "No result was calculated"));
+      }
+      cells[rowIndex] = null;
+    }
+    return ReportCalculationResults.of(
+        valuationDate,
+        targets.subList(startRow, endRow),
+        columns,
+        Results.of(headers, blockCells),
+        calculationFunctions,
+        refData);
+  }
+
+  // evaluates the report template against a block of rows, formatting them as CSV
+  private String format(ReportCalculationResults blockResults) {
+    TradeReport report = TradeReportRunner.INSTANCE.runReport(blockResults, template);
+    StringBuilder buf = new StringBuilder(blockSize * 64);
+    TradeReportFormatter.INSTANCE.writeCsvRows(report, buf);
+    return buf.toString();
+  }
+
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.report.cashflow;
+
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.offset;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.calc.ColumnHeader;
+import com.opengamma.strata.calc.ColumnName;
+import com.opengamma.strata.calc.Results;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.result.Failure;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.data.scenario.ScenarioArray;
+import com.opengamma.strata.market.amount.CashFlow;
+import com.opengamma.strata.market.amount.CashFlows;
+import com.opengamma.strata.measure.Measures;
+import com.opengamma.strata.report.ReportCalculationResults;
+
+/**
+ * Test {@link CashFlowExtractor}.
+ */
+public class CashFlowExtractorTest {
+
+  private static final LocalDate VAL_DATE = date(2020, 6, 30);
+  private static final CashFlows FLOWS1 = CashFlows.of(ImmutableList.of(
+      CashFlow.ofForecastValue(date(2020, 9, 30), GBP, 100, 0.99),
+      CashFlow.ofForecastValue(date(2020, 12, 31), GBP, 200, 0.98)));
+  private static final CashFlows FLOWS2 = CashFlows.of(ImmutableList.of(
+      CashFlow.ofForecastValue(date(2021, 6, 30), USD, 300, 0.95)));
+  private static final ReportCalculationResults RESULTS = results(ImmutableList.of(
+      Result.success(FLOWS1),
+      Result.failure(FailureReason.CALCULATION_FAILED, "Failed"),
+      Result.success(ScenarioArray.of(FLOWS2, FLOWS1))));
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_requirements() {
+    assertThat(CashFlowExtractor.requirements().getTradeMeasureRequirements())
+        .containsExactly(Column.of(Measures.CASH_FLOWS));
+  }
+
+  @Test
+  public void test_extract() {
+    List<String> flows = new ArrayList<>();
+    CashFlowExtractor.extract(RESULTS, new CashFlowSink() {
+      @Override
+      public void cashFlow(int row, int scenario, LocalDate date, Currency currency, double fv, double df) {
+        flows.add(row + " " + scenario + " " + date + " " + currency + " " + fv + " " + df);
+      }
+
+      @Override
+      public void failure(int rowIndex, Failure failure) {
+        flows.add(rowIndex + " " + failure.getMessage());
+      }
+    });
+    assertThat(flows).containsExactly(
+        "0 0 2020-09-30 GBP 100.0 0.99",
+        "0 0 2020-12-31 GBP 200.0 0.98",
+        "1 Failed",
+        "2 0 2021-06-30 USD 300.0 0.95",
+        "2 1 2020-09-30 GBP 100.0 0.99",
+        "2 1 2020-12-31 GBP 200.0 0.98");
+  }
+
+  @Test
+  public void test_extract_executor() {
+    List<String> flows = Collections.synchronizedList(new ArrayList<>());
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      CashFlowExtractor.extract(
+          RESULTS, (row, scenario, date, currency, fv, df) -> flows.add(row + " " + scenario + " " + date), executor);
+    } finally {
+      executor.shutdown();
+    }
+    assertThat(flows).containsExactlyInAnyOrder(
+        "0 0 2020-09-30",
+        "0 0 2020-12-31",
+        "2 0 2021-06-30",
+        "2 1 2020-09-30",
+        "2 1 2020-12-31");
+  }
+
+  @Test
+  public void test_extract_wrongType() {
+    List<String> failures = new ArrayList<>();
+    CashFlowExtractor.extract(results(ImmutableList.of(Result.success("Foo"))), new CashFlowSink() {
+      @Override
+      public void cashFlow(int row, int scenario, LocalDate date, Currency currency, double fv, double df) {
+        throw new AssertionError();
+      }
+
+      @Override
+      public void failure(int rowIndex, Failure failure) {
+        failures.add(failure.getMessage());
+      }
+    });
+    assertThat(failures).containsExactly("Expected cash flows for measure 'CashFlows' but found: String");
+  }
+
+  @Test
+  public void test_extract_missingColumn() {
+    ReportCalculationResults results = ReportCalculationResults.of(
+        VAL_DATE,
+        ImmutableList.of(),
+        ImmutableList.of(Column.of(Measures.PRESENT_VALUE)),
+        Results.of(
+            ImmutableList.of(ColumnHeader.of(ColumnName.of("PV"), Measures.PRESENT_VALUE)),
+            ImmutableList.of()));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> CashFlowExtractor.extract(results, (row, scenario, date, currency, fv, df) -> { }))
+        .withMessage("Unable to find column for required measure 'CashFlows' in calculation results");
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_aggregate() {
+    List<LocalDate> bucketEnds = ImmutableList.of(date(2020, 9, 30), date(2021, 3, 31));
+    CashFlowBuckets test = CashFlowExtractor.aggregate(RESULTS, bucketEnds);
+    assertThat(test.getBucketEnds()).containsExactly(date(2020, 9, 30), date(2021, 3, 31));
+    assertThat(test.getBucketCount()).isEqualTo(3);
+    assertThat(test.getCurrencies()).containsExactly(GBP, USD);
+    assertThat(test.getForecastValues(GBP)).isEqualTo(DoubleArray.of(100, 200, 0));
+    assertThat(test.getForecastValues(USD)).isEqualTo(DoubleArray.of(0, 0, 300));
+    assertThat(test.getPresentValues(GBP).get(0)).isCloseTo(99, offset(1e-10));
+    assertThat(test.getPresentValues(GBP).get(1)).isCloseTo(196, offset(1e-10));
+    assertThat(test.getPresentValues(USD).get(2)).isCloseTo(285, offset(1e-10));
+    assertThat(test.getForecastValues(Currency.EUR)).isEqualTo(DoubleArray.filled(3));
+    assertThat(test.toString()).contains("GBP");
+  }
+
+  @Test
+  public void test_aggregate_large() {
+    int rowCount = 5_000;
+    List<Result<?>> cells = new ArrayList<>();
+    for (int i = 0; i < rowCount; i++) {
+      cells.add(Result.success(CashFlows.of(CashFlow.ofForecastValue(VAL_DATE.plusDays(i % 400), GBP, 1, 1))));
+    }
+    CashFlowBuckets test = CashFlowExtractor.aggregate(results(cells), ImmutableList.of(VAL_DATE.plusDays(99)));
+    assertThat(test.getForecastValues(GBP)).isEqualTo(DoubleArray.of(1300, rowCount - 1300));
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      CashFlowBuckets parallel =
+          CashFlowExtractor.aggregate(results(cells), ImmutableList.of(VAL_DATE.plusDays(99)), executor);
+      assertThat(parallel.getForecastValues(GBP)).isEqualTo(test.getForecastValues(GBP));
+      assertThat(parallel.getPresentValues(GBP)).isEqualTo(test.getPresentValues(GBP));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void test_aggregate_badBuckets() {
+    List<LocalDate> bucketEnds = ImmutableList.of(date(2021, 3, 31), date(2020, 9, 30));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> CashFlowExtractor.aggregate(RESULTS, bucketEnds));
+  }
+
+  //-------------------------------------------------------------------------
+  private static ReportCalculationResults results(List<Result<?>> cells) {
+    List<CalculationTarget> targets = new ArrayList<>();
+    for (int i = 0; i < cells.size(); i++) {
+      targets.add(new CalculationTarget() { });
+    }
+    return ReportCalculationResults.of(
+        VAL_DATE,
+        targets,
+        ImmutableList.of(Column.of(Measures.CASH_FLOWS)),
+        Results.of(ImmutableList.of(ColumnHeader.of(ColumnName.of("Cash Flows"), Measures.CASH_FLOWS)), cells));
+  }
+
+}
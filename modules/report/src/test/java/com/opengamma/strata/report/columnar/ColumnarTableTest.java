@@ -0,0 +1,274 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.report.columnar;
+
+import static com.opengamma.strata.basics.currency.Currency.GBP;
+import static com.opengamma.strata.basics.currency.Currency.USD;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.common.collect.ArrayTable;
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.ByteSource;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.calc.ColumnHeader;
+import com.opengamma.strata.calc.ColumnName;
+import com.opengamma.strata.calc.Results;
+import com.opengamma.strata.collect.array.DoubleArray;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.data.scenario.CurrencyScenarioArray;
+import com.opengamma.strata.data.scenario.DoubleScenarioArray;
+import com.opengamma.strata.data.scenario.ScenarioArray;
+import com.opengamma.strata.measure.Measures;
+import com.opengamma.strata.report.trade.TradeReport;
+import com.opengamma.strata.report.trade.TradeReportColumn;
+
+/**
+ * Test {@link ColumnarTableWriter} and {@link ColumnarTable}.
+ */
+public class ColumnarTableTest {
+
+  private static final Results RESULTS = Results.of(
+      ImmutableList.of(
+          ColumnHeader.of(ColumnName.of("PV"), Measures.PRESENT_VALUE),
+          ColumnHeader.of(ColumnName.of("Par Rate"), Measures.PAR_RATE),
+          ColumnHeader.of(ColumnName.of("Date"), Measures.PRESENT_VALUE),
+          ColumnHeader.of(ColumnName.of("Text"), Measures.PRESENT_VALUE)),
+      ImmutableList.of(
+          Result.success(CurrencyScenarioArray.of(GBP, DoubleArray.of(1, 2, 3))),
+          Result.success(DoubleScenarioArray.of(DoubleArray.of(0.1, 0.2, 0.3))),
+          Result.success(date(2020, 6, 30)),
+          Result.success(ScenarioArray.of(ImmutableList.of("A", "B", "A"))),
+          Result.success(CurrencyAmount.of(USD, 4)),
+          Result.failure(FailureReason.CALCULATION_FAILED, "Failed"),
+          Result.success(Optional.empty()),
+          Result.success("C"),
+          Result.failure(FailureReason.MISSING_DATA, "Missing"),
+          Result.success(0.5d),
+          Result.success(Optional.of(date(2021, 1, 4))),
+          Result.failure(FailureReason.CALCULATION_FAILED, "Failed")));
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_results() {
+    ColumnarTable test = ColumnarTable.of(ByteSource.wrap(write(RESULTS)));
+    assertThat(test.getRowCount()).isEqualTo(3);
+    assertThat(test.getColumnNames()).containsExactly("PV", "Par Rate", "Date", "Text");
+    assertThat(test.containsColumn("PV")).isTrue();
+    assertThat(test.containsColumn("Foo")).isFalse();
+    assertThat(test.toString()).contains("rows=3");
+
+    assertThat(test.getColumnType("PV")).isEqualTo(ColumnarValueType.CURRENCY_AMOUNT);
+    assertThat(test.getScenarioCount("PV")).isEqualTo(3);
+    assertThat(test.getValues("PV", 1).toArray()).containsExactly(2, 4, Double.NaN);
+    assertThat(test.getScenarioValues("PV", 0)).isEqualTo(DoubleArray.of(1, 2, 3));
+    assertThat(test.getValue("PV", 1, 2)).isEqualTo(4);
+    assertThat(test.findCurrency("PV", 0)).contains(GBP);
+    assertThat(test.findCurrency("PV", 1)).contains(USD);
+    assertThat(test.findCurrency("PV", 2)).isEmpty();
+    assertThat(test.isSuccess("PV", 2)).isFalse();
+    assertThat(test.findFailureMessage("PV", 2)).contains("Missing");
+    assertThat(test.findFailureMessage("PV", 0)).isEmpty();
+
+    assertThat(test.getColumnType("Par Rate")).isEqualTo(ColumnarValueType.DOUBLE);
+    assertThat(test.getValues("Par Rate", 2).toArray()).containsExactly(0.3, Double.NaN, 0.5);
+    assertThat(test.findFailureMessage("Par Rate", 1)).contains("Failed");
+
+    assertThat(test.getColumnType("Date")).isEqualTo(ColumnarValueType.DATE);
+    assertThat(test.getScenarioCount("Date")).isEqualTo(1);
+    assertThat(test.findDate("Date", 0, 0)).contains(date(2020, 6, 30));
+    assertThat(test.findDate("Date", 1, 0)).isEmpty();
+    assertThat(test.isSuccess("Date", 1)).isTrue();
+    assertThat(test.findDate("Date", 2, 0)).contains(date(2021, 1, 4));
+
+    assertThat(test.getColumnType("Text")).isEqualTo(ColumnarValueType.TEXT);
+    assertThat(test.getScenarioCount("Text")).isEqualTo(3);
+    assertThat(test.findText("Text", 0, 1)).contains("B");
+    assertThat(test.findText("Text", 1, 2)).contains("C");
+    assertThat(test.findText("Text", 2, 0)).isEmpty();
+    assertThat(test.findFailureMessage("Text", 2)).contains("Failed");
+  }
+
+  @Test
+  public void test_results_mapped(@TempDir Path dir) throws IOException {
+    Path file = dir.resolve("results.bin");
+    Files.write(file, write(RESULTS));
+    ColumnarTable test = ColumnarTable.of(file);
+    assertThat(test.getColumnNames()).containsExactly("PV", "Par Rate", "Date", "Text");
+    assertThat(test.getValues("PV", 0).toArray()).containsExactly(1, 4, Double.NaN);
+    assertThat(test.findText("Text", 0, 2)).contains("A");
+  }
+
+  @Test
+  public void test_results_large() {
+    int rowCount = 10_000;
+    ImmutableList.Builder<Result<?>> cells = ImmutableList.builder();
+    for (int i = 0; i < rowCount; i++) {
+      cells.add(Result.success(i * 1.5d));
+    }
+    Results results = Results.of(
+        ImmutableList.of(ColumnHeader.of(ColumnName.of("Par Rate"), Measures.PAR_RATE)), cells.build());
+    ColumnarTable test = ColumnarTable.of(ByteSource.wrap(write(results)));
+    double[] expected = new double[rowCount];
+    Arrays.setAll(expected, i -> i * 1.5d);
+    assertThat(test.getValues("Par Rate", 0).toArray()).containsExactly(expected);
+  }
+
+  @Test
+  public void test_results_segmented(@TempDir Path dir) throws IOException {
+    // enough rows and scenarios to cross the chunks of the writer, mapped in small segments
+    int rowCount = 2_000;
+    ImmutableList.Builder<Result<?>> cells = ImmutableList.builder();
+    for (int i = 0; i < rowCount; i++) {
+      double base = i;
+      cells.add(Result.success(CurrencyScenarioArray.of(GBP, DoubleArray.of(7, j -> base + j / 10d))));
+      cells.add(i % 3 == 0 ? Result.success(ScenarioArray.of("A" + i % 5)) : Result.success(date(2020, 1, 1)));
+    }
+    Results results = Results.of(
+        ImmutableList.of(
+            ColumnHeader.of(ColumnName.of("PV"), Measures.PRESENT_VALUE),
+            ColumnHeader.of(ColumnName.of("Text"), Measures.PRESENT_VALUE)),
+        cells.build());
+    Path file = dir.resolve("results.bin");
+    Files.write(file, write(results));
+    ColumnarTable test = ColumnarTable.of(file, 1000);
+    double[] expected = new double[rowCount];
+    Arrays.setAll(expected, i -> i + 0.3d);
+    assertThat(test.getValues("PV", 3).toArray()).containsExactly(expected);
+    assertThat(test.getScenarioValues("PV", 1999)).isEqualTo(DoubleArray.of(7, j -> 1999 + j / 10d));
+    assertThat(test.findCurrency("PV", 1234)).contains(GBP);
+    assertThat(test.findText("Text", 1500, 0)).contains("A0");
+    assertThat(test.findText("Text", 1501, 0)).contains("2020-01-01");
+    ColumnarTable single = ColumnarTable.of(ByteSource.wrap(write(results)));
+    assertThat(single.getValues("PV", 3).toArray()).containsExactly(expected);
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> ColumnarTable.of(file, 40))
+        .withMessage("Columnar table has a row of 56 bytes, which is too large to map");
+  }
+
+  @Test
+  public void test_tradeReport() {
+    ImmutableList<Integer> indices = ImmutableList.of(0, 1);
+    ArrayTable<Integer, Integer, Result<?>> table = ArrayTable.create(indices, indices);
+    table.put(0, 0, Result.success(CurrencyAmount.of(GBP, 10)));
+    table.put(0, 1, Result.success("cpty1"));
+    table.put(1, 0, Result.failure(FailureReason.ERROR, "fail"));
+    table.put(1, 1, Result.success("cpty2"));
+    TradeReport report = TradeReport.builder()
+        .columns(
+            TradeReportColumn.builder().header("PV").build(),
+            TradeReportColumn.builder().header("Counterparty").build())
+        .data(table)
+        .valuationDate(date(2020, 6, 30))
+        .runInstant(Instant.now())
+        .build();
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    ColumnarTableWriter.write(report, baos);
+    ColumnarTable test = ColumnarTable.of(ByteSource.wrap(baos.toByteArray()));
+    assertThat(test.getColumnNames()).containsExactly("PV", "Counterparty");
+    assertThat(test.getValues("PV", 0).toArray()).containsExactly(10, Double.NaN);
+    assertThat(test.findFailureMessage("PV", 1)).contains("fail");
+    assertThat(test.findText("Counterparty", 1, 0)).contains("cpty2");
+  }
+
+  @Test
+  public void test_allFailures() {
+    Results results = Results.of(
+        ImmutableList.of(ColumnHeader.of(ColumnName.of("PV"), Measures.PRESENT_VALUE)),
+        ImmutableList.of(Result.failure(FailureReason.ERROR, "fail")));
+    ColumnarTable test = ColumnarTable.of(ByteSource.wrap(write(results)));
+    assertThat(test.getColumnType("PV")).isEqualTo(ColumnarValueType.TEXT);
+    assertThat(test.findText("PV", 0, 0)).isEmpty();
+    assertThat(test.findFailureMessage("PV", 0)).contains("fail");
+  }
+
+  @Test
+  public void test_duplicateNames() {
+    Results results = Results.of(
+        ImmutableList.of(
+            ColumnHeader.of(ColumnName.of("PV"), Measures.PRESENT_VALUE),
+            ColumnHeader.of(ColumnName.of("PV"), Measures.PRESENT_VALUE),
+            ColumnHeader.of(ColumnName.of("PV (2)"), Measures.PRESENT_VALUE),
+            ColumnHeader.of(ColumnName.of("PV"), Measures.PRESENT_VALUE)),
+        ImmutableList.of(
+            Result.success(1d),
+            Result.success(2d),
+            Result.success(3d),
+            Result.success(4d)));
+    ColumnarTable test = ColumnarTable.of(ByteSource.wrap(write(results)));
+    assertThat(test.getColumnNames()).containsExactly("PV", "PV (3)", "PV (2)", "PV (4)");
+    assertThat(test.getValue("PV", 0, 0)).isEqualTo(1d);
+    assertThat(test.getValue("PV (3)", 0, 0)).isEqualTo(2d);
+    assertThat(test.getValue("PV (2)", 0, 0)).isEqualTo(3d);
+    assertThat(test.getValue("PV (4)", 0, 0)).isEqualTo(4d);
+  }
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_badAccess() {
+    ColumnarTable test = ColumnarTable.of(ByteSource.wrap(write(RESULTS)));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> test.getColumnType("Foo"))
+        .withMessage("Column not found: Foo");
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> test.getValues("Text", 0))
+        .withMessage("Column 'Text' is not numeric: TEXT");
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> test.findDate("PV", 0, 0))
+        .withMessage("Column 'PV' is of type CURRENCY_AMOUNT, not DATE");
+    assertThatExceptionOfType(IndexOutOfBoundsException.class)
+        .isThrownBy(() -> test.getValue("PV", 3, 0));
+    assertThatExceptionOfType(IndexOutOfBoundsException.class)
+        .isThrownBy(() -> test.getValues("PV", 3));
+  }
+
+  @Test
+  public void test_invalid() {
+    byte[] bytes = write(RESULTS);
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> ColumnarTable.of(ByteSource.wrap(Arrays.copyOf(bytes, 10))))
+        .withMessage("Invalid columnar table, header is incomplete");
+    byte[] badMagic = bytes.clone();
+    badMagic[0] = 0;
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> ColumnarTable.of(ByteSource.wrap(badMagic)))
+        .withMessage("Invalid columnar table, header does not start with the expected bytes");
+    byte[] badVersion = bytes.clone();
+    badVersion[4] = 9;
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> ColumnarTable.of(ByteSource.wrap(badVersion)))
+        .withMessage("Unsupported columnar table format version: 9");
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> ColumnarTable.of(ByteSource.wrap(Arrays.copyOf(bytes, bytes.length - 8))))
+        .withMessageStartingWith("Invalid columnar table, column ");
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> ColumnarTable.of(ByteSource.wrap(Arrays.copyOf(bytes, 40))))
+        .withMessage("Invalid columnar table, unexpected end of data");
+  }
+
+  //-------------------------------------------------------------------------
+  private static byte[] write(Results results) {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    ColumnarTableWriter.write(results, baos);
+    return baos.toByteArray();
+  }
+
+}
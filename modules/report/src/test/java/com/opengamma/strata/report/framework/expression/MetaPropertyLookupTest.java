@@ -0,0 +1,42 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.report.framework.expression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.joda.beans.impl.flexi.FlexiBean;
+import org.junit.jupiter.api.Test;
+
+import com.opengamma.strata.basics.StandardId;
+import com.opengamma.strata.product.TradeInfo;
+
+/**
+ * Test {@link MetaPropertyLookup}.
+ */
+public class MetaPropertyLookupTest {
+
+  @Test
+  public void test_find() {
+    TradeInfo info = TradeInfo.builder().counterparty(StandardId.of("cpty", "A")).build();
+    assertThat(MetaPropertyLookup.find(info, "counterparty")).contains(TradeInfo.meta().counterparty());
+    assertThat(MetaPropertyLookup.find(info, "COUNTERPARTY")).contains(TradeInfo.meta().counterparty());
+    assertThat(MetaPropertyLookup.find(TradeInfo.meta(), "CounterParty")).contains(TradeInfo.meta().counterparty());
+    assertThat(MetaPropertyLookup.find(info, "wibble")).isEmpty();
+  }
+
+  @Test
+  public void test_find_dynamicBean() {
+    FlexiBean bean1 = new FlexiBean();
+    bean1.set("alpha", "A");
+    FlexiBean bean2 = new FlexiBean();
+    bean2.set("beta", "B");
+    assertThat(MetaPropertyLookup.find(bean1, "ALPHA").map(mp -> (Object) mp.get(bean1))).contains("A");
+    assertThat(MetaPropertyLookup.find(bean1, "beta")).isEmpty();
+    assertThat(MetaPropertyLookup.find(bean2, "Beta").map(mp -> (Object) mp.get(bean2))).contains("B");
+    assertThat(MetaPropertyLookup.find(bean2, "alpha")).isEmpty();
+  }
+
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (C) 2026 - present by OpenGamma Inc. and the OpenGamma group of companies
+ *
+ * Please see distribution for license.
+ */
+package com.opengamma.strata.report.trade;
+
+import static com.opengamma.strata.basics.index.IborIndices.GBP_LIBOR_3M;
+import static com.opengamma.strata.collect.TestHelper.date;
+import static com.opengamma.strata.product.common.BuySell.BUY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.opengamma.strata.basics.CalculationTarget;
+import com.opengamma.strata.basics.ReferenceData;
+import com.opengamma.strata.basics.StandardId;
+import com.opengamma.strata.basics.currency.Currency;
+import com.opengamma.strata.basics.currency.CurrencyAmount;
+import com.opengamma.strata.basics.date.AdjustableDate;
+import com.opengamma.strata.calc.Column;
+import com.opengamma.strata.calc.Results;
+import com.opengamma.strata.calc.runner.CalculationResult;
+import com.opengamma.strata.collect.result.FailureReason;
+import com.opengamma.strata.collect.result.Result;
+import com.opengamma.strata.measure.Measures;
+import com.opengamma.strata.measure.StandardComponents;
+import com.opengamma.strata.product.Trade;
+import com.opengamma.strata.product.TradeInfo;
+import com.opengamma.strata.product.fra.Fra;
+import com.opengamma.strata.product.fra.FraTrade;
+import com.opengamma.strata.report.ReportCalculationResults;
+
+/**
+ * Test {@link TradeReportCsvListener}.
+ */
+public class TradeReportCsvListenerTest {
+
+  private static final LocalDate VAL_DATE = date(2015, 8, 3);
+  private static final TradeReportTemplate TEMPLATE = TradeReportTemplate.builder()
+      .columns(
+          TradeReportColumn.builder().header("Counterparty").value("Trade.Counterparty.Value").build(),
+          TradeReportColumn.builder().header("Notional").value("Trade.Product.Notional").build(),
+          TradeReportColumn.builder().header("PV").value("Measures.PresentValue").build(),
+          TradeReportColumn.builder().header("Par Rate").value("Measures.ParRate").ignoreFailures(true).build(),
+          TradeReportColumn.builder().header("Empty").build())
+      .build();
+  private static final List<Column> COLUMNS = ImmutableList.of(
+      Column.of(Measures.PRESENT_VALUE),
+      Column.of(Measures.PAR_RATE));
+
+  //-------------------------------------------------------------------------
+  @Test
+  public void test_sameAsTradeReport() {
+    List<CalculationTarget> trades = trades(2_500);
+    List<Result<?>> cells = cells(trades.size());
+    StringBuilder buf = new StringBuilder();
+    TradeReportCsvListener test = TradeReportCsvListener.of(
+        TEMPLATE, VAL_DATE, StandardComponents.calculationFunctions(), ReferenceData.standard(), buf, 300);
+    test.calculationsStarted(trades, COLUMNS);
+    List<Integer> order = new ArrayList<>();
+    for (int i = 0; i < cells.size(); i++) {
+      order.add(i);
+    }
+    Collections.shuffle(order, new Random(1));
+    for (int i : order) {
+      int rowIndex = i / COLUMNS.size();
+      int columnIndex = i % COLUMNS.size();
+      test.resultReceived(trades.get(rowIndex), CalculationResult.of(rowIndex, columnIndex, cells.get(i)));
+    }
+    test.calculationsComplete();
+    assertThat(test.result()).isEqualTo(trades.size());
+    assertThat(test.getFuture()).isCompleted();
+    assertThat(buf.toString()).isEqualTo(expected(trades, cells));
+  }
+
+  @Test
+  public void test_executor() {
+    List<CalculationTarget> trades = trades(2_500);
+    List<Result<?>> cells = cells(trades.size());
+    StringBuilder buf = new StringBuilder();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      TradeReportCsvListener test = TradeReportCsvListener.of(
+          TEMPLATE, VAL_DATE, StandardComponents.calculationFunctions(), ReferenceData.standard(), buf, 300, executor);
+      test.calculationsStarted(trades, COLUMNS);
+      for (int i = 0; i < cells.size(); i++) {
+        int rowIndex = i / COLUMNS.size();
+        test.resultReceived(trades.get(rowIndex), CalculationResult.of(rowIndex, i % COLUMNS.size(), cells.get(i)));
+      }
+      test.calculationsComplete();
+      assertThat(test.result()).isEqualTo(trades.size());
+      assertThat(buf.toString()).isEqualTo(expected(trades, cells));
+
+      // the formatter can also format the rows of a report using an executor
+      TradeReport report = report(trades, cells);
+      StringBuilder expectedRows = new StringBuilder();
+      TradeReportFormatter.INSTANCE.writeCsvRows(report, expectedRows);
+      StringBuilder rows = new StringBuilder();
+      TradeReportFormatter.INSTANCE.writeCsvRows(report, rows, executor);
+      assertThat(rows.toString()).isEqualTo(expectedRows.toString());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void test_noTargets() {
+    StringBuilder buf = new StringBuilder();
+    TradeReportCsvListener test = TradeReportCsvListener.of(TEMPLATE, VAL_DATE, buf);
+    test.calculationsStarted(ImmutableList.of(), COLUMNS);
+    test.calculationsComplete();
+    assertThat(test.result()).isEqualTo(0);
+    assertThat(buf.toString()).isEqualTo(expected(ImmutableList.of(), ImmutableList.of()));
+  }
+
+  @Test
+  public void test_ioException() {
+    Appendable output = new Writer() {
+      @Override
+      public void write(char[] cbuf, int off, int len) throws IOException {
+        throw new IOException("Disk full");
+      }
+
+      @Override
+      public void flush() {
+      }
+
+      @Override
+      public void close() {
+      }
+    };
+    List<CalculationTarget> trades = trades(3);
+    List<Result<?>> cells = cells(trades.size());
+    TradeReportCsvListener test = TradeReportCsvListener.of(TEMPLATE, VAL_DATE, output);
+    test.calculationsStarted(trades, COLUMNS);
+    for (int i = 0; i < cells.size(); i++) {
+      int rowIndex = i / COLUMNS.size();
+      test.resultReceived(trades.get(rowIndex), CalculationResult.of(rowIndex, i % COLUMNS.size(), cells.get(i)));
+    }
+    test.calculationsComplete();
+    assertThatExceptionOfType(UncheckedIOException.class)
+        .isThrownBy(() -> test.result())
+        .withMessageContaining("Disk full");
+  }
+
+  //-------------------------------------------------------------------------
+  // the output of the in-memory trade report
+  private static String expected(List<CalculationTarget> trades, List<Result<?>> cells) {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    report(trades, cells).writeCsv(baos);
+    return new String(baos.toByteArray(), StandardCharsets.UTF_8);
+  }
+
+  // the in-memory trade report
+  private static TradeReport report(List<CalculationTarget> trades, List<Result<?>> cells) {
+    Results results = Results.of(
+        ImmutableList.of(COLUMNS.get(0).toHeader(), COLUMNS.get(1).toHeader()),
+        cells);
+    return TradeReport.of(ReportCalculationResults.of(VAL_DATE, trades, COLUMNS, results), TEMPLATE);
+  }
+
+  // the results, a present value and a par rate for each trade, with some failures
+  private static List<Result<?>> cells(int rowCount) {
+    Random random = new Random(1);
+    List<Result<?>> cells = new ArrayList<>();
+    for (int i = 0; i < rowCount; i++) {
+      cells.add(Result.success(CurrencyAmount.of(Currency.GBP, random.nextInt(1_000_000_000) / 100d)));
+      cells.add(i % 7 == 0 ?
+          Result.failure(FailureReason.CALCULATION_FAILED, "Failed") :
+          Result.success(random.nextDouble() / 10));
+    }
+    return cells;
+  }
+
+  // FRA trades with different counterparties and notionals
+  private static List<CalculationTarget> trades(int count) {
+    List<CalculationTarget> trades = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      trades.add(trade("cpty" + i, 1_000_000d * (i + 1)));
+    }
+    return trades;
+  }
+
+  private static Trade trade(String counterparty, double notional) {
+    TradeInfo tradeInfo = TradeInfo.builder()
+        .counterparty(StandardId.of("cpty", counterparty))
+        .build();
+    Fra fra = Fra.builder()
+        .buySell(BUY)
+        .notional(notional)
+        .startDate(date(2015, 8, 5))
+        .endDate(date(2015, 11, 5))
+        .paymentDate(AdjustableDate.of(date(2015, 8, 7)))
+        .fixedRate(0.25d)
+        .index(GBP_LIBOR_3M)
+        .build();
+    return FraTrade.builder()
+        .info(tradeInfo)
+        .product(fra)
+        .build();
+  }
+
+}